@@ -9,12 +9,14 @@ import android.annotation.TargetApi;
 import android.app.Activity;
 import android.content.Context;
 import android.graphics.ImageFormat;
+import android.graphics.RectF;
 import android.graphics.SurfaceTexture;
 import android.hardware.camera2.CameraAccessException;
 import android.hardware.camera2.CameraCaptureSession;
 import android.hardware.camera2.CameraDevice;
 import android.hardware.camera2.CameraManager;
 import android.hardware.camera2.CameraMetadata;
+import android.hardware.camera2.CaptureFailure;
 import android.hardware.camera2.CaptureRequest;
 import android.hardware.camera2.TotalCaptureResult;
 import android.hardware.camera2.params.OutputConfiguration;
@@ -23,6 +25,7 @@ import android.media.CamcorderProfile;
 import android.media.EncoderProfiles;
 import android.media.Image;
 import android.media.ImageReader;
+import android.media.MediaCodec;
 import android.media.MediaRecorder;
 import android.os.Build.VERSION_CODES;
 import android.os.Handler;
@@ -41,6 +44,7 @@ import io.flutter.embedding.engine.systemchannels.PlatformChannel;
 import io.flutter.plugin.common.EventChannel;
 import io.flutter.plugin.common.MethodChannel;
 import io.flutter.plugin.common.MethodChannel.Result;
+import io.flutter.plugins.camera.effects.ShaderEffect;
 import io.flutter.plugins.camera.features.CameraFeature;
 import io.flutter.plugins.camera.features.CameraFeatureFactory;
 import io.flutter.plugins.camera.features.CameraFeatures;
@@ -61,17 +65,30 @@ import io.flutter.plugins.camera.features.sensororientation.DeviceOrientationMan
 import io.flutter.plugins.camera.features.zoomlevel.ZoomLevelFeature;
 import io.flutter.plugins.camera.media.ImageStreamReader;
 import io.flutter.plugins.camera.media.MediaRecorderBuilder;
+import io.flutter.plugins.camera.media.VideoEncoderCapabilities;
 import io.flutter.plugins.camera.types.CameraCaptureProperties;
+import io.flutter.plugins.camera.types.CameraPipelineMetrics;
 import io.flutter.plugins.camera.types.CaptureTimeoutsWrapper;
+import io.flutter.plugins.camera.types.VideoCodec;
+import io.flutter.plugins.camera.types.VideoEncodingPreset;
 import io.flutter.view.TextureRegistry.SurfaceTextureEntry;
 import java.io.File;
 import java.io.IOException;
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Collections;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
 
 @FunctionalInterface
 interface ErrorCallback {
@@ -83,6 +100,24 @@ class Camera
         ImageReader.OnImageAvailableListener {
   private static final String TAG = "Camera";
 
+  /** The maximum number of pictures taken by a single burst. */
+  static final int MAX_BURST_COUNT = 10;
+
+  /**
+   * The number of JPEG images the picture reader can hold at once, so a burst can keep capturing
+   * while earlier pictures are saved.
+   */
+  private static final int MAX_PICTURE_IMAGES = 3;
+
+  /** The number of I/O threads saving pictures, so a burst is saved in parallel. */
+  private static final int IMAGE_SAVER_THREAD_COUNT = 2;
+
+  /** The number of pictures that can wait for an I/O thread. */
+  private static final int IMAGE_SAVER_QUEUE_CAPACITY = MAX_BURST_COUNT;
+
+  /** How long closing the camera waits for the queued pictures to be saved. */
+  private static final long IMAGE_SAVER_SHUTDOWN_TIMEOUT_MILLIS = 2000;
+
   private static final HashMap<String, Integer> supportedImageFormats;
 
   // Current supported outputs.
@@ -107,6 +142,19 @@ class Camera
    */
   @VisibleForTesting VideoRenderer videoRenderer;
 
+  /**
+   * Draws the preview on the GPU while a preview effect or crop is set. The camera then outputs to
+   * its input surface instead of the Flutter texture, and recordings are drawn by it as well.
+   */
+  @VisibleForTesting @Nullable VideoRenderer previewRenderer;
+  /** The surface of the Flutter texture that {@link #previewRenderer} draws to. */
+  @Nullable private Surface previewRendererOutputSurface;
+  /** The recorder input that {@link #previewRenderer} draws to while recording, or null. */
+  @Nullable private Surface previewRendererRecorderSurface;
+
+  @Nullable private ShaderEffect previewEffect;
+  @Nullable private RectF previewCrop;
+
   /**
    * Whether or not the camera aligns with the initial way the camera was facing if the camera was
    * flipped.
@@ -132,6 +180,14 @@ class Camera
   CameraCaptureSession captureSession;
   @VisibleForTesting ImageReader pictureImageReader;
   ImageStreamReader imageStreamReader;
+  /**
+   * Streams frames at the analysis size requested by Dart. Replaces {@link #imageStreamReader} in
+   * the capture session while it is set.
+   */
+  @VisibleForTesting @Nullable ImageStreamReader analysisImageStreamReader;
+
+  @Nullable private Size analysisStreamSize;
+  private int analysisStreamFormat;
   /** {@link CaptureRequest.Builder} for the camera preview */
   CaptureRequest.Builder previewRequestBuilder;
 
@@ -140,6 +196,31 @@ class Camera
   boolean recordingVideo;
   /** True when the preview is paused. */
   @VisibleForTesting boolean pausedPreview;
+  /** True when the image stream is running alongside the preview. */
+  private boolean streamingImages;
+
+  /** True when still captures request zero shutter lag from the camera device. */
+  private boolean zeroShutterLagEnabled;
+
+  /**
+   * True when one capture session with every output is configured once and reused for the
+   * preview, image streaming and video recording.
+   */
+  private boolean captureSessionReuseEnabled;
+  /** The codec videos are recorded with, or null to use the codec of the recording profile. */
+  @Nullable private VideoCodec videoCodec;
+  /** The preset that picks the codec and bitrate when they were not requested. */
+  @NonNull private VideoEncodingPreset videoEncodingPreset = VideoEncodingPreset.standard;
+  /** The persistent recorder input that stays an output of the reused capture session. */
+  @VisibleForTesting @Nullable Surface recorderInputSurface;
+  /** True once a recorder was prepared with {@link #recorderInputSurface}, which sizes it. */
+  private boolean recorderInputSurfacePrimed;
+  /** The outputs of the current capture session if it is reused, or null. */
+  @VisibleForTesting @Nullable List<Surface> reusedSessionSurfaces;
+  /**
+   * Saves pictures off the background thread, so slow storage never delays the capture callbacks.
+   */
+  @Nullable private ExecutorService imageSaverExecutor;
 
   private File captureFile;
 
@@ -147,6 +228,8 @@ class Camera
   private CaptureTimeoutsWrapper captureTimeouts;
   /** Holds the last known capture properties */
   private CameraCaptureProperties captureProps;
+  /** Records when the camera reaches the milestones of its pipeline. */
+  @VisibleForTesting final CameraPipelineMetrics pipelineMetrics;
 
   MethodChannel.Result flutterResult;
 
@@ -224,6 +307,7 @@ class Camera
       throw new IllegalStateException("No activity available!");
     }
     this.activity = activity;
+    this.pipelineMetrics = new CameraPipelineMetrics();
     this.flutterTexture = flutterTexture;
     this.dartMessenger = dartMessenger;
     this.applicationContext = activity.getApplicationContext();
@@ -265,7 +349,8 @@ class Camera
     // Create capture callback.
     captureTimeouts = new CaptureTimeoutsWrapper(3000, 3000);
     captureProps = new CameraCaptureProperties();
-    cameraCaptureCallback = CameraCaptureCallback.create(this, captureTimeouts, captureProps);
+    cameraCaptureCallback =
+        CameraCaptureCallback.create(this, captureTimeouts, captureProps, pipelineMetrics);
 
     startBackgroundThread();
   }
@@ -295,12 +380,20 @@ class Camera
   }
 
   private void prepareMediaRecorder(String outputFilePath) throws IOException {
+    prepareMediaRecorder(outputFilePath, videoCaptureSettings.enableAudio);
+  }
+
+  private void prepareMediaRecorder(String outputFilePath, boolean enableAudio)
+      throws IOException {
     Log.i(TAG, "prepareMediaRecorder");
 
     if (mediaRecorder != null) {
       mediaRecorder.release();
     }
     closeRenderer();
+    if (!captureSessionReuseEnabled) {
+      releaseRecorderInputSurface();
+    }
 
     final PlatformChannel.DeviceOrientation lockedOrientation =
         cameraFeatures.getSensorOrientation().getLockedCaptureOrientation();
@@ -331,7 +424,10 @@ class Camera
 
     mediaRecorder =
         mediaRecorderBuilder
-            .setEnableAudio(videoCaptureSettings.enableAudio)
+            .setEnableAudio(enableAudio)
+            .setInputSurface(recorderInputSurface)
+            .setVideoEncoder(getRecordingVideoEncoder())
+            .setLowStorage(videoEncodingPreset == VideoEncodingPreset.lowStorage)
             .setMediaOrientation(
                 lockedOrientation == null
                     ? getDeviceOrientationManager().getVideoOrientation()
@@ -339,8 +435,40 @@ class Camera
             .build();
   }
 
+  /**
+   * Gets the {@link MediaRecorder.VideoEncoder} to record with, or null to use the codec of the
+   * recording profile.
+   */
+  @Nullable
+  private Integer getRecordingVideoEncoder() {
+    VideoCodec codec = videoCodec;
+    if (codec == null
+        && videoEncodingPreset == VideoEncodingPreset.lowStorage
+        && isVideoCodecSupported(VideoCodec.hevc)) {
+      codec = VideoCodec.hevc;
+    }
+    if (codec == null) {
+      return null;
+    }
+    if (codec == VideoCodec.hevc && SdkCapabilityChecker.supportsHevcRecording()) {
+      return MediaRecorder.VideoEncoder.HEVC;
+    }
+    return codec == VideoCodec.h264 ? MediaRecorder.VideoEncoder.H264 : null;
+  }
+
+  private boolean isVideoCodecSupported(@NonNull VideoCodec codec) {
+    if (codec == VideoCodec.hevc && !SdkCapabilityChecker.supportsHevcRecording()) {
+      return false;
+    }
+    final Size captureSize = cameraFeatures.getResolution().getCaptureSize();
+    return captureSize != null
+        && VideoEncoderCapabilities.isEncoderSupported(
+            codec.getMimeType(), captureSize.getWidth(), captureSize.getHeight());
+  }
+
   @SuppressLint("MissingPermission")
   public void open(String imageFormatGroup) throws CameraAccessException {
+    pipelineMetrics.mark(CameraPipelineMetrics.OPEN);
     this.imageFormatGroup = imageFormatGroup;
     final ResolutionFeature resolutionFeature = cameraFeatures.getResolution();
 
@@ -361,7 +489,13 @@ class Camera
             resolutionFeature.getCaptureSize().getWidth(),
             resolutionFeature.getCaptureSize().getHeight(),
             ImageFormat.JPEG,
-            1);
+            MAX_PICTURE_IMAGES);
+    if (captureSessionReuseEnabled && recorderInputSurface == null) {
+      createRecorderInputSurface();
+    }
+    if (previewRenderer == null && (previewEffect != null || previewCrop != null)) {
+      createPreviewRenderer();
+    }
 
     // For image streaming, use the provided image format or fall back to YUV420.
     Integer imageFormat = supportedImageFormats.get(imageFormatGroup);
@@ -383,6 +517,7 @@ class Camera
         new CameraDevice.StateCallback() {
           @Override
           public void onOpened(@NonNull CameraDevice device) {
+            pipelineMetrics.mark(CameraPipelineMetrics.OPENED);
             cameraDevice = new DefaultCameraDeviceWrapper(device);
             try {
               startPreview();
@@ -462,8 +597,34 @@ class Camera
   private void createCaptureSession(
       int templateType, Runnable onSuccessCallback, Surface... surfaces)
       throws CameraAccessException {
+    createCaptureSession(
+        templateType, onSuccessCallback, Arrays.asList(surfaces), Collections.emptyList());
+  }
+
+  /**
+   * Creates a capture session.
+   *
+   * @param templateType the template of the repeating request.
+   * @param onSuccessCallback run once the repeating request is set.
+   * @param surfaces the outputs of the session, which are also targets of the repeating request
+   *     unless the template is {@link CameraDevice#TEMPLATE_PREVIEW}.
+   * @param idleSurfaces further outputs of the session that are not targets of the repeating
+   *     request yet.
+   */
+  private void createCaptureSession(
+      int templateType,
+      @Nullable Runnable onSuccessCallback,
+      @NonNull List<Surface> surfaces,
+      @NonNull List<Surface> idleSurfaces)
+      throws CameraAccessException {
+    pipelineMetrics.mark(CameraPipelineMetrics.CONFIGURE_SESSION);
     // Close any existing capture session.
     captureSession = null;
+    reusedSessionSurfaces = null;
+    final boolean reusable =
+        recorderInputSurface != null
+            && (surfaces.contains(recorderInputSurface)
+                || idleSurfaces.contains(recorderInputSurface));
 
     // Create a new capture builder.
     previewRequestBuilder = cameraDevice.createCaptureRequest(templateType);
@@ -474,10 +635,11 @@ class Camera
     surfaceTexture.setDefaultBufferSize(
         resolutionFeature.getPreviewSize().getWidth(),
         resolutionFeature.getPreviewSize().getHeight());
-    Surface flutterSurface = new Surface(surfaceTexture);
+    Surface flutterSurface =
+        previewRenderer != null ? getPreviewRendererInputSurface() : new Surface(surfaceTexture);
     previewRequestBuilder.addTarget(flutterSurface);
 
-    List<Surface> remainingSurfaces = Arrays.asList(surfaces);
+    List<Surface> remainingSurfaces = surfaces;
     if (templateType != CameraDevice.TEMPLATE_PREVIEW) {
       // If it is not preview mode, add all surfaces as targets
       // except the surface used for still capture as this should
@@ -511,6 +673,7 @@ class Camera
               return;
             }
             captureSession = session;
+            pipelineMetrics.mark(CameraPipelineMetrics.SESSION_CONFIGURED);
 
             Log.i(TAG, "Updating builder settings");
             updateBuilderSettings(previewRequestBuilder);
@@ -522,6 +685,10 @@ class Camera
           @Override
           public void onConfigureFailed(@NonNull CameraCaptureSession cameraCaptureSession) {
             Log.i(TAG, "CameraCaptureSession onConfigureFailed");
+            if (reusable && captureSessionReuseEnabled) {
+              onReusedCaptureSessionConfigureFailed();
+              return;
+            }
             dartMessenger.sendCameraErrorEvent("Failed to configure camera session.");
           }
 
@@ -540,14 +707,23 @@ class Camera
       for (Surface surface : remainingSurfaces) {
         configs.add(new OutputConfiguration(surface));
       }
+      for (Surface surface : idleSurfaces) {
+        configs.add(new OutputConfiguration(surface));
+      }
       createCaptureSessionWithSessionConfig(configs, callback);
     } else {
       // Collect all surfaces to render to.
       List<Surface> surfaceList = new ArrayList<>();
       surfaceList.add(flutterSurface);
       surfaceList.addAll(remainingSurfaces);
+      surfaceList.addAll(idleSurfaces);
       createCaptureSession(surfaceList, callback);
     }
+
+    if (reusable) {
+      reusedSessionSurfaces = new ArrayList<>(remainingSurfaces);
+      reusedSessionSurfaces.addAll(idleSurfaces);
+    }
   }
 
   @TargetApi(VERSION_CODES.P)
@@ -600,14 +776,30 @@ class Camera
   }
 
   private void startCapture(boolean record, boolean stream) throws CameraAccessException {
+    streamingImages = stream;
+    if (captureSessionReuseEnabled && recorderInputSurface != null && previewRenderer == null) {
+      startReusedCapture(record, stream);
+      return;
+    }
+
+    setPreviewRendererInputSize(record);
     List<Surface> surfaces = new ArrayList<>();
     Runnable successCallback = null;
-    if (record) {
-      surfaces.add(mediaRecorder.getSurface());
+    if (record && previewRenderer != null) {
+      // The preview renderer draws the recording, so it gets the preview effect as well.
+      final Surface recorderSurface = getRecorderSurface();
+      successCallback =
+          () -> {
+            mediaRecorder.start();
+            startRecordingThroughPreviewRenderer(recorderSurface);
+          };
+    } else if (record) {
+      surfaces.add(getRecorderSurface());
       successCallback = () -> mediaRecorder.start();
     }
-    if (stream && imageStreamReader != null) {
-      surfaces.add(imageStreamReader.getSurface());
+    final ImageStreamReader streamReader = getActiveImageStreamReader();
+    if (stream && streamReader != null) {
+      surfaces.add(streamReader.getSurface());
     }
 
     // Add pictureImageReader surface to allow for still capture
@@ -618,6 +810,199 @@ class Camera
         CameraDevice.TEMPLATE_RECORD, successCallback, surfaces.toArray(new Surface[0]));
   }
 
+  /**
+   * Starts the preview, image stream and recording in the reused capture session.
+   *
+   * <p>If the session already has the required outputs, only the targets of its repeating request
+   * change, which does not interrupt the preview. Otherwise a session with every output is created
+   * first.
+   */
+  private void startReusedCapture(boolean record, boolean stream) throws CameraAccessException {
+    final Runnable successCallback = record ? () -> mediaRecorder.start() : null;
+    final ImageStreamReader streamReader = getActiveImageStreamReader();
+    final Surface streamSurface = streamReader != null ? streamReader.getSurface() : null;
+
+    if (captureSession != null
+        && reusedSessionSurfaces != null
+        && (streamSurface == null || reusedSessionSurfaces.contains(streamSurface))) {
+      Log.i(TAG, "startReusedCapture | switching the repeating request targets");
+      setRepeatingRequestTarget(recorderInputSurface, record);
+      if (streamSurface != null) {
+        setRepeatingRequestTarget(streamSurface, stream);
+      }
+      refreshPreviewCaptureSession(
+          successCallback, (code, message) -> dartMessenger.sendCameraErrorEvent(message));
+      return;
+    }
+
+    if (!primeRecorderInputSurface()) {
+      disableCaptureSessionReuse();
+      startCapture(record, stream);
+      return;
+    }
+
+    final List<Surface> surfaces = new ArrayList<>();
+    final List<Surface> idleSurfaces = new ArrayList<>();
+    (record ? surfaces : idleSurfaces).add(recorderInputSurface);
+    if (streamSurface != null) {
+      (stream ? surfaces : idleSurfaces).add(streamSurface);
+    }
+    // Add pictureImageReader surface to allow for still capture at any time.
+    surfaces.add(pictureImageReader.getSurface());
+
+    createCaptureSession(CameraDevice.TEMPLATE_RECORD, successCallback, surfaces, idleSurfaces);
+  }
+
+  private void setRepeatingRequestTarget(@NonNull Surface surface, boolean isTarget) {
+    if (isTarget) {
+      previewRequestBuilder.addTarget(surface);
+    } else {
+      previewRequestBuilder.removeTarget(surface);
+    }
+  }
+
+  /**
+   * Prepares a recorder with {@link #recorderInputSurface}, which gives the surface the video size
+   * a capture session needs before it can output to it.
+   *
+   * @return false if no recorder could be prepared.
+   */
+  private boolean primeRecorderInputSurface() {
+    if (recorderInputSurfacePrimed) {
+      return true;
+    }
+    if (recordingVideo) {
+      // The recorder of the recording was just prepared with the surface.
+      recorderInputSurfacePrimed = true;
+      return true;
+    }
+
+    File primingFile = null;
+    try {
+      primingFile = File.createTempFile("REC", ".mp4", applicationContext.getCacheDir());
+      // The recorder is never started, so it does not need the microphone.
+      prepareMediaRecorder(primingFile.getAbsolutePath(), false);
+      recorderInputSurfacePrimed = true;
+    } catch (IOException | SecurityException e) {
+      Log.w(TAG, "primeRecorderInputSurface | " + e.getMessage());
+    } finally {
+      if (primingFile != null) {
+        primingFile.delete();
+      }
+    }
+    return recorderInputSurfacePrimed;
+  }
+
+  // Not every device can output to every surface at once. In that case a session is created for
+  // every change of outputs instead.
+  private void onReusedCaptureSessionConfigureFailed() {
+    Log.w(TAG, "The reused capture session is not supported, creating a session per use instead.");
+    disableCaptureSessionReuse();
+    try {
+      if (recordingVideo || streamingImages) {
+        startCapture(recordingVideo, streamingImages);
+      } else {
+        startRegularPreview();
+      }
+    } catch (CameraAccessException | IllegalStateException e) {
+      dartMessenger.sendCameraErrorEvent(e.getMessage());
+    }
+  }
+
+  private void disableCaptureSessionReuse() {
+    captureSessionReuseEnabled = false;
+    reusedSessionSurfaces = null;
+    // A recording keeps its recorder input until the next recorder is prepared.
+    if (!recordingVideo) {
+      releaseRecorderInputSurface();
+    }
+  }
+
+  @TargetApi(VERSION_CODES.M)
+  private void createRecorderInputSurface() {
+    releaseRecorderInputSurface();
+    recorderInputSurface = MediaCodec.createPersistentInputSurface();
+  }
+
+  private void releaseRecorderInputSurface() {
+    if (recorderInputSurface != null) {
+      recorderInputSurface.release();
+      recorderInputSurface = null;
+    }
+    recorderInputSurfacePrimed = false;
+  }
+
+  @NonNull
+  private Surface getRecorderSurface() {
+    return recorderInputSurface != null ? recorderInputSurface : mediaRecorder.getSurface();
+  }
+
+  /**
+   * Enables or disables reusing one capture session for the preview, image streaming and video
+   * recording.
+   *
+   * <p>By default, starting or stopping the image stream or a recording creates a new capture
+   * session, which pauses the preview while the session is configured. With reuse enabled, the
+   * session is configured once with every output, including a persistent recorder input surface,
+   * and these calls only change the targets of its repeating request. Devices that cannot output
+   * to every surface at once fall back to a session per use. Zero shutter lag pictures are not
+   * taken from a reused session.
+   *
+   * @param result Flutter result.
+   * @param enabled whether the capture session is reused.
+   */
+  public void setCaptureSessionReuseEnabled(@NonNull final Result result, boolean enabled) {
+    if (enabled && !SdkCapabilityChecker.supportsPersistentInputSurface()) {
+      result.error(
+          "setCaptureSessionReuseEnabledFailed",
+          "Reusing the capture session requires Android API +23.",
+          null);
+      return;
+    }
+    if (recordingVideo) {
+      result.error(
+          "setCaptureSessionReuseEnabledFailed",
+          "Cannot change the capture session while recording.",
+          null);
+      return;
+    }
+    if (enabled == captureSessionReuseEnabled) {
+      result.success(null);
+      return;
+    }
+
+    if (reusedSessionSurfaces != null && captureSession != null) {
+      // Stop the repeating request before the recorder input it may target is released.
+      try {
+        captureSession.stopRepeating();
+      } catch (CameraAccessException | IllegalStateException e) {
+        Log.w(TAG, "setCaptureSessionReuseEnabled | could not stop preview: " + e.getMessage());
+      }
+    }
+    if (enabled) {
+      captureSessionReuseEnabled = true;
+      if (pictureImageReader != null) {
+        createRecorderInputSurface();
+      }
+    } else {
+      disableCaptureSessionReuse();
+    }
+
+    if (cameraDevice != null) {
+      try {
+        if (streamingImages) {
+          startCapture(false, true);
+        } else {
+          startRegularPreview();
+        }
+      } catch (CameraAccessException e) {
+        result.error("setCaptureSessionReuseEnabledFailed", e.getMessage(), null);
+        return;
+      }
+    }
+    result.success(null);
+  }
+
   public void takePicture(@NonNull final Result result) {
     // Only take one picture at a time.
     if (cameraCaptureCallback.getCameraState() != CameraState.STATE_PREVIEW) {
@@ -625,6 +1010,7 @@ class Camera
       return;
     }
 
+    pipelineMetrics.mark(CameraPipelineMetrics.TAKE_PICTURE);
     flutterResult = result;
 
     // Create temporary file.
@@ -640,6 +1026,14 @@ class Camera
     // Listen for picture being taken.
     pictureImageReader.setOnImageAvailableListener(this, backgroundHandler);
 
+    if (canTakeZeroShutterLagPicture()) {
+      // The camera device picks the buffered frame closest to the shutter, so the auto focus and
+      // precapture sequence is skipped.
+      Log.i(TAG, "takePicture | using zero shutter lag");
+      takePictureAfterPrecapture();
+      return;
+    }
+
     final AutoFocusFeature autoFocusFeature = cameraFeatures.getAutoFocus();
     final boolean isAutoFocusSupported = autoFocusFeature.checkIsSupported();
     if (isAutoFocusSupported && autoFocusFeature.getValue() == FocusMode.auto) {
@@ -695,15 +1089,46 @@ class Camera
     if (cameraDevice == null) {
       return;
     }
+    final boolean zeroShutterLag = canTakeZeroShutterLagPicture();
     // This is the CaptureRequest.Builder that is used to take a picture.
     CaptureRequest.Builder stillBuilder;
     try {
-      stillBuilder = cameraDevice.createCaptureRequest(CameraDevice.TEMPLATE_STILL_CAPTURE);
+      stillBuilder = createStillCaptureRequestBuilder(zeroShutterLag);
     } catch (CameraAccessException e) {
       dartMessenger.error(flutterResult, "cameraAccess", e.getMessage(), null);
       return;
     }
+
+    CameraCaptureSession.CaptureCallback captureCallback =
+        new CameraCaptureSession.CaptureCallback() {
+          @Override
+          public void onCaptureCompleted(
+              @NonNull CameraCaptureSession session,
+              @NonNull CaptureRequest request,
+              @NonNull TotalCaptureResult result) {
+            // Zero shutter lag pictures do not lock the auto focus.
+            if (!zeroShutterLag) {
+              unlockAutoFocus();
+            }
+          }
+        };
+
+    try {
+      Log.i(TAG, "sending capture request");
+      captureSession.capture(stillBuilder.build(), captureCallback, backgroundHandler);
+    } catch (CameraAccessException e) {
+      dartMessenger.error(flutterResult, "cameraAccess", e.getMessage(), null);
+    }
+  }
+
+  private CaptureRequest.Builder createStillCaptureRequestBuilder(boolean zeroShutterLag)
+      throws CameraAccessException {
+    CaptureRequest.Builder stillBuilder =
+        cameraDevice.createCaptureRequest(CameraDevice.TEMPLATE_STILL_CAPTURE);
     stillBuilder.addTarget(pictureImageReader.getSurface());
+    if (zeroShutterLag && SdkCapabilityChecker.supportsZeroShutterLag()) {
+      stillBuilder.set(CaptureRequest.CONTROL_ENABLE_ZSL, true);
+    }
 
     // Zoom.
     stillBuilder.set(
@@ -714,33 +1139,170 @@ class Camera
     updateBuilderSettings(stillBuilder);
 
     // Orientation.
+    stillBuilder.set(CaptureRequest.JPEG_ORIENTATION, getPhotoOrientation());
+    return stillBuilder;
+  }
+
+  private int getPhotoOrientation() {
     final PlatformChannel.DeviceOrientation lockedOrientation =
         cameraFeatures.getSensorOrientation().getLockedCaptureOrientation();
-    stillBuilder.set(
-        CaptureRequest.JPEG_ORIENTATION,
-        lockedOrientation == null
-            ? getDeviceOrientationManager().getPhotoOrientation()
-            : getDeviceOrientationManager().getPhotoOrientation(lockedOrientation));
+    return lockedOrientation == null
+        ? getDeviceOrientationManager().getPhotoOrientation()
+        : getDeviceOrientationManager().getPhotoOrientation(lockedOrientation);
+  }
 
-    CameraCaptureSession.CaptureCallback captureCallback =
+  /**
+   * Whether the next picture can be captured with zero shutter lag, skipping the auto focus and
+   * precapture sequence.
+   */
+  private boolean canTakeZeroShutterLagPicture() {
+    if (!zeroShutterLagEnabled || !SdkCapabilityChecker.supportsZeroShutterLag() || pausedPreview) {
+      return false;
+    }
+
+    // The flash only fires during the precapture sequence.
+    final FlashMode flashMode = cameraFeatures.getFlash().getValue();
+    return flashMode != FlashMode.auto && flashMode != FlashMode.always;
+  }
+
+  /**
+   * Takes several pictures in quick succession.
+   *
+   * <p>The auto focus and precapture sequence is not run, so the pictures use the current focus
+   * and exposure of the preview. The pictures are saved in parallel while the burst is captured.
+   *
+   * @param result Flutter result, receives the paths of the pictures in capture order.
+   * @param count number of pictures to take.
+   */
+  public void takeBurst(@NonNull final Result result, int count) {
+    if (cameraCaptureCallback.getCameraState() != CameraState.STATE_PREVIEW) {
+      result.error("captureAlreadyActive", "Picture is currently already being captured", null);
+      return;
+    }
+    if (count < 1 || count > MAX_BURST_COUNT) {
+      result.error(
+          "invalidBurstCount",
+          String.format(
+              Locale.ENGLISH, "The burst count should be between 1 and %d.", MAX_BURST_COUNT),
+          null);
+      return;
+    }
+    if (cameraDevice == null || captureSession == null) {
+      result.error("cameraAccess", "The camera is not ready to take pictures.", null);
+      return;
+    }
+
+    final File outputDir = applicationContext.getCacheDir();
+    final List<String> paths = new ArrayList<>(count);
+    final File[] files = new File[count];
+    try {
+      for (int i = 0; i < count; i++) {
+        files[i] = File.createTempFile("CAP", ".jpg", outputDir);
+        paths.add(files[i].getAbsolutePath());
+      }
+    } catch (IOException | SecurityException e) {
+      result.error("cannotCreateFile", e.getMessage(), null);
+      return;
+    }
+
+    final List<CaptureRequest> requests = new ArrayList<>(count);
+    try {
+      final CaptureRequest request = createStillCaptureRequestBuilder(false).build();
+      for (int i = 0; i < count; i++) {
+        requests.add(request);
+      }
+    } catch (CameraAccessException e) {
+      result.error("cameraAccess", e.getMessage(), null);
+      return;
+    }
+
+    final AtomicInteger receivedCount = new AtomicInteger();
+    final AtomicInteger savedCount = new AtomicInteger();
+    final AtomicBoolean failed = new AtomicBoolean();
+    final ImageSaver.Callback saverCallback =
+        new ImageSaver.Callback() {
+          @Override
+          public void onComplete(@NonNull String absolutePath, long latencyNanos) {
+            logImageSaved(latencyNanos);
+            if (savedCount.incrementAndGet() == count && !failed.get()) {
+              dartMessenger.finish(result, paths);
+            }
+          }
+
+          @Override
+          public void onError(@NonNull String errorCode, @NonNull String errorMessage) {
+            if (failed.compareAndSet(false, true)) {
+              dartMessenger.error(result, errorCode, errorMessage, null);
+            }
+          }
+        };
+
+    final ImageReader reader = pictureImageReader;
+    final Handler handler = backgroundHandler;
+    final Runnable acquireImages =
+        new Runnable() {
+          @Override
+          public void run() {
+            while (receivedCount.get() < count) {
+              final Image image;
+              try {
+                image = reader.acquireNextImage();
+              } catch (IllegalStateException e) {
+                // Every image of the reader is still being saved. The rest of the burst is
+                // acquired once one of them is closed.
+                return;
+              }
+              if (image == null) {
+                return;
+              }
+              final int index = receivedCount.getAndIncrement();
+              if (index == count - 1) {
+                cameraCaptureCallback.setCameraState(CameraState.STATE_PREVIEW);
+              }
+              saveImage(image, files[index], saverCallback, () -> handler.post(this));
+            }
+          }
+        };
+    reader.setOnImageAvailableListener(r -> acquireImages.run(), handler);
+
+    final CameraCaptureSession.CaptureCallback burstCallback =
         new CameraCaptureSession.CaptureCallback() {
           @Override
-          public void onCaptureCompleted(
+          public void onCaptureFailed(
               @NonNull CameraCaptureSession session,
               @NonNull CaptureRequest request,
-              @NonNull TotalCaptureResult result) {
-            unlockAutoFocus();
+              @NonNull CaptureFailure failure) {
+            cameraCaptureCallback.setCameraState(CameraState.STATE_PREVIEW);
+            saverCallback.onError("captureFailed", "A picture of the burst could not be captured.");
           }
         };
 
+    cameraCaptureCallback.setCameraState(CameraState.STATE_CAPTURING);
     try {
-      Log.i(TAG, "sending capture request");
-      captureSession.capture(stillBuilder.build(), captureCallback, backgroundHandler);
-    } catch (CameraAccessException e) {
-      dartMessenger.error(flutterResult, "cameraAccess", e.getMessage(), null);
+      Log.i(TAG, "sending burst capture request");
+      captureSession.captureBurst(requests, burstCallback, backgroundHandler);
+    } catch (CameraAccessException | IllegalStateException e) {
+      cameraCaptureCallback.setCameraState(CameraState.STATE_PREVIEW);
+      result.error("cameraAccess", e.getMessage(), null);
     }
   }
 
+  /**
+   * Enables or disables zero shutter lag for {@link #takePicture}.
+   *
+   * <p>While enabled, the still capture request sets {@link CaptureRequest#CONTROL_ENABLE_ZSL}, so
+   * the camera device may return a frame it captured just before the shutter, and the auto focus
+   * and precapture sequence is skipped. Pictures that need the flash are still captured the
+   * regular way. It has no effect below Android 8.0.
+   *
+   * @param result Flutter result.
+   * @param enabled whether zero shutter lag should be used.
+   */
+  public void setZeroShutterLagEnabled(@NonNull final Result result, boolean enabled) {
+    zeroShutterLagEnabled = enabled;
+    result.success(null);
+  }
+
   @SuppressWarnings("deprecation")
   private Display getDefaultDisplay() {
     return activity.getWindowManager().getDefaultDisplay();
@@ -844,6 +1406,150 @@ class Camera
     }
   }
 
+  /**
+   * Sets the GPU effect and crop of the preview, which also apply to recordings.
+   *
+   * <p>While either is set, the camera outputs to the input surface of a {@link VideoRenderer},
+   * which draws every frame to the Flutter texture. While recording, the camera frames have the
+   * capture size and are drawn to the recorder as well. Adding or removing the renderer
+   * reconfigures the capture session, so it is not possible while recording; changing the effect
+   * or crop is.
+   *
+   * @param result Flutter result.
+   * @param effect the effect to apply, or null for none.
+   * @param crop the part of the frame to show, relative to the frame, or null for the whole frame.
+   */
+  public void setPreviewEffect(
+      @NonNull final Result result, @Nullable ShaderEffect effect, @Nullable RectF crop) {
+    final boolean rendererNeeded = effect != null || crop != null;
+    if (rendererNeeded != (previewRenderer != null) && recordingVideo) {
+      result.error(
+          "setPreviewEffectFailed",
+          "Cannot add or remove the preview effect while recording.",
+          null);
+      return;
+    }
+    previewEffect = effect;
+    previewCrop = crop;
+
+    if (rendererNeeded == (previewRenderer != null)) {
+      if (previewRenderer != null) {
+        previewRenderer.setEffect(effect);
+        previewRenderer.setCrop(crop);
+      }
+      result.success(null);
+      return;
+    }
+
+    if (captureSession != null) {
+      // The renderer and the camera cannot both draw to the Flutter texture.
+      closeCaptureSession();
+    }
+    if (rendererNeeded) {
+      if (pictureImageReader != null) {
+        createPreviewRenderer();
+      }
+    } else {
+      closePreviewRenderer();
+    }
+
+    if (cameraDevice != null) {
+      try {
+        if (streamingImages) {
+          startCapture(false, true);
+        } else {
+          startRegularPreview();
+        }
+      } catch (CameraAccessException e) {
+        result.error("setPreviewEffectFailed", e.getMessage(), null);
+        return;
+      }
+    }
+    result.success(null);
+  }
+
+  private void createPreviewRenderer() {
+    final Size previewSize = cameraFeatures.getResolution().getPreviewSize();
+    final SurfaceTexture surfaceTexture = flutterTexture.surfaceTexture();
+    surfaceTexture.setDefaultBufferSize(previewSize.getWidth(), previewSize.getHeight());
+    previewRendererOutputSurface = new Surface(surfaceTexture);
+    previewRenderer =
+        new VideoRenderer(
+            previewRendererOutputSurface,
+            previewSize.getWidth(),
+            previewSize.getHeight(),
+            (thread, ex) -> dartMessenger.sendCameraErrorEvent("Failed to render the preview."));
+    previewRenderer.setEffect(previewEffect);
+    previewRenderer.setCrop(previewCrop);
+  }
+
+  private void closePreviewRenderer() {
+    previewRendererRecorderSurface = null;
+    if (previewRenderer != null) {
+      previewRenderer.close();
+      previewRenderer = null;
+    }
+    if (previewRendererOutputSurface != null) {
+      previewRendererOutputSurface.release();
+      previewRendererOutputSurface = null;
+    }
+  }
+
+  @NonNull
+  private Surface getPreviewRendererInputSurface() throws CameraAccessException {
+    try {
+      return previewRenderer.getInputSurface();
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+      throw new CameraAccessException(
+          CameraAccessException.CAMERA_ERROR, "Interrupted while starting the preview renderer.");
+    }
+  }
+
+  /**
+   * Sizes the frames the camera sends to the preview renderer for the next capture session.
+   *
+   * <p>While recording, they have the capture size, so the recording is not upscaled from the
+   * preview size. Otherwise, they have the preview size.
+   */
+  private void setPreviewRendererInputSize(boolean recording) throws CameraAccessException {
+    if (previewRenderer == null) {
+      return;
+    }
+    final ResolutionFeature resolutionFeature = cameraFeatures.getResolution();
+    final Size inputSize =
+        recording ? resolutionFeature.getCaptureSize() : resolutionFeature.getPreviewSize();
+    try {
+      previewRenderer.setInputSize(inputSize.getWidth(), inputSize.getHeight());
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+      throw new CameraAccessException(
+          CameraAccessException.CAMERA_ERROR, "Interrupted while starting the preview renderer.");
+    }
+  }
+
+  private void startRecordingThroughPreviewRenderer(@NonNull Surface recorderSurface) {
+    if (previewRenderer == null) {
+      return;
+    }
+    final Size captureSize = cameraFeatures.getResolution().getCaptureSize();
+    previewRenderer.addOutputSurface(
+        recorderSurface, captureSize.getWidth(), captureSize.getHeight());
+    previewRendererRecorderSurface = recorderSurface;
+  }
+
+  private void stopRecordingThroughPreviewRenderer() {
+    if (previewRenderer == null || previewRendererRecorderSurface == null) {
+      return;
+    }
+    try {
+      previewRenderer.removeOutputSurface(previewRendererRecorderSurface);
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+    }
+    previewRendererRecorderSurface = null;
+  }
+
   private void closeRenderer() {
     if (videoRenderer != null) {
       videoRenderer.close();
@@ -862,6 +1568,7 @@ class Camera
     recordingVideo = false;
     try {
       closeRenderer();
+      stopRecordingThroughPreviewRenderer();
       captureSession.abortCaptures();
       mediaRecorder.stop();
     } catch (CameraAccessException | IllegalStateException e) {
@@ -1171,7 +1878,13 @@ class Camera
   private void startRegularPreview() throws CameraAccessException {
     if (pictureImageReader == null || pictureImageReader.getSurface() == null) return;
     Log.i(TAG, "startPreview");
-    createCaptureSession(CameraDevice.TEMPLATE_PREVIEW, pictureImageReader.getSurface());
+    streamingImages = false;
+    if (captureSessionReuseEnabled && recorderInputSurface != null && previewRenderer == null) {
+      startReusedCapture(false, false);
+    } else {
+      setPreviewRendererInputSize(false);
+      createCaptureSession(CameraDevice.TEMPLATE_PREVIEW, pictureImageReader.getSurface());
+    }
   }
 
   private void startPreviewWithVideoRendererStream()
@@ -1225,24 +1938,174 @@ class Camera
       return;
     }
 
-    backgroundHandler.post(
-        new ImageSaver(
-            image,
-            captureFile,
-            new ImageSaver.Callback() {
-              @Override
-              public void onComplete(String absolutePath) {
-                dartMessenger.finish(flutterResult, absolutePath);
-              }
+    saveImage(
+        image,
+        captureFile,
+        new ImageSaver.Callback() {
+          @Override
+          public void onComplete(@NonNull String absolutePath, long latencyNanos) {
+            pipelineMetrics.mark(CameraPipelineMetrics.PICTURE_SAVED);
+            logImageSaved(latencyNanos);
+            dartMessenger.finish(flutterResult, absolutePath);
+          }
 
-              @Override
-              public void onError(String errorCode, String errorMessage) {
-                dartMessenger.error(flutterResult, errorCode, errorMessage, null);
-              }
-            }));
+          @Override
+          public void onError(@NonNull String errorCode, @NonNull String errorMessage) {
+            dartMessenger.error(flutterResult, errorCode, errorMessage, null);
+          }
+        });
     cameraCaptureCallback.setCameraState(CameraState.STATE_PREVIEW);
   }
 
+  /**
+   * Saves a picture on the I/O executor.
+   *
+   * @param image the JPEG image to save, closed once it is saved.
+   * @param file the file to save the image to.
+   * @param callback the callback that is run on completion, or when an error is encountered.
+   */
+  private void saveImage(
+      @NonNull Image image, @NonNull File file, @NonNull ImageSaver.Callback callback) {
+    saveImage(image, file, callback, null);
+  }
+
+  /**
+   * Saves the image on the image saver executor.
+   *
+   * @param onImageClosed run on the saver thread once the image is saved and closed.
+   */
+  private void saveImage(
+      @NonNull Image image,
+      @NonNull File file,
+      @NonNull ImageSaver.Callback callback,
+      @Nullable Runnable onImageClosed) {
+    final ImageSaver imageSaver = new ImageSaver(image, file, callback);
+    try {
+      if (onImageClosed == null) {
+        getImageSaverExecutor().execute(imageSaver);
+      } else {
+        getImageSaverExecutor()
+            .execute(
+                () -> {
+                  imageSaver.run();
+                  onImageClosed.run();
+                });
+      }
+    } catch (RejectedExecutionException e) {
+      // The camera was closed, or too many pictures are waiting to be saved.
+      image.close();
+      callback.onError("IOError", "Failed saving image");
+    }
+  }
+
+  @NonNull
+  private synchronized ExecutorService getImageSaverExecutor() {
+    if (imageSaverExecutor == null) {
+      imageSaverExecutor =
+          new ThreadPoolExecutor(
+              IMAGE_SAVER_THREAD_COUNT,
+              IMAGE_SAVER_THREAD_COUNT,
+              0L,
+              TimeUnit.MILLISECONDS,
+              new ArrayBlockingQueue<>(IMAGE_SAVER_QUEUE_CAPACITY));
+    }
+    return imageSaverExecutor;
+  }
+
+  /**
+   * Shuts down the I/O threads once the pictures that are already queued are saved.
+   *
+   * <p>This must run before the picture reader is closed, as closing it invalidates the images that
+   * are still waiting to be saved.
+   */
+  private void shutdownImageSaverExecutor() {
+    final ExecutorService executor;
+    synchronized (this) {
+      executor = imageSaverExecutor;
+      imageSaverExecutor = null;
+    }
+    if (executor == null) {
+      return;
+    }
+
+    executor.shutdown();
+    try {
+      if (!executor.awaitTermination(IMAGE_SAVER_SHUTDOWN_TIMEOUT_MILLIS, TimeUnit.MILLISECONDS)) {
+        Log.w(TAG, "Timed out waiting for pictures to be saved");
+      }
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+    }
+  }
+
+  private static void logImageSaved(long latencyNanos) {
+    Log.i(TAG, "Picture saved in " + TimeUnit.NANOSECONDS.toMillis(latencyNanos) + " ms");
+  }
+
+  /**
+   * Sets the codec and encoding preset of the videos recorded from now on.
+   *
+   * @param result Flutter result.
+   * @param codec the codec to record with, or null to use the codec of the recording profile, or
+   *     the codec picked by the preset.
+   * @param preset the preset that picks the codec and bitrate when they were not requested.
+   */
+  public void setVideoEncoding(
+      @NonNull final Result result,
+      @Nullable VideoCodec codec,
+      @NonNull VideoEncodingPreset preset) {
+    if (recordingVideo) {
+      result.error(
+          "setVideoEncodingFailed", "Cannot change the video encoding while recording.", null);
+      return;
+    }
+    if (codec != null && !isVideoCodecSupported(codec)) {
+      result.error(
+          "setVideoEncodingFailed",
+          "The " + codec + " codec is not supported at the recording resolution.",
+          null);
+      return;
+    }
+
+    videoCodec = codec;
+    videoEncodingPreset = preset;
+    result.success(null);
+  }
+
+  /**
+   * Gets which codecs can record at the resolution of the camera.
+   *
+   * @return a map of each {@link VideoCodec} to whether it is supported.
+   */
+  @NonNull
+  public Map<String, Boolean> getVideoEncodingCapabilities() {
+    final Map<String, Boolean> capabilities = new HashMap<>();
+    for (VideoCodec codec : VideoCodec.values()) {
+      capabilities.put(codec.toString(), isVideoCodecSupported(codec));
+    }
+    return capabilities;
+  }
+
+  /**
+   * Gets when the camera last reached each milestone of its pipeline.
+   *
+   * @return a map of the reached milestones of {@link CameraPipelineMetrics} to the microseconds
+   *     since the camera was created.
+   */
+  @NonNull
+  public Map<String, Long> getPipelineMetrics() {
+    return pipelineMetrics.toMap();
+  }
+
+  /**
+   * Enables or disables emitting the spans of the camera pipeline as systrace sections.
+   *
+   * @param enabled whether the spans are traced.
+   */
+  public void setPipelineTracingEnabled(boolean enabled) {
+    pipelineMetrics.setTracingEnabled(enabled);
+  }
+
   @VisibleForTesting
   void prepareRecording(@NonNull Result result) {
     final File outputDir = applicationContext.getCacheDir();
@@ -1275,21 +2138,95 @@ class Camera
 
           @Override
           public void onCancel(Object o) {
-            if (imageStreamReader == null) {
+            final ImageStreamReader streamReader = getActiveImageStreamReader();
+            if (streamReader == null) {
               return;
             }
 
-            imageStreamReader.removeListener(backgroundHandler);
+            streamReader.removeListener(backgroundHandler);
           }
         });
   }
 
   void setImageStreamImageAvailableListener(final EventChannel.EventSink imageStreamSink) {
-    if (imageStreamReader == null) {
+    final ImageStreamReader streamReader = getActiveImageStreamReader();
+    if (streamReader == null) {
       return;
     }
 
-    imageStreamReader.subscribeListener(this.captureProps, imageStreamSink, backgroundHandler);
+    streamReader.subscribeListener(this.captureProps, imageStreamSink, backgroundHandler);
+  }
+
+  @Nullable
+  private ImageStreamReader getActiveImageStreamReader() {
+    return analysisImageStreamReader != null ? analysisImageStreamReader : imageStreamReader;
+  }
+
+  /**
+   * Sets the size and format of the frames streamed to Dart.
+   *
+   * <p>By default, frames are streamed at the preview size. An analysis target streams frames
+   * from a separate, usually much smaller, image reader output instead, so much less data is
+   * copied for every frame. The target applies the next time the stream is started.
+   *
+   * @param analysisSize the requested frame size, or null to stream at the preview size.
+   * @param analysisImageFormatGroup the requested image format group, or null to use the one the
+   *     camera was opened with.
+   * @return false if the camera cannot output frames in the requested format.
+   */
+  public boolean setImageStreamAnalysisTarget(
+      @Nullable Size analysisSize, @Nullable String analysisImageFormatGroup) {
+    if (analysisSize == null) {
+      closeAnalysisImageStreamReader();
+      return true;
+    }
+
+    Integer imageFormat =
+        supportedImageFormats.get(
+            analysisImageFormatGroup != null ? analysisImageFormatGroup : imageFormatGroup);
+    if (imageFormat == null) {
+      Log.w(TAG, "The selected imageFormatGroup is not supported by Android. Defaulting to yuv420");
+      imageFormat = ImageFormat.YUV_420_888;
+    }
+
+    final Size streamSize =
+        ImageStreamReader.chooseStreamSize(
+            cameraProperties.getScalerStreamConfigurationOutputSizes(
+                ImageStreamReader.computeStreamImageFormat(imageFormat)),
+            analysisSize);
+    if (streamSize == null) {
+      return false;
+    }
+    if (analysisImageStreamReader != null
+        && streamSize.equals(analysisStreamSize)
+        && imageFormat == analysisStreamFormat) {
+      return true;
+    }
+
+    closeAnalysisImageStreamReader();
+    Log.i(TAG, "setImageStreamAnalysisTarget | streaming at " + streamSize);
+    analysisImageStreamReader =
+        new ImageStreamReader(streamSize.getWidth(), streamSize.getHeight(), imageFormat, 1);
+    analysisStreamSize = streamSize;
+    analysisStreamFormat = imageFormat;
+    return true;
+  }
+
+  private void closeAnalysisImageStreamReader() {
+    if (analysisImageStreamReader == null) {
+      return;
+    }
+    if (streamingImages && captureSession != null) {
+      // Stop the repeating request before the reader it streams to is released.
+      try {
+        captureSession.stopRepeating();
+      } catch (CameraAccessException | IllegalStateException e) {
+        Log.w(TAG, "closeAnalysisImageStreamReader | could not stop stream: " + e.getMessage());
+      }
+    }
+    analysisImageStreamReader.close();
+    analysisImageStreamReader = null;
+    analysisStreamSize = null;
   }
 
   void closeCaptureSession() {
@@ -1306,6 +2243,7 @@ class Camera
 
     stopAndReleaseCamera();
 
+    shutdownImageSaverExecutor();
     if (pictureImageReader != null) {
       pictureImageReader.close();
       pictureImageReader = null;
@@ -1314,11 +2252,14 @@ class Camera
       imageStreamReader.close();
       imageStreamReader = null;
     }
+    closeAnalysisImageStreamReader();
+    closePreviewRenderer();
     if (mediaRecorder != null) {
       mediaRecorder.reset();
       mediaRecorder.release();
       mediaRecorder = null;
     }
+    releaseRecorderInputSurface();
 
     stopBackgroundThread();
   }
@@ -1353,7 +2294,7 @@ class Camera
 
     videoRenderer =
         new VideoRenderer(
-            mediaRecorder.getSurface(),
+            getRecorderSurface(),
             resolutionFeature.getCaptureSize().getWidth(),
             resolutionFeature.getCaptureSize().getHeight(),
             videoRendererUncaughtExceptionHandler);
@@ -1377,6 +2318,8 @@ class Camera
     }
 
     stopAndReleaseCamera();
+    // The new camera records through the video renderer, without the preview effect.
+    stopRecordingThroughPreviewRenderer();
     prepareVideoRenderer();
     cameraProperties = properties;
     cameraFeatures =
@@ -11,8 +11,10 @@ import android.hardware.camera2.CaptureResult;
 import android.hardware.camera2.TotalCaptureResult;
 import android.util.Log;
 import androidx.annotation.NonNull;
+import androidx.annotation.Nullable;
 import androidx.annotation.VisibleForTesting;
 import io.flutter.plugins.camera.types.CameraCaptureProperties;
+import io.flutter.plugins.camera.types.CameraPipelineMetrics;
 import io.flutter.plugins.camera.types.CaptureTimeoutsWrapper;
 
 /**
@@ -25,6 +27,7 @@ class CameraCaptureCallback extends CaptureCallback {
   private CameraState cameraState;
   private final CaptureTimeoutsWrapper captureTimeouts;
   private final CameraCaptureProperties captureProps;
+  @Nullable private final CameraPipelineMetrics pipelineMetrics;
 
   // Lookup keys for state; overrideable for unit tests since Mockito can't mock them.
   @VisibleForTesting @NonNull
@@ -36,11 +39,13 @@ class CameraCaptureCallback extends CaptureCallback {
   private CameraCaptureCallback(
       @NonNull CameraCaptureStateListener cameraStateListener,
       @NonNull CaptureTimeoutsWrapper captureTimeouts,
-      @NonNull CameraCaptureProperties captureProps) {
+      @NonNull CameraCaptureProperties captureProps,
+      @Nullable CameraPipelineMetrics pipelineMetrics) {
     cameraState = CameraState.STATE_PREVIEW;
     this.cameraStateListener = cameraStateListener;
     this.captureTimeouts = captureTimeouts;
     this.captureProps = captureProps;
+    this.pipelineMetrics = pipelineMetrics;
   }
 
   /**
@@ -55,7 +60,26 @@ class CameraCaptureCallback extends CaptureCallback {
       @NonNull CameraCaptureStateListener cameraStateListener,
       @NonNull CaptureTimeoutsWrapper captureTimeouts,
       @NonNull CameraCaptureProperties captureProps) {
-    return new CameraCaptureCallback(cameraStateListener, captureTimeouts, captureProps);
+    return new CameraCaptureCallback(cameraStateListener, captureTimeouts, captureProps, null);
+  }
+
+  /**
+   * Creates a new instance of the {@link CameraCaptureCallback} class that records the first frame
+   * and the precapture convergence in the given {@link CameraPipelineMetrics}.
+   *
+   * @param cameraStateListener instance which will be called when the camera state changes.
+   * @param captureTimeouts specifying the different timeout counters that should be taken into
+   *     account.
+   * @param pipelineMetrics the metrics of the camera.
+   * @return a configured instance of the {@link CameraCaptureCallback} class.
+   */
+  public static CameraCaptureCallback create(
+      @NonNull CameraCaptureStateListener cameraStateListener,
+      @NonNull CaptureTimeoutsWrapper captureTimeouts,
+      @NonNull CameraCaptureProperties captureProps,
+      @NonNull CameraPipelineMetrics pipelineMetrics) {
+    return new CameraCaptureCallback(
+        cameraStateListener, captureTimeouts, captureProps, pipelineMetrics);
   }
 
   /**
@@ -140,11 +164,11 @@ class CameraCaptureCallback extends CaptureCallback {
         {
           // CONTROL_AE_STATE can be null on some devices
           if (aeState == null || aeState != CaptureResult.CONTROL_AE_STATE_PRECAPTURE) {
-            cameraStateListener.onConverged();
+            onConverged();
           } else if (captureTimeouts.getPreCaptureMetering().getIsExpired()) {
             Log.w(
                 TAG, "Metering timeout waiting for pre-capture to finish, moving on with capture");
-            cameraStateListener.onConverged();
+            onConverged();
           }
 
           break;
@@ -155,12 +179,19 @@ class CameraCaptureCallback extends CaptureCallback {
   private void handleWaitingFocusState(Integer aeState) {
     // CONTROL_AE_STATE can be null on some devices
     if (aeState == null || aeState == CaptureRequest.CONTROL_AE_STATE_CONVERGED) {
-      cameraStateListener.onConverged();
+      onConverged();
     } else {
       cameraStateListener.onPrecapture();
     }
   }
 
+  private void onConverged() {
+    if (pipelineMetrics != null) {
+      pipelineMetrics.mark(CameraPipelineMetrics.PRECAPTURE_CONVERGED);
+    }
+    cameraStateListener.onConverged();
+  }
+
   @Override
   public void onCaptureProgressed(
       @NonNull CameraCaptureSession session,
@@ -174,6 +205,9 @@ class CameraCaptureCallback extends CaptureCallback {
       @NonNull CameraCaptureSession session,
       @NonNull CaptureRequest request,
       @NonNull TotalCaptureResult result) {
+    if (pipelineMetrics != null) {
+      pipelineMetrics.onCaptureCompleted();
+    }
     process(result);
   }
 
@@ -0,0 +1,139 @@
+// Copyright 2013 The Flutter Authors. All rights reserved.
+// Use of this source code is governed by a BSD-style license that can be
+// found in the LICENSE file.
+
+package io.flutter.plugins.camera;
+
+import android.hardware.camera2.CameraAccessException;
+import android.hardware.camera2.CameraManager;
+import android.hardware.camera2.CameraMetadata;
+import android.os.Handler;
+import android.os.Looper;
+import androidx.annotation.NonNull;
+import androidx.annotation.Nullable;
+import androidx.annotation.VisibleForTesting;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Process-wide cache of the camera ids and {@link CameraPropertiesImpl}s of the device.
+ *
+ * <p>{@link CameraManager#getCameraIdList()} and {@link CameraManager#getCameraCharacteristics}
+ * are binder calls into the camera service. The characteristics of a camera never change, so they
+ * are read once per camera and shared by every {@link Camera} and every call to {@link
+ * CameraUtils#getAvailableCameras}.
+ *
+ * <p>The cache listens to {@link CameraManager.AvailabilityCallback} to forget the camera ids when
+ * an external camera is connected or disconnected.
+ */
+public final class CameraCharacteristicsCache {
+  @Nullable private static CameraCharacteristicsCache instance;
+
+  private final CameraManager cameraManager;
+  private final Map<String, CameraPropertiesImpl> cameraProperties = new HashMap<>();
+  @Nullable private String[] cameraIds;
+
+  @VisibleForTesting
+  final CameraManager.AvailabilityCallback availabilityCallback =
+      new CameraManager.AvailabilityCallback() {
+        @Override
+        public void onCameraAvailable(@NonNull String cameraId) {
+          onAvailabilityChanged(cameraId, true);
+        }
+
+        @Override
+        public void onCameraUnavailable(@NonNull String cameraId) {
+          onAvailabilityChanged(cameraId, false);
+        }
+      };
+
+  @VisibleForTesting
+  CameraCharacteristicsCache(@NonNull CameraManager cameraManager) {
+    this.cameraManager = cameraManager;
+  }
+
+  /**
+   * Gets the cache of the given {@link CameraManager}.
+   *
+   * <p>The cache is replaced if a different {@link CameraManager} is given.
+   *
+   * @param cameraManager the {@link CameraManager} used to read the camera ids and characteristics.
+   * @return the shared {@link CameraCharacteristicsCache}.
+   */
+  @NonNull
+  public static synchronized CameraCharacteristicsCache getInstance(
+      @NonNull CameraManager cameraManager) {
+    if (instance == null || instance.cameraManager != cameraManager) {
+      if (instance != null) {
+        instance.cameraManager.unregisterAvailabilityCallback(instance.availabilityCallback);
+      }
+      instance = new CameraCharacteristicsCache(cameraManager);
+      cameraManager.registerAvailabilityCallback(
+          instance.availabilityCallback, new Handler(Looper.getMainLooper()));
+    }
+    return instance;
+  }
+
+  /**
+   * Gets the ids of the cameras of the device.
+   *
+   * @return a copy of the cached result of {@link CameraManager#getCameraIdList()}.
+   * @throws CameraAccessException when the camera service could not be accessed.
+   */
+  @NonNull
+  public synchronized String[] getCameraIdList() throws CameraAccessException {
+    if (cameraIds == null) {
+      cameraIds = cameraManager.getCameraIdList();
+    }
+    return Arrays.copyOf(cameraIds, cameraIds.length);
+  }
+
+  /**
+   * Gets the properties of a camera, reading its characteristics on first use.
+   *
+   * @param cameraName the id of the camera.
+   * @return the cached {@link CameraPropertiesImpl} of the camera.
+   * @throws CameraAccessException when the characteristics could not be read.
+   */
+  @NonNull
+  public synchronized CameraPropertiesImpl getCameraProperties(@NonNull String cameraName)
+      throws CameraAccessException {
+    CameraPropertiesImpl properties = cameraProperties.get(cameraName);
+    if (properties == null) {
+      properties =
+          new CameraPropertiesImpl(cameraName, cameraManager.getCameraCharacteristics(cameraName));
+      cameraProperties.put(cameraName, properties);
+    }
+    return properties;
+  }
+
+  /** Forgets all cached camera ids and characteristics. */
+  public synchronized void invalidate() {
+    cameraIds = null;
+    cameraProperties.clear();
+  }
+
+  // The callback also fires when a camera is opened or closed by any app, which does not change
+  // its characteristics. Only an unknown camera becoming available, or an external camera going
+  // away, changes the camera ids.
+  private synchronized void onAvailabilityChanged(@NonNull String cameraId, boolean available) {
+    if (available) {
+      if (cameraIds != null && !Arrays.asList(cameraIds).contains(cameraId)) {
+        cameraIds = null;
+      }
+      return;
+    }
+
+    final CameraPropertiesImpl properties = cameraProperties.get(cameraId);
+    if (properties != null && properties.getLensFacing() == CameraMetadata.LENS_FACING_EXTERNAL) {
+      cameraProperties.remove(cameraId);
+      cameraIds = null;
+    }
+  }
+
+  @VisibleForTesting
+  static synchronized void resetInstance() {
+    instance = null;
+  }
+}
@@ -162,6 +162,19 @@ public interface CameraProperties {
   @NonNull
   Float getScalerAvailableMaxDigitalZoom();
 
+  /**
+   * Returns the sizes the camera device can output in the given image format.
+   *
+   * <p>By default maps to the @see
+   * android.hardware.camera2.params.StreamConfigurationMap#getOutputSizes(int) method of the @see
+   * android.hardware.camera2.CameraCharacteristics#SCALER_STREAM_CONFIGURATION_MAP key.
+   *
+   * @param imageFormat The @see android.graphics.ImageFormat to get the output sizes for.
+   * @return Size[] List of supported output sizes, or null if the format is not supported.
+   */
+  @Nullable
+  Size[] getScalerStreamConfigurationOutputSizes(int imageFormat);
+
   /**
    * Returns the minimum ratio between the default camera zoom setting and all of the available
    * zoom.
@@ -8,6 +8,7 @@ import android.graphics.Rect;
 import android.hardware.camera2.CameraAccessException;
 import android.hardware.camera2.CameraCharacteristics;
 import android.hardware.camera2.CameraManager;
+import android.hardware.camera2.params.StreamConfigurationMap;
 import android.os.Build.VERSION_CODES;
 import android.util.Range;
 import android.util.Rational;
@@ -19,15 +20,31 @@ import androidx.annotation.RequiresApi;
 /**
  * Implementation of the @see CameraProperties interface using the @see
  * android.hardware.camera2.CameraCharacteristics class to access the different characteristics.
+ *
+ * <p>The characteristics that are read on every capture request, such as the zoom and exposure
+ * ranges, are only read once. Instances are shared through {@link CameraCharacteristicsCache}.
  */
 public class CameraPropertiesImpl implements CameraProperties {
   private final CameraCharacteristics cameraCharacteristics;
   private final String cameraName;
 
+  private final CachedValue<Range<Integer>[]> targetFpsRanges = new CachedValue<>();
+  private final CachedValue<Range<Integer>> exposureCompensationRange = new CachedValue<>();
+  private final CachedValue<Rational> exposureCompensationStep = new CachedValue<>();
+  private final CachedValue<Float> maxDigitalZoom = new CachedValue<>();
+  private final CachedValue<Range<Float>> zoomRatioRange = new CachedValue<>();
+  private final CachedValue<Rect> activeArraySize = new CachedValue<>();
+  private final CachedValue<Rect> preCorrectionActiveArraySize = new CachedValue<>();
+
   public CameraPropertiesImpl(@NonNull String cameraName, @NonNull CameraManager cameraManager)
       throws CameraAccessException {
+    this(cameraName, cameraManager.getCameraCharacteristics(cameraName));
+  }
+
+  public CameraPropertiesImpl(
+      @NonNull String cameraName, @NonNull CameraCharacteristics cameraCharacteristics) {
     this.cameraName = cameraName;
-    this.cameraCharacteristics = cameraManager.getCameraCharacteristics(cameraName);
+    this.cameraCharacteristics = cameraCharacteristics;
   }
 
   @NonNull
@@ -39,19 +56,24 @@ public class CameraPropertiesImpl implements CameraProperties {
   @NonNull
   @Override
   public Range<Integer>[] getControlAutoExposureAvailableTargetFpsRanges() {
-    return cameraCharacteristics.get(CameraCharacteristics.CONTROL_AE_AVAILABLE_TARGET_FPS_RANGES);
+    return targetFpsRanges.get(
+        () ->
+            cameraCharacteristics.get(
+                CameraCharacteristics.CONTROL_AE_AVAILABLE_TARGET_FPS_RANGES));
   }
 
   @NonNull
   @Override
   public Range<Integer> getControlAutoExposureCompensationRange() {
-    return cameraCharacteristics.get(CameraCharacteristics.CONTROL_AE_COMPENSATION_RANGE);
+    return exposureCompensationRange.get(
+        () -> cameraCharacteristics.get(CameraCharacteristics.CONTROL_AE_COMPENSATION_RANGE));
   }
 
   @Override
   public double getControlAutoExposureCompensationStep() {
     Rational rational =
-        cameraCharacteristics.get(CameraCharacteristics.CONTROL_AE_COMPENSATION_STEP);
+        exposureCompensationStep.get(
+            () -> cameraCharacteristics.get(CameraCharacteristics.CONTROL_AE_COMPENSATION_STEP));
 
     return rational == null ? 0.0 : rational.doubleValue();
   }
@@ -101,15 +123,23 @@ public class CameraPropertiesImpl implements CameraProperties {
   @NonNull
   @Override
   public Float getScalerAvailableMaxDigitalZoom() {
-    return cameraCharacteristics.get(CameraCharacteristics.SCALER_AVAILABLE_MAX_DIGITAL_ZOOM);
+    return maxDigitalZoom.get(
+        () -> cameraCharacteristics.get(CameraCharacteristics.SCALER_AVAILABLE_MAX_DIGITAL_ZOOM));
+  }
+
+  @Nullable
+  @Override
+  public Size[] getScalerStreamConfigurationOutputSizes(int imageFormat) {
+    final StreamConfigurationMap map =
+        cameraCharacteristics.get(CameraCharacteristics.SCALER_STREAM_CONFIGURATION_MAP);
+    return map == null ? null : map.getOutputSizes(imageFormat);
   }
 
   @RequiresApi(api = VERSION_CODES.R)
   @Nullable
   @Override
   public Float getScalerMaxZoomRatio() {
-    final Range<Float> range =
-        cameraCharacteristics.get(CameraCharacteristics.CONTROL_ZOOM_RATIO_RANGE);
+    final Range<Float> range = getControlZoomRatioRange();
     if (range != null) {
       return range.getUpper();
     }
@@ -120,8 +150,7 @@ public class CameraPropertiesImpl implements CameraProperties {
   @Nullable
   @Override
   public Float getScalerMinZoomRatio() {
-    final Range<Float> range =
-        cameraCharacteristics.get(CameraCharacteristics.CONTROL_ZOOM_RATIO_RANGE);
+    final Range<Float> range = getControlZoomRatioRange();
     if (range != null) {
       return range.getLower();
     }
@@ -131,7 +160,8 @@ public class CameraPropertiesImpl implements CameraProperties {
   @NonNull
   @Override
   public Rect getSensorInfoActiveArraySize() {
-    return cameraCharacteristics.get(CameraCharacteristics.SENSOR_INFO_ACTIVE_ARRAY_SIZE);
+    return activeArraySize.get(
+        () -> cameraCharacteristics.get(CameraCharacteristics.SENSOR_INFO_ACTIVE_ARRAY_SIZE));
   }
 
   @NonNull
@@ -144,8 +174,10 @@ public class CameraPropertiesImpl implements CameraProperties {
   @NonNull
   @Override
   public Rect getSensorInfoPreCorrectionActiveArraySize() {
-    return cameraCharacteristics.get(
-        CameraCharacteristics.SENSOR_INFO_PRE_CORRECTION_ACTIVE_ARRAY_SIZE);
+    return preCorrectionActiveArraySize.get(
+        () ->
+            cameraCharacteristics.get(
+                CameraCharacteristics.SENSOR_INFO_PRE_CORRECTION_ACTIVE_ARRAY_SIZE));
   }
 
   @Override
@@ -164,4 +196,33 @@ public class CameraPropertiesImpl implements CameraProperties {
     return cameraCharacteristics.get(
         CameraCharacteristics.NOISE_REDUCTION_AVAILABLE_NOISE_REDUCTION_MODES);
   }
+
+  @RequiresApi(api = VERSION_CODES.R)
+  @Nullable
+  private Range<Float> getControlZoomRatioRange() {
+    return zoomRatioRange.get(
+        () -> cameraCharacteristics.get(CameraCharacteristics.CONTROL_ZOOM_RATIO_RANGE));
+  }
+
+  /** A characteristic that is read from the {@link CameraCharacteristics} on first use. */
+  private static final class CachedValue<T> {
+    interface Reader<T> {
+      @Nullable
+      T read();
+    }
+
+    private boolean isRead = false;
+    @Nullable private T value;
+
+    // The reader is passed on every call, instead of once on construction, so API level checks
+    // stay in the getter that reads the characteristic.
+    @Nullable
+    synchronized T get(@NonNull Reader<T> reader) {
+      if (!isRead) {
+        value = reader.read();
+        isRead = true;
+      }
+      return value;
+    }
+  }
 }
@@ -7,7 +7,6 @@ package io.flutter.plugins.camera;
 import android.app.Activity;
 import android.content.Context;
 import android.hardware.camera2.CameraAccessException;
-import android.hardware.camera2.CameraCharacteristics;
 import android.hardware.camera2.CameraManager;
 import android.hardware.camera2.CameraMetadata;
 import androidx.annotation.NonNull;
@@ -23,11 +22,17 @@ public final class CameraUtils {
   /**
    * Gets the {@link CameraManager} singleton.
    *
+   * <p>The {@link CameraManager} of the application context is preferred, so the process-wide
+   * {@link CameraCharacteristicsCache} neither holds on to an activity nor is rebuilt for every
+   * new activity.
+   *
    * @param context The context to get the {@link CameraManager} singleton from.
    * @return The {@link CameraManager} singleton.
    */
   static CameraManager getCameraManager(Context context) {
-    return (CameraManager) context.getSystemService(Context.CAMERA_SERVICE);
+    final Context applicationContext = context.getApplicationContext();
+    final Context serviceContext = applicationContext != null ? applicationContext : context;
+    return (CameraManager) serviceContext.getSystemService(Context.CAMERA_SERVICE);
   }
 
   /**
@@ -107,6 +112,8 @@ public final class CameraUtils {
   /**
    * Gets all the available cameras for the device.
    *
+   * <p>The camera ids and characteristics are read through the {@link CameraCharacteristicsCache}.
+   *
    * @param activity The current Android activity.
    * @return A map of all the available cameras, with their name as their key.
    * @throws CameraAccessException when the camera could not be accessed.
@@ -114,8 +121,9 @@ public final class CameraUtils {
   @NonNull
   public static List<Messages.PlatformCameraDescription> getAvailableCameras(
       @NonNull Activity activity) throws CameraAccessException {
-    CameraManager cameraManager = (CameraManager) activity.getSystemService(Context.CAMERA_SERVICE);
-    String[] cameraNames = cameraManager.getCameraIdList();
+    CameraCharacteristicsCache cache =
+        CameraCharacteristicsCache.getInstance(getCameraManager(activity));
+    String[] cameraNames = cache.getCameraIdList();
     List<Messages.PlatformCameraDescription> cameras = new ArrayList<>();
     for (String cameraName : cameraNames) {
       int cameraId;
@@ -128,10 +136,10 @@ public final class CameraUtils {
         continue;
       }
 
-      CameraCharacteristics characteristics = cameraManager.getCameraCharacteristics(cameraName);
-      int sensorOrientation = characteristics.get(CameraCharacteristics.SENSOR_ORIENTATION);
+      CameraPropertiesImpl cameraProperties = cache.getCameraProperties(cameraName);
+      int sensorOrientation = cameraProperties.getSensorOrientation();
 
-      int lensFacing = characteristics.get(CameraCharacteristics.LENS_FACING);
+      int lensFacing = cameraProperties.getLensFacing();
       Messages.PlatformCameraLensDirection lensDirection = lensDirectionFromInteger(lensFacing);
       Messages.PlatformCameraDescription details =
           new Messages.PlatformCameraDescription.Builder()
@@ -13,6 +13,7 @@ import io.flutter.plugin.common.BinaryMessenger;
 import io.flutter.plugin.common.MethodChannel;
 import io.flutter.plugins.camera.features.autofocus.FocusMode;
 import io.flutter.plugins.camera.features.exposurelock.ExposureMode;
+import java.util.Collections;
 import java.util.HashMap;
 import java.util.Map;
 
@@ -22,6 +23,10 @@ public class DartMessenger {
   @Nullable MethodChannel cameraChannel;
   @Nullable MethodChannel deviceChannel;
 
+  /** The orientation change events, created once per orientation and posted again on repeats. */
+  private final Runnable[] deviceOrientationChangeEvents =
+      new Runnable[PlatformChannel.DeviceOrientation.values().length];
+
   /** Specifies the different device related message types. */
   enum DeviceEventType {
     /** Indicates the device's orientation has changed. */
@@ -77,13 +82,20 @@ public class DartMessenger {
    */
   public void sendDeviceOrientationChangeEvent(
       @NonNull PlatformChannel.DeviceOrientation orientation) {
-    this.send(
-        DeviceEventType.ORIENTATION_CHANGED,
-        new HashMap<String, Object>() {
-          {
-            put("orientation", CameraUtils.serializeDeviceOrientation(orientation));
-          }
-        });
+    final MethodChannel channel = deviceChannel;
+    if (channel == null) {
+      return;
+    }
+
+    Runnable event = deviceOrientationChangeEvents[orientation.ordinal()];
+    if (event == null) {
+      final Map<String, Object> args =
+          Collections.singletonMap(
+              "orientation", CameraUtils.serializeDeviceOrientation(orientation));
+      event = () -> channel.invokeMethod(DeviceEventType.ORIENTATION_CHANGED.method, args);
+      deviceOrientationChangeEvents[orientation.ordinal()] = event;
+    }
+    handler.post(event);
   }
 
   /**
@@ -162,18 +174,6 @@ public class DartMessenger {
         });
   }
 
-  private void send(DeviceEventType eventType) {
-    send(eventType, new HashMap<>());
-  }
-
-  private void send(DeviceEventType eventType, Map<String, Object> args) {
-    if (deviceChannel == null) {
-      return;
-    }
-
-    handler.post(() -> deviceChannel.invokeMethod(eventType.method, args));
-  }
-
   /**
    * Send a success payload to a {@link MethodChannel.Result} on the main thread.
    *
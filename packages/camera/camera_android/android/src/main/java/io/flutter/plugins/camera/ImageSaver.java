@@ -5,6 +5,7 @@
 package io.flutter.plugins.camera;
 
 import android.media.Image;
+import android.os.SystemClock;
 import androidx.annotation.NonNull;
 import androidx.annotation.VisibleForTesting;
 import java.io.File;
@@ -12,8 +13,14 @@ import java.io.FileNotFoundException;
 import java.io.FileOutputStream;
 import java.io.IOException;
 import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
 
-/** Saves a JPEG {@link Image} into the specified {@link File}. */
+/**
+ * Saves a JPEG {@link Image} into the specified {@link File}.
+ *
+ * <p>The JPEG plane is written straight from the image buffer through a {@link FileChannel},
+ * without copying it into a byte array first.
+ */
 public class ImageSaver implements Runnable {
 
   /** The JPEG image */
@@ -25,6 +32,9 @@ public class ImageSaver implements Runnable {
   /** Used to report the status of the save action. */
   private final Callback callback;
 
+  /** When the save action was requested, as given by {@link SystemClock#elapsedRealtimeNanos()}. */
+  private final long requestedAtNanos;
+
   /**
    * Creates an instance of the ImageSaver runnable
    *
@@ -36,21 +46,25 @@ public class ImageSaver implements Runnable {
     this.image = image;
     this.file = file;
     this.callback = callback;
+    this.requestedAtNanos = SystemClock.elapsedRealtimeNanos();
   }
 
   @Override
   public void run() {
-    ByteBuffer buffer = image.getPlanes()[0].getBuffer();
-    byte[] bytes = new byte[buffer.remaining()];
-    buffer.get(bytes);
     FileOutputStream output = null;
     try {
+      // Throws an IllegalStateException if the ImageReader of the image was closed meanwhile.
+      ByteBuffer buffer = image.getPlanes()[0].getBuffer();
       output = FileOutputStreamFactory.create(file);
-      output.write(bytes);
+      FileChannel channel = output.getChannel();
+      while (buffer.hasRemaining()) {
+        channel.write(buffer);
+      }
 
-      callback.onComplete(file.getAbsolutePath());
+      callback.onComplete(
+          file.getAbsolutePath(), SystemClock.elapsedRealtimeNanos() - requestedAtNanos);
 
-    } catch (IOException e) {
+    } catch (IOException | IllegalStateException e) {
       callback.onError("IOError", "Failed saving image");
     } finally {
       image.close();
@@ -73,8 +87,10 @@ public class ImageSaver implements Runnable {
      * Called when the image file has been saved successfully.
      *
      * @param absolutePath - The absolute path of the file that was saved.
+     * @param latencyNanos - The time from the creation of the ImageSaver until the file was
+     *     written, in nanoseconds. It includes the time spent waiting for an I/O thread.
      */
-    void onComplete(@NonNull String absolutePath);
+    void onComplete(@NonNull String absolutePath, long latencyNanos);
 
     /**
      * Called when an error is encountered while saving the image file.
@@ -5,9 +5,11 @@
 package io.flutter.plugins.camera;
 
 import android.app.Activity;
+import android.graphics.RectF;
 import android.hardware.camera2.CameraAccessException;
 import android.os.Handler;
 import android.os.Looper;
+import android.util.Size;
 import androidx.annotation.NonNull;
 import androidx.annotation.Nullable;
 import androidx.annotation.VisibleForTesting;
@@ -18,12 +20,18 @@ import io.flutter.plugin.common.MethodCall;
 import io.flutter.plugin.common.MethodChannel;
 import io.flutter.plugin.common.MethodChannel.Result;
 import io.flutter.plugins.camera.CameraPermissions.PermissionsRegistry;
+import io.flutter.plugins.camera.effects.BlurEffect;
+import io.flutter.plugins.camera.effects.ColorLutEffect;
+import io.flutter.plugins.camera.effects.ShaderEffect;
 import io.flutter.plugins.camera.features.CameraFeatureFactoryImpl;
 import io.flutter.plugins.camera.features.Point;
 import io.flutter.plugins.camera.features.autofocus.FocusMode;
 import io.flutter.plugins.camera.features.exposurelock.ExposureMode;
 import io.flutter.plugins.camera.features.flash.FlashMode;
 import io.flutter.plugins.camera.features.resolution.ResolutionPreset;
+import io.flutter.plugins.camera.features.sensororientation.DeviceOrientationSource;
+import io.flutter.plugins.camera.types.VideoCodec;
+import io.flutter.plugins.camera.types.VideoEncodingPreset;
 import io.flutter.view.TextureRegistry;
 import java.util.Collections;
 import java.util.HashMap;
@@ -108,6 +116,98 @@ final class MethodCallHandlerImpl implements MethodChannel.MethodCallHandler, Me
           camera.takePicture(result);
           break;
         }
+      case "takeBurst":
+        {
+          Integer count = call.argument("count");
+          camera.takeBurst(result, count == null ? 0 : count);
+          break;
+        }
+      case "setZeroShutterLagEnabled":
+        {
+          Boolean enabled = call.argument("enabled");
+          camera.setZeroShutterLagEnabled(result, Boolean.TRUE.equals(enabled));
+          break;
+        }
+      case "setCaptureSessionReuseEnabled":
+        {
+          Boolean enabled = call.argument("enabled");
+          camera.setCaptureSessionReuseEnabled(result, Boolean.TRUE.equals(enabled));
+          break;
+        }
+      case "getPipelineMetrics":
+        {
+          result.success(camera.getPipelineMetrics());
+          break;
+        }
+      case "setPipelineTracingEnabled":
+        {
+          Boolean enabled = call.argument("enabled");
+          camera.setPipelineTracingEnabled(Boolean.TRUE.equals(enabled));
+          result.success(null);
+          break;
+        }
+      case "setVideoEncoding":
+        {
+          String codecStr = call.argument("codec");
+          String presetStr = call.argument("preset");
+          VideoCodec codec = codecStr == null ? null : VideoCodec.getValueForString(codecStr);
+          if (codecStr != null && codec == null) {
+            result.error("setVideoEncodingFailed", "Unknown video codec " + codecStr, null);
+            return;
+          }
+          VideoEncodingPreset preset =
+              presetStr == null
+                  ? VideoEncodingPreset.standard
+                  : VideoEncodingPreset.getValueForString(presetStr);
+          if (preset == null) {
+            result.error(
+                "setVideoEncodingFailed", "Unknown video encoding preset " + presetStr, null);
+            return;
+          }
+          camera.setVideoEncoding(result, codec, preset);
+          break;
+        }
+      case "getVideoEncodingCapabilities":
+        {
+          result.success(camera.getVideoEncodingCapabilities());
+          break;
+        }
+      case "setDeviceOrientationDebounce":
+        {
+          Number milliseconds = call.argument("milliseconds");
+          DeviceOrientationSource.setDebounceMillis(
+              milliseconds == null ? 0 : milliseconds.longValue());
+          result.success(null);
+          break;
+        }
+      case "setPreviewEffect":
+        {
+          Double blurRadius = call.argument("blurRadius");
+          byte[] colorLut = call.argument("colorLut");
+          List<Double> crop = call.argument("crop");
+          ShaderEffect effect = null;
+          try {
+            if (blurRadius != null) {
+              effect = new BlurEffect(blurRadius.floatValue());
+            } else if (colorLut != null) {
+              effect = new ColorLutEffect(colorLut);
+            }
+          } catch (IllegalArgumentException e) {
+            result.error("setPreviewEffectFailed", e.getMessage(), null);
+            break;
+          }
+          camera.setPreviewEffect(
+              result,
+              effect,
+              crop == null
+                  ? null
+                  : new RectF(
+                      crop.get(0).floatValue(),
+                      crop.get(1).floatValue(),
+                      crop.get(2).floatValue(),
+                      crop.get(3).floatValue()));
+          break;
+        }
       case "prepareForVideoRecording":
         {
           // This optimization is not required for Android.
@@ -251,6 +351,17 @@ final class MethodCallHandlerImpl implements MethodChannel.MethodCallHandler, Me
         }
       case "startImageStream":
         {
+          Integer width = call.argument("width");
+          Integer height = call.argument("height");
+          String imageFormatGroup = call.argument("imageFormatGroup");
+          Size analysisSize = width != null && height != null ? new Size(width, height) : null;
+          if (!camera.setImageStreamAnalysisTarget(analysisSize, imageFormatGroup)) {
+            result.error(
+                "imageStreamFailed",
+                "The camera cannot stream frames in the requested image format.",
+                null);
+            break;
+          }
           try {
             camera.startPreviewWithImageStream(imageStreamChannel);
             result.success(null);
@@ -356,7 +467,8 @@ final class MethodCallHandlerImpl implements MethodChannel.MethodCallHandler, Me
           try {
             String cameraName = call.argument("cameraName");
             CameraProperties cameraProperties =
-                new CameraPropertiesImpl(cameraName, CameraUtils.getCameraManager(activity));
+                CameraCharacteristicsCache.getInstance(CameraUtils.getCameraManager(activity))
+                    .getCameraProperties(cameraName);
             camera.setDescriptionWhileRecording(result, cameraProperties);
           } catch (Exception e) {
             handleException(e, result);
@@ -395,7 +507,8 @@ final class MethodCallHandlerImpl implements MethodChannel.MethodCallHandler, Me
         new DartMessenger(
             messenger, flutterSurfaceTexture.id(), new Handler(Looper.getMainLooper()));
     CameraProperties cameraProperties =
-        new CameraPropertiesImpl(cameraName, CameraUtils.getCameraManager(activity));
+        CameraCharacteristicsCache.getInstance(CameraUtils.getCameraManager(activity))
+            .getCameraProperties(cameraName);
     ResolutionPreset resolutionPreset = ResolutionPreset.valueOf(preset);
 
     camera =
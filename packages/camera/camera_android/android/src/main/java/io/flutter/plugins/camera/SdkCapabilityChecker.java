@@ -16,6 +16,12 @@ public class SdkCapabilityChecker {
   @VisibleForTesting
   public static int SDK_VERSION = Build.VERSION.SDK_INT;
 
+  @ChecksSdkIntAtLeast(api = Build.VERSION_CODES.Q)
+  public static boolean supportsAsyncTraceSections() {
+    // See https://developer.android.com/reference/android/os/Trace#beginAsyncSection(java.lang.String,%20int)
+    return SDK_VERSION >= Build.VERSION_CODES.Q;
+  }
+
   @ChecksSdkIntAtLeast(api = Build.VERSION_CODES.P)
   public static boolean supportsDistortionCorrection() {
     // See https://developer.android.com/reference/android/hardware/camera2/CameraCharacteristics#DISTORTION_CORRECTION_AVAILABLE_MODES
@@ -34,12 +40,24 @@ public class SdkCapabilityChecker {
     return SDK_VERSION >= Build.VERSION_CODES.S;
   }
 
+  @ChecksSdkIntAtLeast(api = Build.VERSION_CODES.N)
+  public static boolean supportsHevcRecording() {
+    // See https://developer.android.com/reference/android/media/MediaRecorder.VideoEncoder#HEVC
+    return SDK_VERSION >= Build.VERSION_CODES.N;
+  }
+
   @ChecksSdkIntAtLeast(api = Build.VERSION_CODES.M)
   public static boolean supportsMarshmallowNoiseReductionModes() {
     // See https://developer.android.com/reference/android/hardware/camera2/CameraCharacteristics#NOISE_REDUCTION_AVAILABLE_NOISE_REDUCTION_MODES
     return SDK_VERSION >= Build.VERSION_CODES.M;
   }
 
+  @ChecksSdkIntAtLeast(api = Build.VERSION_CODES.M)
+  public static boolean supportsPersistentInputSurface() {
+    // See https://developer.android.com/reference/android/media/MediaCodec#createPersistentInputSurface()
+    return SDK_VERSION >= Build.VERSION_CODES.M;
+  }
+
   @ChecksSdkIntAtLeast(api = Build.VERSION_CODES.P)
   public static boolean supportsSessionConfiguration() {
     // See https://developer.android.com/reference/android/hardware/camera2/params/SessionConfiguration
@@ -52,6 +70,12 @@ public class SdkCapabilityChecker {
     return SDK_VERSION >= Build.VERSION_CODES.N;
   }
 
+  @ChecksSdkIntAtLeast(api = Build.VERSION_CODES.O)
+  public static boolean supportsZeroShutterLag() {
+    // See https://developer.android.com/reference/android/hardware/camera2/CaptureRequest#CONTROL_ENABLE_ZSL
+    return SDK_VERSION >= Build.VERSION_CODES.O;
+  }
+
   @ChecksSdkIntAtLeast(api = Build.VERSION_CODES.R)
   public static boolean supportsZoomRatio() {
     // See https://developer.android.com/reference/android/hardware/camera2/CaptureRequest#CONTROL_ZOOM_RATIO
@@ -6,6 +6,7 @@ package io.flutter.plugins.camera;
 
 import static android.os.SystemClock.uptimeMillis;
 
+import android.graphics.RectF;
 import android.graphics.SurfaceTexture;
 import android.opengl.EGL14;
 import android.opengl.EGLConfig;
@@ -22,8 +23,15 @@ import android.os.HandlerThread;
 import android.util.Log;
 import android.view.Surface;
 import androidx.annotation.NonNull;
+import androidx.annotation.Nullable;
+import androidx.annotation.VisibleForTesting;
+import io.flutter.plugins.camera.effects.ShaderEffect;
 import java.nio.ByteBuffer;
 import java.nio.ByteOrder;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
 
 /**
  * Renders video onto texture after performing a matrix rotation on each frame.
@@ -38,6 +46,10 @@ import java.nio.ByteOrder;
  * <p>This leaves the solution to be routing the recording through a surface texture and performing
  * a matrix transformation on it manually to get the correct orientation. This only happens when
  * setDescription is called mid video recording.
+ *
+ * <p>The renderer is also the GPU processing stage of the preview. It can crop the camera frame,
+ * apply a {@link ShaderEffect}, and draw the result to further output surfaces, each at its own
+ * size, so effects and downscaling run on the GPU instead of on copied frames.
  */
 public class VideoRenderer {
 
@@ -49,11 +61,12 @@ public class VideoRenderer {
           + "            attribute vec2 uvs;\n"
           + "            varying vec2 varUvs;\n"
           + "            uniform mat4 texMatrix;\n"
+          + "            uniform mat4 cropMatrix;\n"
           + "            uniform mat4 mvp;\n"
           + "\n"
           + "            void main()\n"
           + "            {\n"
-          + "                varUvs = (texMatrix * vec4(uvs.x, uvs.y, 0, 1.0)).xy;\n"
+          + "                varUvs = (texMatrix * cropMatrix * vec4(uvs.x, uvs.y, 0, 1.0)).xy;\n"
           + "                gl_Position = mvp * vec4(vertexPosition, 1.0);\n"
           + "            }";
 
@@ -85,11 +98,13 @@ public class VideoRenderer {
   private final int[] bufferHandles = new int[2];
   private int uvsHandle = 0;
   private int texMatrixHandle = 0;
+  private int cropMatrixHandle = 0;
   private int mvpHandle = 0;
 
   EGLDisplay display;
   EGLContext context;
   EGLSurface surface;
+  private EGLConfig eglConfig;
   private Thread thread;
   private final Surface outputSurface;
   SurfaceTexture inputSurfaceTexture;
@@ -102,9 +117,32 @@ public class VideoRenderer {
   final int recordingWidth;
   final int recordingHeight;
   private int rotation = 0;
+  private volatile float[] cropMatrix = identityMatrix();
+
+  /** The output surfaces drawn to after the one given to the constructor. Used on the GL thread. */
+  private final List<RenderOutput> additionalOutputs = new ArrayList<>();
+  /** Tasks to run on the GL thread, guarded by {@link #surfaceTextureAvailableFrameLock}. */
+  private final List<Runnable> pendingGlTasks = new ArrayList<>();
+
+  @Nullable private ShaderEffect effect;
 
   private final Object lock = new Object();
 
+  /** An output surface with its EGL surface and size. */
+  private static class RenderOutput {
+    final Surface surface;
+    final EGLSurface eglSurface;
+    final int width;
+    final int height;
+
+    RenderOutput(Surface surface, EGLSurface eglSurface, int width, int height) {
+      this.surface = surface;
+      this.eglSurface = eglSurface;
+      this.width = width;
+      this.height = height;
+    }
+  }
+
   private final Thread.UncaughtExceptionHandler uncaughtExceptionHandler;
 
   /** Gets surface for input. Blocks until surface is ready. */
@@ -118,6 +156,21 @@ public class VideoRenderer {
     return inputSurface;
   }
 
+  /**
+   * Sets the size of the frames the input surface receives.
+   *
+   * <p>A camera output picks its size when the capture session is configured, so this should be
+   * called before the input surface is added to a new session. Blocks until the input surface is
+   * ready.
+   *
+   * @param width the width of the input frames.
+   * @param height the height of the input frames.
+   */
+  public void setInputSize(int width, int height) throws InterruptedException {
+    getInputSurface();
+    inputSurfaceTexture.setDefaultBufferSize(width, height);
+  }
+
   public VideoRenderer(
       @NonNull Surface outputSurface,
       int recordingWidth,
@@ -144,6 +197,10 @@ public class VideoRenderer {
     GLES20.glDeleteTextures(1, textureHandles, 0);
     EGL14.eglDestroyContext(display, context);
     EGL14.eglDestroySurface(display, surface);
+    for (RenderOutput output : additionalOutputs) {
+      EGL14.eglDestroySurface(display, output.eglSurface);
+    }
+    additionalOutputs.clear();
     GLES20.glDeleteProgram(program);
   }
 
@@ -194,6 +251,7 @@ public class VideoRenderer {
       int[] numConfigs = new int[1];
       if (!EGL14.eglChooseConfig(display, attribList, 0, configs, 0, configs.length, numConfigs, 0))
         throw new RuntimeException(GLUtils.getEGLErrorString(EGL14.eglGetError()));
+      eglConfig = configs[0];
 
       int err = EGL14.eglGetError();
       if (err != EGL14.EGL_SUCCESS) throw new RuntimeException(GLUtils.getEGLErrorString(err));
@@ -225,22 +283,7 @@ public class VideoRenderer {
       indexBuffer.asIntBuffer().put(indices);
       indexBuffer.position(0);
 
-      int vertexShader = loadShader(GLES20.GL_VERTEX_SHADER, vertexShaderCode);
-      int fragmentShader = loadShader(GLES20.GL_FRAGMENT_SHADER, fragmentShaderCode);
-
-      program = GLES20.glCreateProgram();
-
-      GLES20.glAttachShader(program, vertexShader);
-      GLES20.glAttachShader(program, fragmentShader);
-      GLES20.glLinkProgram(program);
-
-      deleteShader(vertexShader);
-      deleteShader(fragmentShader);
-
-      vertexHandle = GLES20.glGetAttribLocation(program, "vertexPosition");
-      uvsHandle = GLES20.glGetAttribLocation(program, "uvs");
-      texMatrixHandle = GLES20.glGetUniformLocation(program, "texMatrix");
-      mvpHandle = GLES20.glGetUniformLocation(program, "mvp");
+      createProgram(fragmentShaderCode);
 
       // Initialize buffers
       GLES20.glGenBuffers(2, bufferHandles, 0);
@@ -280,6 +323,26 @@ public class VideoRenderer {
     }
   }
 
+  private void createProgram(@NonNull String fragmentShader) {
+    int vertexShaderHandle = loadShader(GLES20.GL_VERTEX_SHADER, vertexShaderCode);
+    int fragmentShaderHandle = loadShader(GLES20.GL_FRAGMENT_SHADER, fragmentShader);
+
+    program = GLES20.glCreateProgram();
+
+    GLES20.glAttachShader(program, vertexShaderHandle);
+    GLES20.glAttachShader(program, fragmentShaderHandle);
+    GLES20.glLinkProgram(program);
+
+    deleteShader(vertexShaderHandle);
+    deleteShader(fragmentShaderHandle);
+
+    vertexHandle = GLES20.glGetAttribLocation(program, "vertexPosition");
+    uvsHandle = GLES20.glGetAttribLocation(program, "uvs");
+    texMatrixHandle = GLES20.glGetUniformLocation(program, "texMatrix");
+    cropMatrixHandle = GLES20.glGetUniformLocation(program, "cropMatrix");
+    mvpHandle = GLES20.glGetUniformLocation(program, "mvp");
+  }
+
   /** Starts and configures Video Renderer. */
   private void startOpenGL() {
     Log.d(TAG, "Starting OpenGL Thread");
@@ -295,11 +358,23 @@ public class VideoRenderer {
               // to correct rotation.
               while (!Thread.interrupted()) {
 
+                final List<Runnable> glTasks;
+                final boolean frameAvailable;
                 synchronized (surfaceTextureAvailableFrameLock) {
-                  while (!surfaceTextureFrameAvailable) {
+                  while (!surfaceTextureFrameAvailable && pendingGlTasks.isEmpty()) {
                     surfaceTextureAvailableFrameLock.wait(500);
                   }
+                  frameAvailable = surfaceTextureFrameAvailable;
                   surfaceTextureFrameAvailable = false;
+                  glTasks = new ArrayList<>(pendingGlTasks);
+                  pendingGlTasks.clear();
+                }
+
+                for (Runnable glTask : glTasks) {
+                  glTask.run();
+                }
+                if (!frameAvailable) {
+                  continue;
                 }
 
                 inputSurfaceTexture.updateTexImage();
@@ -307,7 +382,7 @@ public class VideoRenderer {
                 float[] surfaceTextureMatrix = new float[16];
                 inputSurfaceTexture.getTransformMatrix(surfaceTextureMatrix);
 
-                draw(recordingWidth, recordingHeight, surfaceTextureMatrix);
+                drawToAllOutputs(surfaceTextureMatrix);
               }
             } catch (InterruptedException e) {
               Log.d(TAG, "thread interrupted while waiting for frames");
@@ -318,6 +393,135 @@ public class VideoRenderer {
     thread.start();
   }
 
+  private void drawToAllOutputs(@NonNull float[] texMatrix) {
+    if (additionalOutputs.isEmpty()) {
+      draw(recordingWidth, recordingHeight, texMatrix);
+      return;
+    }
+
+    makeCurrent(surface);
+    draw(recordingWidth, recordingHeight, texMatrix);
+    for (RenderOutput output : additionalOutputs) {
+      makeCurrent(output.eglSurface);
+      render(output.width, output.height, texMatrix);
+      swapBuffers(output.eglSurface);
+    }
+  }
+
+  private void makeCurrent(@NonNull EGLSurface eglSurface) {
+    if (!EGL14.eglMakeCurrent(display, eglSurface, eglSurface, context)) {
+      Log.w(TAG, "eglMakeCurrent() " + GLUtils.getEGLErrorString(EGL14.eglGetError()));
+    }
+  }
+
+  /** Runs a task on the GL thread before the next frame is drawn. */
+  private void runOnGlThread(@NonNull Runnable glTask) {
+    synchronized (surfaceTextureAvailableFrameLock) {
+      pendingGlTasks.add(glTask);
+      surfaceTextureAvailableFrameLock.notifyAll();
+    }
+  }
+
+  /**
+   * Sets the effect applied to every frame, replacing the previous one.
+   *
+   * @param effect the effect, or null to draw the camera frames unchanged.
+   */
+  public void setEffect(@Nullable ShaderEffect effect) {
+    runOnGlThread(
+        () -> {
+          if (this.effect != null) {
+            this.effect.onDetach();
+          }
+          GLES20.glDeleteProgram(program);
+          createProgram(effect != null ? effect.getFragmentShader() : fragmentShaderCode);
+          if (effect != null) {
+            effect.onAttach(program);
+          }
+          this.effect = effect;
+        });
+  }
+
+  /**
+   * Sets the part of the camera frame that is drawn, scaled to fill every output.
+   *
+   * @param crop the bounds of the drawn part, relative to the frame and with the origin at its top
+   *     left, or null to draw the whole frame.
+   */
+  public void setCrop(@Nullable RectF crop) {
+    cropMatrix = crop == null ? identityMatrix() : cropMatrix(crop);
+  }
+
+  /**
+   * Adds an output that every following frame is drawn to.
+   *
+   * @param outputSurface the surface to draw to, such as the input surface of a recorder.
+   * @param width the width of the frames drawn to the surface.
+   * @param height the height of the frames drawn to the surface.
+   */
+  public void addOutputSurface(@NonNull Surface outputSurface, int width, int height) {
+    runOnGlThread(
+        () -> {
+          EGLSurface eglSurface =
+              EGL14.eglCreateWindowSurface(
+                  display, eglConfig, outputSurface, new int[] {EGL14.EGL_NONE}, 0);
+          if (eglSurface == null || eglSurface == EGL14.EGL_NO_SURFACE) {
+            Log.w(
+                TAG,
+                "eglCreateWindowSurface() " + GLUtils.getEGLErrorString(EGL14.eglGetError()));
+            return;
+          }
+          additionalOutputs.add(new RenderOutput(outputSurface, eglSurface, width, height));
+        });
+  }
+
+  /**
+   * Stops drawing to an output added by {@link #addOutputSurface}.
+   *
+   * <p>Blocks until the GL thread released the surface, so it can be released right after.
+   *
+   * @param outputSurface the surface to stop drawing to.
+   */
+  public void removeOutputSurface(@NonNull Surface outputSurface) throws InterruptedException {
+    final CountDownLatch removed = new CountDownLatch(1);
+    runOnGlThread(
+        () -> {
+          for (int i = 0; i < additionalOutputs.size(); i++) {
+            final RenderOutput output = additionalOutputs.get(i);
+            if (output.surface == outputSurface) {
+              makeCurrent(surface);
+              EGL14.eglDestroySurface(display, output.eglSurface);
+              additionalOutputs.remove(i);
+              break;
+            }
+          }
+          removed.countDown();
+        });
+    if (!removed.await(1, TimeUnit.SECONDS)) {
+      Log.w(TAG, "Timed out waiting for an output surface to be removed");
+    }
+  }
+
+  @NonNull
+  private static float[] identityMatrix() {
+    float[] m = new float[16];
+    Matrix.setIdentityM(m, 0);
+    return m;
+  }
+
+  /**
+   * Maps texture coordinates of the whole frame to the crop. Texture coordinates start at the
+   * bottom left of the frame, while the crop is given from its top left.
+   */
+  @VisibleForTesting
+  @NonNull
+  static float[] cropMatrix(@NonNull RectF crop) {
+    float[] m = identityMatrix();
+    Matrix.translateM(m, 0, crop.left, 1f - crop.bottom, 0);
+    Matrix.scaleM(m, 0, crop.right - crop.left, crop.bottom - crop.top, 1);
+    return m;
+  }
+
   public int getTexId() {
     return textureHandles[0];
   }
@@ -348,7 +552,11 @@ public class VideoRenderer {
   }
 
   public void draw(int viewportWidth, int viewportHeight, @NonNull float[] texMatrix) {
+    render(viewportWidth, viewportHeight, texMatrix);
+    swapBuffers(surface);
+  }
 
+  private void render(int viewportWidth, int viewportHeight, @NonNull float[] texMatrix) {
     GLES20.glClear(GLES20.GL_COLOR_BUFFER_BIT | GLES20.GL_DEPTH_BUFFER_BIT);
     GLES20.glClearColor(0f, 0f, 0f, 0f);
 
@@ -358,7 +566,11 @@ public class VideoRenderer {
 
     // Pass transformations to shader
     GLES20.glUniformMatrix4fv(texMatrixHandle, 1, false, texMatrix, 0);
+    GLES20.glUniformMatrix4fv(cropMatrixHandle, 1, false, cropMatrix, 0);
     GLES20.glUniformMatrix4fv(mvpHandle, 1, false, moveMatrix(), 0);
+    if (effect != null) {
+      effect.onDraw(program, viewportWidth, viewportHeight);
+    }
 
     // Prepare buffers with vertices and indices & draw
     GLES20.glBindBuffer(GLES20.GL_ARRAY_BUFFER, bufferHandles[0]);
@@ -371,9 +583,11 @@ public class VideoRenderer {
     GLES20.glVertexAttribPointer(uvsHandle, 2, GLES20.GL_FLOAT, false, 4 * 5, 3 * 4);
 
     GLES20.glDrawElements(GLES20.GL_TRIANGLES, 6, GLES20.GL_UNSIGNED_INT, 0);
+  }
 
-    EGLExt.eglPresentationTimeANDROID(display, surface, uptimeMillis() * 1000000);
-    if (!EGL14.eglSwapBuffers(display, surface)) {
+  private void swapBuffers(@NonNull EGLSurface eglSurface) {
+    EGLExt.eglPresentationTimeANDROID(display, eglSurface, uptimeMillis() * 1000000);
+    if (!EGL14.eglSwapBuffers(display, eglSurface)) {
       Log.w(TAG, "eglSwapBuffers() " + GLUtils.getEGLErrorString(EGL14.eglGetError()));
     }
   }
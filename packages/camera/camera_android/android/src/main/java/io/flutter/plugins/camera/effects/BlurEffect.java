@@ -0,0 +1,64 @@
+// Copyright 2013 The Flutter Authors. All rights reserved.
+// Use of this source code is governed by a BSD-style license that can be
+// found in the LICENSE file.
+
+package io.flutter.plugins.camera.effects;
+
+import android.opengl.GLES20;
+import androidx.annotation.NonNull;
+
+/** Blurs the camera frame with a 3x3 Gaussian kernel whose taps are spread by a radius. */
+public class BlurEffect extends ShaderEffect {
+  private static final String fragmentShaderCode =
+      FRAGMENT_SHADER_HEADER
+          + "uniform vec2 texelOffset;\n"
+          + "\n"
+          + "void main()\n"
+          + "{\n"
+          + "    vec4 c = texture2D(texSampler, varUvs) * 4.0;\n"
+          + "    c += texture2D(texSampler, varUvs + vec2(texelOffset.x, 0.0)) * 2.0;\n"
+          + "    c += texture2D(texSampler, varUvs - vec2(texelOffset.x, 0.0)) * 2.0;\n"
+          + "    c += texture2D(texSampler, varUvs + vec2(0.0, texelOffset.y)) * 2.0;\n"
+          + "    c += texture2D(texSampler, varUvs - vec2(0.0, texelOffset.y)) * 2.0;\n"
+          + "    c += texture2D(texSampler, varUvs + texelOffset);\n"
+          + "    c += texture2D(texSampler, varUvs - texelOffset);\n"
+          + "    c += texture2D(texSampler, varUvs + vec2(texelOffset.x, -texelOffset.y));\n"
+          + "    c += texture2D(texSampler, varUvs + vec2(-texelOffset.x, texelOffset.y));\n"
+          + "    gl_FragColor = c / 16.0;\n"
+          + "}";
+
+  private final float radius;
+  private int texelOffsetHandle;
+
+  /**
+   * Creates a new instance of the {@link BlurEffect}.
+   *
+   * @param radius the distance between the taps of the kernel, in output pixels.
+   */
+  public BlurEffect(float radius) {
+    if (radius < 0) {
+      throw new IllegalArgumentException("The blur radius must not be negative.");
+    }
+    this.radius = radius;
+  }
+
+  public float getRadius() {
+    return radius;
+  }
+
+  @NonNull
+  @Override
+  public String getFragmentShader() {
+    return fragmentShaderCode;
+  }
+
+  @Override
+  public void onAttach(int program) {
+    texelOffsetHandle = GLES20.glGetUniformLocation(program, "texelOffset");
+  }
+
+  @Override
+  public void onDraw(int program, int viewportWidth, int viewportHeight) {
+    GLES20.glUniform2f(texelOffsetHandle, radius / viewportWidth, radius / viewportHeight);
+  }
+}
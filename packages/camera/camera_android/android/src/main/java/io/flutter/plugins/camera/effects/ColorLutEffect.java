@@ -0,0 +1,131 @@
+// Copyright 2013 The Flutter Authors. All rights reserved.
+// Use of this source code is governed by a BSD-style license that can be
+// found in the LICENSE file.
+
+package io.flutter.plugins.camera.effects;
+
+import android.opengl.GLES20;
+import androidx.annotation.NonNull;
+import androidx.annotation.VisibleForTesting;
+import java.nio.ByteBuffer;
+
+/**
+ * Maps the colors of the camera frame through a 3D color lookup table.
+ *
+ * <p>OpenGL ES 2 has no 3D textures, so the table is uploaded as a strip of its blue slices, side
+ * by side, and the shader interpolates between the two closest slices.
+ */
+public class ColorLutEffect extends ShaderEffect {
+  /** The largest supported table size, which keeps the strip texture 4096 pixels wide. */
+  public static final int MAX_SIZE = 64;
+
+  private static final String fragmentShaderCode =
+      FRAGMENT_SHADER_HEADER
+          + "uniform sampler2D lut;\n"
+          + "uniform float lutSize;\n"
+          + "\n"
+          + "void main()\n"
+          + "{\n"
+          + "    vec4 c = texture2D(texSampler, varUvs);\n"
+          + "    float b = c.b * (lutSize - 1.0);\n"
+          + "    float b0 = floor(b);\n"
+          + "    float b1 = min(b0 + 1.0, lutSize - 1.0);\n"
+          + "    vec2 uv = vec2(\n"
+          + "        (c.r * (lutSize - 1.0) + 0.5) / (lutSize * lutSize),\n"
+          + "        (c.g * (lutSize - 1.0) + 0.5) / lutSize);\n"
+          + "    vec3 c0 = texture2D(lut, uv + vec2(b0 / lutSize, 0.0)).rgb;\n"
+          + "    vec3 c1 = texture2D(lut, uv + vec2(b1 / lutSize, 0.0)).rgb;\n"
+          + "    gl_FragColor = vec4(mix(c0, c1, b - b0), c.a);\n"
+          + "}";
+
+  private final int size;
+  private final byte[] strip;
+  private final int[] lutTexture = new int[1];
+  private int lutHandle;
+  private int lutSizeHandle;
+
+  /**
+   * Creates a new instance of the {@link ColorLutEffect}.
+   *
+   * @param rgb the RGB entries of the table, with red changing fastest and blue slowest, as in
+   *     .cube files.
+   * @throws IllegalArgumentException if the entries do not form a table of at most {@link
+   *     #MAX_SIZE} entries per side.
+   */
+  public ColorLutEffect(@NonNull byte[] rgb) {
+    size = (int) Math.round(Math.cbrt(rgb.length / 3.0));
+    if (size < 2 || size > MAX_SIZE || size * size * size * 3 != rgb.length) {
+      throw new IllegalArgumentException(
+          "The color LUT must hold size^3 RGB entries, with a size from 2 to " + MAX_SIZE + ".");
+    }
+    strip = toStrip(rgb, size);
+  }
+
+  public int getSize() {
+    return size;
+  }
+
+  /** Reorders the table so that row g of the strip holds the blue slices side by side. */
+  @VisibleForTesting
+  static byte[] toStrip(@NonNull byte[] rgb, int size) {
+    final byte[] strip = new byte[rgb.length];
+    for (int b = 0; b < size; b++) {
+      for (int g = 0; g < size; g++) {
+        for (int r = 0; r < size; r++) {
+          final int from = (r + g * size + b * size * size) * 3;
+          final int to = (g * size * size + b * size + r) * 3;
+          System.arraycopy(rgb, from, strip, to, 3);
+        }
+      }
+    }
+    return strip;
+  }
+
+  @NonNull
+  @Override
+  public String getFragmentShader() {
+    return fragmentShaderCode;
+  }
+
+  @Override
+  public void onAttach(int program) {
+    lutHandle = GLES20.glGetUniformLocation(program, "lut");
+    lutSizeHandle = GLES20.glGetUniformLocation(program, "lutSize");
+
+    GLES20.glGenTextures(1, lutTexture, 0);
+    GLES20.glActiveTexture(GLES20.GL_TEXTURE1);
+    GLES20.glBindTexture(GLES20.GL_TEXTURE_2D, lutTexture[0]);
+    GLES20.glTexParameteri(GLES20.GL_TEXTURE_2D, GLES20.GL_TEXTURE_MIN_FILTER, GLES20.GL_LINEAR);
+    GLES20.glTexParameteri(GLES20.GL_TEXTURE_2D, GLES20.GL_TEXTURE_MAG_FILTER, GLES20.GL_LINEAR);
+    GLES20.glTexParameteri(
+        GLES20.GL_TEXTURE_2D, GLES20.GL_TEXTURE_WRAP_S, GLES20.GL_CLAMP_TO_EDGE);
+    GLES20.glTexParameteri(
+        GLES20.GL_TEXTURE_2D, GLES20.GL_TEXTURE_WRAP_T, GLES20.GL_CLAMP_TO_EDGE);
+    GLES20.glPixelStorei(GLES20.GL_UNPACK_ALIGNMENT, 1);
+    GLES20.glTexImage2D(
+        GLES20.GL_TEXTURE_2D,
+        0,
+        GLES20.GL_RGB,
+        size * size,
+        size,
+        0,
+        GLES20.GL_RGB,
+        GLES20.GL_UNSIGNED_BYTE,
+        ByteBuffer.wrap(strip));
+    GLES20.glActiveTexture(GLES20.GL_TEXTURE0);
+  }
+
+  @Override
+  public void onDraw(int program, int viewportWidth, int viewportHeight) {
+    GLES20.glActiveTexture(GLES20.GL_TEXTURE1);
+    GLES20.glBindTexture(GLES20.GL_TEXTURE_2D, lutTexture[0]);
+    GLES20.glUniform1i(lutHandle, 1);
+    GLES20.glUniform1f(lutSizeHandle, size);
+    GLES20.glActiveTexture(GLES20.GL_TEXTURE0);
+  }
+
+  @Override
+  public void onDetach() {
+    GLES20.glDeleteTextures(1, lutTexture, 0);
+  }
+}
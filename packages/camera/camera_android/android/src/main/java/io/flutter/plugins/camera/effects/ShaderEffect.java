@@ -0,0 +1,49 @@
+// Copyright 2013 The Flutter Authors. All rights reserved.
+// Use of this source code is governed by a BSD-style license that can be
+// found in the LICENSE file.
+
+package io.flutter.plugins.camera.effects;
+
+import androidx.annotation.NonNull;
+
+/**
+ * A fragment shader that {@link io.flutter.plugins.camera.VideoRenderer} applies to every camera
+ * frame it draws.
+ *
+ * <p>The shader samples the camera frame through {@code texSampler} at {@code varUvs}, as declared
+ * by {@link #FRAGMENT_SHADER_HEADER}. Effects may declare further uniforms and set them in {@link
+ * #onDraw}. All methods but {@link #getFragmentShader()} are called on the GL thread of the
+ * renderer.
+ */
+public abstract class ShaderEffect {
+  /** The declarations every effect shader starts with. */
+  @NonNull
+  public static final String FRAGMENT_SHADER_HEADER =
+      "#extension GL_OES_EGL_image_external : require\n"
+          + "precision mediump float;\n"
+          + "varying vec2 varUvs;\n"
+          + "uniform samplerExternalOES texSampler;\n";
+
+  /** Gets the source of the fragment shader, starting with {@link #FRAGMENT_SHADER_HEADER}. */
+  @NonNull
+  public abstract String getFragmentShader();
+
+  /**
+   * Called once the shader program of the effect is linked, for example to upload textures.
+   *
+   * @param program the linked shader program.
+   */
+  public void onAttach(int program) {}
+
+  /**
+   * Called before every frame is drawn, to set the uniforms of the effect.
+   *
+   * @param program the shader program in use.
+   * @param viewportWidth the width of the output that is drawn to.
+   * @param viewportHeight the height of the output that is drawn to.
+   */
+  public void onDraw(int program, int viewportWidth, int viewportHeight) {}
+
+  /** Called when the effect is replaced, to release the resources created in {@link #onAttach}. */
+  public void onDetach() {}
+}
@@ -5,10 +5,7 @@
 package io.flutter.plugins.camera.features.sensororientation;
 
 import android.app.Activity;
-import android.content.BroadcastReceiver;
 import android.content.Context;
-import android.content.Intent;
-import android.content.IntentFilter;
 import android.content.res.Configuration;
 import android.view.Display;
 import android.view.Surface;
@@ -25,15 +22,12 @@ import io.flutter.plugins.camera.DartMessenger;
  */
 public class DeviceOrientationManager {
 
-  private static final IntentFilter orientationIntentFilter =
-      new IntentFilter(Intent.ACTION_CONFIGURATION_CHANGED);
-
   private final Activity activity;
-  private final DartMessenger messenger;
+  final DartMessenger messenger;
   private final boolean isFrontFacing;
   private final int sensorOrientation;
   private PlatformChannel.DeviceOrientation lastOrientation;
-  private BroadcastReceiver broadcastReceiver;
+  @Nullable private DeviceOrientationSource source;
 
   /** Factory method to create a device orientation manager. */
   @NonNull
@@ -61,7 +55,8 @@ public class DeviceOrientationManager {
    *
    * <p>When orientation information is updated the new orientation is send to the client using the
    * {@link DartMessenger}. This latest value can also be retrieved through the {@link
-   * #getVideoOrientation()} accessor.
+   * #getVideoOrientation()} accessor. The updates come from the {@link DeviceOrientationSource}
+   * shared by all cameras of the activity.
    *
    * <p>If the device's ACCELEROMETER_ROTATION setting is enabled the {@link
    * DeviceOrientationManager} will report orientation updates based on the sensor information. If
@@ -69,27 +64,29 @@ public class DeviceOrientationManager {
    * the deliver orientation updates based on the UI orientation.
    */
   public void start() {
-    if (broadcastReceiver != null) {
+    if (source != null) {
       return;
     }
-    broadcastReceiver =
-        new BroadcastReceiver() {
-          @Override
-          public void onReceive(Context context, Intent intent) {
-            handleUIOrientationChange();
-          }
-        };
-    activity.registerReceiver(broadcastReceiver, orientationIntentFilter);
-    broadcastReceiver.onReceive(activity, null);
+    handleUIOrientationChange();
+    source = DeviceOrientationSource.getInstance(activity);
+    source.addManager(this);
   }
 
   /** Stops listening for orientation updates. */
   public void stop() {
-    if (broadcastReceiver == null) {
+    if (source == null) {
       return;
     }
-    activity.unregisterReceiver(broadcastReceiver);
-    broadcastReceiver = null;
+    source.removeManager(this);
+    source = null;
+  }
+
+  /**
+   * Records an orientation change delivered by the {@link DeviceOrientationSource}, which sends it
+   * to the client once for all cameras.
+   */
+  void onOrientationChanged(@NonNull PlatformChannel.DeviceOrientation orientation) {
+    lastOrientation = orientation;
   }
 
   /**
@@ -240,14 +237,11 @@ public class DeviceOrientationManager {
   /**
    * Gets the current user interface orientation.
    *
-   * <p>This method is visible for testing purposes only and should never be used outside this
-   * class.
-   *
    * @return The current user interface orientation.
    */
   // Configuration.ORIENTATION_SQUARE is deprecated.
   @SuppressWarnings("deprecation")
-  @VisibleForTesting
+  @NonNull
   PlatformChannel.DeviceOrientation getUIOrientation() {
     final int rotation = getDisplay().getRotation();
     final int orientation = activity.getResources().getConfiguration().orientation;
@@ -0,0 +1,154 @@
+// Copyright 2013 The Flutter Authors. All rights reserved.
+// Use of this source code is governed by a BSD-style license that can be
+// found in the LICENSE file.
+
+package io.flutter.plugins.camera.features.sensororientation;
+
+import android.app.Activity;
+import android.content.BroadcastReceiver;
+import android.content.Context;
+import android.content.Intent;
+import android.content.IntentFilter;
+import android.os.Handler;
+import android.os.Looper;
+import androidx.annotation.NonNull;
+import androidx.annotation.Nullable;
+import androidx.annotation.VisibleForTesting;
+import io.flutter.embedding.engine.systemchannels.PlatformChannel.DeviceOrientation;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Listens to UI orientation changes of an {@link Activity} once for every {@link
+ * DeviceOrientationManager} of its cameras.
+ *
+ * <p>Changes are debounced: a change is only delivered once the orientation stayed the same for
+ * the debounce duration, so an orientation that flips and returns within it is never delivered.
+ * Each delivered change is sent to the Flutter client once, however many cameras are listening.
+ */
+public class DeviceOrientationSource {
+  private static final IntentFilter orientationIntentFilter =
+      new IntentFilter(Intent.ACTION_CONFIGURATION_CHANGED);
+
+  @Nullable private static DeviceOrientationSource instance;
+  private static long debounceMillis;
+
+  private final Activity activity;
+  private final Handler handler;
+  private final List<DeviceOrientationManager> managers = new ArrayList<>();
+  private final Runnable dispatchRunnable = this::dispatchOrientationChange;
+
+  @VisibleForTesting
+  final BroadcastReceiver broadcastReceiver =
+      new BroadcastReceiver() {
+        @Override
+        public void onReceive(Context context, Intent intent) {
+          handleUIOrientationChange();
+        }
+      };
+
+  @Nullable private DeviceOrientation lastOrientation;
+  private boolean registered;
+
+  /**
+   * Gets the orientation source of the given activity.
+   *
+   * <p>A source is dropped once its last manager is removed, so that it does not keep its activity
+   * alive.
+   */
+  @NonNull
+  static synchronized DeviceOrientationSource getInstance(@NonNull Activity activity) {
+    if (instance == null || instance.activity != activity) {
+      instance = new DeviceOrientationSource(activity, new Handler(Looper.getMainLooper()));
+    }
+    return instance;
+  }
+
+  @VisibleForTesting
+  static synchronized void resetInstance() {
+    instance = null;
+    debounceMillis = 0;
+  }
+
+  /**
+   * Sets how long the UI orientation must stay the same before a change is delivered.
+   *
+   * @param millis the debounce duration in milliseconds, or 0 to deliver every change immediately.
+   */
+  public static synchronized void setDebounceMillis(long millis) {
+    debounceMillis = Math.max(0, millis);
+  }
+
+  @VisibleForTesting
+  DeviceOrientationSource(@NonNull Activity activity, @NonNull Handler handler) {
+    this.activity = activity;
+    this.handler = handler;
+  }
+
+  /**
+   * Starts delivering orientation changes to the given manager, listening to the activity if it is
+   * the first manager.
+   */
+  void addManager(@NonNull DeviceOrientationManager manager) {
+    if (managers.contains(manager)) {
+      return;
+    }
+    if (managers.isEmpty()) {
+      lastOrientation = manager.getLastUIOrientation();
+    }
+    managers.add(manager);
+    if (!registered) {
+      activity.registerReceiver(broadcastReceiver, orientationIntentFilter);
+      registered = true;
+    }
+  }
+
+  /**
+   * Stops delivering orientation changes to the given manager, and stops listening to the activity
+   * if it was the last manager.
+   */
+  void removeManager(@NonNull DeviceOrientationManager manager) {
+    managers.remove(manager);
+    if (managers.isEmpty() && registered) {
+      handler.removeCallbacks(dispatchRunnable);
+      activity.unregisterReceiver(broadcastReceiver);
+      registered = false;
+    }
+    if (managers.isEmpty()) {
+      synchronized (DeviceOrientationSource.class) {
+        if (instance == this) {
+          instance = null;
+        }
+      }
+    }
+  }
+
+  @VisibleForTesting
+  void handleUIOrientationChange() {
+    final long debounce;
+    synchronized (DeviceOrientationSource.class) {
+      debounce = debounceMillis;
+    }
+    handler.removeCallbacks(dispatchRunnable);
+    if (debounce == 0) {
+      dispatchOrientationChange();
+    } else {
+      handler.postDelayed(dispatchRunnable, debounce);
+    }
+  }
+
+  private void dispatchOrientationChange() {
+    if (managers.isEmpty()) {
+      return;
+    }
+    final DeviceOrientation orientation = managers.get(0).getUIOrientation();
+    for (DeviceOrientationManager manager : managers) {
+      manager.onOrientationChanged(orientation);
+    }
+    if (!orientation.equals(lastOrientation)) {
+      // All cameras share the device channel, so one message reaches every listener in Dart.
+      managers.get(0).messenger.sendDeviceOrientationChangeEvent(orientation);
+    }
+    lastOrientation = orientation;
+  }
+}
@@ -9,8 +9,10 @@ import android.media.Image;
 import android.media.ImageReader;
 import android.os.Handler;
 import android.os.Looper;
+import android.util.Size;
 import android.view.Surface;
 import androidx.annotation.NonNull;
+import androidx.annotation.Nullable;
 import androidx.annotation.VisibleForTesting;
 import io.flutter.plugin.common.EventChannel;
 import io.flutter.plugins.camera.types.CameraCaptureProperties;
@@ -81,6 +83,40 @@ public class ImageStreamReader {
     }
   }
 
+  /**
+   * Chooses the size of a stream for a requested size.
+   *
+   * @param supportedSizes is the output sizes the camera supports for the stream format.
+   * @param targetSize is the requested size.
+   * @return the smallest supported size that covers the requested size, the largest supported size
+   *     if none does, or null if no size is supported.
+   */
+  @Nullable
+  public static Size chooseStreamSize(@Nullable Size[] supportedSizes, @NonNull Size targetSize) {
+    if (supportedSizes == null) {
+      return null;
+    }
+
+    Size smallestCoveringSize = null;
+    Size largestSize = null;
+    for (Size size : supportedSizes) {
+      final boolean coversTarget =
+          size.getWidth() >= targetSize.getWidth() && size.getHeight() >= targetSize.getHeight();
+      if (coversTarget
+          && (smallestCoveringSize == null || getArea(size) < getArea(smallestCoveringSize))) {
+        smallestCoveringSize = size;
+      }
+      if (largestSize == null || getArea(size) > getArea(largestSize)) {
+        largestSize = size;
+      }
+    }
+    return smallestCoveringSize != null ? smallestCoveringSize : largestSize;
+  }
+
+  private static long getArea(@NonNull Size size) {
+    return (long) size.getWidth() * size.getHeight();
+  }
+
   /**
    * Processes a new frame (image) from the image reader and send the frame to Dart.
    *
@@ -7,12 +7,19 @@ package io.flutter.plugins.camera.media;
 import android.media.CamcorderProfile;
 import android.media.EncoderProfiles;
 import android.media.MediaRecorder;
+import android.view.Surface;
 import androidx.annotation.NonNull;
 import androidx.annotation.Nullable;
 import io.flutter.plugins.camera.SdkCapabilityChecker;
 import java.io.IOException;
 
 public class MediaRecorderBuilder {
+  /**
+   * The share of the bitrate of an H.264 recording profile used when the low storage preset
+   * records with HEVC instead, which compresses to about the same quality at half the bitrate.
+   */
+  static final double HEVC_LOW_STORAGE_BITRATE_FACTOR = 0.5;
+
   @SuppressWarnings("deprecation")
   static class MediaRecorderFactory {
     MediaRecorder makeMediaRecorder() {
@@ -49,6 +56,9 @@ public class MediaRecorderBuilder {
 
   private boolean enableAudio;
   private int mediaOrientation;
+  @Nullable private Surface inputSurface;
+  @Nullable private Integer videoEncoder;
+  private boolean lowStorage;
 
   public MediaRecorderBuilder(
       @NonNull CamcorderProfile camcorderProfile, @NonNull RecordingParameters parameters) {
@@ -92,6 +102,60 @@ public class MediaRecorderBuilder {
     return this;
   }
 
+  /**
+   * Sets a persistent input surface, created by {@link
+   * android.media.MediaCodec#createPersistentInputSurface()}, that the recorder reads frames from
+   * instead of creating its own surface.
+   *
+   * <p>Only supported on Android M and above; ignored otherwise.
+   */
+  @NonNull
+  public MediaRecorderBuilder setInputSurface(@Nullable Surface inputSurface) {
+    this.inputSurface = inputSurface;
+    return this;
+  }
+
+  /**
+   * Sets the {@link MediaRecorder.VideoEncoder} to record with instead of the codec of the
+   * recording profile.
+   *
+   * @param videoEncoder the video encoder, or {@code null} to use the codec of the profile.
+   */
+  @NonNull
+  public MediaRecorderBuilder setVideoEncoder(@Nullable Integer videoEncoder) {
+    this.videoEncoder = videoEncoder;
+    return this;
+  }
+
+  /**
+   * Sets whether the bitrate of the recording profile is lowered to what the video encoder needs
+   * for the quality of the profile.
+   *
+   * <p>Only applies when recording an H.264 profile with HEVC and no video bitrate was requested.
+   */
+  @NonNull
+  public MediaRecorderBuilder setLowStorage(boolean lowStorage) {
+    this.lowStorage = lowStorage;
+    return this;
+  }
+
+  private int getVideoEncoder(int profileCodec) {
+    return videoEncoder != null ? videoEncoder : profileCodec;
+  }
+
+  private int getVideoBitrate(int profileCodec, int profileBitrate) {
+    if (parameters.videoBitrate != null && parameters.videoBitrate.intValue() > 0) {
+      return parameters.videoBitrate;
+    }
+    if (lowStorage
+        && SdkCapabilityChecker.supportsHevcRecording()
+        && profileCodec == MediaRecorder.VideoEncoder.H264
+        && getVideoEncoder(profileCodec) == MediaRecorder.VideoEncoder.HEVC) {
+      return (int) (profileBitrate * HEVC_LOW_STORAGE_BITRATE_FACTOR);
+    }
+    return profileBitrate;
+  }
+
   @NonNull
   public MediaRecorder build() throws IOException, NullPointerException, IndexOutOfBoundsException {
     MediaRecorder mediaRecorder = recorderFactory.makeMediaRecorder();
@@ -117,12 +181,9 @@ public class MediaRecorderBuilder {
         mediaRecorder.setAudioSamplingRate(audioProfile.getSampleRate());
       }
 
-      mediaRecorder.setVideoEncoder(videoProfile.getCodec());
+      mediaRecorder.setVideoEncoder(getVideoEncoder(videoProfile.getCodec()));
 
-      int videoBitrate =
-          (parameters.videoBitrate != null && parameters.videoBitrate.intValue() > 0)
-              ? parameters.videoBitrate
-              : videoProfile.getBitrate();
+      int videoBitrate = getVideoBitrate(videoProfile.getCodec(), videoProfile.getBitrate());
 
       mediaRecorder.setVideoEncodingBitRate(videoBitrate);
 
@@ -144,11 +205,9 @@ public class MediaRecorderBuilder {
                 : camcorderProfile.audioBitRate);
         mediaRecorder.setAudioSamplingRate(camcorderProfile.audioSampleRate);
       }
-      mediaRecorder.setVideoEncoder(camcorderProfile.videoCodec);
+      mediaRecorder.setVideoEncoder(getVideoEncoder(camcorderProfile.videoCodec));
       mediaRecorder.setVideoEncodingBitRate(
-          (parameters.videoBitrate != null && parameters.videoBitrate.intValue() > 0)
-              ? parameters.videoBitrate
-              : camcorderProfile.videoBitRate);
+          getVideoBitrate(camcorderProfile.videoCodec, camcorderProfile.videoBitRate));
       mediaRecorder.setVideoFrameRate(
           (parameters.fps != null && parameters.fps.intValue() > 0)
               ? parameters.fps
@@ -159,6 +218,9 @@ public class MediaRecorderBuilder {
 
     mediaRecorder.setOutputFile(parameters.outputFilePath);
     mediaRecorder.setOrientationHint(this.mediaOrientation);
+    if (inputSurface != null && SdkCapabilityChecker.supportsPersistentInputSurface()) {
+      mediaRecorder.setInputSurface(inputSurface);
+    }
 
     mediaRecorder.prepare();
 
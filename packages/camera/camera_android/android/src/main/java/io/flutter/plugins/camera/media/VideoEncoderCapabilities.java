@@ -0,0 +1,47 @@
+// Copyright 2013 The Flutter Authors. All rights reserved.
+// Use of this source code is governed by a BSD-style license that can be
+// found in the LICENSE file.
+
+package io.flutter.plugins.camera.media;
+
+import android.media.MediaCodecInfo;
+import android.media.MediaCodecList;
+import androidx.annotation.NonNull;
+
+/** Queries the video encoders of the device. */
+public final class VideoEncoderCapabilities {
+  private VideoEncoderCapabilities() {}
+
+  /**
+   * Checks whether the device has an encoder for the given MIME type that supports the given size.
+   *
+   * @param mimeType the MIME type of the encoded video, such as {@code video/hevc}.
+   * @param width the width of the video.
+   * @param height the height of the video.
+   * @return true if such an encoder exists.
+   */
+  public static boolean isEncoderSupported(@NonNull String mimeType, int width, int height) {
+    final MediaCodecInfo[] codecInfos =
+        new MediaCodecList(MediaCodecList.REGULAR_CODECS).getCodecInfos();
+    if (codecInfos == null) {
+      return false;
+    }
+
+    for (MediaCodecInfo codecInfo : codecInfos) {
+      if (!codecInfo.isEncoder()) {
+        continue;
+      }
+      for (String type : codecInfo.getSupportedTypes()) {
+        if (!type.equalsIgnoreCase(mimeType)) {
+          continue;
+        }
+        final MediaCodecInfo.VideoCapabilities videoCapabilities =
+            codecInfo.getCapabilitiesForType(type).getVideoCapabilities();
+        if (videoCapabilities != null && videoCapabilities.isSizeSupported(width, height)) {
+          return true;
+        }
+      }
+    }
+    return false;
+  }
+}
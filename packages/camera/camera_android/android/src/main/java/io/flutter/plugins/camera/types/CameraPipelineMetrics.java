@@ -0,0 +1,151 @@
+// Copyright 2013 The Flutter Authors. All rights reserved.
+// Use of this source code is governed by a BSD-style license that can be
+// found in the LICENSE file.
+
+package io.flutter.plugins.camera.types;
+
+import android.os.SystemClock;
+import android.os.Trace;
+import androidx.annotation.NonNull;
+import io.flutter.plugins.camera.SdkCapabilityChecker;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Records when a camera reaches the milestones of its pipeline, from being created to showing the
+ * first preview frame, and from taking a picture to the picture being saved.
+ *
+ * <p>Each milestone keeps the time it was last reached. While tracing is enabled, the spans between
+ * milestones are also emitted as asynchronous systrace sections on Android Q and above.
+ */
+public class CameraPipelineMetrics {
+  /** The camera was created. */
+  public static final String CREATE = "create";
+  /** Opening the camera device was requested. */
+  public static final String OPEN = "open";
+  /** The camera device was opened. */
+  public static final String OPENED = "opened";
+  /** Creating a capture session was requested. */
+  public static final String CONFIGURE_SESSION = "configureSession";
+  /** The capture session was configured. */
+  public static final String SESSION_CONFIGURED = "sessionConfigured";
+  /** The first capture of the configured capture session completed. */
+  public static final String FIRST_FRAME = "firstFrame";
+  /** Taking a picture was requested. */
+  public static final String TAKE_PICTURE = "takePicture";
+  /** The focus and precapture sequence of a picture converged. */
+  public static final String PRECAPTURE_CONVERGED = "precaptureConverged";
+  /** A picture was saved. */
+  public static final String PICTURE_SAVED = "pictureSaved";
+
+  private static final String TRACE_SECTION_PREFIX = "CameraPipeline#";
+
+  /** Maps the milestone that ends each traced span to the milestone that begins it. */
+  private static final Map<String, String> spanBegins;
+
+  static {
+    spanBegins = new HashMap<>();
+    spanBegins.put(OPENED, OPEN);
+    spanBegins.put(SESSION_CONFIGURED, CONFIGURE_SESSION);
+    spanBegins.put(FIRST_FRAME, SESSION_CONFIGURED);
+    spanBegins.put(PRECAPTURE_CONVERGED, TAKE_PICTURE);
+    spanBegins.put(PICTURE_SAVED, TAKE_PICTURE);
+  }
+
+  private final Map<String, Long> timestampsNanos = new HashMap<>();
+  private final Set<String> openSpans = new HashSet<>();
+  private final int traceCookie = System.identityHashCode(this);
+  private final long createdAtNanos;
+
+  private volatile boolean awaitingFirstFrame;
+  private boolean tracingEnabled;
+
+  /** Creates a new instance of the {@link CameraPipelineMetrics}, reaching {@link #CREATE}. */
+  public CameraPipelineMetrics() {
+    createdAtNanos = SystemClock.elapsedRealtimeNanos();
+    timestampsNanos.put(CREATE, createdAtNanos);
+  }
+
+  /**
+   * Records that a milestone was reached now.
+   *
+   * @param milestone one of the milestone constants of this class.
+   */
+  public synchronized void mark(@NonNull String milestone) {
+    timestampsNanos.put(milestone, SystemClock.elapsedRealtimeNanos());
+    if (SESSION_CONFIGURED.equals(milestone)) {
+      awaitingFirstFrame = true;
+    }
+    if (tracingEnabled) {
+      traceMilestone(milestone);
+    }
+  }
+
+  /**
+   * Records {@link #FIRST_FRAME} if this is the first completed capture since the capture session
+   * was configured.
+   *
+   * <p>Called for every completed capture, so it returns early without locking afterwards.
+   */
+  public void onCaptureCompleted() {
+    if (!awaitingFirstFrame) {
+      return;
+    }
+    awaitingFirstFrame = false;
+    mark(FIRST_FRAME);
+  }
+
+  /**
+   * Enables or disables emitting the spans between milestones as systrace sections.
+   *
+   * @param enabled whether spans are traced.
+   */
+  public synchronized void setTracingEnabled(boolean enabled) {
+    if (!enabled && SdkCapabilityChecker.supportsAsyncTraceSections()) {
+      for (String span : openSpans) {
+        Trace.endAsyncSection(TRACE_SECTION_PREFIX + span, traceCookie);
+      }
+    }
+    openSpans.clear();
+    tracingEnabled = enabled;
+  }
+
+  /**
+   * Gets the time each milestone was last reached.
+   *
+   * @return a map of the reached milestones to the microseconds since {@link #CREATE}.
+   */
+  @NonNull
+  public synchronized Map<String, Long> toMap() {
+    final Map<String, Long> metrics = new HashMap<>();
+    for (Map.Entry<String, Long> entry : timestampsNanos.entrySet()) {
+      metrics.put(
+          entry.getKey(), TimeUnit.NANOSECONDS.toMicros(entry.getValue() - createdAtNanos));
+    }
+    return metrics;
+  }
+
+  private void traceMilestone(@NonNull String milestone) {
+    if (!SdkCapabilityChecker.supportsAsyncTraceSections()) {
+      return;
+    }
+
+    if (openSpans.remove(milestone)) {
+      Trace.endAsyncSection(TRACE_SECTION_PREFIX + milestone, traceCookie);
+    }
+    for (Map.Entry<String, String> span : spanBegins.entrySet()) {
+      if (!span.getValue().equals(milestone)) {
+        continue;
+      }
+      // A span that never ended, such as the precapture of a zero shutter lag picture, restarts.
+      final String sectionName = TRACE_SECTION_PREFIX + span.getKey();
+      if (!openSpans.add(span.getKey())) {
+        Trace.endAsyncSection(sectionName, traceCookie);
+      }
+      Trace.beginAsyncSection(sectionName, traceCookie);
+    }
+  }
+}
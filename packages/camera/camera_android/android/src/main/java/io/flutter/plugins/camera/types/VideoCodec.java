@@ -0,0 +1,42 @@
+// Copyright 2013 The Flutter Authors. All rights reserved.
+// Use of this source code is governed by a BSD-style license that can be
+// found in the LICENSE file.
+
+package io.flutter.plugins.camera.types;
+
+import android.media.MediaFormat;
+import androidx.annotation.NonNull;
+import androidx.annotation.Nullable;
+
+// Mirrors AndroidVideoCodec in video_encoding.dart
+public enum VideoCodec {
+  h264("h264", MediaFormat.MIMETYPE_VIDEO_AVC),
+  hevc("hevc", MediaFormat.MIMETYPE_VIDEO_HEVC);
+
+  private final String strValue;
+  private final String mimeType;
+
+  VideoCodec(String strValue, String mimeType) {
+    this.strValue = strValue;
+    this.mimeType = mimeType;
+  }
+
+  @Nullable
+  public static VideoCodec getValueForString(@NonNull String codecStr) {
+    for (VideoCodec value : values()) {
+      if (value.strValue.equals(codecStr)) return value;
+    }
+    return null;
+  }
+
+  /** Gets the MIME type of the encoder of the codec. */
+  @NonNull
+  public String getMimeType() {
+    return mimeType;
+  }
+
+  @Override
+  public String toString() {
+    return strValue;
+  }
+}
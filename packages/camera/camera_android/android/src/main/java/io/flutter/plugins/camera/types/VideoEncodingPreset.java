@@ -0,0 +1,38 @@
+// Copyright 2013 The Flutter Authors. All rights reserved.
+// Use of this source code is governed by a BSD-style license that can be
+// found in the LICENSE file.
+
+package io.flutter.plugins.camera.types;
+
+import androidx.annotation.NonNull;
+import androidx.annotation.Nullable;
+
+// Mirrors AndroidVideoEncodingPreset in video_encoding.dart
+public enum VideoEncodingPreset {
+  /** Records at the bitrate of the recording profile. */
+  standard("standard"),
+  /**
+   * Records with HEVC where supported, at the lower bitrate HEVC needs for the quality of the
+   * recording profile.
+   */
+  lowStorage("lowStorage");
+
+  private final String strValue;
+
+  VideoEncodingPreset(String strValue) {
+    this.strValue = strValue;
+  }
+
+  @Nullable
+  public static VideoEncodingPreset getValueForString(@NonNull String presetStr) {
+    for (VideoEncodingPreset value : values()) {
+      if (value.strValue.equals(presetStr)) return value;
+    }
+    return null;
+  }
+
+  @Override
+  public String toString() {
+    return strValue;
+  }
+}
@@ -18,6 +18,7 @@ import android.hardware.camera2.CaptureRequest;
 import android.hardware.camera2.CaptureResult;
 import android.hardware.camera2.TotalCaptureResult;
 import io.flutter.plugins.camera.types.CameraCaptureProperties;
+import io.flutter.plugins.camera.types.CameraPipelineMetrics;
 import io.flutter.plugins.camera.types.CaptureTimeoutsWrapper;
 import org.junit.Before;
 import org.junit.Test;
@@ -70,6 +71,27 @@ public class CameraCaptureCallbackTest {
     verify(mockCaptureProps, times(1)).setLastSensorSensitivity(3);
   }
 
+  @Test
+  public void onCaptureCompleted_reportsCompletedCaptureToPipelineMetrics() {
+    CameraPipelineMetrics mockPipelineMetrics = mock(CameraPipelineMetrics.class);
+    cameraCaptureCallback =
+        CameraCaptureCallback.create(
+            mock(CameraCaptureCallback.CameraCaptureStateListener.class),
+            mock(CaptureTimeoutsWrapper.class),
+            mockCaptureProps,
+            mockPipelineMetrics);
+
+    cameraCaptureCallback.onCaptureProgressed(
+        mock(CameraCaptureSession.class), mock(CaptureRequest.class), mock(CaptureResult.class));
+    verify(mockPipelineMetrics, never()).onCaptureCompleted();
+
+    cameraCaptureCallback.onCaptureCompleted(
+        mock(CameraCaptureSession.class),
+        mock(CaptureRequest.class),
+        mock(TotalCaptureResult.class));
+    verify(mockPipelineMetrics, times(1)).onCaptureCompleted();
+  }
+
   @Test
   public void onCaptureCompleted_checksBothAutoFocusAndAutoExposure() {
     CameraCaptureSession mockSession = mock(CameraCaptureSession.class);
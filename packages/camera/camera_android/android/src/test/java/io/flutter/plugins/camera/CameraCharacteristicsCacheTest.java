@@ -0,0 +1,135 @@
+// Copyright 2013 The Flutter Authors. All rights reserved.
+// Use of this source code is governed by a BSD-style license that can be
+// found in the LICENSE file.
+
+package io.flutter.plugins.camera;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertSame;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import android.hardware.camera2.CameraAccessException;
+import android.hardware.camera2.CameraCharacteristics;
+import android.hardware.camera2.CameraManager;
+import android.hardware.camera2.CameraMetadata;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+public class CameraCharacteristicsCacheTest {
+  private final CameraManager mockCameraManager = mock(CameraManager.class);
+  private final CameraCharacteristics mockCharacteristics = mock(CameraCharacteristics.class);
+
+  private CameraCharacteristicsCache cache;
+
+  @Before
+  public void before() throws CameraAccessException {
+    when(mockCameraManager.getCameraIdList()).thenReturn(new String[] {"0", "1"});
+    when(mockCameraManager.getCameraCharacteristics(any())).thenReturn(mockCharacteristics);
+    cache = new CameraCharacteristicsCache(mockCameraManager);
+  }
+
+  @After
+  public void after() {
+    CameraCharacteristicsCache.resetInstance();
+  }
+
+  @Test
+  public void getInstance_returnsSameInstanceForSameCameraManager() {
+    final CameraCharacteristicsCache instance =
+        CameraCharacteristicsCache.getInstance(mockCameraManager);
+
+    assertSame(instance, CameraCharacteristicsCache.getInstance(mockCameraManager));
+    verify(mockCameraManager, times(1)).registerAvailabilityCallback(any(), any());
+  }
+
+  @Test
+  public void getInstance_replacesInstanceForNewCameraManager() {
+    final CameraCharacteristicsCache instance =
+        CameraCharacteristicsCache.getInstance(mockCameraManager);
+    final CameraCharacteristicsCache newInstance =
+        CameraCharacteristicsCache.getInstance(mock(CameraManager.class));
+
+    assertNotSame(instance, newInstance);
+    verify(mockCameraManager).unregisterAvailabilityCallback(instance.availabilityCallback);
+  }
+
+  @Test
+  public void getCameraIdList_readsCameraIdsOnce() throws CameraAccessException {
+    assertArrayEquals(new String[] {"0", "1"}, cache.getCameraIdList());
+    assertArrayEquals(new String[] {"0", "1"}, cache.getCameraIdList());
+
+    verify(mockCameraManager, times(1)).getCameraIdList();
+  }
+
+  @Test
+  public void getCameraProperties_readsCharacteristicsOncePerCamera()
+      throws CameraAccessException {
+    final CameraPropertiesImpl properties = cache.getCameraProperties("0");
+
+    assertSame(properties, cache.getCameraProperties("0"));
+    cache.getCameraProperties("1");
+    verify(mockCameraManager, times(1)).getCameraCharacteristics("0");
+    verify(mockCameraManager, times(1)).getCameraCharacteristics("1");
+  }
+
+  @Test
+  public void onCameraAvailable_invalidatesCameraIdsForUnknownCamera()
+      throws CameraAccessException {
+    cache.getCameraIdList();
+
+    cache.availabilityCallback.onCameraAvailable("1");
+    cache.getCameraIdList();
+    verify(mockCameraManager, times(1)).getCameraIdList();
+
+    cache.availabilityCallback.onCameraAvailable("2");
+    cache.getCameraIdList();
+    verify(mockCameraManager, times(2)).getCameraIdList();
+  }
+
+  @Test
+  public void onCameraUnavailable_keepsInternalCamera() throws CameraAccessException {
+    when(mockCharacteristics.get(any())).thenReturn(CameraMetadata.LENS_FACING_BACK);
+    cache.getCameraIdList();
+    cache.getCameraProperties("0");
+
+    cache.availabilityCallback.onCameraUnavailable("0");
+    cache.getCameraIdList();
+    cache.getCameraProperties("0");
+
+    verify(mockCameraManager, times(1)).getCameraIdList();
+    verify(mockCameraManager, times(1)).getCameraCharacteristics("0");
+  }
+
+  @Test
+  public void onCameraUnavailable_forgetsExternalCamera() throws CameraAccessException {
+    when(mockCharacteristics.get(any())).thenReturn(CameraMetadata.LENS_FACING_EXTERNAL);
+    cache.getCameraIdList();
+    cache.getCameraProperties("1");
+
+    cache.availabilityCallback.onCameraUnavailable("1");
+    cache.getCameraIdList();
+    cache.getCameraProperties("1");
+
+    verify(mockCameraManager, times(2)).getCameraIdList();
+    verify(mockCameraManager, times(2)).getCameraCharacteristics("1");
+  }
+
+  @Test
+  public void invalidate_forgetsEverything() throws CameraAccessException {
+    cache.getCameraIdList();
+    cache.getCameraProperties("0");
+
+    cache.invalidate();
+    cache.getCameraIdList();
+    cache.getCameraProperties("0");
+
+    verify(mockCameraManager, times(2)).getCameraIdList();
+    verify(mockCameraManager, times(2)).getCameraCharacteristics("0");
+  }
+}
@@ -13,10 +13,12 @@ import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
+import android.graphics.ImageFormat;
 import android.graphics.Rect;
 import android.hardware.camera2.CameraAccessException;
 import android.hardware.camera2.CameraCharacteristics;
 import android.hardware.camera2.CameraManager;
+import android.hardware.camera2.params.StreamConfigurationMap;
 import android.util.Range;
 import android.util.Rational;
 import android.util.Size;
@@ -190,6 +192,21 @@ public class CameraPropertiesImplTest {
     assertEquals(actualFocusDistance, expectedFocusDistance);
   }
 
+  @Test
+  public void getScalerStreamConfigurationOutputSizesTest() {
+    StreamConfigurationMap mockStreamConfigurationMap = mock(StreamConfigurationMap.class);
+    Size[] expectedSizes = new Size[] {mock(Size.class)};
+    when(mockCharacteristics.get(CameraCharacteristics.SCALER_STREAM_CONFIGURATION_MAP))
+        .thenReturn(mockStreamConfigurationMap);
+    when(mockStreamConfigurationMap.getOutputSizes(ImageFormat.YUV_420_888))
+        .thenReturn(expectedSizes);
+
+    Size[] actualSizes =
+        cameraProperties.getScalerStreamConfigurationOutputSizes(ImageFormat.YUV_420_888);
+
+    assertArrayEquals(actualSizes, expectedSizes);
+  }
+
   @Test
   public void getScalerAvailableMaxDigitalZoomTest() {
     Float expectedDigitalZoom = 3.14f;
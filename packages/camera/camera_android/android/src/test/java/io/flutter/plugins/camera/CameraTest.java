@@ -7,6 +7,8 @@ package io.flutter.plugins.camera;
 import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.*;
@@ -31,6 +33,7 @@ import androidx.lifecycle.LifecycleObserver;
 import io.flutter.embedding.engine.systemchannels.PlatformChannel;
 import io.flutter.plugin.common.EventChannel;
 import io.flutter.plugin.common.MethodChannel;
+import io.flutter.plugins.camera.effects.ShaderEffect;
 import io.flutter.plugins.camera.features.CameraFeatureFactory;
 import io.flutter.plugins.camera.features.CameraFeatures;
 import io.flutter.plugins.camera.features.Point;
@@ -726,6 +729,34 @@ public class CameraTest {
         .getSurface(); // stream pulled from regular imageReader's surface.
   }
 
+  @Test
+  public void startPreview_shouldSizePreviewRendererInputToPreviewSize()
+      throws InterruptedException, CameraAccessException {
+    ArrayList<CaptureRequest.Builder> mockRequestBuilders = new ArrayList<>();
+    mockRequestBuilders.add(mock(CaptureRequest.Builder.class));
+    SurfaceTexture mockSurfaceTexture = mock(SurfaceTexture.class);
+    Size mockPreviewSize = mock(Size.class);
+    ImageReader mockImageReader = mock(ImageReader.class);
+    VideoRenderer mockPreviewRenderer = mock(VideoRenderer.class);
+    camera.pictureImageReader = mockImageReader;
+    camera.previewRenderer = mockPreviewRenderer;
+    camera.cameraDevice = new FakeCameraDeviceWrapper(mockRequestBuilders);
+
+    TextureRegistry.SurfaceTextureEntry cameraFlutterTexture = camera.flutterTexture;
+    ResolutionFeature resolutionFeature = mockCameraFeatureFactory.mockResolutionFeature;
+
+    when(cameraFlutterTexture.surfaceTexture()).thenReturn(mockSurfaceTexture);
+    when(resolutionFeature.getPreviewSize()).thenReturn(mockPreviewSize);
+    when(mockPreviewSize.getWidth()).thenReturn(640);
+    when(mockPreviewSize.getHeight()).thenReturn(480);
+    when(mockImageReader.getSurface()).thenReturn(mock(Surface.class));
+    when(mockPreviewRenderer.getInputSurface()).thenReturn(mock(Surface.class));
+
+    camera.startPreview();
+
+    verify(mockPreviewRenderer).setInputSize(640, 480);
+  }
+
   @Test
   public void startPreview_shouldFlipRotation() throws InterruptedException, CameraAccessException {
     VideoRenderer mockVideoRenderer = mock(VideoRenderer.class);
@@ -782,6 +813,48 @@ public class CameraTest {
         .getSurface(); // stream pulled from regular imageReader's surface.
   }
 
+  @Test
+  public void startPreviewWithImageStream_shouldPreferAnalysisImageStreamReader()
+      throws CameraAccessException {
+    ArrayList<CaptureRequest.Builder> mockRequestBuilders = new ArrayList<>();
+    mockRequestBuilders.add(mock(CaptureRequest.Builder.class));
+    SurfaceTexture mockSurfaceTexture = mock(SurfaceTexture.class);
+    Size mockSize = mock(Size.class);
+    ImageStreamReader mockImageStreamReader = mock(ImageStreamReader.class);
+    ImageStreamReader mockAnalysisImageStreamReader = mock(ImageStreamReader.class);
+    camera.pictureImageReader = mock(ImageReader.class);
+    camera.cameraDevice = new FakeCameraDeviceWrapper(mockRequestBuilders);
+    camera.imageStreamReader = mockImageStreamReader;
+    camera.analysisImageStreamReader = mockAnalysisImageStreamReader;
+
+    when(camera.flutterTexture.surfaceTexture()).thenReturn(mockSurfaceTexture);
+    when(mockCameraFeatureFactory.mockResolutionFeature.getPreviewSize()).thenReturn(mockSize);
+
+    camera.startPreviewWithImageStream(mock(EventChannel.class));
+
+    verify(mockAnalysisImageStreamReader, times(1)).getSurface();
+    verify(mockImageStreamReader, never()).getSurface();
+  }
+
+  @Test
+  public void setImageStreamAnalysisTarget_shouldFailWhenFormatIsNotSupported() {
+    when(mockCameraProperties.getScalerStreamConfigurationOutputSizes(anyInt())).thenReturn(null);
+
+    assertFalse(camera.setImageStreamAnalysisTarget(new Size(640, 480), "yuv420"));
+    assertNull(camera.analysisImageStreamReader);
+  }
+
+  @Test
+  public void setImageStreamAnalysisTarget_shouldCloseAnalysisReaderWhenCleared() {
+    ImageStreamReader mockAnalysisImageStreamReader = mock(ImageStreamReader.class);
+    camera.analysisImageStreamReader = mockAnalysisImageStreamReader;
+
+    assertTrue(camera.setImageStreamAnalysisTarget(null, null));
+
+    verify(mockAnalysisImageStreamReader).close();
+    assertNull(camera.analysisImageStreamReader);
+  }
+
   @Test
   public void setDescriptionWhileRecording_shouldErrorWhenNotRecording() {
     MethodChannel.Result mockResult = mock(MethodChannel.Result.class);
@@ -1152,6 +1225,102 @@ public class CameraTest {
     verify(mockPreviewRequestBuilder).addTarget(mockSecondarySurface);
   }
 
+  @Test
+  public void takeBurst_shouldErrorForInvalidCount() throws CameraAccessException {
+    MethodChannel.Result mockResult = mock(MethodChannel.Result.class);
+
+    camera.takeBurst(mockResult, 0);
+    camera.takeBurst(mockResult, Camera.MAX_BURST_COUNT + 1);
+
+    verify(mockResult, times(2)).error(eq("invalidBurstCount"), any(), any());
+    verify(mockCaptureSession, never()).captureBurst(any(), any(), any());
+  }
+
+  @Test
+  public void setZeroShutterLagEnabled_shouldNotReconfigureCaptureSession()
+      throws CameraAccessException {
+    MethodChannel.Result mockResult = mock(MethodChannel.Result.class);
+    camera.cameraDevice = new FakeCameraDeviceWrapper(new ArrayList<>());
+    camera.pictureImageReader = mock(ImageReader.class);
+
+    camera.setZeroShutterLagEnabled(mockResult, true);
+    camera.setZeroShutterLagEnabled(mockResult, false);
+
+    verify(mockResult, times(2)).success(null);
+    verify(mockCaptureSession, never()).stopRepeating();
+    verify(mockCaptureSession, never()).close();
+  }
+
+  @Test
+  public void setCaptureSessionReuseEnabled_shouldErrorBeforeApi23() {
+    MethodChannel.Result mockResult = mock(MethodChannel.Result.class);
+    SdkCapabilityChecker.SDK_VERSION = Build.VERSION_CODES.LOLLIPOP_MR1;
+
+    camera.setCaptureSessionReuseEnabled(mockResult, true);
+
+    verify(mockResult).error(eq("setCaptureSessionReuseEnabledFailed"), any(), any());
+    assertNull(camera.recorderInputSurface);
+  }
+
+  @Test
+  public void setCaptureSessionReuseEnabled_shouldErrorWhileRecording() {
+    MethodChannel.Result mockResult = mock(MethodChannel.Result.class);
+    SdkCapabilityChecker.SDK_VERSION = Build.VERSION_CODES.M;
+    camera.recordingVideo = true;
+
+    camera.setCaptureSessionReuseEnabled(mockResult, true);
+
+    verify(mockResult).error(eq("setCaptureSessionReuseEnabledFailed"), any(), any());
+  }
+
+  @Test
+  public void startPreviewWithImageStream_shouldSwitchTargetsOfReusedSession()
+      throws CameraAccessException {
+    MethodChannel.Result mockResult = mock(MethodChannel.Result.class);
+    SdkCapabilityChecker.SDK_VERSION = Build.VERSION_CODES.M;
+    camera.setCaptureSessionReuseEnabled(mockResult, true);
+
+    CameraDeviceWrapper mockCameraDevice = mock(CameraDeviceWrapper.class);
+    ImageStreamReader mockImageStreamReader = mock(ImageStreamReader.class);
+    Surface mockStreamSurface = mock(Surface.class);
+    Surface mockRecorderSurface = mock(Surface.class);
+    when(mockImageStreamReader.getSurface()).thenReturn(mockStreamSurface);
+    camera.cameraDevice = mockCameraDevice;
+    camera.imageStreamReader = mockImageStreamReader;
+    camera.recorderInputSurface = mockRecorderSurface;
+    camera.reusedSessionSurfaces = new ArrayList<>();
+    camera.reusedSessionSurfaces.add(mockRecorderSurface);
+    camera.reusedSessionSurfaces.add(mockStreamSurface);
+
+    camera.startPreviewWithImageStream(mock(EventChannel.class));
+
+    verify(mockPreviewRequestBuilder).addTarget(mockStreamSurface);
+    verify(mockPreviewRequestBuilder).removeTarget(mockRecorderSurface);
+    verify(mockCaptureSession).setRepeatingRequest(any(), any(), any());
+    verify(mockCameraDevice, never()).createCaptureRequest(anyInt());
+  }
+
+  @Test
+  public void setPreviewEffect_shouldErrorWhenAddingEffectWhileRecording() {
+    MethodChannel.Result mockResult = mock(MethodChannel.Result.class);
+    camera.recordingVideo = true;
+
+    camera.setPreviewEffect(mockResult, mock(ShaderEffect.class), null);
+
+    verify(mockResult).error(eq("setPreviewEffectFailed"), any(), any());
+    assertNull(camera.previewRenderer);
+  }
+
+  @Test
+  public void setPreviewEffect_shouldNotCreateRendererBeforeCameraIsOpened() {
+    MethodChannel.Result mockResult = mock(MethodChannel.Result.class);
+
+    camera.setPreviewEffect(mockResult, mock(ShaderEffect.class), null);
+
+    assertNull(camera.previewRenderer);
+    verify(mockResult).success(null);
+  }
+
   @Test
   public void close_doesCloseCaptureSessionWhenCameraDeviceNull() {
     camera.close();
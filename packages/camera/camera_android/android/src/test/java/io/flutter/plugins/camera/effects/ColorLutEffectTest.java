@@ -0,0 +1,47 @@
+// Copyright 2013 The Flutter Authors. All rights reserved.
+// Use of this source code is governed by a BSD-style license that can be
+// found in the LICENSE file.
+
+package io.flutter.plugins.camera.effects;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertThrows;
+
+import org.junit.Test;
+
+public class ColorLutEffectTest {
+  @Test
+  public void ctor_computesSizeOfTable() {
+    final ColorLutEffect effect = new ColorLutEffect(new byte[4 * 4 * 4 * 3]);
+
+    assertEquals(4, effect.getSize());
+  }
+
+  @Test
+  public void ctor_throwsForTablesThatAreNotCubes() {
+    assertThrows(IllegalArgumentException.class, () -> new ColorLutEffect(new byte[10]));
+    assertThrows(IllegalArgumentException.class, () -> new ColorLutEffect(new byte[3]));
+    assertThrows(
+        IllegalArgumentException.class, () -> new ColorLutEffect(new byte[65 * 65 * 65 * 3]));
+  }
+
+  @Test
+  public void toStrip_placesBlueSlicesSideBySide() {
+    // A 2x2x2 table whose red channel holds the index of each entry.
+    final byte[] rgb = new byte[2 * 2 * 2 * 3];
+    for (int i = 0; i < 8; i++) {
+      rgb[i * 3] = (byte) i;
+    }
+
+    final byte[] strip = ColorLutEffect.toStrip(rgb, 2);
+
+    // Row g = 0 holds (r, b) = (0, 0), (1, 0), (0, 1), (1, 1); row g = 1 the same with g = 1.
+    final byte[] expectedIndices = new byte[] {0, 1, 4, 5, 2, 3, 6, 7};
+    final byte[] actualIndices = new byte[8];
+    for (int i = 0; i < 8; i++) {
+      actualIndices[i] = strip[i * 3];
+    }
+    assertArrayEquals(expectedIndices, actualIndices);
+  }
+}
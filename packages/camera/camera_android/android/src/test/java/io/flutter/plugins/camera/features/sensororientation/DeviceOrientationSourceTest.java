@@ -0,0 +1,131 @@
+// Copyright 2013 The Flutter Authors. All rights reserved.
+// Use of this source code is governed by a BSD-style license that can be
+// found in the LICENSE file.
+
+package io.flutter.plugins.camera.features.sensororientation;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertSame;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import android.app.Activity;
+import android.content.Context;
+import android.content.res.Configuration;
+import android.content.res.Resources;
+import android.os.Handler;
+import android.view.Display;
+import android.view.Surface;
+import android.view.WindowManager;
+import io.flutter.embedding.engine.systemchannels.PlatformChannel.DeviceOrientation;
+import io.flutter.plugins.camera.DartMessenger;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+public class DeviceOrientationSourceTest {
+  private Activity mockActivity;
+  private Handler mockHandler;
+  private Display mockDisplay;
+  private Configuration mockConfiguration;
+  private DartMessenger mockFirstMessenger;
+  private DartMessenger mockSecondMessenger;
+  private DeviceOrientationManager firstManager;
+  private DeviceOrientationManager secondManager;
+  private DeviceOrientationSource source;
+
+  @Before
+  @SuppressWarnings("deprecation")
+  public void before() {
+    mockActivity = mock(Activity.class);
+    mockHandler = mock(Handler.class);
+    mockDisplay = mock(Display.class);
+    WindowManager mockWindowManager = mock(WindowManager.class);
+    Resources mockResources = mock(Resources.class);
+    mockConfiguration = mock(Configuration.class);
+    when(mockActivity.getSystemService(Context.WINDOW_SERVICE)).thenReturn(mockWindowManager);
+    when(mockWindowManager.getDefaultDisplay()).thenReturn(mockDisplay);
+    when(mockActivity.getResources()).thenReturn(mockResources);
+    when(mockResources.getConfiguration()).thenReturn(mockConfiguration);
+    setUpUIOrientation(Configuration.ORIENTATION_PORTRAIT);
+
+    mockFirstMessenger = mock(DartMessenger.class);
+    mockSecondMessenger = mock(DartMessenger.class);
+    firstManager = DeviceOrientationManager.create(mockActivity, mockFirstMessenger, false, 0);
+    secondManager = DeviceOrientationManager.create(mockActivity, mockSecondMessenger, true, 0);
+    source = new DeviceOrientationSource(mockActivity, mockHandler);
+  }
+
+  @After
+  public void after() {
+    DeviceOrientationSource.resetInstance();
+  }
+
+  private void setUpUIOrientation(int orientation) {
+    when(mockDisplay.getRotation()).thenReturn(Surface.ROTATION_0);
+    mockConfiguration.orientation = orientation;
+  }
+
+  @Test
+  public void addManager_registersOneReceiverForAllManagers() {
+    source.addManager(firstManager);
+    source.addManager(secondManager);
+
+    verify(mockActivity, times(1)).registerReceiver(any(), any());
+
+    source.removeManager(firstManager);
+    verify(mockActivity, never()).unregisterReceiver(any());
+
+    source.removeManager(secondManager);
+    verify(mockActivity, times(1)).unregisterReceiver(source.broadcastReceiver);
+  }
+
+  @Test
+  public void removeManager_dropsInstanceOnceLastManagerIsRemoved() {
+    final DeviceOrientationSource instance = DeviceOrientationSource.getInstance(mockActivity);
+    instance.addManager(firstManager);
+    instance.addManager(secondManager);
+
+    instance.removeManager(firstManager);
+    assertSame(instance, DeviceOrientationSource.getInstance(mockActivity));
+
+    instance.removeManager(secondManager);
+    assertNotSame(instance, DeviceOrientationSource.getInstance(mockActivity));
+  }
+
+  @Test
+  public void handleUIOrientationChange_sendsEachChangeOnceForAllManagers() {
+    source.addManager(firstManager);
+    source.addManager(secondManager);
+    setUpUIOrientation(Configuration.ORIENTATION_LANDSCAPE);
+
+    source.handleUIOrientationChange();
+    source.handleUIOrientationChange();
+
+    verify(mockFirstMessenger, times(1))
+        .sendDeviceOrientationChangeEvent(DeviceOrientation.LANDSCAPE_LEFT);
+    verify(mockSecondMessenger, never()).sendDeviceOrientationChangeEvent(any());
+    assertEquals(DeviceOrientation.LANDSCAPE_LEFT, firstManager.getLastUIOrientation());
+    assertEquals(DeviceOrientation.LANDSCAPE_LEFT, secondManager.getLastUIOrientation());
+  }
+
+  @Test
+  public void handleUIOrientationChange_postsChangeAfterDebounce() {
+    DeviceOrientationSource.setDebounceMillis(150);
+    source.addManager(firstManager);
+    setUpUIOrientation(Configuration.ORIENTATION_LANDSCAPE);
+
+    source.handleUIOrientationChange();
+    source.handleUIOrientationChange();
+
+    verify(mockHandler, times(2)).removeCallbacks(any(Runnable.class));
+    verify(mockHandler, times(2)).postDelayed(any(Runnable.class), anyLong());
+    verify(mockFirstMessenger, never()).sendDeviceOrientationChangeEvent(any());
+  }
+}
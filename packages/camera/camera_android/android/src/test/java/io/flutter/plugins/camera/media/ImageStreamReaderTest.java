@@ -5,6 +5,7 @@
 package io.flutter.plugins.camera.media;
 
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyInt;
 import static org.mockito.Mockito.mock;
@@ -15,6 +16,7 @@ import static org.mockito.Mockito.when;
 import android.graphics.ImageFormat;
 import android.media.Image;
 import android.media.ImageReader;
+import android.util.Size;
 import io.flutter.plugin.common.EventChannel;
 import io.flutter.plugins.camera.types.CameraCaptureProperties;
 import java.nio.ByteBuffer;
@@ -43,6 +45,32 @@ public class ImageStreamReaderTest {
     assertEquals(result, ImageFormat.YUV_420_888);
   }
 
+  @Test
+  public void chooseStreamSize_choosesSmallestSizeCoveringTarget() {
+    Size[] supportedSizes =
+        new Size[] {new Size(1920, 1080), new Size(640, 480), new Size(1280, 720)};
+
+    assertEquals(
+        new Size(1280, 720),
+        ImageStreamReader.chooseStreamSize(supportedSizes, new Size(700, 400)));
+    assertEquals(
+        new Size(640, 480), ImageStreamReader.chooseStreamSize(supportedSizes, new Size(640, 480)));
+  }
+
+  @Test
+  public void chooseStreamSize_choosesLargestSizeWhenNoneCoversTarget() {
+    Size[] supportedSizes = new Size[] {new Size(640, 480), new Size(1280, 720)};
+
+    assertEquals(
+        new Size(1280, 720),
+        ImageStreamReader.chooseStreamSize(supportedSizes, new Size(3840, 2160)));
+  }
+
+  @Test
+  public void chooseStreamSize_returnsNullWithoutSupportedSizes() {
+    assertNull(ImageStreamReader.chooseStreamSize(null, new Size(640, 480)));
+  }
+
   /**
    * If we are requesting NV21, then the planes should be processed and converted to NV21 before
    * being sent to dart. We make sure yuv420ThreePlanesToNV21 is called when we are requesting
@@ -10,6 +10,7 @@ import static org.mockito.Mockito.*;
 import android.media.CamcorderProfile;
 import android.media.EncoderProfiles;
 import android.media.MediaRecorder;
+import android.view.Surface;
 import java.io.IOException;
 import java.lang.reflect.Constructor;
 import java.util.List;
@@ -261,6 +262,88 @@ public class MediaRecorderBuilderTest {
     inOrder.verify(recorder).prepare();
   }
 
+  @Config(minSdk = 31)
+  @Test
+  public void build_shouldSetInputSurfaceBeforePrepare() throws IOException {
+    EncoderProfiles recorderProfile = mock(EncoderProfiles.class);
+    List<EncoderProfiles.VideoProfile> mockVideoProfiles =
+        List.of(getEmptyEncoderProfilesVideoProfile());
+    MediaRecorderBuilder.MediaRecorderFactory mockFactory =
+        mock(MediaRecorderBuilder.MediaRecorderFactory.class);
+    MediaRecorder mockMediaRecorder = mock(MediaRecorder.class);
+    Surface mockInputSurface = mock(Surface.class);
+    MediaRecorderBuilder builder =
+        new MediaRecorderBuilder(
+                recorderProfile,
+                mockFactory,
+                new MediaRecorderBuilder.RecordingParameters("mock_video_file_path"))
+            .setEnableAudio(false)
+            .setInputSurface(mockInputSurface);
+
+    when(mockFactory.makeMediaRecorder()).thenReturn(mockMediaRecorder);
+    when(recorderProfile.getVideoProfiles()).thenReturn(mockVideoProfiles);
+
+    MediaRecorder recorder = builder.build();
+
+    InOrder inOrder = inOrder(recorder);
+    inOrder.verify(recorder).setVideoSource(MediaRecorder.VideoSource.SURFACE);
+    inOrder.verify(recorder).setInputSurface(mockInputSurface);
+    inOrder.verify(recorder).prepare();
+  }
+
+  @Config(minSdk = 31)
+  @Test
+  public void build_shouldRecordWithRequestedVideoEncoderAtProfileBitrate() throws IOException {
+    MediaRecorder recorder = buildWithH264Profile(MediaRecorder.VideoEncoder.HEVC, false);
+
+    verify(recorder).setVideoEncoder(MediaRecorder.VideoEncoder.HEVC);
+    verify(recorder).setVideoEncodingBitRate(testVideoBitrate);
+  }
+
+  @Config(minSdk = 31)
+  @Test
+  public void build_shouldHalveBitrateWhenLowStorageRecordsH264ProfileWithHevc()
+      throws IOException {
+    MediaRecorder recorder = buildWithH264Profile(MediaRecorder.VideoEncoder.HEVC, true);
+
+    verify(recorder).setVideoEncoder(MediaRecorder.VideoEncoder.HEVC);
+    verify(recorder).setVideoEncodingBitRate(testVideoBitrate / 2);
+  }
+
+  @Config(minSdk = 31)
+  @Test
+  public void build_shouldKeepProfileBitrateWhenLowStorageRecordsWithProfileCodec()
+      throws IOException {
+    MediaRecorder recorder = buildWithH264Profile(null, true);
+
+    verify(recorder).setVideoEncoder(MediaRecorder.VideoEncoder.H264);
+    verify(recorder).setVideoEncodingBitRate(testVideoBitrate);
+  }
+
+  private MediaRecorder buildWithH264Profile(Integer videoEncoder, boolean lowStorage)
+      throws IOException {
+    EncoderProfiles recorderProfile = mock(EncoderProfiles.class);
+    EncoderProfiles.VideoProfile mockVideoProfile = mock(EncoderProfiles.VideoProfile.class);
+    MediaRecorderBuilder.MediaRecorderFactory mockFactory =
+        mock(MediaRecorderBuilder.MediaRecorderFactory.class);
+    MediaRecorder mockMediaRecorder = mock(MediaRecorder.class);
+    MediaRecorderBuilder builder =
+        new MediaRecorderBuilder(
+                recorderProfile,
+                mockFactory,
+                new MediaRecorderBuilder.RecordingParameters("mock_video_file_path"))
+            .setEnableAudio(false)
+            .setVideoEncoder(videoEncoder)
+            .setLowStorage(lowStorage);
+
+    when(mockFactory.makeMediaRecorder()).thenReturn(mockMediaRecorder);
+    when(recorderProfile.getVideoProfiles()).thenReturn(List.of(mockVideoProfile));
+    when(mockVideoProfile.getCodec()).thenReturn(MediaRecorder.VideoEncoder.H264);
+    when(mockVideoProfile.getBitrate()).thenReturn(testVideoBitrate);
+
+    return builder.build();
+  }
+
   private CamcorderProfile getEmptyCamcorderProfile() {
     try {
       Constructor<CamcorderProfile> constructor =
@@ -0,0 +1,55 @@
+// Copyright 2013 The Flutter Authors. All rights reserved.
+// Use of this source code is governed by a BSD-style license that can be
+// found in the LICENSE file.
+
+package io.flutter.plugins.camera.types;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import android.os.SystemClock;
+import java.util.Map;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.robolectric.RobolectricTestRunner;
+
+@RunWith(RobolectricTestRunner.class)
+public class CameraPipelineMetricsTest {
+  @Test
+  public void toMap_reportsMicrosecondsSinceCreate() {
+    final CameraPipelineMetrics metrics = new CameraPipelineMetrics();
+
+    SystemClock.sleep(5);
+    metrics.mark(CameraPipelineMetrics.OPEN);
+    SystemClock.sleep(10);
+    metrics.mark(CameraPipelineMetrics.OPENED);
+
+    final Map<String, Long> map = metrics.toMap();
+    assertEquals(3, map.size());
+    assertEquals(0L, (long) map.get(CameraPipelineMetrics.CREATE));
+    assertEquals(5000L, (long) map.get(CameraPipelineMetrics.OPEN));
+    assertEquals(15000L, (long) map.get(CameraPipelineMetrics.OPENED));
+  }
+
+  @Test
+  public void onCaptureCompleted_marksFirstFrameOncePerSession() {
+    final CameraPipelineMetrics metrics = new CameraPipelineMetrics();
+
+    metrics.onCaptureCompleted();
+    assertFalse(metrics.toMap().containsKey(CameraPipelineMetrics.FIRST_FRAME));
+
+    metrics.mark(CameraPipelineMetrics.SESSION_CONFIGURED);
+    SystemClock.sleep(3);
+    metrics.onCaptureCompleted();
+    SystemClock.sleep(3);
+    metrics.onCaptureCompleted();
+
+    final Map<String, Long> map = metrics.toMap();
+    assertTrue(map.containsKey(CameraPipelineMetrics.FIRST_FRAME));
+    assertEquals(
+        3000L,
+        map.get(CameraPipelineMetrics.FIRST_FRAME)
+            - map.get(CameraPipelineMetrics.SESSION_CONFIGURED));
+  }
+}
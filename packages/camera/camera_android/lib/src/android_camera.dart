@@ -14,6 +14,7 @@ import 'package:stream_transform/stream_transform.dart';
 import 'messages.g.dart';
 import 'type_conversion.dart';
 import 'utils.dart';
+import 'video_encoding.dart';
 
 const MethodChannel _channel =
     MethodChannel('plugins.flutter.io/camera_android');
@@ -33,6 +34,11 @@ class AndroidCamera extends CameraPlatform {
 
   final CameraApi _hostApi;
 
+  /// The arguments of `startImageStream`, per camera id, set by
+  /// [setImageStreamAnalysisTarget].
+  final Map<int, Map<String, Object>> _imageStreamAnalysisTargets =
+      <int, Map<String, Object>>{};
+
   /// The name of the channel that device events from the platform side are
   /// sent on.
   @visibleForTesting
@@ -186,6 +192,7 @@ class AndroidCamera extends CameraPlatform {
       _channels.remove(cameraId);
     }
 
+    _imageStreamAnalysisTargets.remove(cameraId);
     await _channel.invokeMethod<void>(
       'dispose',
       <String, dynamic>{'cameraId': cameraId},
@@ -262,6 +269,168 @@ class AndroidCamera extends CameraPlatform {
     return XFile(path);
   }
 
+  /// Takes [count] pictures in quick succession and returns them in capture
+  /// order.
+  ///
+  /// Unlike [takePicture], the auto focus and precapture sequence is not run
+  /// before the burst, so the pictures use the current focus and exposure of
+  /// the preview. [count] must be between 1 and 10.
+  Future<List<XFile>> takeBurst(int cameraId, int count) async {
+    final List<String>? paths = await _channel.invokeListMethod<String>(
+      'takeBurst',
+      <String, dynamic>{'cameraId': cameraId, 'count': count},
+    );
+
+    if (paths == null) {
+      throw CameraException(
+        'INVALID_PATH',
+        'The platform "$defaultTargetPlatform" did not return paths while reporting success. The platform should always return valid paths or report an error.',
+      );
+    }
+
+    return paths.map((String path) => XFile(path)).toList();
+  }
+
+  /// Enables or disables zero shutter lag for [takePicture].
+  ///
+  /// While enabled, [takePicture] skips the auto focus and precapture sequence
+  /// and asks the camera device for zero shutter lag, so devices that support
+  /// it return a frame captured just before the shutter. Pictures that need the
+  /// flash are still captured the regular way. It has no effect below Android
+  /// 8.0, and is disabled by default.
+  Future<void> setZeroShutterLagEnabled(int cameraId, bool enabled) =>
+      _channel.invokeMethod<void>(
+        'setZeroShutterLagEnabled',
+        <String, dynamic>{'cameraId': cameraId, 'enabled': enabled},
+      );
+
+  /// Enables or disables reusing one capture session for the preview, the image
+  /// stream and video recording of the camera with the given [cameraId].
+  ///
+  /// By default, starting or stopping the image stream or a video recording
+  /// reconfigures the camera, which briefly freezes the preview. With reuse
+  /// enabled, the camera is configured once with every output and these calls
+  /// only change which outputs receive frames. Devices that cannot output to
+  /// every surface at once fall back to the default behavior. Requires Android
+  /// 6.0 (API 23) or later, and cannot be changed while recording.
+  Future<void> setCaptureSessionReuseEnabled(int cameraId, bool enabled) =>
+      _channel.invokeMethod<void>(
+        'setCaptureSessionReuseEnabled',
+        <String, dynamic>{'cameraId': cameraId, 'enabled': enabled},
+      );
+
+  /// Gets when the camera with the given [cameraId] last reached each milestone
+  /// of its pipeline, in microseconds since the camera was created.
+  ///
+  /// The milestones are `create`, `open`, `opened`, `configureSession`,
+  /// `sessionConfigured`, `firstFrame`, `takePicture`, `precaptureConverged`
+  /// and `pictureSaved`. Milestones that were not reached yet are left out.
+  Future<Map<String, int>> getPipelineMetrics(int cameraId) async {
+    final Map<String, int>? metrics =
+        await _channel.invokeMapMethod<String, int>(
+      'getPipelineMetrics',
+      <String, dynamic>{'cameraId': cameraId},
+    );
+
+    return metrics ?? <String, int>{};
+  }
+
+  /// Enables or disables emitting the spans between the pipeline milestones of
+  /// the camera with the given [cameraId] as systrace sections.
+  ///
+  /// Sections are only emitted on Android 10 (API 29) or later.
+  Future<void> setPipelineTracingEnabled(int cameraId, bool enabled) =>
+      _channel.invokeMethod<void>(
+        'setPipelineTracingEnabled',
+        <String, dynamic>{'cameraId': cameraId, 'enabled': enabled},
+      );
+
+  /// Sets the [codec] and [preset] of the videos recorded from now on by the
+  /// camera with the given [cameraId].
+  ///
+  /// A null [codec] records with the codec of the recording profile, or the
+  /// codec picked by the [preset]. Throws a [CameraException] if the [codec] is
+  /// not supported at the recording resolution, see
+  /// [getVideoEncodingCapabilities], or while recording.
+  Future<void> setVideoEncoding(
+    int cameraId, {
+    AndroidVideoCodec? codec,
+    AndroidVideoEncodingPreset preset = AndroidVideoEncodingPreset.standard,
+  }) async {
+    try {
+      await _channel.invokeMethod<void>(
+        'setVideoEncoding',
+        <String, dynamic>{
+          'cameraId': cameraId,
+          'codec': codec?.name,
+          'preset': preset.name,
+        },
+      );
+    } on PlatformException catch (e) {
+      throw CameraException(e.code, e.message);
+    }
+  }
+
+  /// Gets which codecs the camera with the given [cameraId] can record with at
+  /// its recording resolution.
+  Future<Map<AndroidVideoCodec, bool>> getVideoEncodingCapabilities(
+      int cameraId) async {
+    final Map<String, bool>? capabilities =
+        await _channel.invokeMapMethod<String, bool>(
+      'getVideoEncodingCapabilities',
+      <String, dynamic>{'cameraId': cameraId},
+    );
+
+    return <AndroidVideoCodec, bool>{
+      for (final AndroidVideoCodec codec in AndroidVideoCodec.values)
+        codec: capabilities?[codec.name] ?? false,
+    };
+  }
+
+  /// Sets how long the device orientation must stay the same before a change
+  /// is reported by [onDeviceOrientationChanged].
+  ///
+  /// An orientation that changes and changes back within [debounce] is never
+  /// reported. Applies to all cameras; defaults to [Duration.zero], which
+  /// reports every change immediately.
+  Future<void> setDeviceOrientationDebounce(Duration debounce) =>
+      _channel.invokeMethod<void>(
+        'setDeviceOrientationDebounce',
+        <String, dynamic>{'milliseconds': debounce.inMilliseconds},
+      );
+
+  /// Sets a GPU effect and crop for the preview, and the videos recorded, of
+  /// the camera with the given [cameraId].
+  ///
+  /// [blurRadius] blurs the frames, spreading the blur over the given number of
+  /// pixels. [colorLut] maps the colors through a 3D lookup table of RGB bytes,
+  /// with red changing fastest and blue slowest as in .cube files; the table
+  /// must have from 2 to 64 entries per side. At most one of them can be set.
+  /// [crop] shows only the given part of the frame, in coordinates relative to
+  /// the frame size, scaled to fill the preview. Calling this without any of
+  /// them draws the preview unchanged again.
+  ///
+  /// The effect can be changed while recording, but not added or removed.
+  Future<void> setPreviewEffect(
+    int cameraId, {
+    double? blurRadius,
+    Uint8List? colorLut,
+    Rect? crop,
+  }) {
+    assert(blurRadius == null || colorLut == null,
+        'Only one effect can be set at a time.');
+    return _channel.invokeMethod<void>(
+      'setPreviewEffect',
+      <String, dynamic>{
+        'cameraId': cameraId,
+        if (blurRadius != null) 'blurRadius': blurRadius,
+        if (colorLut != null) 'colorLut': colorLut,
+        if (crop != null)
+          'crop': <double>[crop.left, crop.top, crop.right, crop.bottom],
+      },
+    );
+  }
+
   @override
   Future<void> prepareForVideoRecording() =>
       _channel.invokeMethod<void>('prepareForVideoRecording');
@@ -322,10 +491,40 @@ class AndroidCamera extends CameraPlatform {
   @override
   Stream<CameraImageData> onStreamedFrameAvailable(int cameraId,
       {CameraImageStreamOptions? options}) {
-    _installStreamController(onListen: _onFrameStreamListen);
+    _installStreamController(onListen: () => _onFrameStreamListen(cameraId));
     return _frameStreamController!.stream;
   }
 
+  /// Sets the resolution and image format of the frames streamed by
+  /// [onStreamedFrameAvailable] for the camera with [cameraId].
+  ///
+  /// By default, frames are streamed at the preview resolution, in the image
+  /// format group the camera was initialized with. Image analysis usually
+  /// needs much smaller frames, which are cheaper to copy and send to Dart.
+  ///
+  /// The camera streams the smallest supported size that covers
+  /// [analysisSize], or its largest supported size if none does. If
+  /// [analysisFormatGroup] is null, the format group the camera was
+  /// initialized with is used. Passing a null [analysisSize] restores the
+  /// default. The target applies the next time the stream is started.
+  void setImageStreamAnalysisTarget(
+    int cameraId, {
+    Size? analysisSize,
+    ImageFormatGroup? analysisFormatGroup,
+  }) {
+    if (analysisSize == null) {
+      _imageStreamAnalysisTargets.remove(cameraId);
+      return;
+    }
+
+    _imageStreamAnalysisTargets[cameraId] = <String, Object>{
+      'width': analysisSize.width.round(),
+      'height': analysisSize.height.round(),
+      if (analysisFormatGroup != null)
+        'imageFormatGroup': analysisFormatGroup.name(),
+    };
+  }
+
   StreamController<CameraImageData> _installStreamController(
       {void Function()? onListen}) {
     _frameStreamController = StreamController<CameraImageData>(
@@ -337,12 +536,13 @@ class AndroidCamera extends CameraPlatform {
     return _frameStreamController!;
   }
 
-  void _onFrameStreamListen() {
-    _startPlatformStream();
+  void _onFrameStreamListen(int cameraId) {
+    _startPlatformStream(cameraId);
   }
 
-  Future<void> _startPlatformStream() async {
-    await _channel.invokeMethod<void>('startImageStream');
+  Future<void> _startPlatformStream(int cameraId) async {
+    await _channel.invokeMethod<void>(
+        'startImageStream', _imageStreamAnalysisTargets[cameraId]);
     _startStreamListener();
   }
 
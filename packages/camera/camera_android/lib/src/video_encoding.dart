@@ -0,0 +1,25 @@
+// Copyright 2013 The Flutter Authors. All rights reserved.
+// Use of this source code is governed by a BSD-style license that can be
+// found in the LICENSE file.
+
+/// The codecs videos can be recorded with.
+enum AndroidVideoCodec {
+  /// H.264 (AVC), supported by every device.
+  h264,
+
+  /// H.265 (HEVC), which needs about half the bitrate of H.264 for the same
+  /// quality. Supported on Android 7.0 (API 24) or later where the device has
+  /// a hardware encoder for the recording resolution.
+  hevc,
+}
+
+/// Presets that pick the codec and bitrate of recorded videos when they were
+/// not requested.
+enum AndroidVideoEncodingPreset {
+  /// Records with the codec and bitrate of the recording profile.
+  standard,
+
+  /// Records with HEVC where supported, at half the bitrate of the H.264
+  /// recording profile. Falls back to [standard] elsewhere.
+  lowStorage,
+}
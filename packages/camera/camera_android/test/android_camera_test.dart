@@ -9,6 +9,7 @@ import 'package:async/async.dart';
 import 'package:camera_android/src/android_camera.dart';
 import 'package:camera_android/src/messages.g.dart';
 import 'package:camera_android/src/utils.dart';
+import 'package:camera_android/src/video_encoding.dart';
 import 'package:camera_platform_interface/camera_platform_interface.dart';
 import 'package:flutter/services.dart';
 import 'package:flutter/widgets.dart';
@@ -603,6 +604,200 @@ void main() {
       expect(file.path, '/test/path.jpg');
     });
 
+    test('Should take a burst and return XFile instances', () async {
+      // Arrange
+      final MethodChannelMock channel = MethodChannelMock(
+          channelName: _channelName,
+          methods: <String, dynamic>{
+            'takeBurst': <String>['/test/path0.jpg', '/test/path1.jpg']
+          });
+
+      // Act
+      final List<XFile> files = await camera.takeBurst(cameraId, 2);
+
+      // Assert
+      expect(channel.log, <Matcher>[
+        isMethodCall('takeBurst', arguments: <String, Object?>{
+          'cameraId': cameraId,
+          'count': 2,
+        }),
+      ]);
+      expect(files.map((XFile file) => file.path),
+          <String>['/test/path0.jpg', '/test/path1.jpg']);
+    });
+
+    test('Should set zero shutter lag', () async {
+      // Arrange
+      final MethodChannelMock channel = MethodChannelMock(
+          channelName: _channelName,
+          methods: <String, dynamic>{'setZeroShutterLagEnabled': null});
+
+      // Act
+      await camera.setZeroShutterLagEnabled(cameraId, true);
+
+      // Assert
+      expect(channel.log, <Matcher>[
+        isMethodCall('setZeroShutterLagEnabled', arguments: <String, Object?>{
+          'cameraId': cameraId,
+          'enabled': true,
+        }),
+      ]);
+    });
+
+    test('Should set capture session reuse', () async {
+      // Arrange
+      final MethodChannelMock channel = MethodChannelMock(
+          channelName: _channelName,
+          methods: <String, dynamic>{'setCaptureSessionReuseEnabled': null});
+
+      // Act
+      await camera.setCaptureSessionReuseEnabled(cameraId, true);
+
+      // Assert
+      expect(channel.log, <Matcher>[
+        isMethodCall('setCaptureSessionReuseEnabled',
+            arguments: <String, Object?>{
+              'cameraId': cameraId,
+              'enabled': true,
+            }),
+      ]);
+    });
+
+    test('Should get the pipeline metrics', () async {
+      // Arrange
+      final MethodChannelMock channel = MethodChannelMock(
+          channelName: _channelName,
+          methods: <String, dynamic>{
+            'getPipelineMetrics': <String, int>{'create': 0, 'opened': 1200},
+          });
+
+      // Act
+      final Map<String, int> metrics =
+          await camera.getPipelineMetrics(cameraId);
+
+      // Assert
+      expect(metrics, <String, int>{'create': 0, 'opened': 1200});
+      expect(channel.log, <Matcher>[
+        isMethodCall('getPipelineMetrics', arguments: <String, Object?>{
+          'cameraId': cameraId,
+        }),
+      ]);
+    });
+
+    test('Should set pipeline tracing', () async {
+      // Arrange
+      final MethodChannelMock channel = MethodChannelMock(
+          channelName: _channelName,
+          methods: <String, dynamic>{'setPipelineTracingEnabled': null});
+
+      // Act
+      await camera.setPipelineTracingEnabled(cameraId, true);
+
+      // Assert
+      expect(channel.log, <Matcher>[
+        isMethodCall('setPipelineTracingEnabled', arguments: <String, Object?>{
+          'cameraId': cameraId,
+          'enabled': true,
+        }),
+      ]);
+    });
+
+    test('Should set the video encoding', () async {
+      // Arrange
+      final MethodChannelMock channel = MethodChannelMock(
+          channelName: _channelName,
+          methods: <String, dynamic>{'setVideoEncoding': null});
+
+      // Act
+      await camera.setVideoEncoding(cameraId,
+          preset: AndroidVideoEncodingPreset.lowStorage);
+      await camera.setVideoEncoding(cameraId, codec: AndroidVideoCodec.hevc);
+
+      // Assert
+      expect(channel.log, <Matcher>[
+        isMethodCall('setVideoEncoding', arguments: <String, Object?>{
+          'cameraId': cameraId,
+          'codec': null,
+          'preset': 'lowStorage',
+        }),
+        isMethodCall('setVideoEncoding', arguments: <String, Object?>{
+          'cameraId': cameraId,
+          'codec': 'hevc',
+          'preset': 'standard',
+        }),
+      ]);
+    });
+
+    test('Should get the video encoding capabilities', () async {
+      // Arrange
+      final MethodChannelMock channel = MethodChannelMock(
+          channelName: _channelName,
+          methods: <String, dynamic>{
+            'getVideoEncodingCapabilities': <String, bool>{
+              'h264': true,
+              'hevc': false,
+            },
+          });
+
+      // Act
+      final Map<AndroidVideoCodec, bool> capabilities =
+          await camera.getVideoEncodingCapabilities(cameraId);
+
+      // Assert
+      expect(channel.log, <Matcher>[
+        isMethodCall('getVideoEncodingCapabilities',
+            arguments: <String, Object?>{'cameraId': cameraId}),
+      ]);
+      expect(capabilities, <AndroidVideoCodec, bool>{
+        AndroidVideoCodec.h264: true,
+        AndroidVideoCodec.hevc: false,
+      });
+    });
+
+    test('Should set the device orientation debounce', () async {
+      // Arrange
+      final MethodChannelMock channel = MethodChannelMock(
+          channelName: _channelName,
+          methods: <String, dynamic>{'setDeviceOrientationDebounce': null});
+
+      // Act
+      await camera
+          .setDeviceOrientationDebounce(const Duration(milliseconds: 150));
+
+      // Assert
+      expect(channel.log, <Matcher>[
+        isMethodCall('setDeviceOrientationDebounce',
+            arguments: <String, Object?>{'milliseconds': 150}),
+      ]);
+    });
+
+    test('Should set the preview effect', () async {
+      // Arrange
+      final MethodChannelMock channel = MethodChannelMock(
+          channelName: _channelName,
+          methods: <String, dynamic>{'setPreviewEffect': null});
+
+      // Act
+      await camera.setPreviewEffect(
+        cameraId,
+        blurRadius: 4,
+        crop: const Rect.fromLTRB(0.25, 0.25, 0.75, 0.75),
+      );
+      await camera.setPreviewEffect(cameraId);
+
+      // Assert
+      expect(channel.log, <Matcher>[
+        isMethodCall('setPreviewEffect', arguments: <String, Object?>{
+          'cameraId': cameraId,
+          'blurRadius': 4.0,
+          'crop': <double>[0.25, 0.25, 0.75, 0.75],
+        }),
+        isMethodCall('setPreviewEffect', arguments: <String, Object?>{
+          'cameraId': cameraId,
+        }),
+      ]);
+    });
+
     test('Should prepare for video recording', () async {
       // Arrange
       final MethodChannelMock channel = MethodChannelMock(
@@ -1139,6 +1334,38 @@ void main() {
       await subscription.cancel();
     });
 
+    test('Should start streaming at the analysis target', () async {
+      // Arrange
+      final MethodChannelMock channel = MethodChannelMock(
+        channelName: _channelName,
+        methods: <String, dynamic>{
+          'startImageStream': null,
+          'stopImageStream': null,
+        },
+      );
+      camera.setImageStreamAnalysisTarget(
+        cameraId,
+        analysisSize: const Size(640, 480),
+        analysisFormatGroup: ImageFormatGroup.nv21,
+      );
+
+      // Act
+      final StreamSubscription<CameraImageData> subscription = camera
+          .onStreamedFrameAvailable(cameraId)
+          .listen((CameraImageData imageData) {});
+
+      // Assert
+      expect(channel.log, <Matcher>[
+        isMethodCall('startImageStream', arguments: <String, Object?>{
+          'width': 640,
+          'height': 480,
+          'imageFormatGroup': 'nv21',
+        }),
+      ]);
+
+      await subscription.cancel();
+    });
+
     test('Should stop streaming', () async {
       // Arrange
       final MethodChannelMock channel = MethodChannelMock(
@@ -138,11 +138,16 @@ public final class CameraAndroidCameraxPlugin implements FlutterPlugin, Activity
         binaryMessenger, new ResolutionFilterHostApiImpl(instanceManager));
     GeneratedCameraXLibrary.Camera2CameraInfoHostApi.setup(
         binaryMessenger, new Camera2CameraInfoHostApiImpl(binaryMessenger, instanceManager));
+    GeneratedCameraXLibrary.CameraCapabilitiesHostApi.setup(
+        binaryMessenger, new CameraCapabilitiesHostApiImpl(binaryMessenger, instanceManager));
+    GeneratedCameraXLibrary.UseCaseConfigurationHostApi.setup(
+        binaryMessenger, new UseCaseConfigurationHostApiImpl(instanceManager));
   }
 
   @Override
   public void onAttachedToEngine(@NonNull FlutterPluginBinding flutterPluginBinding) {
     pluginBinding = flutterPluginBinding;
+    CameraXExecutors.attach();
   }
 
   @Override
@@ -150,6 +155,7 @@ public final class CameraAndroidCameraxPlugin implements FlutterPlugin, Activity
     if (instanceManager != null) {
       instanceManager.stopFinalizationListener();
     }
+    CameraXExecutors.detach();
   }
 
   // Activity Lifecycle methods:
@@ -165,6 +171,9 @@ public final class CameraAndroidCameraxPlugin implements FlutterPlugin, Activity
     updateLifecycleOwner(activity);
     updateActivity(activity);
 
+    // Start initializing CameraX early to shorten the time to the first camera frame.
+    processCameraProviderHostApiImpl.prewarmProvider();
+
     // Set permissions registry reference.
     systemServicesHostApiImpl.setPermissionsRegistry(
         activityPluginBinding::addRequestPermissionsResultListener);
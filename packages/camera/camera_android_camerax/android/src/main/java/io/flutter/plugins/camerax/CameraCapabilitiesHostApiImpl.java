@@ -0,0 +1,249 @@
+// Copyright 2013 The Flutter Authors. All rights reserved.
+// Use of this source code is governed by a BSD-style license that can be
+// found in the LICENSE file.
+
+package io.flutter.plugins.camerax;
+
+import android.hardware.camera2.CameraCharacteristics;
+import android.os.Handler;
+import android.os.Looper;
+import android.util.Range;
+import android.util.Size;
+import androidx.annotation.NonNull;
+import androidx.annotation.OptIn;
+import androidx.annotation.VisibleForTesting;
+import androidx.camera.camera2.interop.Camera2CameraInfo;
+import androidx.camera.camera2.interop.ExperimentalCamera2Interop;
+import androidx.camera.core.CameraInfo;
+import androidx.camera.core.DynamicRange;
+import androidx.camera.core.ExposureState;
+import androidx.camera.core.ZoomState;
+import androidx.camera.lifecycle.ProcessCameraProvider;
+import androidx.camera.video.Quality;
+import androidx.camera.video.QualitySelector;
+import androidx.camera.video.Recorder;
+import io.flutter.plugin.common.BinaryMessenger;
+import io.flutter.plugins.camerax.GeneratedCameraXLibrary.CameraCapabilities;
+import io.flutter.plugins.camerax.GeneratedCameraXLibrary.CameraCapabilitiesHostApi;
+import io.flutter.plugins.camerax.GeneratedCameraXLibrary.ResolutionInfo;
+import io.flutter.plugins.camerax.GeneratedCameraXLibrary.VideoQuality;
+import io.flutter.plugins.camerax.GeneratedCameraXLibrary.VideoQualityData;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * Host API implementation that reads the capabilities of every camera available to a {@link
+ * ProcessCameraProvider} in one call.
+ *
+ * <p>The capabilities of each camera are read in parallel on background threads and cached, since
+ * they do not change while the camera is available, so only the first call pays for reading them.
+ */
+public class CameraCapabilitiesHostApiImpl implements CameraCapabilitiesHostApi {
+  private final BinaryMessenger binaryMessenger;
+  private final InstanceManager instanceManager;
+  private final CameraCapabilitiesProxy proxy;
+  private final Executor backgroundExecutor;
+  private final Executor mainExecutor;
+
+  private final Map<CameraInfo, CameraCapabilities> cachedCapabilities =
+      new ConcurrentHashMap<>();
+
+  /** Proxy for reading the capabilities of a camera from its {@link CameraInfo}. */
+  @VisibleForTesting
+  @OptIn(markerClass = ExperimentalCamera2Interop.class)
+  public static class CameraCapabilitiesProxy {
+
+    /**
+     * Reads the capabilities of the camera represented by the specified {@link CameraInfo}.
+     *
+     * <p>The returned capabilities have no {@code cameraInfoId} set.
+     */
+    @NonNull
+    public CameraCapabilities readCapabilities(@NonNull CameraInfo cameraInfo) {
+      final Camera2CameraInfo camera2CameraInfo = Camera2CameraInfo.from(cameraInfo);
+      final Integer lensFacing =
+          camera2CameraInfo.getCameraCharacteristic(CameraCharacteristics.LENS_FACING);
+      final Integer hardwareLevel =
+          camera2CameraInfo.getCameraCharacteristic(
+              CameraCharacteristics.INFO_SUPPORTED_HARDWARE_LEVEL);
+      final ExposureState exposureState = cameraInfo.getExposureState();
+      final Range<Integer> exposureRange = exposureState.getExposureCompensationRange();
+      final ZoomState zoomState = cameraInfo.getZoomState().getValue();
+
+      final List<VideoQualityData> videoQualities = new ArrayList<>();
+      final List<ResolutionInfo> videoResolutions = new ArrayList<>();
+      for (Quality quality :
+          Recorder.getVideoCapabilities(cameraInfo).getSupportedQualities(DynamicRange.SDR)) {
+        final VideoQuality videoQuality =
+            QualitySelectorHostApiImpl.getVideoQualityFromQuality(quality);
+        final Size resolution = QualitySelector.getResolution(cameraInfo, quality);
+        if (videoQuality == null || resolution == null) {
+          continue;
+        }
+        videoQualities.add(new VideoQualityData.Builder().setQuality(videoQuality).build());
+        videoResolutions.add(
+            new ResolutionInfo.Builder()
+                .setWidth(Long.valueOf(resolution.getWidth()))
+                .setHeight(Long.valueOf(resolution.getHeight()))
+                .build());
+      }
+
+      // CameraCharacteristics and CameraSelector share the values of the lens facing constants.
+      return new CameraCapabilities.Builder()
+          .setCameraInfoId(0L)
+          .setCameraId(camera2CameraInfo.getCameraId())
+          .setLensFacing(lensFacing == null ? null : Long.valueOf(lensFacing))
+          .setSensorRotationDegrees(Long.valueOf(cameraInfo.getSensorRotationDegrees()))
+          .setSupportedHardwareLevel(
+              Long.valueOf(
+                  hardwareLevel == null
+                      ? CameraCharacteristics.INFO_SUPPORTED_HARDWARE_LEVEL_LEGACY
+                      : hardwareLevel))
+          .setMinExposureCompensation(Long.valueOf(exposureRange.getLower()))
+          .setMaxExposureCompensation(Long.valueOf(exposureRange.getUpper()))
+          .setExposureCompensationStep(
+              exposureState.getExposureCompensationStep().doubleValue())
+          .setMinZoomRatio(zoomState == null ? 1.0 : (double) zoomState.getMinZoomRatio())
+          .setMaxZoomRatio(zoomState == null ? 1.0 : (double) zoomState.getMaxZoomRatio())
+          .setSupportedVideoQualities(videoQualities)
+          .setSupportedVideoResolutions(videoResolutions)
+          .build();
+    }
+  }
+
+  /**
+   * Constructs a {@link CameraCapabilitiesHostApiImpl}.
+   *
+   * @param binaryMessenger used to communicate with Dart over asynchronous messages
+   * @param instanceManager maintains instances stored to communicate with attached Dart objects
+   */
+  public CameraCapabilitiesHostApiImpl(
+      @NonNull BinaryMessenger binaryMessenger, @NonNull InstanceManager instanceManager) {
+    this(
+        binaryMessenger,
+        instanceManager,
+        new CameraCapabilitiesProxy(),
+        // The shared executor is looked up for every read, since it is replaced once the plugin
+        // detaches from every engine.
+        command -> CameraXExecutors.getCameraCapabilitiesExecutor().execute(command),
+        new Handler(Looper.getMainLooper())::post);
+  }
+
+  /**
+   * Constructs a {@link CameraCapabilitiesHostApiImpl}.
+   *
+   * @param binaryMessenger used to communicate with Dart over asynchronous messages
+   * @param instanceManager maintains instances stored to communicate with attached Dart objects
+   * @param proxy proxy for reading the capabilities of a camera
+   * @param backgroundExecutor executor the capabilities of each camera are read on
+   * @param mainExecutor executor of the thread the result is returned on
+   */
+  @VisibleForTesting
+  CameraCapabilitiesHostApiImpl(
+      @NonNull BinaryMessenger binaryMessenger,
+      @NonNull InstanceManager instanceManager,
+      @NonNull CameraCapabilitiesProxy proxy,
+      @NonNull Executor backgroundExecutor,
+      @NonNull Executor mainExecutor) {
+    this.binaryMessenger = binaryMessenger;
+    this.instanceManager = instanceManager;
+    this.proxy = proxy;
+    this.backgroundExecutor = backgroundExecutor;
+    this.mainExecutor = mainExecutor;
+  }
+
+  /**
+   * Returns the capabilities of every camera available to the {@link ProcessCameraProvider}
+   * represented by the specified identifier, reading the uncached ones in parallel.
+   */
+  @Override
+  public void getAvailableCameraCapabilities(
+      @NonNull Long processCameraProviderIdentifier,
+      @NonNull GeneratedCameraXLibrary.Result<List<CameraCapabilities>> result) {
+    final ProcessCameraProvider processCameraProvider =
+        Objects.requireNonNull(instanceManager.getInstance(processCameraProviderIdentifier));
+    final List<CameraInfo> cameraInfos = processCameraProvider.getAvailableCameraInfos();
+
+    final List<CameraInfo> uncachedCameraInfos = new ArrayList<>();
+    for (CameraInfo cameraInfo : cameraInfos) {
+      if (!cachedCapabilities.containsKey(cameraInfo)) {
+        uncachedCameraInfos.add(cameraInfo);
+      }
+    }
+    if (uncachedCameraInfos.isEmpty()) {
+      sendCapabilities(cameraInfos, result);
+      return;
+    }
+
+    final AtomicInteger remainingReads = new AtomicInteger(uncachedCameraInfos.size());
+    final AtomicReference<Throwable> readError = new AtomicReference<>();
+    for (CameraInfo cameraInfo : uncachedCameraInfos) {
+      backgroundExecutor.execute(
+          () -> {
+            try {
+              cachedCapabilities.put(cameraInfo, proxy.readCapabilities(cameraInfo));
+            } catch (RuntimeException e) {
+              readError.compareAndSet(null, e);
+            }
+            if (remainingReads.decrementAndGet() > 0) {
+              return;
+            }
+            mainExecutor.execute(
+                () -> {
+                  final Throwable error = readError.get();
+                  if (error != null) {
+                    result.error(error);
+                  } else {
+                    sendCapabilities(cameraInfos, result);
+                  }
+                });
+          });
+    }
+  }
+
+  private void sendCapabilities(
+      @NonNull List<CameraInfo> cameraInfos,
+      @NonNull GeneratedCameraXLibrary.Result<List<CameraCapabilities>> result) {
+    final CameraInfoFlutterApiImpl cameraInfoFlutterApi =
+        new CameraInfoFlutterApiImpl(binaryMessenger, instanceManager);
+    final List<CameraCapabilities> capabilities = new ArrayList<>();
+    for (CameraInfo cameraInfo : cameraInfos) {
+      if (!instanceManager.containsInstance(cameraInfo)) {
+        cameraInfoFlutterApi.create(cameraInfo, reply -> {});
+      }
+      capabilities.add(
+          withCameraInfoId(
+              Objects.requireNonNull(cachedCapabilities.get(cameraInfo)),
+              Objects.requireNonNull(
+                  instanceManager.getIdentifierForStrongReference(cameraInfo))));
+    }
+    result.success(capabilities);
+  }
+
+  // Copies the cached capabilities, since they are shared between calls while the identifier of a
+  // `CameraInfo` can change between them.
+  @NonNull
+  private static CameraCapabilities withCameraInfoId(
+      @NonNull CameraCapabilities cameraCapabilities, @NonNull Long cameraInfoId) {
+    return new CameraCapabilities.Builder()
+        .setCameraInfoId(cameraInfoId)
+        .setCameraId(cameraCapabilities.getCameraId())
+        .setLensFacing(cameraCapabilities.getLensFacing())
+        .setSensorRotationDegrees(cameraCapabilities.getSensorRotationDegrees())
+        .setSupportedHardwareLevel(cameraCapabilities.getSupportedHardwareLevel())
+        .setMinExposureCompensation(cameraCapabilities.getMinExposureCompensation())
+        .setMaxExposureCompensation(cameraCapabilities.getMaxExposureCompensation())
+        .setExposureCompensationStep(cameraCapabilities.getExposureCompensationStep())
+        .setMinZoomRatio(cameraCapabilities.getMinZoomRatio())
+        .setMaxZoomRatio(cameraCapabilities.getMaxZoomRatio())
+        .setSupportedVideoQualities(cameraCapabilities.getSupportedVideoQualities())
+        .setSupportedVideoResolutions(cameraCapabilities.getSupportedVideoResolutions())
+        .build();
+  }
+}
@@ -0,0 +1,182 @@
+// Copyright 2013 The Flutter Authors. All rights reserved.
+// Use of this source code is governed by a BSD-style license that can be
+// found in the LICENSE file.
+
+package io.flutter.plugins.camerax;
+
+import androidx.annotation.NonNull;
+import androidx.annotation.Nullable;
+import androidx.annotation.VisibleForTesting;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.Executor;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Plugin-wide executors for the work the plugin hands to CameraX.
+ *
+ * <p>Each kind of work shares one executor with a bounded number of threads and a bounded queue,
+ * instead of creating a new thread per capture or surface request. Idle threads time out, and the
+ * executors are shut down once every engine the plugin is attached to has detached.
+ */
+public final class CameraXExecutors {
+  /** Name of the executor that reads the capabilities of the available cameras. */
+  public static final String CAMERA_CAPABILITIES = "cameraCapabilities";
+
+  /** Name of the executor that runs the callbacks of image captures saved to a file. */
+  public static final String CAPTURE_IO = "captureIo";
+
+  /** Name of the executor that runs the recording work of {@code Recorder}s. */
+  public static final String RECORDER_EVENTS = "recorderEvents";
+
+  /** Name of the executor that runs the result callbacks of preview surface requests. */
+  public static final String SURFACE_CALLBACKS = "surfaceCallbacks";
+
+  @VisibleForTesting static final int CAMERA_CAPABILITIES_MAX_THREADS = 2;
+  @VisibleForTesting static final int CAPTURE_IO_MAX_THREADS = 2;
+  @VisibleForTesting static final int RECORDER_EVENTS_MAX_THREADS = 1;
+  @VisibleForTesting static final int SURFACE_CALLBACKS_MAX_THREADS = 1;
+  @VisibleForTesting static final int MAX_QUEUED_TASKS = 32;
+
+  private static final long KEEP_ALIVE_SECONDS = 30;
+
+  private static final Map<String, ThreadPoolExecutor> executors = new HashMap<>();
+  private static int attachedEngineCount = 0;
+
+  /** Snapshot of the threads and queued tasks of one executor. */
+  public static final class ExecutorMetrics {
+    /** Number of threads currently in the executor. */
+    public final int threadCount;
+
+    /** Number of threads currently running a task. */
+    public final int activeThreadCount;
+
+    /** Number of tasks waiting for a thread. */
+    public final int queueDepth;
+
+    /** Number of tasks that have completed since the executor was created. */
+    public final long completedTaskCount;
+
+    ExecutorMetrics(
+        int threadCount, int activeThreadCount, int queueDepth, long completedTaskCount) {
+      this.threadCount = threadCount;
+      this.activeThreadCount = activeThreadCount;
+      this.queueDepth = queueDepth;
+      this.completedTaskCount = completedTaskCount;
+    }
+  }
+
+  private CameraXExecutors() {}
+
+  /** Records that the plugin was attached to an engine. */
+  public static synchronized void attach() {
+    attachedEngineCount++;
+  }
+
+  /**
+   * Records that the plugin was detached from an engine and shuts down the executors if no engine
+   * remains attached.
+   *
+   * <p>Tasks already queued still run; new tasks get fresh executors.
+   */
+  public static synchronized void detach() {
+    attachedEngineCount = Math.max(0, attachedEngineCount - 1);
+    if (attachedEngineCount == 0) {
+      shutdown();
+    }
+  }
+
+  /** Returns the executor that reads the capabilities of the available cameras. */
+  @NonNull
+  public static Executor getCameraCapabilitiesExecutor() {
+    return getOrCreateExecutor(CAMERA_CAPABILITIES, CAMERA_CAPABILITIES_MAX_THREADS);
+  }
+
+  /** Returns the executor that runs the callbacks of image captures saved to a file. */
+  @NonNull
+  public static Executor getCaptureIoExecutor() {
+    return getOrCreateExecutor(CAPTURE_IO, CAPTURE_IO_MAX_THREADS);
+  }
+
+  /** Returns the executor that runs the recording work of {@code Recorder}s. */
+  @NonNull
+  public static Executor getRecorderEventsExecutor() {
+    return getOrCreateExecutor(RECORDER_EVENTS, RECORDER_EVENTS_MAX_THREADS);
+  }
+
+  /** Returns the executor that runs the result callbacks of preview surface requests. */
+  @NonNull
+  public static Executor getSurfaceCallbacksExecutor() {
+    return getOrCreateExecutor(SURFACE_CALLBACKS, SURFACE_CALLBACKS_MAX_THREADS);
+  }
+
+  /**
+   * Returns the thread count and queue depth of every executor currently running, keyed by the
+   * name of the executor.
+   */
+  @NonNull
+  public static synchronized Map<String, ExecutorMetrics> getMetrics() {
+    final Map<String, ExecutorMetrics> metrics = new HashMap<>();
+    for (Map.Entry<String, ThreadPoolExecutor> entry : executors.entrySet()) {
+      final ThreadPoolExecutor executor = entry.getValue();
+      metrics.put(
+          entry.getKey(),
+          new ExecutorMetrics(
+              executor.getPoolSize(),
+              executor.getActiveCount(),
+              executor.getQueue().size(),
+              executor.getCompletedTaskCount()));
+    }
+    return metrics;
+  }
+
+  /** Forgets the engines attached and shuts down every executor. */
+  @VisibleForTesting
+  static synchronized void reset() {
+    attachedEngineCount = 0;
+    shutdown();
+  }
+
+  private static synchronized void shutdown() {
+    for (ThreadPoolExecutor executor : executors.values()) {
+      executor.shutdown();
+    }
+    executors.clear();
+  }
+
+  @NonNull
+  private static synchronized Executor getOrCreateExecutor(@NonNull String name, int maxThreads) {
+    @Nullable ThreadPoolExecutor executor = executors.get(name);
+    if (executor == null) {
+      executor =
+          new ThreadPoolExecutor(
+              maxThreads,
+              maxThreads,
+              KEEP_ALIVE_SECONDS,
+              TimeUnit.SECONDS,
+              new LinkedBlockingQueue<>(MAX_QUEUED_TASKS),
+              createThreadFactory(name),
+              // Once the queue is full, run the task on the submitting thread rather than drop a
+              // CameraX callback.
+              new ThreadPoolExecutor.CallerRunsPolicy());
+      executor.allowCoreThreadTimeOut(true);
+      executors.put(name, executor);
+    }
+    return executor;
+  }
+
+  @NonNull
+  private static ThreadFactory createThreadFactory(@NonNull String name) {
+    final AtomicInteger threadNumber = new AtomicInteger();
+    return runnable -> {
+      final Thread thread =
+          new Thread(runnable, "CameraX-" + name + "-" + threadNumber.incrementAndGet());
+      thread.setDaemon(true);
+      return thread;
+    };
+  }
+}
@@ -11,9 +11,12 @@ import androidx.annotation.VisibleForTesting;
 import io.flutter.embedding.engine.systemchannels.PlatformChannel.DeviceOrientation;
 import io.flutter.plugin.common.BinaryMessenger;
 import io.flutter.plugins.camerax.CameraPermissionsManager.PermissionsRegistry;
+import io.flutter.plugins.camerax.GeneratedCameraXLibrary.DeviceOrientationManagerFlutterApi;
 import io.flutter.plugins.camerax.GeneratedCameraXLibrary.DeviceOrientationManagerHostApi;
 
 public class DeviceOrientationManagerHostApiImpl implements DeviceOrientationManagerHostApi {
+  private static final DeviceOrientationManagerFlutterApi.Reply<Void> IGNORE_REPLY = reply -> {};
+
   private final BinaryMessenger binaryMessenger;
   private final InstanceManager instanceManager;
 
@@ -53,6 +56,10 @@ public class DeviceOrientationManagerHostApiImpl implements DeviceOrientationMan
           "Activity must be set to start listening for device orientation changes.");
     }
 
+    // Only one manager listens at a time, however many cameras were created.
+    if (deviceOrientationManager != null) {
+      deviceOrientationManager.stop();
+    }
     deviceOrientationManager =
         cameraXProxy.createDeviceOrientationManager(
             activity,
@@ -60,7 +67,7 @@ public class DeviceOrientationManagerHostApiImpl implements DeviceOrientationMan
             sensorOrientation.intValue(),
             (DeviceOrientation newOrientation) -> {
               deviceOrientationManagerFlutterApiImpl.sendDeviceOrientationChangedEvent(
-                  serializeDeviceOrientation(newOrientation), reply -> {});
+                  serializeDeviceOrientation(newOrientation), IGNORE_REPLY);
             });
     deviceOrientationManager.start();
   }
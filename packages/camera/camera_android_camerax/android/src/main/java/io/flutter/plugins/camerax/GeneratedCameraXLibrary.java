@@ -711,6 +711,961 @@ public class GeneratedCameraXLibrary {
     }
   }
 
+  /**
+   * The capabilities of a camera, read at once on the native side.
+   *
+   * <p>Generated class from Pigeon that represents data sent in messages.
+   */
+  public static final class CameraCapabilities {
+    /** InstanceManager ID for the [CameraInfo] of the camera. */
+    private @NonNull Long cameraInfoId;
+
+    public @NonNull Long getCameraInfoId() {
+      return cameraInfoId;
+    }
+
+    public void setCameraInfoId(@NonNull Long setterArg) {
+      if (setterArg == null) {
+        throw new IllegalStateException("Nonnull field \"cameraInfoId\" is null.");
+      }
+      this.cameraInfoId = setterArg;
+    }
+
+    /** The Camera2 ID of the camera. */
+    private @NonNull String cameraId;
+
+    public @NonNull String getCameraId() {
+      return cameraId;
+    }
+
+    public void setCameraId(@NonNull String setterArg) {
+      if (setterArg == null) {
+        throw new IllegalStateException("Nonnull field \"cameraId\" is null.");
+      }
+      this.cameraId = setterArg;
+    }
+
+    /**
+     * The direction the lens faces, one of the [CameraSelector] lens facing constants, or null if
+     * unknown.
+     */
+    private @Nullable Long lensFacing;
+
+    public @Nullable Long getLensFacing() {
+      return lensFacing;
+    }
+
+    public void setLensFacing(@Nullable Long setterArg) {
+      this.lensFacing = setterArg;
+    }
+
+    private @NonNull Long sensorRotationDegrees;
+
+    public @NonNull Long getSensorRotationDegrees() {
+      return sensorRotationDegrees;
+    }
+
+    public void setSensorRotationDegrees(@NonNull Long setterArg) {
+      if (setterArg == null) {
+        throw new IllegalStateException("Nonnull field \"sensorRotationDegrees\" is null.");
+      }
+      this.sensorRotationDegrees = setterArg;
+    }
+
+    /** One of the Camera2 `INFO_SUPPORTED_HARDWARE_LEVEL` constants. */
+    private @NonNull Long supportedHardwareLevel;
+
+    public @NonNull Long getSupportedHardwareLevel() {
+      return supportedHardwareLevel;
+    }
+
+    public void setSupportedHardwareLevel(@NonNull Long setterArg) {
+      if (setterArg == null) {
+        throw new IllegalStateException("Nonnull field \"supportedHardwareLevel\" is null.");
+      }
+      this.supportedHardwareLevel = setterArg;
+    }
+
+    private @NonNull Long minExposureCompensation;
+
+    public @NonNull Long getMinExposureCompensation() {
+      return minExposureCompensation;
+    }
+
+    public void setMinExposureCompensation(@NonNull Long setterArg) {
+      if (setterArg == null) {
+        throw new IllegalStateException("Nonnull field \"minExposureCompensation\" is null.");
+      }
+      this.minExposureCompensation = setterArg;
+    }
+
+    private @NonNull Long maxExposureCompensation;
+
+    public @NonNull Long getMaxExposureCompensation() {
+      return maxExposureCompensation;
+    }
+
+    public void setMaxExposureCompensation(@NonNull Long setterArg) {
+      if (setterArg == null) {
+        throw new IllegalStateException("Nonnull field \"maxExposureCompensation\" is null.");
+      }
+      this.maxExposureCompensation = setterArg;
+    }
+
+    private @NonNull Double exposureCompensationStep;
+
+    public @NonNull Double getExposureCompensationStep() {
+      return exposureCompensationStep;
+    }
+
+    public void setExposureCompensationStep(@NonNull Double setterArg) {
+      if (setterArg == null) {
+        throw new IllegalStateException("Nonnull field \"exposureCompensationStep\" is null.");
+      }
+      this.exposureCompensationStep = setterArg;
+    }
+
+    private @NonNull Double minZoomRatio;
+
+    public @NonNull Double getMinZoomRatio() {
+      return minZoomRatio;
+    }
+
+    public void setMinZoomRatio(@NonNull Double setterArg) {
+      if (setterArg == null) {
+        throw new IllegalStateException("Nonnull field \"minZoomRatio\" is null.");
+      }
+      this.minZoomRatio = setterArg;
+    }
+
+    private @NonNull Double maxZoomRatio;
+
+    public @NonNull Double getMaxZoomRatio() {
+      return maxZoomRatio;
+    }
+
+    public void setMaxZoomRatio(@NonNull Double setterArg) {
+      if (setterArg == null) {
+        throw new IllegalStateException("Nonnull field \"maxZoomRatio\" is null.");
+      }
+      this.maxZoomRatio = setterArg;
+    }
+
+    /** The video qualities the camera can record, from highest to lowest. */
+    private @NonNull List<VideoQualityData> supportedVideoQualities;
+
+    public @NonNull List<VideoQualityData> getSupportedVideoQualities() {
+      return supportedVideoQualities;
+    }
+
+    public void setSupportedVideoQualities(@NonNull List<VideoQualityData> setterArg) {
+      if (setterArg == null) {
+        throw new IllegalStateException("Nonnull field \"supportedVideoQualities\" is null.");
+      }
+      this.supportedVideoQualities = setterArg;
+    }
+
+    /** The resolution of each of the [supportedVideoQualities]. */
+    private @NonNull List<ResolutionInfo> supportedVideoResolutions;
+
+    public @NonNull List<ResolutionInfo> getSupportedVideoResolutions() {
+      return supportedVideoResolutions;
+    }
+
+    public void setSupportedVideoResolutions(@NonNull List<ResolutionInfo> setterArg) {
+      if (setterArg == null) {
+        throw new IllegalStateException("Nonnull field \"supportedVideoResolutions\" is null.");
+      }
+      this.supportedVideoResolutions = setterArg;
+    }
+
+    /** Constructor is non-public to enforce null safety; use Builder. */
+    CameraCapabilities() {}
+
+    public static final class Builder {
+
+      private @Nullable Long cameraInfoId;
+
+      public @NonNull Builder setCameraInfoId(@NonNull Long setterArg) {
+        this.cameraInfoId = setterArg;
+        return this;
+      }
+
+      private @Nullable String cameraId;
+
+      public @NonNull Builder setCameraId(@NonNull String setterArg) {
+        this.cameraId = setterArg;
+        return this;
+      }
+
+      private @Nullable Long lensFacing;
+
+      public @NonNull Builder setLensFacing(@Nullable Long setterArg) {
+        this.lensFacing = setterArg;
+        return this;
+      }
+
+      private @Nullable Long sensorRotationDegrees;
+
+      public @NonNull Builder setSensorRotationDegrees(@NonNull Long setterArg) {
+        this.sensorRotationDegrees = setterArg;
+        return this;
+      }
+
+      private @Nullable Long supportedHardwareLevel;
+
+      public @NonNull Builder setSupportedHardwareLevel(@NonNull Long setterArg) {
+        this.supportedHardwareLevel = setterArg;
+        return this;
+      }
+
+      private @Nullable Long minExposureCompensation;
+
+      public @NonNull Builder setMinExposureCompensation(@NonNull Long setterArg) {
+        this.minExposureCompensation = setterArg;
+        return this;
+      }
+
+      private @Nullable Long maxExposureCompensation;
+
+      public @NonNull Builder setMaxExposureCompensation(@NonNull Long setterArg) {
+        this.maxExposureCompensation = setterArg;
+        return this;
+      }
+
+      private @Nullable Double exposureCompensationStep;
+
+      public @NonNull Builder setExposureCompensationStep(@NonNull Double setterArg) {
+        this.exposureCompensationStep = setterArg;
+        return this;
+      }
+
+      private @Nullable Double minZoomRatio;
+
+      public @NonNull Builder setMinZoomRatio(@NonNull Double setterArg) {
+        this.minZoomRatio = setterArg;
+        return this;
+      }
+
+      private @Nullable Double maxZoomRatio;
+
+      public @NonNull Builder setMaxZoomRatio(@NonNull Double setterArg) {
+        this.maxZoomRatio = setterArg;
+        return this;
+      }
+
+      private @Nullable List<VideoQualityData> supportedVideoQualities;
+
+      public @NonNull Builder setSupportedVideoQualities(
+          @NonNull List<VideoQualityData> setterArg) {
+        this.supportedVideoQualities = setterArg;
+        return this;
+      }
+
+      private @Nullable List<ResolutionInfo> supportedVideoResolutions;
+
+      public @NonNull Builder setSupportedVideoResolutions(
+          @NonNull List<ResolutionInfo> setterArg) {
+        this.supportedVideoResolutions = setterArg;
+        return this;
+      }
+
+      public @NonNull CameraCapabilities build() {
+        CameraCapabilities pigeonReturn = new CameraCapabilities();
+        pigeonReturn.setCameraInfoId(cameraInfoId);
+        pigeonReturn.setCameraId(cameraId);
+        pigeonReturn.setLensFacing(lensFacing);
+        pigeonReturn.setSensorRotationDegrees(sensorRotationDegrees);
+        pigeonReturn.setSupportedHardwareLevel(supportedHardwareLevel);
+        pigeonReturn.setMinExposureCompensation(minExposureCompensation);
+        pigeonReturn.setMaxExposureCompensation(maxExposureCompensation);
+        pigeonReturn.setExposureCompensationStep(exposureCompensationStep);
+        pigeonReturn.setMinZoomRatio(minZoomRatio);
+        pigeonReturn.setMaxZoomRatio(maxZoomRatio);
+        pigeonReturn.setSupportedVideoQualities(supportedVideoQualities);
+        pigeonReturn.setSupportedVideoResolutions(supportedVideoResolutions);
+        return pigeonReturn;
+      }
+    }
+
+    @NonNull
+    ArrayList<Object> toList() {
+      ArrayList<Object> toListResult = new ArrayList<Object>(12);
+      toListResult.add(cameraInfoId);
+      toListResult.add(cameraId);
+      toListResult.add(lensFacing);
+      toListResult.add(sensorRotationDegrees);
+      toListResult.add(supportedHardwareLevel);
+      toListResult.add(minExposureCompensation);
+      toListResult.add(maxExposureCompensation);
+      toListResult.add(exposureCompensationStep);
+      toListResult.add(minZoomRatio);
+      toListResult.add(maxZoomRatio);
+      toListResult.add(supportedVideoQualities);
+      toListResult.add(supportedVideoResolutions);
+      return toListResult;
+    }
+
+    static @NonNull CameraCapabilities fromList(@NonNull ArrayList<Object> list) {
+      CameraCapabilities pigeonResult = new CameraCapabilities();
+      Object cameraInfoId = list.get(0);
+      pigeonResult.setCameraInfoId(
+          (cameraInfoId == null)
+              ? null
+              : ((cameraInfoId instanceof Integer) ? (Integer) cameraInfoId : (Long) cameraInfoId));
+      Object cameraId = list.get(1);
+      pigeonResult.setCameraId((String) cameraId);
+      Object lensFacing = list.get(2);
+      pigeonResult.setLensFacing(
+          (lensFacing == null)
+              ? null
+              : ((lensFacing instanceof Integer) ? (Integer) lensFacing : (Long) lensFacing));
+      Object sensorRotationDegrees = list.get(3);
+      pigeonResult.setSensorRotationDegrees(
+          (sensorRotationDegrees == null)
+              ? null
+              : ((sensorRotationDegrees instanceof Integer)
+                  ? (Integer) sensorRotationDegrees
+                  : (Long) sensorRotationDegrees));
+      Object supportedHardwareLevel = list.get(4);
+      pigeonResult.setSupportedHardwareLevel(
+          (supportedHardwareLevel == null)
+              ? null
+              : ((supportedHardwareLevel instanceof Integer)
+                  ? (Integer) supportedHardwareLevel
+                  : (Long) supportedHardwareLevel));
+      Object minExposureCompensation = list.get(5);
+      pigeonResult.setMinExposureCompensation(
+          (minExposureCompensation == null)
+              ? null
+              : ((minExposureCompensation instanceof Integer)
+                  ? (Integer) minExposureCompensation
+                  : (Long) minExposureCompensation));
+      Object maxExposureCompensation = list.get(6);
+      pigeonResult.setMaxExposureCompensation(
+          (maxExposureCompensation == null)
+              ? null
+              : ((maxExposureCompensation instanceof Integer)
+                  ? (Integer) maxExposureCompensation
+                  : (Long) maxExposureCompensation));
+      Object exposureCompensationStep = list.get(7);
+      pigeonResult.setExposureCompensationStep((Double) exposureCompensationStep);
+      Object minZoomRatio = list.get(8);
+      pigeonResult.setMinZoomRatio((Double) minZoomRatio);
+      Object maxZoomRatio = list.get(9);
+      pigeonResult.setMaxZoomRatio((Double) maxZoomRatio);
+      Object supportedVideoQualities = list.get(10);
+      pigeonResult.setSupportedVideoQualities((List<VideoQualityData>) supportedVideoQualities);
+      Object supportedVideoResolutions = list.get(11);
+      pigeonResult.setSupportedVideoResolutions((List<ResolutionInfo>) supportedVideoResolutions);
+      return pigeonResult;
+    }
+  }
+
+  /** Generated class from Pigeon that represents data sent in messages. */
+  public static final class CameraPrewarmTimings {
+    /** Milliseconds until the `ProcessCameraProvider` was available. */
+    private @NonNull Long providerMillis;
+
+    public @NonNull Long getProviderMillis() {
+      return providerMillis;
+    }
+
+    public void setProviderMillis(@NonNull Long setterArg) {
+      if (setterArg == null) {
+        throw new IllegalStateException("Nonnull field \"providerMillis\" is null.");
+      }
+      this.providerMillis = setterArg;
+    }
+
+    /** Milliseconds to bind preview, or null if preview was not pre-bound. */
+    private @Nullable Long previewBindMillis;
+
+    public @Nullable Long getPreviewBindMillis() {
+      return previewBindMillis;
+    }
+
+    public void setPreviewBindMillis(@Nullable Long setterArg) {
+      this.previewBindMillis = setterArg;
+    }
+
+    /** Constructor is non-public to enforce null safety; use Builder. */
+    CameraPrewarmTimings() {}
+
+    public static final class Builder {
+
+      private @Nullable Long providerMillis;
+
+      public @NonNull Builder setProviderMillis(@NonNull Long setterArg) {
+        this.providerMillis = setterArg;
+        return this;
+      }
+
+      private @Nullable Long previewBindMillis;
+
+      public @NonNull Builder setPreviewBindMillis(@Nullable Long setterArg) {
+        this.previewBindMillis = setterArg;
+        return this;
+      }
+
+      public @NonNull CameraPrewarmTimings build() {
+        CameraPrewarmTimings pigeonReturn = new CameraPrewarmTimings();
+        pigeonReturn.setProviderMillis(providerMillis);
+        pigeonReturn.setPreviewBindMillis(previewBindMillis);
+        return pigeonReturn;
+      }
+    }
+
+    @NonNull
+    ArrayList<Object> toList() {
+      ArrayList<Object> toListResult = new ArrayList<Object>(2);
+      toListResult.add(providerMillis);
+      toListResult.add(previewBindMillis);
+      return toListResult;
+    }
+
+    static @NonNull CameraPrewarmTimings fromList(@NonNull ArrayList<Object> list) {
+      CameraPrewarmTimings pigeonResult = new CameraPrewarmTimings();
+      Object providerMillis = list.get(0);
+      pigeonResult.setProviderMillis(
+          (providerMillis == null)
+              ? null
+              : ((providerMillis instanceof Integer)
+                  ? (Integer) providerMillis
+                  : (Long) providerMillis));
+      Object previewBindMillis = list.get(1);
+      pigeonResult.setPreviewBindMillis(
+          (previewBindMillis == null)
+              ? null
+              : ((previewBindMillis instanceof Integer)
+                  ? (Integer) previewBindMillis
+                  : (Long) previewBindMillis));
+      return pigeonResult;
+    }
+  }
+
+  /**
+   * Describes a `ResolutionSelector` to build in
+   * [UseCaseConfigurationHostApi.configure].
+   *
+   * <p>Generated class from Pigeon that represents data sent in messages.
+   */
+  public static final class ResolutionSelectorData {
+    /**
+     * The bound size of the `ResolutionStrategy`, or null to choose the highest
+     * available resolution.
+     */
+    private @Nullable ResolutionInfo boundSize;
+
+    public @Nullable ResolutionInfo getBoundSize() {
+      return boundSize;
+    }
+
+    public void setBoundSize(@Nullable ResolutionInfo setterArg) {
+      this.boundSize = setterArg;
+    }
+
+    /**
+     * The fallback rule of the `ResolutionStrategy`, one of the
+     * [ResolutionStrategy] fallback rule constants.
+     */
+    private @Nullable Long fallbackRule;
+
+    public @Nullable Long getFallbackRule() {
+      return fallbackRule;
+    }
+
+    public void setFallbackRule(@Nullable Long setterArg) {
+      this.fallbackRule = setterArg;
+    }
+
+    /** The preferred resolution of a `ResolutionFilter`, or null for no filter. */
+    private @Nullable ResolutionInfo preferredResolution;
+
+    public @Nullable ResolutionInfo getPreferredResolution() {
+      return preferredResolution;
+    }
+
+    public void setPreferredResolution(@Nullable ResolutionInfo setterArg) {
+      this.preferredResolution = setterArg;
+    }
+
+    /**
+     * The preferred aspect ratio of an `AspectRatioStrategy`, one of the
+     * [AspectRatio] constants, or null for no aspect ratio strategy.
+     */
+    private @Nullable Long preferredAspectRatio;
+
+    public @Nullable Long getPreferredAspectRatio() {
+      return preferredAspectRatio;
+    }
+
+    public void setPreferredAspectRatio(@Nullable Long setterArg) {
+      this.preferredAspectRatio = setterArg;
+    }
+
+    /** The fallback rule of the `AspectRatioStrategy`. */
+    private @Nullable Long aspectRatioFallbackRule;
+
+    public @Nullable Long getAspectRatioFallbackRule() {
+      return aspectRatioFallbackRule;
+    }
+
+    public void setAspectRatioFallbackRule(@Nullable Long setterArg) {
+      this.aspectRatioFallbackRule = setterArg;
+    }
+
+    /** Constructor is non-public to enforce null safety; use Builder. */
+    ResolutionSelectorData() {}
+
+    public static final class Builder {
+
+      private @Nullable ResolutionInfo boundSize;
+
+      public @NonNull Builder setBoundSize(@Nullable ResolutionInfo setterArg) {
+        this.boundSize = setterArg;
+        return this;
+      }
+
+      private @Nullable Long fallbackRule;
+
+      public @NonNull Builder setFallbackRule(@Nullable Long setterArg) {
+        this.fallbackRule = setterArg;
+        return this;
+      }
+
+      private @Nullable ResolutionInfo preferredResolution;
+
+      public @NonNull Builder setPreferredResolution(@Nullable ResolutionInfo setterArg) {
+        this.preferredResolution = setterArg;
+        return this;
+      }
+
+      private @Nullable Long preferredAspectRatio;
+
+      public @NonNull Builder setPreferredAspectRatio(@Nullable Long setterArg) {
+        this.preferredAspectRatio = setterArg;
+        return this;
+      }
+
+      private @Nullable Long aspectRatioFallbackRule;
+
+      public @NonNull Builder setAspectRatioFallbackRule(@Nullable Long setterArg) {
+        this.aspectRatioFallbackRule = setterArg;
+        return this;
+      }
+
+      public @NonNull ResolutionSelectorData build() {
+        ResolutionSelectorData pigeonReturn = new ResolutionSelectorData();
+        pigeonReturn.setBoundSize(boundSize);
+        pigeonReturn.setFallbackRule(fallbackRule);
+        pigeonReturn.setPreferredResolution(preferredResolution);
+        pigeonReturn.setPreferredAspectRatio(preferredAspectRatio);
+        pigeonReturn.setAspectRatioFallbackRule(aspectRatioFallbackRule);
+        return pigeonReturn;
+      }
+    }
+
+    @NonNull
+    ArrayList<Object> toList() {
+      ArrayList<Object> toListResult = new ArrayList<Object>(5);
+      toListResult.add((boundSize == null) ? null : boundSize.toList());
+      toListResult.add(fallbackRule);
+      toListResult.add((preferredResolution == null) ? null : preferredResolution.toList());
+      toListResult.add(preferredAspectRatio);
+      toListResult.add(aspectRatioFallbackRule);
+      return toListResult;
+    }
+
+    static @NonNull ResolutionSelectorData fromList(@NonNull ArrayList<Object> list) {
+      ResolutionSelectorData pigeonResult = new ResolutionSelectorData();
+      Object boundSize = list.get(0);
+      pigeonResult.setBoundSize(
+          (boundSize == null) ? null : ResolutionInfo.fromList((ArrayList<Object>) boundSize));
+      Object fallbackRule = list.get(1);
+      pigeonResult.setFallbackRule(
+          (fallbackRule == null)
+              ? null
+              : ((fallbackRule instanceof Integer) ? (Integer) fallbackRule : (Long) fallbackRule));
+      Object preferredResolution = list.get(2);
+      pigeonResult.setPreferredResolution(
+          (preferredResolution == null)
+              ? null
+              : ResolutionInfo.fromList((ArrayList<Object>) preferredResolution));
+      Object preferredAspectRatio = list.get(3);
+      pigeonResult.setPreferredAspectRatio(
+          (preferredAspectRatio == null)
+              ? null
+              : ((preferredAspectRatio instanceof Integer)
+                  ? (Integer) preferredAspectRatio
+                  : (Long) preferredAspectRatio));
+      Object aspectRatioFallbackRule = list.get(4);
+      pigeonResult.setAspectRatioFallbackRule(
+          (aspectRatioFallbackRule == null)
+              ? null
+              : ((aspectRatioFallbackRule instanceof Integer)
+                  ? (Integer) aspectRatioFallbackRule
+                  : (Long) aspectRatioFallbackRule));
+      return pigeonResult;
+    }
+  }
+
+  /**
+   * Describes a `QualitySelector` to build in
+   * [UseCaseConfigurationHostApi.configure].
+   *
+   * <p>Generated class from Pigeon that represents data sent in messages.
+   */
+  public static final class QualitySelectorData {
+    private @NonNull List<VideoQualityData> qualityList;
+
+    public @NonNull List<VideoQualityData> getQualityList() {
+      return qualityList;
+    }
+
+    public void setQualityList(@NonNull List<VideoQualityData> setterArg) {
+      if (setterArg == null) {
+        throw new IllegalStateException("Nonnull field \"qualityList\" is null.");
+      }
+      this.qualityList = setterArg;
+    }
+
+    /** The quality of the `FallbackStrategy`, or null for no fallback strategy. */
+    private @Nullable VideoQuality fallbackQuality;
+
+    public @Nullable VideoQuality getFallbackQuality() {
+      return fallbackQuality;
+    }
+
+    public void setFallbackQuality(@Nullable VideoQuality setterArg) {
+      this.fallbackQuality = setterArg;
+    }
+
+    private @Nullable VideoResolutionFallbackRule fallbackRule;
+
+    public @Nullable VideoResolutionFallbackRule getFallbackRule() {
+      return fallbackRule;
+    }
+
+    public void setFallbackRule(@Nullable VideoResolutionFallbackRule setterArg) {
+      this.fallbackRule = setterArg;
+    }
+
+    /** Constructor is non-public to enforce null safety; use Builder. */
+    QualitySelectorData() {}
+
+    public static final class Builder {
+
+      private @Nullable List<VideoQualityData> qualityList;
+
+      public @NonNull Builder setQualityList(@NonNull List<VideoQualityData> setterArg) {
+        this.qualityList = setterArg;
+        return this;
+      }
+
+      private @Nullable VideoQuality fallbackQuality;
+
+      public @NonNull Builder setFallbackQuality(@Nullable VideoQuality setterArg) {
+        this.fallbackQuality = setterArg;
+        return this;
+      }
+
+      private @Nullable VideoResolutionFallbackRule fallbackRule;
+
+      public @NonNull Builder setFallbackRule(@Nullable VideoResolutionFallbackRule setterArg) {
+        this.fallbackRule = setterArg;
+        return this;
+      }
+
+      public @NonNull QualitySelectorData build() {
+        QualitySelectorData pigeonReturn = new QualitySelectorData();
+        pigeonReturn.setQualityList(qualityList);
+        pigeonReturn.setFallbackQuality(fallbackQuality);
+        pigeonReturn.setFallbackRule(fallbackRule);
+        return pigeonReturn;
+      }
+    }
+
+    @NonNull
+    ArrayList<Object> toList() {
+      ArrayList<Object> toListResult = new ArrayList<Object>(3);
+      toListResult.add(qualityList);
+      toListResult.add(fallbackQuality == null ? null : fallbackQuality.index);
+      toListResult.add(fallbackRule == null ? null : fallbackRule.index);
+      return toListResult;
+    }
+
+    static @NonNull QualitySelectorData fromList(@NonNull ArrayList<Object> list) {
+      QualitySelectorData pigeonResult = new QualitySelectorData();
+      Object qualityList = list.get(0);
+      pigeonResult.setQualityList((List<VideoQualityData>) qualityList);
+      Object fallbackQuality = list.get(1);
+      pigeonResult.setFallbackQuality(
+          fallbackQuality == null ? null : VideoQuality.values()[(int) fallbackQuality]);
+      Object fallbackRule = list.get(2);
+      pigeonResult.setFallbackRule(
+          fallbackRule == null ? null : VideoResolutionFallbackRule.values()[(int) fallbackRule]);
+      return pigeonResult;
+    }
+  }
+
+  /**
+   * Describes the use cases of a camera to build in one
+   * [UseCaseConfigurationHostApi.configure] call.
+   *
+   * <p>Generated class from Pigeon that represents data sent in messages.
+   */
+  public static final class UseCaseConfigurationData {
+    /** InstanceManager IDs the built use cases are added with. */
+    private @NonNull Long previewIdentifier;
+
+    public @NonNull Long getPreviewIdentifier() {
+      return previewIdentifier;
+    }
+
+    public void setPreviewIdentifier(@NonNull Long setterArg) {
+      if (setterArg == null) {
+        throw new IllegalStateException("Nonnull field \"previewIdentifier\" is null.");
+      }
+      this.previewIdentifier = setterArg;
+    }
+
+    private @NonNull Long imageCaptureIdentifier;
+
+    public @NonNull Long getImageCaptureIdentifier() {
+      return imageCaptureIdentifier;
+    }
+
+    public void setImageCaptureIdentifier(@NonNull Long setterArg) {
+      if (setterArg == null) {
+        throw new IllegalStateException("Nonnull field \"imageCaptureIdentifier\" is null.");
+      }
+      this.imageCaptureIdentifier = setterArg;
+    }
+
+    private @NonNull Long imageAnalysisIdentifier;
+
+    public @NonNull Long getImageAnalysisIdentifier() {
+      return imageAnalysisIdentifier;
+    }
+
+    public void setImageAnalysisIdentifier(@NonNull Long setterArg) {
+      if (setterArg == null) {
+        throw new IllegalStateException("Nonnull field \"imageAnalysisIdentifier\" is null.");
+      }
+      this.imageAnalysisIdentifier = setterArg;
+    }
+
+    private @NonNull Long recorderIdentifier;
+
+    public @NonNull Long getRecorderIdentifier() {
+      return recorderIdentifier;
+    }
+
+    public void setRecorderIdentifier(@NonNull Long setterArg) {
+      if (setterArg == null) {
+        throw new IllegalStateException("Nonnull field \"recorderIdentifier\" is null.");
+      }
+      this.recorderIdentifier = setterArg;
+    }
+
+    /** The resolution selector of each use case, or null for the CameraX default. */
+    private @Nullable ResolutionSelectorData previewResolutionSelector;
+
+    public @Nullable ResolutionSelectorData getPreviewResolutionSelector() {
+      return previewResolutionSelector;
+    }
+
+    public void setPreviewResolutionSelector(@Nullable ResolutionSelectorData setterArg) {
+      this.previewResolutionSelector = setterArg;
+    }
+
+    private @Nullable ResolutionSelectorData imageCaptureResolutionSelector;
+
+    public @Nullable ResolutionSelectorData getImageCaptureResolutionSelector() {
+      return imageCaptureResolutionSelector;
+    }
+
+    public void setImageCaptureResolutionSelector(@Nullable ResolutionSelectorData setterArg) {
+      this.imageCaptureResolutionSelector = setterArg;
+    }
+
+    private @Nullable ResolutionSelectorData imageAnalysisResolutionSelector;
+
+    public @Nullable ResolutionSelectorData getImageAnalysisResolutionSelector() {
+      return imageAnalysisResolutionSelector;
+    }
+
+    public void setImageAnalysisResolutionSelector(@Nullable ResolutionSelectorData setterArg) {
+      this.imageAnalysisResolutionSelector = setterArg;
+    }
+
+    /** The quality selector of the recorder, or null for the CameraX default. */
+    private @Nullable QualitySelectorData recorderQualitySelector;
+
+    public @Nullable QualitySelectorData getRecorderQualitySelector() {
+      return recorderQualitySelector;
+    }
+
+    public void setRecorderQualitySelector(@Nullable QualitySelectorData setterArg) {
+      this.recorderQualitySelector = setterArg;
+    }
+
+    /** Constructor is non-public to enforce null safety; use Builder. */
+    UseCaseConfigurationData() {}
+
+    public static final class Builder {
+
+      private @Nullable Long previewIdentifier;
+
+      public @NonNull Builder setPreviewIdentifier(@NonNull Long setterArg) {
+        this.previewIdentifier = setterArg;
+        return this;
+      }
+
+      private @Nullable Long imageCaptureIdentifier;
+
+      public @NonNull Builder setImageCaptureIdentifier(@NonNull Long setterArg) {
+        this.imageCaptureIdentifier = setterArg;
+        return this;
+      }
+
+      private @Nullable Long imageAnalysisIdentifier;
+
+      public @NonNull Builder setImageAnalysisIdentifier(@NonNull Long setterArg) {
+        this.imageAnalysisIdentifier = setterArg;
+        return this;
+      }
+
+      private @Nullable Long recorderIdentifier;
+
+      public @NonNull Builder setRecorderIdentifier(@NonNull Long setterArg) {
+        this.recorderIdentifier = setterArg;
+        return this;
+      }
+
+      private @Nullable ResolutionSelectorData previewResolutionSelector;
+
+      public @NonNull Builder setPreviewResolutionSelector(
+          @Nullable ResolutionSelectorData setterArg) {
+        this.previewResolutionSelector = setterArg;
+        return this;
+      }
+
+      private @Nullable ResolutionSelectorData imageCaptureResolutionSelector;
+
+      public @NonNull Builder setImageCaptureResolutionSelector(
+          @Nullable ResolutionSelectorData setterArg) {
+        this.imageCaptureResolutionSelector = setterArg;
+        return this;
+      }
+
+      private @Nullable ResolutionSelectorData imageAnalysisResolutionSelector;
+
+      public @NonNull Builder setImageAnalysisResolutionSelector(
+          @Nullable ResolutionSelectorData setterArg) {
+        this.imageAnalysisResolutionSelector = setterArg;
+        return this;
+      }
+
+      private @Nullable QualitySelectorData recorderQualitySelector;
+
+      public @NonNull Builder setRecorderQualitySelector(@Nullable QualitySelectorData setterArg) {
+        this.recorderQualitySelector = setterArg;
+        return this;
+      }
+
+      public @NonNull UseCaseConfigurationData build() {
+        UseCaseConfigurationData pigeonReturn = new UseCaseConfigurationData();
+        pigeonReturn.setPreviewIdentifier(previewIdentifier);
+        pigeonReturn.setImageCaptureIdentifier(imageCaptureIdentifier);
+        pigeonReturn.setImageAnalysisIdentifier(imageAnalysisIdentifier);
+        pigeonReturn.setRecorderIdentifier(recorderIdentifier);
+        pigeonReturn.setPreviewResolutionSelector(previewResolutionSelector);
+        pigeonReturn.setImageCaptureResolutionSelector(imageCaptureResolutionSelector);
+        pigeonReturn.setImageAnalysisResolutionSelector(imageAnalysisResolutionSelector);
+        pigeonReturn.setRecorderQualitySelector(recorderQualitySelector);
+        return pigeonReturn;
+      }
+    }
+
+    @NonNull
+    ArrayList<Object> toList() {
+      ArrayList<Object> toListResult = new ArrayList<Object>(8);
+      toListResult.add(previewIdentifier);
+      toListResult.add(imageCaptureIdentifier);
+      toListResult.add(imageAnalysisIdentifier);
+      toListResult.add(recorderIdentifier);
+      toListResult.add(
+          (previewResolutionSelector == null) ? null : previewResolutionSelector.toList());
+      toListResult.add(
+          (imageCaptureResolutionSelector == null)
+              ? null
+              : imageCaptureResolutionSelector.toList());
+      toListResult.add(
+          (imageAnalysisResolutionSelector == null)
+              ? null
+              : imageAnalysisResolutionSelector.toList());
+      toListResult.add((recorderQualitySelector == null) ? null : recorderQualitySelector.toList());
+      return toListResult;
+    }
+
+    static @NonNull UseCaseConfigurationData fromList(@NonNull ArrayList<Object> list) {
+      UseCaseConfigurationData pigeonResult = new UseCaseConfigurationData();
+      Object previewIdentifier = list.get(0);
+      pigeonResult.setPreviewIdentifier(
+          (previewIdentifier == null)
+              ? null
+              : ((previewIdentifier instanceof Integer)
+                  ? (Integer) previewIdentifier
+                  : (Long) previewIdentifier));
+      Object imageCaptureIdentifier = list.get(1);
+      pigeonResult.setImageCaptureIdentifier(
+          (imageCaptureIdentifier == null)
+              ? null
+              : ((imageCaptureIdentifier instanceof Integer)
+                  ? (Integer) imageCaptureIdentifier
+                  : (Long) imageCaptureIdentifier));
+      Object imageAnalysisIdentifier = list.get(2);
+      pigeonResult.setImageAnalysisIdentifier(
+          (imageAnalysisIdentifier == null)
+              ? null
+              : ((imageAnalysisIdentifier instanceof Integer)
+                  ? (Integer) imageAnalysisIdentifier
+                  : (Long) imageAnalysisIdentifier));
+      Object recorderIdentifier = list.get(3);
+      pigeonResult.setRecorderIdentifier(
+          (recorderIdentifier == null)
+              ? null
+              : ((recorderIdentifier instanceof Integer)
+                  ? (Integer) recorderIdentifier
+                  : (Long) recorderIdentifier));
+      Object previewResolutionSelector = list.get(4);
+      pigeonResult.setPreviewResolutionSelector(
+          (previewResolutionSelector == null)
+              ? null
+              : ResolutionSelectorData.fromList((ArrayList<Object>) previewResolutionSelector));
+      Object imageCaptureResolutionSelector = list.get(5);
+      pigeonResult.setImageCaptureResolutionSelector(
+          (imageCaptureResolutionSelector == null)
+              ? null
+              : ResolutionSelectorData.fromList(
+                  (ArrayList<Object>) imageCaptureResolutionSelector));
+      Object imageAnalysisResolutionSelector = list.get(6);
+      pigeonResult.setImageAnalysisResolutionSelector(
+          (imageAnalysisResolutionSelector == null)
+              ? null
+              : ResolutionSelectorData.fromList(
+                  (ArrayList<Object>) imageAnalysisResolutionSelector));
+      Object recorderQualitySelector = list.get(7);
+      pigeonResult.setRecorderQualitySelector(
+          (recorderQualitySelector == null)
+              ? null
+              : QualitySelectorData.fromList((ArrayList<Object>) recorderQualitySelector));
+      return pigeonResult;
+    }
+  }
+
   public interface Result<T> {
     @SuppressWarnings("UnknownNullness")
     void success(T result);
@@ -1080,6 +2035,34 @@ public class GeneratedCameraXLibrary {
           channelReply -> callback.reply(null));
     }
   }
+
+  private static class ProcessCameraProviderHostApiCodec extends StandardMessageCodec {
+    public static final ProcessCameraProviderHostApiCodec INSTANCE =
+        new ProcessCameraProviderHostApiCodec();
+
+    private ProcessCameraProviderHostApiCodec() {}
+
+    @Override
+    protected Object readValueOfType(byte type, @NonNull ByteBuffer buffer) {
+      switch (type) {
+        case (byte) 128:
+          return CameraPrewarmTimings.fromList((ArrayList<Object>) readValue(buffer));
+        default:
+          return super.readValueOfType(type, buffer);
+      }
+    }
+
+    @Override
+    protected void writeValue(@NonNull ByteArrayOutputStream stream, Object value) {
+      if (value instanceof CameraPrewarmTimings) {
+        stream.write(128);
+        writeValue(stream, ((CameraPrewarmTimings) value).toList());
+      } else {
+        super.writeValue(stream, value);
+      }
+    }
+  }
+
   /** Generated interface from Pigeon that represents a handler of messages from Flutter. */
   public interface ProcessCameraProviderHostApi {
 
@@ -1101,9 +2084,12 @@ public class GeneratedCameraXLibrary {
 
     void unbindAll(@NonNull Long identifier);
 
+    void prewarm(
+        @Nullable Long cameraSelectorIdentifier, @NonNull Result<CameraPrewarmTimings> result);
+
     /** The codec used by ProcessCameraProviderHostApi. */
     static @NonNull MessageCodec<Object> getCodec() {
-      return new StandardMessageCodec();
+      return ProcessCameraProviderHostApiCodec.INSTANCE;
     }
     /**
      * Sets up an instance of `ProcessCameraProviderHostApi` to handle messages through the
@@ -1281,6 +2267,41 @@ public class GeneratedCameraXLibrary {
           channel.setMessageHandler(null);
         }
       }
+      {
+        BasicMessageChannel<Object> channel =
+            new BasicMessageChannel<>(
+                binaryMessenger,
+                "dev.flutter.pigeon.ProcessCameraProviderHostApi.prewarm",
+                getCodec());
+        if (api != null) {
+          channel.setMessageHandler(
+              (message, reply) -> {
+                ArrayList<Object> wrapped = new ArrayList<Object>();
+                ArrayList<Object> args = (ArrayList<Object>) message;
+                Number cameraSelectorIdentifierArg = (Number) args.get(0);
+                Result<CameraPrewarmTimings> resultCallback =
+                    new Result<CameraPrewarmTimings>() {
+                      public void success(CameraPrewarmTimings result) {
+                        wrapped.add(0, result);
+                        reply.reply(wrapped);
+                      }
+
+                      public void error(Throwable error) {
+                        ArrayList<Object> wrappedError = wrapError(error);
+                        reply.reply(wrappedError);
+                      }
+                    };
+
+                api.prewarm(
+                    (cameraSelectorIdentifierArg == null)
+                        ? null
+                        : cameraSelectorIdentifierArg.longValue(),
+                    resultCallback);
+              });
+        } else {
+          channel.setMessageHandler(null);
+        }
+      }
     }
   }
   /** Generated class from Pigeon that represents Flutter messages that can be called from Java. */
@@ -2457,6 +3478,9 @@ public class GeneratedCameraXLibrary {
 
     void setTargetRotation(@NonNull Long identifier, @NonNull Long rotation);
 
+    void takePictureToMemory(
+        @NonNull Long identifier, @Nullable Long maxDimension, @NonNull Result<byte[]> result);
+
     /** The codec used by ImageCaptureHostApi. */
     static @NonNull MessageCodec<Object> getCodec() {
       return new StandardMessageCodec();
@@ -2582,6 +3606,41 @@ public class GeneratedCameraXLibrary {
           channel.setMessageHandler(null);
         }
       }
+      {
+        BasicMessageChannel<Object> channel =
+            new BasicMessageChannel<>(
+                binaryMessenger,
+                "dev.flutter.pigeon.ImageCaptureHostApi.takePictureToMemory",
+                getCodec());
+        if (api != null) {
+          channel.setMessageHandler(
+              (message, reply) -> {
+                ArrayList<Object> wrapped = new ArrayList<Object>();
+                ArrayList<Object> args = (ArrayList<Object>) message;
+                Number identifierArg = (Number) args.get(0);
+                Number maxDimensionArg = (Number) args.get(1);
+                Result<byte[]> resultCallback =
+                    new Result<byte[]>() {
+                      public void success(byte[] result) {
+                        wrapped.add(0, result);
+                        reply.reply(wrapped);
+                      }
+
+                      public void error(Throwable error) {
+                        ArrayList<Object> wrappedError = wrapError(error);
+                        reply.reply(wrappedError);
+                      }
+                    };
+
+                api.takePictureToMemory(
+                    (identifierArg == null) ? null : identifierArg.longValue(),
+                    (maxDimensionArg == null) ? null : maxDimensionArg.longValue(),
+                    resultCallback);
+              });
+        } else {
+          channel.setMessageHandler(null);
+        }
+      }
     }
   }
 
@@ -4592,4 +5651,186 @@ public class GeneratedCameraXLibrary {
           channelReply -> callback.reply(null));
     }
   }
+
+  private static class CameraCapabilitiesHostApiCodec extends StandardMessageCodec {
+    public static final CameraCapabilitiesHostApiCodec INSTANCE =
+        new CameraCapabilitiesHostApiCodec();
+
+    private CameraCapabilitiesHostApiCodec() {}
+
+    @Override
+    protected Object readValueOfType(byte type, @NonNull ByteBuffer buffer) {
+      switch (type) {
+        case (byte) 128:
+          return CameraCapabilities.fromList((ArrayList<Object>) readValue(buffer));
+        case (byte) 129:
+          return ResolutionInfo.fromList((ArrayList<Object>) readValue(buffer));
+        case (byte) 130:
+          return VideoQualityData.fromList((ArrayList<Object>) readValue(buffer));
+        default:
+          return super.readValueOfType(type, buffer);
+      }
+    }
+
+    @Override
+    protected void writeValue(@NonNull ByteArrayOutputStream stream, Object value) {
+      if (value instanceof CameraCapabilities) {
+        stream.write(128);
+        writeValue(stream, ((CameraCapabilities) value).toList());
+      } else if (value instanceof ResolutionInfo) {
+        stream.write(129);
+        writeValue(stream, ((ResolutionInfo) value).toList());
+      } else if (value instanceof VideoQualityData) {
+        stream.write(130);
+        writeValue(stream, ((VideoQualityData) value).toList());
+      } else {
+        super.writeValue(stream, value);
+      }
+    }
+  }
+
+  /** Generated interface from Pigeon that represents a handler of messages from Flutter. */
+  public interface CameraCapabilitiesHostApi {
+
+    void getAvailableCameraCapabilities(
+        @NonNull Long processCameraProviderIdentifier,
+        @NonNull Result<List<CameraCapabilities>> result);
+
+    /** The codec used by CameraCapabilitiesHostApi. */
+    static @NonNull MessageCodec<Object> getCodec() {
+      return CameraCapabilitiesHostApiCodec.INSTANCE;
+    }
+    /**
+     * Sets up an instance of `CameraCapabilitiesHostApi` to handle messages through the
+     * `binaryMessenger`.
+     */
+    static void setup(
+        @NonNull BinaryMessenger binaryMessenger, @Nullable CameraCapabilitiesHostApi api) {
+      {
+        BasicMessageChannel<Object> channel =
+            new BasicMessageChannel<>(
+                binaryMessenger,
+                "dev.flutter.pigeon.CameraCapabilitiesHostApi.getAvailableCameraCapabilities",
+                getCodec());
+        if (api != null) {
+          channel.setMessageHandler(
+              (message, reply) -> {
+                ArrayList<Object> wrapped = new ArrayList<Object>();
+                ArrayList<Object> args = (ArrayList<Object>) message;
+                Number processCameraProviderIdentifierArg = (Number) args.get(0);
+                Result<List<CameraCapabilities>> resultCallback =
+                    new Result<List<CameraCapabilities>>() {
+                      public void success(List<CameraCapabilities> result) {
+                        wrapped.add(0, result);
+                        reply.reply(wrapped);
+                      }
+
+                      public void error(Throwable error) {
+                        ArrayList<Object> wrappedError = wrapError(error);
+                        reply.reply(wrappedError);
+                      }
+                    };
+
+                api.getAvailableCameraCapabilities(
+                    (processCameraProviderIdentifierArg == null)
+                        ? null
+                        : processCameraProviderIdentifierArg.longValue(),
+                    resultCallback);
+              });
+        } else {
+          channel.setMessageHandler(null);
+        }
+      }
+    }
+  }
+
+  private static class UseCaseConfigurationHostApiCodec extends StandardMessageCodec {
+    public static final UseCaseConfigurationHostApiCodec INSTANCE =
+        new UseCaseConfigurationHostApiCodec();
+
+    private UseCaseConfigurationHostApiCodec() {}
+
+    @Override
+    protected Object readValueOfType(byte type, @NonNull ByteBuffer buffer) {
+      switch (type) {
+        case (byte) 128:
+          return QualitySelectorData.fromList((ArrayList<Object>) readValue(buffer));
+        case (byte) 129:
+          return ResolutionInfo.fromList((ArrayList<Object>) readValue(buffer));
+        case (byte) 130:
+          return ResolutionSelectorData.fromList((ArrayList<Object>) readValue(buffer));
+        case (byte) 131:
+          return UseCaseConfigurationData.fromList((ArrayList<Object>) readValue(buffer));
+        case (byte) 132:
+          return VideoQualityData.fromList((ArrayList<Object>) readValue(buffer));
+        default:
+          return super.readValueOfType(type, buffer);
+      }
+    }
+
+    @Override
+    protected void writeValue(@NonNull ByteArrayOutputStream stream, Object value) {
+      if (value instanceof QualitySelectorData) {
+        stream.write(128);
+        writeValue(stream, ((QualitySelectorData) value).toList());
+      } else if (value instanceof ResolutionInfo) {
+        stream.write(129);
+        writeValue(stream, ((ResolutionInfo) value).toList());
+      } else if (value instanceof ResolutionSelectorData) {
+        stream.write(130);
+        writeValue(stream, ((ResolutionSelectorData) value).toList());
+      } else if (value instanceof UseCaseConfigurationData) {
+        stream.write(131);
+        writeValue(stream, ((UseCaseConfigurationData) value).toList());
+      } else if (value instanceof VideoQualityData) {
+        stream.write(132);
+        writeValue(stream, ((VideoQualityData) value).toList());
+      } else {
+        super.writeValue(stream, value);
+      }
+    }
+  }
+
+  /** Generated interface from Pigeon that represents a handler of messages from Flutter. */
+  public interface UseCaseConfigurationHostApi {
+
+    void configure(@NonNull UseCaseConfigurationData configuration);
+
+    /** The codec used by UseCaseConfigurationHostApi. */
+    static @NonNull MessageCodec<Object> getCodec() {
+      return UseCaseConfigurationHostApiCodec.INSTANCE;
+    }
+    /**
+     * Sets up an instance of `UseCaseConfigurationHostApi` to handle messages through the
+     * `binaryMessenger`.
+     */
+    static void setup(
+        @NonNull BinaryMessenger binaryMessenger, @Nullable UseCaseConfigurationHostApi api) {
+      {
+        BasicMessageChannel<Object> channel =
+            new BasicMessageChannel<>(
+                binaryMessenger,
+                "dev.flutter.pigeon.UseCaseConfigurationHostApi.configure",
+                getCodec());
+        if (api != null) {
+          channel.setMessageHandler(
+              (message, reply) -> {
+                ArrayList<Object> wrapped = new ArrayList<Object>();
+                ArrayList<Object> args = (ArrayList<Object>) message;
+                UseCaseConfigurationData configurationArg = (UseCaseConfigurationData) args.get(0);
+                try {
+                  api.configure(configurationArg);
+                  wrapped.add(0, null);
+                } catch (Throwable exception) {
+                  ArrayList<Object> wrappedError = wrapError(exception);
+                  wrapped = wrappedError;
+                }
+                reply.reply(wrapped);
+              });
+        } else {
+          channel.setMessageHandler(null);
+        }
+      }
+    }
+  }
 }
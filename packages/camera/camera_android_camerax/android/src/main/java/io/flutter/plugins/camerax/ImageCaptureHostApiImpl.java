@@ -5,18 +5,24 @@
 package io.flutter.plugins.camerax;
 
 import android.content.Context;
+import android.graphics.Bitmap;
+import android.graphics.BitmapFactory;
+import android.graphics.ImageFormat;
+import android.graphics.Matrix;
 import androidx.annotation.NonNull;
 import androidx.annotation.Nullable;
 import androidx.annotation.VisibleForTesting;
 import androidx.camera.core.ImageCapture;
 import androidx.camera.core.ImageCaptureException;
+import androidx.camera.core.ImageProxy;
 import androidx.camera.core.resolutionselector.ResolutionSelector;
 import io.flutter.plugin.common.BinaryMessenger;
 import io.flutter.plugins.camerax.GeneratedCameraXLibrary.ImageCaptureHostApi;
+import java.io.ByteArrayOutputStream;
 import java.io.File;
 import java.io.IOException;
+import java.nio.ByteBuffer;
 import java.util.Objects;
-import java.util.concurrent.Executors;
 
 public class ImageCaptureHostApiImpl implements ImageCaptureHostApi {
   private final BinaryMessenger binaryMessenger;
@@ -28,6 +34,9 @@ public class ImageCaptureHostApiImpl implements ImageCaptureHostApi {
   public static final String TEMPORARY_FILE_NAME = "CAP";
   public static final String JPG_FILE_TYPE = ".jpg";
 
+  /** Quality used to encode a JPEG captured in memory again after it has been downscaled. */
+  @VisibleForTesting public static final int DOWNSCALED_JPEG_QUALITY = 95;
+
   @VisibleForTesting public @NonNull CameraXProxy cameraXProxy = new CameraXProxy();
 
   public ImageCaptureHostApiImpl(
@@ -107,7 +116,7 @@ public class ImageCaptureHostApiImpl implements ImageCaptureHostApi {
         createOnImageSavedCallback(temporaryCaptureFile, result);
 
     imageCapture.takePicture(
-        outputFileOptions, Executors.newSingleThreadExecutor(), onImageSavedCallback);
+        outputFileOptions, CameraXExecutors.getCaptureIoExecutor(), onImageSavedCallback);
   }
 
   /** Creates a callback used when saving a captured image. */
@@ -127,6 +136,130 @@ public class ImageCaptureHostApiImpl implements ImageCaptureHostApi {
     };
   }
 
+  /**
+   * Captures a still image and returns its encoded JPEG bytes without writing them to a file.
+   *
+   * <p>If {@code maxDimension} is specified, the image is downscaled so that its width and height
+   * are at most {@code maxDimension}, rotated upright, and encoded again. Otherwise, the bytes are
+   * returned as captured, with their orientation in their Exif data.
+   */
+  @Override
+  public void takePictureToMemory(
+      @NonNull Long identifier,
+      @Nullable Long maxDimension,
+      @NonNull GeneratedCameraXLibrary.Result<byte[]> result) {
+    if (maxDimension != null && maxDimension <= 0) {
+      result.error(
+          new IllegalArgumentException(
+              "maxDimension must be positive but was " + maxDimension + "."));
+      return;
+    }
+    ImageCapture imageCapture = getImageCaptureInstance(identifier);
+    imageCapture.takePicture(
+        CameraXExecutors.getCaptureIoExecutor(),
+        createOnImageCapturedCallback(maxDimension, result));
+  }
+
+  /** Creates a callback used when capturing an image in memory. */
+  @VisibleForTesting
+  public @NonNull ImageCapture.OnImageCapturedCallback createOnImageCapturedCallback(
+      @Nullable Long maxDimension, @NonNull GeneratedCameraXLibrary.Result<byte[]> result) {
+    return new ImageCapture.OnImageCapturedCallback() {
+      @Override
+      public void onCaptureSuccess(@NonNull ImageProxy image) {
+        final byte[] jpegBytes;
+        final int rotationDegrees;
+        try {
+          if (image.getFormat() != ImageFormat.JPEG) {
+            result.error(
+                new IllegalStateException(
+                    "Expected a JPEG image but the image format was " + image.getFormat() + "."));
+            return;
+          }
+          final ByteBuffer buffer = image.getPlanes()[0].getBuffer();
+          jpegBytes = new byte[buffer.remaining()];
+          buffer.get(jpegBytes);
+          rotationDegrees = image.getImageInfo().getRotationDegrees();
+        } finally {
+          // Release the image before any decoding so that CameraX can reuse its buffer.
+          image.close();
+        }
+
+        if (maxDimension == null) {
+          result.success(jpegBytes);
+          return;
+        }
+        final byte[] downscaledBytes;
+        try {
+          downscaledBytes = downscaleJpeg(jpegBytes, maxDimension.intValue(), rotationDegrees);
+        } catch (RuntimeException | OutOfMemoryError e) {
+          // Reply with the error, since nothing else would reply from the capture executor.
+          result.error(e);
+          return;
+        }
+        result.success(downscaledBytes);
+      }
+
+      @Override
+      public void onError(@NonNull ImageCaptureException exception) {
+        result.error(exception);
+      }
+    };
+  }
+
+  /**
+   * Downscales the JPEG {@code jpegBytes} so that neither side exceeds {@code maxDimension} and
+   * rotates it upright by {@code rotationDegrees}.
+   *
+   * <p>Returns {@code jpegBytes} unchanged if the image already fits and needs no rotation, or if
+   * it cannot be decoded.
+   */
+  @VisibleForTesting
+  @NonNull
+  static byte[] downscaleJpeg(@NonNull byte[] jpegBytes, int maxDimension, int rotationDegrees) {
+    final BitmapFactory.Options boundsOptions = new BitmapFactory.Options();
+    boundsOptions.inJustDecodeBounds = true;
+    BitmapFactory.decodeByteArray(jpegBytes, 0, jpegBytes.length, boundsOptions);
+    final int width = boundsOptions.outWidth;
+    final int height = boundsOptions.outHeight;
+    if (width <= 0 || height <= 0) {
+      return jpegBytes;
+    }
+    final int longestSide = Math.max(width, height);
+    if (longestSide <= maxDimension && rotationDegrees == 0) {
+      return jpegBytes;
+    }
+
+    // Decode at the largest power of two subsampling that keeps the image at least as large as
+    // requested, then scale the rest of the way.
+    final BitmapFactory.Options decodeOptions = new BitmapFactory.Options();
+    decodeOptions.inSampleSize = 1;
+    while (longestSide / (decodeOptions.inSampleSize * 2) >= maxDimension) {
+      decodeOptions.inSampleSize *= 2;
+    }
+    final Bitmap decoded =
+        BitmapFactory.decodeByteArray(jpegBytes, 0, jpegBytes.length, decodeOptions);
+    if (decoded == null) {
+      return jpegBytes;
+    }
+
+    final float scale =
+        Math.min(1f, (float) maxDimension / Math.max(decoded.getWidth(), decoded.getHeight()));
+    final Matrix matrix = new Matrix();
+    matrix.postScale(scale, scale);
+    matrix.postRotate(rotationDegrees);
+    final Bitmap transformed =
+        Bitmap.createBitmap(decoded, 0, 0, decoded.getWidth(), decoded.getHeight(), matrix, true);
+
+    final ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+    transformed.compress(Bitmap.CompressFormat.JPEG, DOWNSCALED_JPEG_QUALITY, outputStream);
+    if (transformed != decoded) {
+      transformed.recycle();
+    }
+    decoded.recycle();
+    return outputStream.toByteArray();
+  }
+
   /** Dynamically sets the target rotation of the {@link ImageCapture}. */
   @Override
   public void setTargetRotation(@NonNull Long identifier, @NonNull Long rotation) {
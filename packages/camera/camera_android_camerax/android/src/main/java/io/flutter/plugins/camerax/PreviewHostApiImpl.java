@@ -16,7 +16,6 @@ import io.flutter.plugin.common.BinaryMessenger;
 import io.flutter.plugins.camerax.GeneratedCameraXLibrary.PreviewHostApi;
 import io.flutter.view.TextureRegistry;
 import java.util.Objects;
-import java.util.concurrent.Executors;
 
 public class PreviewHostApiImpl implements PreviewHostApi {
   final BinaryMessenger binaryMessenger;
@@ -105,7 +104,7 @@ public class PreviewHostApiImpl implements PreviewHostApi {
         Surface flutterSurface = surfaceProducer.getSurface();
         request.provideSurface(
             flutterSurface,
-            Executors.newSingleThreadExecutor(),
+            CameraXExecutors.getSurfaceCallbacksExecutor(),
             (result) -> {
               // See
               // https://developer.android.com/reference/androidx/camera/core/SurfaceRequest.Result
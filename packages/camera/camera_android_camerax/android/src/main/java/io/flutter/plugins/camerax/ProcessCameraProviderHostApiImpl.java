@@ -5,17 +5,21 @@
 package io.flutter.plugins.camerax;
 
 import android.content.Context;
+import android.os.SystemClock;
 import androidx.annotation.NonNull;
 import androidx.annotation.Nullable;
+import androidx.annotation.VisibleForTesting;
 import androidx.camera.core.Camera;
 import androidx.camera.core.CameraInfo;
 import androidx.camera.core.CameraSelector;
+import androidx.camera.core.Preview;
 import androidx.camera.core.UseCase;
 import androidx.camera.lifecycle.ProcessCameraProvider;
 import androidx.core.content.ContextCompat;
 import androidx.lifecycle.LifecycleOwner;
 import com.google.common.util.concurrent.ListenableFuture;
 import io.flutter.plugin.common.BinaryMessenger;
+import io.flutter.plugins.camerax.GeneratedCameraXLibrary.CameraPrewarmTimings;
 import io.flutter.plugins.camerax.GeneratedCameraXLibrary.ProcessCameraProviderHostApi;
 import java.util.ArrayList;
 import java.util.List;
@@ -28,6 +32,11 @@ public class ProcessCameraProviderHostApiImpl implements ProcessCameraProviderHo
   @Nullable private Context context;
   @Nullable private LifecycleOwner lifecycleOwner;
 
+  /** The {@link Preview} bound by {@link #prewarm} that has not been replaced yet. */
+  @VisibleForTesting @Nullable Preview prewarmPreview;
+
+  @VisibleForTesting public @NonNull CameraXProxy cameraXProxy = new CameraXProxy();
+
   public ProcessCameraProviderHostApiImpl(
       @NonNull BinaryMessenger binaryMessenger,
       @NonNull InstanceManager instanceManager,
@@ -84,6 +93,77 @@ public class ProcessCameraProviderHostApiImpl implements ProcessCameraProviderHo
         ContextCompat.getMainExecutor(context));
   }
 
+  /**
+   * Starts initializing the {@code ProcessCameraProvider} without waiting for it, so it is ready by
+   * the time it is first requested.
+   */
+  public void prewarmProvider() {
+    if (context != null) {
+      ProcessCameraProvider.getInstance(context);
+    }
+  }
+
+  /**
+   * Initializes the {@code ProcessCameraProvider} and, if a {@code CameraSelector} is specified,
+   * binds a {@code Preview} of the selected camera so the camera is opened ahead of the first
+   * {@link #bindToLifecycle} call, which replaces that {@code Preview}.
+   *
+   * <p>Returns how long each step took.
+   */
+  @Override
+  public void prewarm(
+      @Nullable Long cameraSelectorIdentifier,
+      @NonNull GeneratedCameraXLibrary.Result<CameraPrewarmTimings> result) {
+    if (context == null) {
+      throw new IllegalStateException("Context must be set to prewarm ProcessCameraProvider.");
+    }
+
+    final long startMillis = SystemClock.elapsedRealtime();
+    final ListenableFuture<ProcessCameraProvider> processCameraProviderFuture =
+        ProcessCameraProvider.getInstance(context);
+
+    processCameraProviderFuture.addListener(
+        () -> {
+          try {
+            final ProcessCameraProvider processCameraProvider = processCameraProviderFuture.get();
+            final CameraPrewarmTimings.Builder timings =
+                new CameraPrewarmTimings.Builder()
+                    .setProviderMillis(SystemClock.elapsedRealtime() - startMillis);
+
+            if (cameraSelectorIdentifier != null) {
+              final long bindStartMillis = SystemClock.elapsedRealtime();
+              prebindPreview(
+                  processCameraProvider,
+                  Objects.requireNonNull(instanceManager.getInstance(cameraSelectorIdentifier)));
+              timings.setPreviewBindMillis(SystemClock.elapsedRealtime() - bindStartMillis);
+            }
+            result.success(timings.build());
+          } catch (Exception e) {
+            result.error(e);
+          }
+        },
+        ContextCompat.getMainExecutor(context));
+  }
+
+  private void prebindPreview(
+      @NonNull ProcessCameraProvider processCameraProvider,
+      @NonNull CameraSelector cameraSelector) {
+    if (lifecycleOwner == null) {
+      throw new IllegalStateException("LifecycleOwner must be set to prewarm the camera.");
+    }
+    releasePrewarmPreview(processCameraProvider);
+    // Without a surface provider, the camera is opened but no frames are produced.
+    prewarmPreview = cameraXProxy.createPreviewBuilder().build();
+    processCameraProvider.bindToLifecycle(lifecycleOwner, cameraSelector, prewarmPreview);
+  }
+
+  private void releasePrewarmPreview(@NonNull ProcessCameraProvider processCameraProvider) {
+    if (prewarmPreview != null) {
+      processCameraProvider.unbind(prewarmPreview);
+      prewarmPreview = null;
+    }
+  }
+
   /** Returns cameras available to the {@code ProcessCameraProvider}. */
   @NonNull
   @Override
@@ -133,7 +213,21 @@ public class ProcessCameraProviderHostApiImpl implements ProcessCameraProviderHo
                   instanceManager.getInstance(((Number) useCaseIds.get(i)).longValue()));
     }
 
-    Camera camera = processCameraProvider.bindToLifecycle(lifecycleOwner, cameraSelector, useCases);
+    Camera camera;
+    if (prewarmPreview == null) {
+      camera = processCameraProvider.bindToLifecycle(lifecycleOwner, cameraSelector, useCases);
+    } else {
+      // Bind the use cases before unbinding the prewarm Preview, so its camera stays open.
+      try {
+        camera = processCameraProvider.bindToLifecycle(lifecycleOwner, cameraSelector, useCases);
+      } catch (IllegalArgumentException e) {
+        // The prewarm Preview belongs to another camera, or the camera cannot stream it alongside
+        // the use cases.
+        releasePrewarmPreview(processCameraProvider);
+        camera = processCameraProvider.bindToLifecycle(lifecycleOwner, cameraSelector, useCases);
+      }
+      releasePrewarmPreview(processCameraProvider);
+    }
 
     final CameraFlutterApiImpl cameraFlutterApi =
         new CameraFlutterApiImpl(binaryMessenger, instanceManager);
@@ -172,5 +266,6 @@ public class ProcessCameraProviderHostApiImpl implements ProcessCameraProviderHo
     ProcessCameraProvider processCameraProvider =
         (ProcessCameraProvider) Objects.requireNonNull(instanceManager.getInstance(identifier));
     processCameraProvider.unbindAll();
+    prewarmPreview = null;
   }
 }
@@ -138,4 +138,25 @@ public class QualitySelectorHostApiImpl implements QualitySelectorHostApi {
     throw new IllegalArgumentException(
         "VideoQuality " + videoQuality + " is unhandled by QualitySelectorHostApiImpl.");
   }
+
+  /**
+   * Converts the specified {@link Quality} to a {@link VideoQuality}, or returns null if it has no
+   * corresponding {@link VideoQuality}.
+   */
+  public static @Nullable VideoQuality getVideoQualityFromQuality(@NonNull Quality quality) {
+    if (quality == Quality.SD) {
+      return VideoQuality.SD;
+    } else if (quality == Quality.HD) {
+      return VideoQuality.HD;
+    } else if (quality == Quality.FHD) {
+      return VideoQuality.FHD;
+    } else if (quality == Quality.UHD) {
+      return VideoQuality.UHD;
+    } else if (quality == Quality.LOWEST) {
+      return VideoQuality.LOWEST;
+    } else if (quality == Quality.HIGHEST) {
+      return VideoQuality.HIGHEST;
+    }
+    return null;
+  }
 }
@@ -18,7 +18,6 @@ import io.flutter.plugin.common.BinaryMessenger;
 import io.flutter.plugins.camerax.GeneratedCameraXLibrary.RecorderHostApi;
 import java.io.File;
 import java.util.Objects;
-import java.util.concurrent.Executor;
 
 public class RecorderHostApiImpl implements RecorderHostApi {
   private final BinaryMessenger binaryMessenger;
@@ -46,10 +45,6 @@ public class RecorderHostApiImpl implements RecorderHostApi {
       @Nullable Long aspectRatio,
       @Nullable Long bitRate,
       @Nullable Long qualitySelector) {
-    if (context == null) {
-      throw new IllegalStateException("Context must be set to create Recorder instance.");
-    }
-
     Recorder.Builder recorderBuilder = cameraXProxy.createRecorderBuilder();
     if (aspectRatio != null) {
       recorderBuilder.setAspectRatio(aspectRatio.intValue());
@@ -61,11 +56,12 @@ public class RecorderHostApiImpl implements RecorderHostApi {
       recorderBuilder.setQualitySelector(
           Objects.requireNonNull(instanceManager.getInstance(qualitySelector)));
     }
-    Recorder recorder = recorderBuilder.setExecutor(ContextCompat.getMainExecutor(context)).build();
+    Recorder recorder =
+        recorderBuilder.setExecutor(CameraXExecutors.getRecorderEventsExecutor()).build();
     instanceManager.addDartCreatedInstance(recorder, instanceId);
   }
 
-  /** Sets the context, which is used to get the {@link Executor} passed to the Recorder builder. */
+  /** Sets the context, which is used to prepare recordings. */
   public void setContext(@Nullable Context context) {
     this.context = context;
   }
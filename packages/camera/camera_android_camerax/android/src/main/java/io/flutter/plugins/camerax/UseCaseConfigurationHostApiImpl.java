@@ -0,0 +1,156 @@
+// Copyright 2013 The Flutter Authors. All rights reserved.
+// Use of this source code is governed by a BSD-style license that can be
+// found in the LICENSE file.
+
+package io.flutter.plugins.camerax;
+
+import androidx.annotation.NonNull;
+import androidx.annotation.Nullable;
+import androidx.annotation.VisibleForTesting;
+import androidx.camera.core.ImageAnalysis;
+import androidx.camera.core.ImageCapture;
+import androidx.camera.core.Preview;
+import androidx.camera.core.resolutionselector.AspectRatioStrategy;
+import androidx.camera.core.resolutionselector.ResolutionFilter;
+import androidx.camera.core.resolutionselector.ResolutionSelector;
+import androidx.camera.core.resolutionselector.ResolutionStrategy;
+import androidx.camera.video.FallbackStrategy;
+import androidx.camera.video.QualitySelector;
+import androidx.camera.video.Recorder;
+import io.flutter.plugins.camerax.GeneratedCameraXLibrary.QualitySelectorData;
+import io.flutter.plugins.camerax.GeneratedCameraXLibrary.ResolutionSelectorData;
+import io.flutter.plugins.camerax.GeneratedCameraXLibrary.UseCaseConfigurationData;
+import io.flutter.plugins.camerax.GeneratedCameraXLibrary.UseCaseConfigurationHostApi;
+
+/**
+ * Host API implementation that builds the {@link Preview}, {@link ImageCapture}, {@link
+ * ImageAnalysis}, and {@link Recorder} of a camera in one call.
+ *
+ * <p>The selectors of the use cases are built here from their description and are not added to the
+ * {@link InstanceManager}; only the use cases are.
+ */
+public class UseCaseConfigurationHostApiImpl implements UseCaseConfigurationHostApi {
+  private final InstanceManager instanceManager;
+
+  @NonNull @VisibleForTesting public CameraXProxy cameraXProxy = new CameraXProxy();
+
+  @NonNull @VisibleForTesting
+  public ResolutionStrategyHostApiImpl.ResolutionStrategyProxy resolutionStrategyProxy =
+      new ResolutionStrategyHostApiImpl.ResolutionStrategyProxy();
+
+  @NonNull @VisibleForTesting
+  public ResolutionFilterHostApiImpl.ResolutionFilterFactory resolutionFilterFactory =
+      new ResolutionFilterHostApiImpl.ResolutionFilterFactory();
+
+  @NonNull @VisibleForTesting
+  public AspectRatioStrategyHostApiImpl.AspectRatioStrategyProxy aspectRatioStrategyProxy =
+      new AspectRatioStrategyHostApiImpl.AspectRatioStrategyProxy();
+
+  @NonNull @VisibleForTesting
+  public ResolutionSelectorHostApiImpl.ResolutionSelectorProxy resolutionSelectorProxy =
+      new ResolutionSelectorHostApiImpl.ResolutionSelectorProxy();
+
+  @NonNull @VisibleForTesting
+  public FallbackStrategyHostApiImpl.FallbackStrategyProxy fallbackStrategyProxy =
+      new FallbackStrategyHostApiImpl.FallbackStrategyProxy();
+
+  @NonNull @VisibleForTesting
+  public QualitySelectorHostApiImpl.QualitySelectorProxy qualitySelectorProxy =
+      new QualitySelectorHostApiImpl.QualitySelectorProxy();
+
+  /**
+   * Constructs a {@link UseCaseConfigurationHostApiImpl}.
+   *
+   * @param instanceManager maintains instances stored to communicate with attached Dart objects
+   */
+  public UseCaseConfigurationHostApiImpl(@NonNull InstanceManager instanceManager) {
+    this.instanceManager = instanceManager;
+  }
+
+  /**
+   * Builds the use cases described by {@code configuration} and adds them to the {@link
+   * InstanceManager} with the identifiers specified.
+   */
+  @Override
+  public void configure(@NonNull UseCaseConfigurationData configuration) {
+    final Preview.Builder previewBuilder = cameraXProxy.createPreviewBuilder();
+    final ResolutionSelector previewResolutionSelector =
+        createResolutionSelector(configuration.getPreviewResolutionSelector());
+    if (previewResolutionSelector != null) {
+      previewBuilder.setResolutionSelector(previewResolutionSelector);
+    }
+
+    final ImageCapture.Builder imageCaptureBuilder = cameraXProxy.createImageCaptureBuilder();
+    final ResolutionSelector imageCaptureResolutionSelector =
+        createResolutionSelector(configuration.getImageCaptureResolutionSelector());
+    if (imageCaptureResolutionSelector != null) {
+      imageCaptureBuilder.setResolutionSelector(imageCaptureResolutionSelector);
+    }
+
+    final ImageAnalysis.Builder imageAnalysisBuilder = cameraXProxy.createImageAnalysisBuilder();
+    final ResolutionSelector imageAnalysisResolutionSelector =
+        createResolutionSelector(configuration.getImageAnalysisResolutionSelector());
+    if (imageAnalysisResolutionSelector != null) {
+      imageAnalysisBuilder.setResolutionSelector(imageAnalysisResolutionSelector);
+    }
+
+    final Recorder.Builder recorderBuilder = cameraXProxy.createRecorderBuilder();
+    final QualitySelector recorderQualitySelector =
+        createQualitySelector(configuration.getRecorderQualitySelector());
+    if (recorderQualitySelector != null) {
+      recorderBuilder.setQualitySelector(recorderQualitySelector);
+    }
+
+    instanceManager.addDartCreatedInstance(
+        previewBuilder.build(), configuration.getPreviewIdentifier());
+    instanceManager.addDartCreatedInstance(
+        imageCaptureBuilder.build(), configuration.getImageCaptureIdentifier());
+    instanceManager.addDartCreatedInstance(
+        imageAnalysisBuilder.build(), configuration.getImageAnalysisIdentifier());
+    instanceManager.addDartCreatedInstance(
+        recorderBuilder.setExecutor(CameraXExecutors.getRecorderEventsExecutor()).build(),
+        configuration.getRecorderIdentifier());
+  }
+
+  @Nullable
+  private ResolutionSelector createResolutionSelector(@Nullable ResolutionSelectorData data) {
+    if (data == null) {
+      return null;
+    }
+
+    final ResolutionStrategy resolutionStrategy;
+    if (data.getBoundSize() == null) {
+      // Without a bound size, the strategy chooses the highest available resolution.
+      resolutionStrategy = ResolutionStrategy.HIGHEST_AVAILABLE_STRATEGY;
+    } else {
+      resolutionStrategy =
+          resolutionStrategyProxy.create(
+              CameraXProxy.sizeFromResolution(data.getBoundSize()), data.getFallbackRule());
+    }
+    final ResolutionFilter resolutionFilter =
+        data.getPreferredResolution() == null
+            ? null
+            : resolutionFilterFactory.createWithOnePreferredSize(
+                CameraXProxy.sizeFromResolution(data.getPreferredResolution()));
+    final AspectRatioStrategy aspectRatioStrategy =
+        data.getPreferredAspectRatio() == null
+            ? null
+            : aspectRatioStrategyProxy.create(
+                data.getPreferredAspectRatio(), data.getAspectRatioFallbackRule());
+    return resolutionSelectorProxy.create(
+        resolutionStrategy, aspectRatioStrategy, resolutionFilter);
+  }
+
+  @Nullable
+  private QualitySelector createQualitySelector(@Nullable QualitySelectorData data) {
+    if (data == null) {
+      return null;
+    }
+
+    final FallbackStrategy fallbackStrategy =
+        data.getFallbackQuality() == null || data.getFallbackRule() == null
+            ? null
+            : fallbackStrategyProxy.create(data.getFallbackQuality(), data.getFallbackRule());
+    return qualitySelectorProxy.create(data.getQualityList(), fallbackStrategy);
+  }
+}
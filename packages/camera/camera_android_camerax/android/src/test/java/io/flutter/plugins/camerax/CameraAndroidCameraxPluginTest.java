@@ -56,6 +56,7 @@ public class CameraAndroidCameraxPluginTest {
 
     verify(mockProcessCameraProviderHostApiImpl).setLifecycleOwner(any(LifecycleOwner.class));
     verify(mockLiveDataHostApiImpl).setLifecycleOwner(any(LifecycleOwner.class));
+    verify(mockProcessCameraProviderHostApiImpl).prewarmProvider();
   }
 
   @Test
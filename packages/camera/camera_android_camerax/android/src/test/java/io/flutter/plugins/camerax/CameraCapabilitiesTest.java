@@ -0,0 +1,141 @@
+// Copyright 2013 The Flutter Authors. All rights reserved.
+// Use of this source code is governed by a BSD-style license that can be
+// found in the LICENSE file.
+
+package io.flutter.plugins.camerax;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotSame;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import androidx.camera.core.CameraInfo;
+import androidx.camera.lifecycle.ProcessCameraProvider;
+import io.flutter.plugin.common.BinaryMessenger;
+import io.flutter.plugins.camerax.GeneratedCameraXLibrary.CameraCapabilities;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.MockitoJUnit;
+import org.mockito.junit.MockitoRule;
+import org.robolectric.RobolectricTestRunner;
+
+@RunWith(RobolectricTestRunner.class)
+public class CameraCapabilitiesTest {
+  @Rule public MockitoRule mockitoRule = MockitoJUnit.rule();
+
+  @Mock public BinaryMessenger mockBinaryMessenger;
+  @Mock public ProcessCameraProvider mockProcessCameraProvider;
+  @Mock public CameraCapabilitiesHostApiImpl.CameraCapabilitiesProxy mockProxy;
+
+  InstanceManager testInstanceManager;
+
+  @Before
+  public void setUp() {
+    testInstanceManager = InstanceManager.create(identifier -> {});
+  }
+
+  @After
+  public void tearDown() {
+    testInstanceManager.stopFinalizationListener();
+  }
+
+  private CameraCapabilities createCapabilities(String cameraId) {
+    return new CameraCapabilities.Builder()
+        .setCameraInfoId(0L)
+        .setCameraId(cameraId)
+        .setSensorRotationDegrees(90L)
+        .setSupportedHardwareLevel(1L)
+        .setMinExposureCompensation(-4L)
+        .setMaxExposureCompensation(4L)
+        .setExposureCompensationStep(0.5)
+        .setMinZoomRatio(1.0)
+        .setMaxZoomRatio(8.0)
+        .setSupportedVideoQualities(new ArrayList<>())
+        .setSupportedVideoResolutions(new ArrayList<>())
+        .build();
+  }
+
+  @Test
+  @SuppressWarnings("unchecked")
+  public void getAvailableCameraCapabilities_readsEachCameraOnceAndReturnsIds() {
+    final CameraCapabilitiesHostApiImpl hostApi =
+        new CameraCapabilitiesHostApiImpl(
+            mockBinaryMessenger, testInstanceManager, mockProxy, Runnable::run, Runnable::run);
+    final CameraInfo mockBackCameraInfo = mock(CameraInfo.class);
+    final CameraInfo mockFrontCameraInfo = mock(CameraInfo.class);
+    final GeneratedCameraXLibrary.Result<List<CameraCapabilities>> mockResult =
+        mock(GeneratedCameraXLibrary.Result.class);
+
+    testInstanceManager.addDartCreatedInstance(mockProcessCameraProvider, 0);
+    testInstanceManager.addDartCreatedInstance(mockBackCameraInfo, 1);
+    testInstanceManager.addDartCreatedInstance(mockFrontCameraInfo, 2);
+    when(mockProcessCameraProvider.getAvailableCameraInfos())
+        .thenReturn(Arrays.asList(mockBackCameraInfo, mockFrontCameraInfo));
+    final CameraCapabilities backCapabilities = createCapabilities("0");
+    when(mockProxy.readCapabilities(mockBackCameraInfo)).thenReturn(backCapabilities);
+    when(mockProxy.readCapabilities(mockFrontCameraInfo)).thenReturn(createCapabilities("1"));
+
+    hostApi.getAvailableCameraCapabilities(0L, mockResult);
+    hostApi.getAvailableCameraCapabilities(0L, mockResult);
+
+    verify(mockProxy, times(1)).readCapabilities(mockBackCameraInfo);
+    verify(mockProxy, times(1)).readCapabilities(mockFrontCameraInfo);
+
+    final ArgumentCaptor<List<CameraCapabilities>> capabilitiesCaptor =
+        ArgumentCaptor.forClass(List.class);
+    verify(mockResult, times(2)).success(capabilitiesCaptor.capture());
+    final List<CameraCapabilities> capabilities = capabilitiesCaptor.getValue();
+    assertEquals(2, capabilities.size());
+    assertEquals("0", capabilities.get(0).getCameraId());
+    assertEquals(Long.valueOf(1), capabilities.get(0).getCameraInfoId());
+    assertEquals("1", capabilities.get(1).getCameraId());
+    assertEquals(Long.valueOf(2), capabilities.get(1).getCameraInfoId());
+
+    // The cached capabilities are copied instead of updated with the identifier.
+    assertNotSame(backCapabilities, capabilities.get(0));
+    assertEquals(Long.valueOf(0), backCapabilities.getCameraInfoId());
+  }
+
+  @Test
+  @SuppressWarnings("unchecked")
+  public void getAvailableCameraCapabilities_reportsReadErrorOnce() {
+    final List<Runnable> mainThreadTasks = new ArrayList<>();
+    final CameraCapabilitiesHostApiImpl hostApi =
+        new CameraCapabilitiesHostApiImpl(
+            mockBinaryMessenger,
+            testInstanceManager,
+            mockProxy,
+            Runnable::run,
+            mainThreadTasks::add);
+    final CameraInfo mockBackCameraInfo = mock(CameraInfo.class);
+    final CameraInfo mockFrontCameraInfo = mock(CameraInfo.class);
+    final GeneratedCameraXLibrary.Result<List<CameraCapabilities>> mockResult =
+        mock(GeneratedCameraXLibrary.Result.class);
+    final IllegalArgumentException readError = new IllegalArgumentException("Camera closed");
+
+    testInstanceManager.addDartCreatedInstance(mockProcessCameraProvider, 0);
+    when(mockProcessCameraProvider.getAvailableCameraInfos())
+        .thenReturn(Arrays.asList(mockBackCameraInfo, mockFrontCameraInfo));
+    when(mockProxy.readCapabilities(mockBackCameraInfo)).thenThrow(readError);
+    when(mockProxy.readCapabilities(mockFrontCameraInfo)).thenReturn(createCapabilities("1"));
+
+    hostApi.getAvailableCameraCapabilities(0L, mockResult);
+
+    assertEquals(1, mainThreadTasks.size());
+    mainThreadTasks.get(0).run();
+    verify(mockResult).error(readError);
+    verify(mockResult, never()).success(any());
+  }
+}
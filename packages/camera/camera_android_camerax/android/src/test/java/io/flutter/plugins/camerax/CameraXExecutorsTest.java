@@ -0,0 +1,105 @@
+// Copyright 2013 The Flutter Authors. All rights reserved.
+// Use of this source code is governed by a BSD-style license that can be
+// found in the LICENSE file.
+
+package io.flutter.plugins.camerax;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executor;
+import java.util.concurrent.TimeUnit;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+public class CameraXExecutorsTest {
+  @Before
+  public void setUp() {
+    CameraXExecutors.reset();
+  }
+
+  @After
+  public void tearDown() {
+    CameraXExecutors.reset();
+  }
+
+  @Test
+  public void getCaptureIoExecutor_returnsSameExecutorUntilDetached() {
+    CameraXExecutors.attach();
+    final Executor executor = CameraXExecutors.getCaptureIoExecutor();
+
+    assertSame(executor, CameraXExecutors.getCaptureIoExecutor());
+
+    CameraXExecutors.detach();
+
+    assertNotSame(executor, CameraXExecutors.getCaptureIoExecutor());
+  }
+
+  @Test
+  public void getCameraCapabilitiesExecutor_returnsSameExecutorUntilDetached() {
+    CameraXExecutors.attach();
+    final Executor executor = CameraXExecutors.getCameraCapabilitiesExecutor();
+
+    assertSame(executor, CameraXExecutors.getCameraCapabilitiesExecutor());
+
+    CameraXExecutors.detach();
+
+    assertNotSame(executor, CameraXExecutors.getCameraCapabilitiesExecutor());
+  }
+
+  @Test
+  public void detach_shutsDownExecutorsOnlyOnceEveryEngineHasDetached() {
+    CameraXExecutors.attach();
+    CameraXExecutors.attach();
+    final Executor executor = CameraXExecutors.getSurfaceCallbacksExecutor();
+
+    CameraXExecutors.detach();
+    assertSame(executor, CameraXExecutors.getSurfaceCallbacksExecutor());
+
+    CameraXExecutors.detach();
+    assertTrue(CameraXExecutors.getMetrics().isEmpty());
+  }
+
+  @Test
+  public void getMetrics_reportsBoundedThreadCountAndQueueDepth() throws InterruptedException {
+    final Executor executor = CameraXExecutors.getCaptureIoExecutor();
+    final CountDownLatch release = new CountDownLatch(1);
+    final CountDownLatch started = new CountDownLatch(CameraXExecutors.CAPTURE_IO_MAX_THREADS);
+    final int taskCount = CameraXExecutors.CAPTURE_IO_MAX_THREADS + 3;
+    for (int i = 0; i < taskCount; i++) {
+      executor.execute(
+          () -> {
+            started.countDown();
+            try {
+              release.await();
+            } catch (InterruptedException e) {
+              Thread.currentThread().interrupt();
+            }
+          });
+    }
+    assertTrue(started.await(5, TimeUnit.SECONDS));
+
+    final CameraXExecutors.ExecutorMetrics metrics =
+        CameraXExecutors.getMetrics().get(CameraXExecutors.CAPTURE_IO);
+    assertEquals(CameraXExecutors.CAPTURE_IO_MAX_THREADS, metrics.threadCount);
+    assertEquals(CameraXExecutors.CAPTURE_IO_MAX_THREADS, metrics.activeThreadCount);
+    assertEquals(3, metrics.queueDepth);
+
+    release.countDown();
+  }
+
+  @Test
+  public void getMetrics_onlyReportsExecutorsInUse() {
+    CameraXExecutors.getRecorderEventsExecutor();
+
+    final Map<String, CameraXExecutors.ExecutorMetrics> metrics = CameraXExecutors.getMetrics();
+
+    assertEquals(1, metrics.size());
+    assertTrue(metrics.containsKey(CameraXExecutors.RECORDER_EVENTS));
+  }
+}
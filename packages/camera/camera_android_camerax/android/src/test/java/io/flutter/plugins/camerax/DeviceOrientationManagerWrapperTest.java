@@ -82,6 +82,29 @@ public class DeviceOrientationManagerWrapperTest {
     verify(mockDeviceOrientationManager).stop();
   }
 
+  @Test
+  public void startListeningForDeviceOrientationChange_stopsPreviousManager() {
+    final DeviceOrientationManagerHostApiImpl hostApi =
+        new DeviceOrientationManagerHostApiImpl(mockBinaryMessenger, mockInstanceManager);
+    final CameraXProxy mockCameraXProxy = mock(CameraXProxy.class);
+    final Activity mockActivity = mock(Activity.class);
+    final DeviceOrientationManager mockSecondDeviceOrientationManager =
+        mock(DeviceOrientationManager.class);
+
+    hostApi.cameraXProxy = mockCameraXProxy;
+    hostApi.setActivity(mockActivity);
+    when(mockCameraXProxy.createDeviceOrientationManager(
+            eq(mockActivity), any(Boolean.class), any(Integer.class), any()))
+        .thenReturn(mockDeviceOrientationManager, mockSecondDeviceOrientationManager);
+
+    hostApi.startListeningForDeviceOrientationChange(true, 90L);
+    hostApi.startListeningForDeviceOrientationChange(false, 270L);
+
+    verify(mockDeviceOrientationManager).stop();
+    verify(mockSecondDeviceOrientationManager).start();
+    assertEquals(mockSecondDeviceOrientationManager, hostApi.deviceOrientationManager);
+  }
+
   @Test
   public void getDefaultDisplayRotation_returnsExpectedRotation() {
     final DeviceOrientationManagerHostApiImpl hostApi =
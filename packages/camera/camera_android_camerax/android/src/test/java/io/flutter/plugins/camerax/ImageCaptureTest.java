@@ -4,29 +4,38 @@
 
 package io.flutter.plugins.camerax;
 
+import static org.junit.Assert.assertArrayEquals;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.mockStatic;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.spy;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 import android.content.Context;
+import android.graphics.BitmapFactory;
+import android.graphics.ImageFormat;
 import android.view.Surface;
 import androidx.camera.core.ImageCapture;
 import androidx.camera.core.ImageCaptureException;
+import androidx.camera.core.ImageInfo;
+import androidx.camera.core.ImageProxy;
 import androidx.camera.core.resolutionselector.ResolutionSelector;
 import io.flutter.plugin.common.BinaryMessenger;
 import java.io.File;
 import java.io.IOException;
+import java.nio.ByteBuffer;
 import java.util.concurrent.Executor;
 import org.junit.After;
 import org.junit.Before;
 import org.junit.Rule;
 import org.junit.Test;
 import org.junit.runner.RunWith;
+import org.mockito.ArgumentCaptor;
 import org.mockito.Mock;
 import org.mockito.MockedStatic;
 import org.mockito.junit.MockitoJUnit;
@@ -205,6 +214,132 @@ public class ImageCaptureTest {
     verify(mockResult).error(mockException);
   }
 
+  @Test
+  public void takePictureToMemory_sendsRequestToTakePictureWithExpectedCallback() {
+    final ImageCaptureHostApiImpl imageCaptureHostApiImpl =
+        spy(new ImageCaptureHostApiImpl(mockBinaryMessenger, testInstanceManager, context));
+    final Long imageCaptureIdentifier = 7L;
+    final Long maxDimension = 1024L;
+    final ImageCapture.OnImageCapturedCallback mockOnImageCapturedCallback =
+        mock(ImageCapture.OnImageCapturedCallback.class);
+    @SuppressWarnings("unchecked")
+    final GeneratedCameraXLibrary.Result<byte[]> mockResult =
+        mock(GeneratedCameraXLibrary.Result.class);
+
+    testInstanceManager.addDartCreatedInstance(mockImageCapture, imageCaptureIdentifier);
+    when(imageCaptureHostApiImpl.createOnImageCapturedCallback(maxDimension, mockResult))
+        .thenReturn(mockOnImageCapturedCallback);
+
+    imageCaptureHostApiImpl.takePictureToMemory(imageCaptureIdentifier, maxDimension, mockResult);
+
+    verify(mockImageCapture)
+        .takePicture(CameraXExecutors.getCaptureIoExecutor(), mockOnImageCapturedCallback);
+  }
+
+  @Test
+  public void takePictureToMemory_usesExpectedOnImageCapturedCallback() {
+    final ImageCaptureHostApiImpl imageCaptureHostApiImpl =
+        new ImageCaptureHostApiImpl(mockBinaryMessenger, testInstanceManager, context);
+    @SuppressWarnings("unchecked")
+    final GeneratedCameraXLibrary.Result<byte[]> mockResult =
+        mock(GeneratedCameraXLibrary.Result.class);
+    final ImageProxy mockImageProxy = mock(ImageProxy.class);
+    final ImageProxy.PlaneProxy mockPlaneProxy = mock(ImageProxy.PlaneProxy.class);
+    final ImageInfo mockImageInfo = mock(ImageInfo.class);
+    final byte[] jpegBytes = new byte[] {(byte) 0xFF, (byte) 0xD8, 1, 2, 3};
+    final ImageCaptureException mockException = mock(ImageCaptureException.class);
+
+    when(mockImageProxy.getFormat()).thenReturn(ImageFormat.JPEG);
+    when(mockImageProxy.getPlanes()).thenReturn(new ImageProxy.PlaneProxy[] {mockPlaneProxy});
+    when(mockImageProxy.getImageInfo()).thenReturn(mockImageInfo);
+    when(mockPlaneProxy.getBuffer()).thenReturn(ByteBuffer.wrap(jpegBytes));
+
+    ImageCapture.OnImageCapturedCallback onImageCapturedCallback =
+        imageCaptureHostApiImpl.createOnImageCapturedCallback(null, mockResult);
+
+    // Test success case.
+    onImageCapturedCallback.onCaptureSuccess(mockImageProxy);
+
+    final ArgumentCaptor<byte[]> bytesCaptor = ArgumentCaptor.forClass(byte[].class);
+    verify(mockResult).success(bytesCaptor.capture());
+    assertArrayEquals(jpegBytes, bytesCaptor.getValue());
+    verify(mockImageProxy).close();
+
+    // Test error case.
+    onImageCapturedCallback.onError(mockException);
+
+    verify(mockResult).error(mockException);
+  }
+
+  @Test
+  public void takePictureToMemory_sendsErrorForImagesThatAreNotJpegs() {
+    final ImageCaptureHostApiImpl imageCaptureHostApiImpl =
+        new ImageCaptureHostApiImpl(mockBinaryMessenger, testInstanceManager, context);
+    @SuppressWarnings("unchecked")
+    final GeneratedCameraXLibrary.Result<byte[]> mockResult =
+        mock(GeneratedCameraXLibrary.Result.class);
+    final ImageProxy mockImageProxy = mock(ImageProxy.class);
+
+    when(mockImageProxy.getFormat()).thenReturn(ImageFormat.YUV_420_888);
+
+    imageCaptureHostApiImpl
+        .createOnImageCapturedCallback(null, mockResult)
+        .onCaptureSuccess(mockImageProxy);
+
+    verify(mockResult).error(any(IllegalStateException.class));
+    verify(mockImageProxy).close();
+  }
+
+  @Test
+  public void takePictureToMemory_sendsErrorForMaxDimensionThatIsNotPositive() {
+    final ImageCaptureHostApiImpl imageCaptureHostApiImpl =
+        new ImageCaptureHostApiImpl(mockBinaryMessenger, testInstanceManager, context);
+    final Long imageCaptureIdentifier = 6L;
+    @SuppressWarnings("unchecked")
+    final GeneratedCameraXLibrary.Result<byte[]> mockResult =
+        mock(GeneratedCameraXLibrary.Result.class);
+
+    testInstanceManager.addDartCreatedInstance(mockImageCapture, imageCaptureIdentifier);
+
+    imageCaptureHostApiImpl.takePictureToMemory(imageCaptureIdentifier, 0L, mockResult);
+
+    verify(mockResult).error(any(IllegalArgumentException.class));
+    verify(mockImageCapture, never())
+        .takePicture(any(Executor.class), any(ImageCapture.OnImageCapturedCallback.class));
+  }
+
+  @Test
+  public void takePictureToMemory_sendsErrorWhenDownscalingFails() {
+    final ImageCaptureHostApiImpl imageCaptureHostApiImpl =
+        new ImageCaptureHostApiImpl(mockBinaryMessenger, testInstanceManager, context);
+    @SuppressWarnings("unchecked")
+    final GeneratedCameraXLibrary.Result<byte[]> mockResult =
+        mock(GeneratedCameraXLibrary.Result.class);
+    final ImageProxy mockImageProxy = mock(ImageProxy.class);
+    final ImageProxy.PlaneProxy mockPlaneProxy = mock(ImageProxy.PlaneProxy.class);
+    final ImageInfo mockImageInfo = mock(ImageInfo.class);
+    final byte[] jpegBytes = new byte[] {(byte) 0xFF, (byte) 0xD8, 1, 2, 3};
+
+    when(mockImageProxy.getFormat()).thenReturn(ImageFormat.JPEG);
+    when(mockImageProxy.getPlanes()).thenReturn(new ImageProxy.PlaneProxy[] {mockPlaneProxy});
+    when(mockImageProxy.getImageInfo()).thenReturn(mockImageInfo);
+    when(mockPlaneProxy.getBuffer()).thenReturn(ByteBuffer.wrap(jpegBytes));
+
+    try (MockedStatic<BitmapFactory> mockBitmapFactory = mockStatic(BitmapFactory.class)) {
+      mockBitmapFactory
+          .when(() -> BitmapFactory.decodeByteArray(any(), anyInt(), anyInt(), any()))
+          .thenThrow(new OutOfMemoryError());
+
+      imageCaptureHostApiImpl
+          .createOnImageCapturedCallback(1024L, mockResult)
+          .onCaptureSuccess(mockImageProxy);
+    }
+
+    verify(mockResult).error(any(OutOfMemoryError.class));
+    verify(mockResult, never()).success(any());
+    verify(mockImageProxy).close();
+  }
+
   @Test
   public void setTargetRotation_makesCallToSetTargetRotation() {
     final ImageCaptureHostApiImpl hostApi =
@@ -5,10 +5,12 @@
 package io.flutter.plugins.camerax;
 
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotNull;
 import static org.junit.Assert.assertTrue;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.inOrder;
 import static org.mockito.Mockito.spy;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
@@ -17,6 +19,7 @@ import android.content.Context;
 import androidx.camera.core.Camera;
 import androidx.camera.core.CameraInfo;
 import androidx.camera.core.CameraSelector;
+import androidx.camera.core.Preview;
 import androidx.camera.core.UseCase;
 import androidx.camera.lifecycle.ProcessCameraProvider;
 import androidx.lifecycle.LifecycleOwner;
@@ -32,6 +35,7 @@ import org.junit.Rule;
 import org.junit.Test;
 import org.junit.runner.RunWith;
 import org.mockito.ArgumentCaptor;
+import org.mockito.InOrder;
 import org.mockito.Mock;
 import org.mockito.MockedStatic;
 import org.mockito.Mockito;
@@ -90,6 +94,95 @@ public class ProcessCameraProviderTest {
     }
   }
 
+  @Test
+  public void prewarm_bindsPreviewUntilUseCasesAreBound() {
+    final ProcessCameraProviderHostApiImpl processCameraProviderHostApi =
+        new ProcessCameraProviderHostApiImpl(mockBinaryMessenger, testInstanceManager, context);
+    final ListenableFuture<ProcessCameraProvider> processCameraProviderFuture =
+        spy(Futures.immediateFuture(processCameraProvider));
+    final CameraXProxy mockCameraXProxy = mock(CameraXProxy.class);
+    final Preview.Builder mockPreviewBuilder = mock(Preview.Builder.class);
+    final Preview mockPrewarmPreview = mock(Preview.class);
+    final CameraSelector mockCameraSelector = mock(CameraSelector.class);
+    final UseCase mockUseCase = mock(UseCase.class);
+    final LifecycleOwner mockLifecycleOwner = mock(LifecycleOwner.class);
+    @SuppressWarnings("unchecked")
+    final GeneratedCameraXLibrary.Result<GeneratedCameraXLibrary.CameraPrewarmTimings> mockResult =
+        mock(GeneratedCameraXLibrary.Result.class);
+
+    processCameraProviderHostApi.cameraXProxy = mockCameraXProxy;
+    processCameraProviderHostApi.setLifecycleOwner(mockLifecycleOwner);
+    testInstanceManager.addDartCreatedInstance(processCameraProvider, 0);
+    testInstanceManager.addDartCreatedInstance(mockCameraSelector, 1);
+    testInstanceManager.addDartCreatedInstance(mockUseCase, 2);
+    when(mockCameraXProxy.createPreviewBuilder()).thenReturn(mockPreviewBuilder);
+    when(mockPreviewBuilder.build()).thenReturn(mockPrewarmPreview);
+    when(processCameraProvider.bindToLifecycle(
+            mockLifecycleOwner, mockCameraSelector, new UseCase[] {mockUseCase}))
+        .thenReturn(mock(Camera.class));
+
+    try (MockedStatic<ProcessCameraProvider> mockedProcessCameraProvider =
+        Mockito.mockStatic(ProcessCameraProvider.class)) {
+      mockedProcessCameraProvider
+          .when(() -> ProcessCameraProvider.getInstance(context))
+          .thenAnswer(
+              (Answer<ListenableFuture<ProcessCameraProvider>>)
+                  invocation -> processCameraProviderFuture);
+
+      final ArgumentCaptor<Runnable> runnableCaptor = ArgumentCaptor.forClass(Runnable.class);
+
+      processCameraProviderHostApi.prewarm(1L, mockResult);
+      verify(processCameraProviderFuture).addListener(runnableCaptor.capture(), any());
+      runnableCaptor.getValue().run();
+    }
+
+    verify(processCameraProvider)
+        .bindToLifecycle(mockLifecycleOwner, mockCameraSelector, mockPrewarmPreview);
+    final ArgumentCaptor<GeneratedCameraXLibrary.CameraPrewarmTimings> timingsCaptor =
+        ArgumentCaptor.forClass(GeneratedCameraXLibrary.CameraPrewarmTimings.class);
+    verify(mockResult).success(timingsCaptor.capture());
+    assertNotNull(timingsCaptor.getValue().getPreviewBindMillis());
+
+    processCameraProviderHostApi.bindToLifecycle(0L, 1L, Arrays.asList(2L));
+    final InOrder inOrder = inOrder(processCameraProvider);
+    inOrder
+        .verify(processCameraProvider)
+        .bindToLifecycle(mockLifecycleOwner, mockCameraSelector, new UseCase[] {mockUseCase});
+    inOrder.verify(processCameraProvider).unbind(mockPrewarmPreview);
+  }
+
+  @Test
+  public void bindToLifecycle_unbindsPrewarmPreviewFirstWhenUseCasesCannotBeBoundAlongsideIt() {
+    final ProcessCameraProviderHostApiImpl processCameraProviderHostApi =
+        new ProcessCameraProviderHostApiImpl(mockBinaryMessenger, testInstanceManager, context);
+    final Preview mockPrewarmPreview = mock(Preview.class);
+    final CameraSelector mockCameraSelector = mock(CameraSelector.class);
+    final UseCase mockUseCase = mock(UseCase.class);
+    final UseCase[] mockUseCases = new UseCase[] {mockUseCase};
+    final LifecycleOwner mockLifecycleOwner = mock(LifecycleOwner.class);
+
+    processCameraProviderHostApi.setLifecycleOwner(mockLifecycleOwner);
+    processCameraProviderHostApi.prewarmPreview = mockPrewarmPreview;
+    testInstanceManager.addDartCreatedInstance(processCameraProvider, 0);
+    testInstanceManager.addDartCreatedInstance(mockCameraSelector, 1);
+    testInstanceManager.addDartCreatedInstance(mockUseCase, 2);
+    when(processCameraProvider.bindToLifecycle(
+            mockLifecycleOwner, mockCameraSelector, mockUseCases))
+        .thenThrow(new IllegalArgumentException())
+        .thenReturn(mock(Camera.class));
+
+    processCameraProviderHostApi.bindToLifecycle(0L, 1L, Arrays.asList(2L));
+
+    final InOrder inOrder = inOrder(processCameraProvider);
+    inOrder
+        .verify(processCameraProvider)
+        .bindToLifecycle(mockLifecycleOwner, mockCameraSelector, mockUseCases);
+    inOrder.verify(processCameraProvider).unbind(mockPrewarmPreview);
+    inOrder
+        .verify(processCameraProvider)
+        .bindToLifecycle(mockLifecycleOwner, mockCameraSelector, mockUseCases);
+  }
+
   @Test
   public void getAvailableCameraInfosTest() {
     final ProcessCameraProviderHostApiImpl processCameraProviderHostApi =
@@ -88,6 +88,7 @@ public class RecorderTest {
     verify(mockRecorderBuilder).setAspectRatio(aspectRatio);
     verify(mockRecorderBuilder).setTargetVideoEncodingBitRate(bitRate);
     verify(mockRecorderBuilder).setQualitySelector(mockQualitySelector);
+    verify(mockRecorderBuilder).setExecutor(CameraXExecutors.getRecorderEventsExecutor());
     verify(mockRecorderBuilder).build();
     assertEquals(testInstanceManager.getInstance(Long.valueOf(recorderId)), mockRecorder);
     testInstanceManager.remove(Long.valueOf(recorderId));
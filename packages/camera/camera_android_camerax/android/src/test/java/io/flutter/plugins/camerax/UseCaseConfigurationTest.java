@@ -0,0 +1,177 @@
+// Copyright 2013 The Flutter Authors. All rights reserved.
+// Use of this source code is governed by a BSD-style license that can be
+// found in the LICENSE file.
+
+package io.flutter.plugins.camerax;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import android.util.Size;
+import androidx.camera.core.ImageAnalysis;
+import androidx.camera.core.ImageCapture;
+import androidx.camera.core.Preview;
+import androidx.camera.core.resolutionselector.AspectRatioStrategy;
+import androidx.camera.core.resolutionselector.ResolutionFilter;
+import androidx.camera.core.resolutionselector.ResolutionSelector;
+import androidx.camera.core.resolutionselector.ResolutionStrategy;
+import androidx.camera.video.FallbackStrategy;
+import androidx.camera.video.QualitySelector;
+import androidx.camera.video.Recorder;
+import io.flutter.plugins.camerax.GeneratedCameraXLibrary.QualitySelectorData;
+import io.flutter.plugins.camerax.GeneratedCameraXLibrary.ResolutionInfo;
+import io.flutter.plugins.camerax.GeneratedCameraXLibrary.ResolutionSelectorData;
+import io.flutter.plugins.camerax.GeneratedCameraXLibrary.UseCaseConfigurationData;
+import io.flutter.plugins.camerax.GeneratedCameraXLibrary.VideoQuality;
+import io.flutter.plugins.camerax.GeneratedCameraXLibrary.VideoQualityData;
+import io.flutter.plugins.camerax.GeneratedCameraXLibrary.VideoResolutionFallbackRule;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.Executor;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.mockito.Mock;
+import org.mockito.junit.MockitoJUnit;
+import org.mockito.junit.MockitoRule;
+import org.robolectric.RobolectricTestRunner;
+
+@RunWith(RobolectricTestRunner.class)
+public class UseCaseConfigurationTest {
+  @Rule public MockitoRule mockitoRule = MockitoJUnit.rule();
+
+  @Mock public CameraXProxy mockCameraXProxy;
+  @Mock public Preview.Builder mockPreviewBuilder;
+  @Mock public ImageCapture.Builder mockImageCaptureBuilder;
+  @Mock public ImageAnalysis.Builder mockImageAnalysisBuilder;
+  @Mock public Recorder.Builder mockRecorderBuilder;
+  @Mock public Preview mockPreview;
+  @Mock public ImageCapture mockImageCapture;
+  @Mock public ImageAnalysis mockImageAnalysis;
+  @Mock public Recorder mockRecorder;
+
+  InstanceManager testInstanceManager;
+
+  @Before
+  public void setUp() {
+    testInstanceManager = InstanceManager.create(identifier -> {});
+
+    when(mockCameraXProxy.createPreviewBuilder()).thenReturn(mockPreviewBuilder);
+    when(mockCameraXProxy.createImageCaptureBuilder()).thenReturn(mockImageCaptureBuilder);
+    when(mockCameraXProxy.createImageAnalysisBuilder()).thenReturn(mockImageAnalysisBuilder);
+    when(mockCameraXProxy.createRecorderBuilder()).thenReturn(mockRecorderBuilder);
+    when(mockRecorderBuilder.setExecutor(any(Executor.class))).thenReturn(mockRecorderBuilder);
+    when(mockPreviewBuilder.build()).thenReturn(mockPreview);
+    when(mockImageCaptureBuilder.build()).thenReturn(mockImageCapture);
+    when(mockImageAnalysisBuilder.build()).thenReturn(mockImageAnalysis);
+    when(mockRecorderBuilder.build()).thenReturn(mockRecorder);
+  }
+
+  @After
+  public void tearDown() {
+    testInstanceManager.stopFinalizationListener();
+  }
+
+  @Test
+  public void configure_buildsSelectorsAndAddsOnlyUseCases() {
+    final UseCaseConfigurationHostApiImpl hostApi =
+        new UseCaseConfigurationHostApiImpl(testInstanceManager);
+    hostApi.cameraXProxy = mockCameraXProxy;
+    final ResolutionStrategyHostApiImpl.ResolutionStrategyProxy mockResolutionStrategyProxy =
+        mock(ResolutionStrategyHostApiImpl.ResolutionStrategyProxy.class);
+    final ResolutionFilterHostApiImpl.ResolutionFilterFactory mockResolutionFilterFactory =
+        mock(ResolutionFilterHostApiImpl.ResolutionFilterFactory.class);
+    final AspectRatioStrategyHostApiImpl.AspectRatioStrategyProxy mockAspectRatioStrategyProxy =
+        mock(AspectRatioStrategyHostApiImpl.AspectRatioStrategyProxy.class);
+    final ResolutionSelectorHostApiImpl.ResolutionSelectorProxy mockResolutionSelectorProxy =
+        mock(ResolutionSelectorHostApiImpl.ResolutionSelectorProxy.class);
+    final FallbackStrategyHostApiImpl.FallbackStrategyProxy mockFallbackStrategyProxy =
+        mock(FallbackStrategyHostApiImpl.FallbackStrategyProxy.class);
+    final QualitySelectorHostApiImpl.QualitySelectorProxy mockQualitySelectorProxy =
+        mock(QualitySelectorHostApiImpl.QualitySelectorProxy.class);
+    hostApi.resolutionStrategyProxy = mockResolutionStrategyProxy;
+    hostApi.resolutionFilterFactory = mockResolutionFilterFactory;
+    hostApi.aspectRatioStrategyProxy = mockAspectRatioStrategyProxy;
+    hostApi.resolutionSelectorProxy = mockResolutionSelectorProxy;
+    hostApi.fallbackStrategyProxy = mockFallbackStrategyProxy;
+    hostApi.qualitySelectorProxy = mockQualitySelectorProxy;
+
+    final ResolutionInfo boundSize =
+        new ResolutionInfo.Builder().setWidth(1280L).setHeight(720L).build();
+    final ResolutionSelectorData resolutionSelectorData =
+        new ResolutionSelectorData.Builder()
+            .setBoundSize(boundSize)
+            .setFallbackRule(3L)
+            .setPreferredResolution(boundSize)
+            .setPreferredAspectRatio(1L)
+            .setAspectRatioFallbackRule(0L)
+            .build();
+    final List<VideoQualityData> qualityList =
+        Collections.singletonList(
+            new VideoQualityData.Builder().setQuality(VideoQuality.HD).build());
+    final QualitySelectorData qualitySelectorData =
+        new QualitySelectorData.Builder()
+            .setQualityList(qualityList)
+            .setFallbackQuality(VideoQuality.HD)
+            .setFallbackRule(VideoResolutionFallbackRule.LOWER_QUALITY_OR_HIGHER_THAN)
+            .build();
+
+    final Size size = new Size(1280, 720);
+    final ResolutionStrategy mockResolutionStrategy = mock(ResolutionStrategy.class);
+    final ResolutionFilter mockResolutionFilter = mock(ResolutionFilter.class);
+    final AspectRatioStrategy mockAspectRatioStrategy = mock(AspectRatioStrategy.class);
+    final ResolutionSelector mockResolutionSelector = mock(ResolutionSelector.class);
+    final FallbackStrategy mockFallbackStrategy = mock(FallbackStrategy.class);
+    final QualitySelector mockQualitySelector = mock(QualitySelector.class);
+    when(mockResolutionStrategyProxy.create(size, 3L)).thenReturn(mockResolutionStrategy);
+    when(mockResolutionFilterFactory.createWithOnePreferredSize(size))
+        .thenReturn(mockResolutionFilter);
+    when(mockAspectRatioStrategyProxy.create(1L, 0L)).thenReturn(mockAspectRatioStrategy);
+    when(mockResolutionSelectorProxy.create(
+            mockResolutionStrategy, mockAspectRatioStrategy, mockResolutionFilter))
+        .thenReturn(mockResolutionSelector);
+    when(mockFallbackStrategyProxy.create(
+            VideoQuality.HD, VideoResolutionFallbackRule.LOWER_QUALITY_OR_HIGHER_THAN))
+        .thenReturn(mockFallbackStrategy);
+    when(mockQualitySelectorProxy.create(qualityList, mockFallbackStrategy))
+        .thenReturn(mockQualitySelector);
+
+    hostApi.configure(
+        new UseCaseConfigurationData.Builder()
+            .setPreviewIdentifier(0L)
+            .setImageCaptureIdentifier(1L)
+            .setImageAnalysisIdentifier(2L)
+            .setRecorderIdentifier(3L)
+            .setPreviewResolutionSelector(resolutionSelectorData)
+            .setImageCaptureResolutionSelector(resolutionSelectorData)
+            .build());
+
+    verify(mockPreviewBuilder).setResolutionSelector(mockResolutionSelector);
+    verify(mockImageCaptureBuilder).setResolutionSelector(mockResolutionSelector);
+    verify(mockImageAnalysisBuilder, never()).setResolutionSelector(any());
+    verify(mockRecorderBuilder, never()).setQualitySelector(any());
+    assertEquals(testInstanceManager.getInstance(0L), mockPreview);
+    assertEquals(testInstanceManager.getInstance(1L), mockImageCapture);
+    assertEquals(testInstanceManager.getInstance(2L), mockImageAnalysis);
+    assertEquals(testInstanceManager.getInstance(3L), mockRecorder);
+    assertFalse(testInstanceManager.containsInstance(mockResolutionSelector));
+
+    hostApi.configure(
+        new UseCaseConfigurationData.Builder()
+            .setPreviewIdentifier(4L)
+            .setImageCaptureIdentifier(5L)
+            .setImageAnalysisIdentifier(6L)
+            .setRecorderIdentifier(7L)
+            .setRecorderQualitySelector(qualitySelectorData)
+            .build());
+
+    verify(mockRecorderBuilder).setQualitySelector(mockQualitySelector);
+  }
+}
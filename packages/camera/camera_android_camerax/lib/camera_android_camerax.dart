@@ -3,3 +3,4 @@
 // found in the LICENSE file.
 
 export 'src/android_camera_camerax.dart';
+export 'src/camerax_library.g.dart' show CameraPrewarmTimings;
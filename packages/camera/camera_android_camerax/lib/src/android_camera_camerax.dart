@@ -4,6 +4,7 @@
 
 import 'dart:async';
 import 'dart:math' show Point;
+import 'dart:typed_data' show Uint8List;
 
 import 'package:async/async.dart';
 import 'package:camera_platform_interface/camera_platform_interface.dart';
@@ -267,33 +268,26 @@ class AndroidCameraCameraX extends CameraPlatform {
     final List<CameraDescription> cameraDescriptions = <CameraDescription>[];
 
     processCameraProvider ??= await proxy.getProcessCameraProvider();
-    final List<CameraInfo> cameraInfos =
-        await processCameraProvider!.getAvailableCameraInfos();
+    // Read the capabilities of all cameras in one call rather than querying
+    // each camera separately.
+    final List<CameraCapabilities> cameraCapabilities =
+        await processCameraProvider!.getAvailableCameraCapabilities();
 
     CameraLensDirection? cameraLensDirection;
     int cameraCount = 0;
-    int? cameraSensorOrientation;
     String? cameraName;
 
-    for (final CameraInfo cameraInfo in cameraInfos) {
-      // Determine the lens direction by filtering the CameraInfo
-      // TODO(gmackall): replace this with call to CameraInfo.getLensFacing when changes containing that method are available
-      if ((await proxy
-              .createCameraSelector(CameraSelector.lensFacingBack)
-              .filter(<CameraInfo>[cameraInfo]))
-          .isNotEmpty) {
-        cameraLensDirection = CameraLensDirection.back;
-      } else if ((await proxy
-              .createCameraSelector(CameraSelector.lensFacingFront)
-              .filter(<CameraInfo>[cameraInfo]))
-          .isNotEmpty) {
-        cameraLensDirection = CameraLensDirection.front;
-      } else {
-        //Skip this CameraInfo as its lens direction is unknown
-        continue;
+    for (final CameraCapabilities capabilities in cameraCapabilities) {
+      switch (capabilities.lensFacing) {
+        case CameraSelector.lensFacingBack:
+          cameraLensDirection = CameraLensDirection.back;
+        case CameraSelector.lensFacingFront:
+          cameraLensDirection = CameraLensDirection.front;
+        default:
+          //Skip this camera as its lens direction is unknown
+          continue;
       }
 
-      cameraSensorOrientation = await cameraInfo.getSensorRotationDegrees();
       cameraName = 'Camera $cameraCount';
       cameraCount++;
 
@@ -302,12 +296,28 @@ class AndroidCameraCameraX extends CameraPlatform {
       cameraDescriptions.add(CameraDescription(
           name: cameraName,
           lensDirection: cameraLensDirection,
-          sensorOrientation: cameraSensorOrientation));
+          sensorOrientation: capabilities.sensorRotationDegrees));
     }
 
     return cameraDescriptions;
   }
 
+  /// Prepares the camera ahead of [createCamera], e.g. before navigating to
+  /// a camera screen, and returns how long each step took.
+  ///
+  /// Initializes the camera provider and, if [description] is specified,
+  /// opens that camera so its preview starts sooner once it is created.
+  Future<CameraPrewarmTimings> prewarm({CameraDescription? description}) async {
+    final CameraSelector? prewarmCameraSelector = description == null
+        ? null
+        : proxy.createCameraSelector(
+            _getCameraSelectorLensDirection(description.lensDirection));
+    final CameraPrewarmTimings timings =
+        await proxy.prewarmProcessCameraProvider(prewarmCameraSelector);
+    processCameraProvider ??= await proxy.getProcessCameraProvider();
+    return timings;
+  }
+
   /// Creates an uninitialized camera instance with default settings and returns the camera ID.
   ///
   /// See [createCameraWithSettings]
@@ -369,8 +379,6 @@ class AndroidCameraCameraX extends CameraPlatform {
     // Configure Preview instance.
     preview = proxy.createPreview(presetResolutionSelector,
         /* use CameraX default target rotation */ null);
-    final int flutterSurfaceTextureId =
-        await proxy.setPreviewSurfaceProvider(preview!);
 
     // Configure ImageCapture instance.
     imageCapture = proxy.createImageCapture(presetResolutionSelector,
@@ -381,8 +389,16 @@ class AndroidCameraCameraX extends CameraPlatform {
     imageAnalysis = proxy.createImageAnalysis(presetResolutionSelector,
         /* use CameraX default target rotation */ null);
 
-    // Configure VideoCapture and Recorder instances.
+    // Configure Recorder instance.
     recorder = proxy.createRecorder(presetQualitySelector);
+
+    // Create the configured UseCases and their selectors natively at once.
+    await proxy.configureUseCases(
+        preview!, imageCapture!, imageAnalysis!, recorder!);
+    final int flutterSurfaceTextureId =
+        await proxy.setPreviewSurfaceProvider(preview!);
+
+    // Configure VideoCapture instance.
     videoCapture = await proxy.createVideoCapture(recorder!);
 
     // Bind configured UseCases to ProcessCameraProvider instance & mark Preview
@@ -934,6 +950,36 @@ class AndroidCameraCameraX extends CameraPlatform {
   /// [cameraId] is not used.
   @override
   Future<XFile> takePicture(int cameraId) async {
+    await _prepareImageCapture(cameraId);
+
+    final String picturePath = await imageCapture!.takePicture();
+    return XFile(picturePath);
+  }
+
+  /// Takes a picture and returns its encoded JPEG bytes without saving it to
+  /// a file, avoiding writing the picture to storage and reading it back.
+  ///
+  /// If [maxDimension] is specified, the picture is downscaled so that its
+  /// width and height are at most [maxDimension] and rotated upright.
+  /// Otherwise, the bytes are returned as captured, with the orientation of
+  /// the picture in their Exif data. Throws an [ArgumentError] if
+  /// [maxDimension] is not positive.
+  ///
+  /// [cameraId] is not used.
+  Future<Uint8List> takePictureToMemory(int cameraId,
+      {int? maxDimension}) async {
+    if (maxDimension != null && maxDimension <= 0) {
+      throw ArgumentError(
+          'maxDimension must be positive but was $maxDimension.');
+    }
+    await _prepareImageCapture(cameraId);
+
+    return imageCapture!.takePictureToMemory(maxDimension: maxDimension);
+  }
+
+  /// Binds [imageCapture] and sets its flash mode and target rotation to
+  /// take a picture with.
+  Future<void> _prepareImageCapture(int cameraId) async {
     await _bindUseCaseToLifecycle(imageCapture!, cameraId);
     // Set flash mode.
     if (_currentFlashMode != null) {
@@ -950,9 +996,6 @@ class AndroidCameraCameraX extends CameraPlatform {
       await imageCapture!
           .setTargetRotation(await proxy.getDefaultDisplayRotation());
     }
-
-    final String picturePath = await imageCapture!.takePicture();
-    return XFile(picturePath);
   }
 
   /// Sets the flash mode for the selected camera.
@@ -293,6 +293,281 @@ class MeteringPointInfo {
   }
 }
 
+/// The capabilities of a camera, read at once on the native side.
+class CameraCapabilities {
+  CameraCapabilities({
+    required this.cameraInfoId,
+    required this.cameraId,
+    this.lensFacing,
+    required this.sensorRotationDegrees,
+    required this.supportedHardwareLevel,
+    required this.minExposureCompensation,
+    required this.maxExposureCompensation,
+    required this.exposureCompensationStep,
+    required this.minZoomRatio,
+    required this.maxZoomRatio,
+    required this.supportedVideoQualities,
+    required this.supportedVideoResolutions,
+  });
+
+  /// InstanceManager ID for the [CameraInfo] of the camera.
+  int cameraInfoId;
+
+  /// The Camera2 ID of the camera.
+  String cameraId;
+
+  /// The direction the lens faces, one of the [CameraSelector] lens facing
+  /// constants, or null if unknown.
+  int? lensFacing;
+
+  int sensorRotationDegrees;
+
+  /// One of the Camera2 `INFO_SUPPORTED_HARDWARE_LEVEL` constants.
+  int supportedHardwareLevel;
+
+  int minExposureCompensation;
+
+  int maxExposureCompensation;
+
+  double exposureCompensationStep;
+
+  double minZoomRatio;
+
+  double maxZoomRatio;
+
+  /// The video qualities the camera can record, from highest to lowest.
+  List<VideoQualityData?> supportedVideoQualities;
+
+  /// The resolution of each of the [supportedVideoQualities].
+  List<ResolutionInfo?> supportedVideoResolutions;
+
+  Object encode() {
+    return <Object?>[
+      cameraInfoId,
+      cameraId,
+      lensFacing,
+      sensorRotationDegrees,
+      supportedHardwareLevel,
+      minExposureCompensation,
+      maxExposureCompensation,
+      exposureCompensationStep,
+      minZoomRatio,
+      maxZoomRatio,
+      supportedVideoQualities,
+      supportedVideoResolutions,
+    ];
+  }
+
+  static CameraCapabilities decode(Object result) {
+    result as List<Object?>;
+    return CameraCapabilities(
+      cameraInfoId: result[0]! as int,
+      cameraId: result[1]! as String,
+      lensFacing: result[2] as int?,
+      sensorRotationDegrees: result[3]! as int,
+      supportedHardwareLevel: result[4]! as int,
+      minExposureCompensation: result[5]! as int,
+      maxExposureCompensation: result[6]! as int,
+      exposureCompensationStep: result[7]! as double,
+      minZoomRatio: result[8]! as double,
+      maxZoomRatio: result[9]! as double,
+      supportedVideoQualities:
+          (result[10] as List<Object?>?)!.cast<VideoQualityData?>(),
+      supportedVideoResolutions:
+          (result[11] as List<Object?>?)!.cast<ResolutionInfo?>(),
+    );
+  }
+}
+
+class CameraPrewarmTimings {
+  CameraPrewarmTimings({
+    required this.providerMillis,
+    this.previewBindMillis,
+  });
+
+  /// Milliseconds until the `ProcessCameraProvider` was available.
+  int providerMillis;
+
+  /// Milliseconds to bind preview, or null if preview was not pre-bound.
+  int? previewBindMillis;
+
+  Object encode() {
+    return <Object?>[
+      providerMillis,
+      previewBindMillis,
+    ];
+  }
+
+  static CameraPrewarmTimings decode(Object result) {
+    result as List<Object?>;
+    return CameraPrewarmTimings(
+      providerMillis: result[0]! as int,
+      previewBindMillis: result[1] as int?,
+    );
+  }
+}
+
+/// Describes a `ResolutionSelector` to build in
+/// [UseCaseConfigurationHostApi.configure].
+class ResolutionSelectorData {
+  ResolutionSelectorData({
+    this.boundSize,
+    this.fallbackRule,
+    this.preferredResolution,
+    this.preferredAspectRatio,
+    this.aspectRatioFallbackRule,
+  });
+
+  /// The bound size of the `ResolutionStrategy`, or null to choose the highest
+  /// available resolution.
+  ResolutionInfo? boundSize;
+
+  /// The fallback rule of the `ResolutionStrategy`, one of the
+  /// [ResolutionStrategy] fallback rule constants.
+  int? fallbackRule;
+
+  /// The preferred resolution of a `ResolutionFilter`, or null for no filter.
+  ResolutionInfo? preferredResolution;
+
+  /// The preferred aspect ratio of an `AspectRatioStrategy`, one of the
+  /// [AspectRatio] constants, or null for no aspect ratio strategy.
+  int? preferredAspectRatio;
+
+  /// The fallback rule of the `AspectRatioStrategy`.
+  int? aspectRatioFallbackRule;
+
+  Object encode() {
+    return <Object?>[
+      boundSize?.encode(),
+      fallbackRule,
+      preferredResolution?.encode(),
+      preferredAspectRatio,
+      aspectRatioFallbackRule,
+    ];
+  }
+
+  static ResolutionSelectorData decode(Object result) {
+    result as List<Object?>;
+    return ResolutionSelectorData(
+      boundSize: result[0] != null
+          ? ResolutionInfo.decode(result[0]! as List<Object?>)
+          : null,
+      fallbackRule: result[1] as int?,
+      preferredResolution: result[2] != null
+          ? ResolutionInfo.decode(result[2]! as List<Object?>)
+          : null,
+      preferredAspectRatio: result[3] as int?,
+      aspectRatioFallbackRule: result[4] as int?,
+    );
+  }
+}
+
+/// Describes a `QualitySelector` to build in
+/// [UseCaseConfigurationHostApi.configure].
+class QualitySelectorData {
+  QualitySelectorData({
+    required this.qualityList,
+    this.fallbackQuality,
+    this.fallbackRule,
+  });
+
+  List<VideoQualityData?> qualityList;
+
+  /// The quality of the `FallbackStrategy`, or null for no fallback strategy.
+  VideoQuality? fallbackQuality;
+
+  VideoResolutionFallbackRule? fallbackRule;
+
+  Object encode() {
+    return <Object?>[
+      qualityList,
+      fallbackQuality?.index,
+      fallbackRule?.index,
+    ];
+  }
+
+  static QualitySelectorData decode(Object result) {
+    result as List<Object?>;
+    return QualitySelectorData(
+      qualityList: (result[0] as List<Object?>?)!.cast<VideoQualityData?>(),
+      fallbackQuality:
+          result[1] != null ? VideoQuality.values[result[1]! as int] : null,
+      fallbackRule: result[2] != null
+          ? VideoResolutionFallbackRule.values[result[2]! as int]
+          : null,
+    );
+  }
+}
+
+/// Describes the use cases of a camera to build in one
+/// [UseCaseConfigurationHostApi.configure] call.
+class UseCaseConfigurationData {
+  UseCaseConfigurationData({
+    required this.previewIdentifier,
+    required this.imageCaptureIdentifier,
+    required this.imageAnalysisIdentifier,
+    required this.recorderIdentifier,
+    this.previewResolutionSelector,
+    this.imageCaptureResolutionSelector,
+    this.imageAnalysisResolutionSelector,
+    this.recorderQualitySelector,
+  });
+
+  /// InstanceManager IDs the built use cases are added with.
+  int previewIdentifier;
+
+  int imageCaptureIdentifier;
+
+  int imageAnalysisIdentifier;
+
+  int recorderIdentifier;
+
+  /// The resolution selector of each use case, or null for the CameraX default.
+  ResolutionSelectorData? previewResolutionSelector;
+
+  ResolutionSelectorData? imageCaptureResolutionSelector;
+
+  ResolutionSelectorData? imageAnalysisResolutionSelector;
+
+  /// The quality selector of the recorder, or null for the CameraX default.
+  QualitySelectorData? recorderQualitySelector;
+
+  Object encode() {
+    return <Object?>[
+      previewIdentifier,
+      imageCaptureIdentifier,
+      imageAnalysisIdentifier,
+      recorderIdentifier,
+      previewResolutionSelector?.encode(),
+      imageCaptureResolutionSelector?.encode(),
+      imageAnalysisResolutionSelector?.encode(),
+      recorderQualitySelector?.encode(),
+    ];
+  }
+
+  static UseCaseConfigurationData decode(Object result) {
+    result as List<Object?>;
+    return UseCaseConfigurationData(
+      previewIdentifier: result[0]! as int,
+      imageCaptureIdentifier: result[1]! as int,
+      imageAnalysisIdentifier: result[2]! as int,
+      recorderIdentifier: result[3]! as int,
+      previewResolutionSelector: result[4] != null
+          ? ResolutionSelectorData.decode(result[4]! as List<Object?>)
+          : null,
+      imageCaptureResolutionSelector: result[5] != null
+          ? ResolutionSelectorData.decode(result[5]! as List<Object?>)
+          : null,
+      imageAnalysisResolutionSelector: result[6] != null
+          ? ResolutionSelectorData.decode(result[6]! as List<Object?>)
+          : null,
+      recorderQualitySelector: result[7] != null
+          ? QualitySelectorData.decode(result[7]! as List<Object?>)
+          : null,
+    );
+  }
+}
+
 class InstanceManagerHostApi {
   /// Constructor for [InstanceManagerHostApi].  The [binaryMessenger] named argument is
   /// available for dependency injection.  If it is left null, the default
@@ -629,6 +904,29 @@ abstract class CameraSelectorFlutterApi {
   }
 }
 
+class _ProcessCameraProviderHostApiCodec extends StandardMessageCodec {
+  const _ProcessCameraProviderHostApiCodec();
+  @override
+  void writeValue(WriteBuffer buffer, Object? value) {
+    if (value is CameraPrewarmTimings) {
+      buffer.putUint8(128);
+      writeValue(buffer, value.encode());
+    } else {
+      super.writeValue(buffer, value);
+    }
+  }
+
+  @override
+  Object? readValueOfType(int type, ReadBuffer buffer) {
+    switch (type) {
+      case 128:
+        return CameraPrewarmTimings.decode(readValue(buffer)!);
+      default:
+        return super.readValueOfType(type, buffer);
+    }
+  }
+}
+
 class ProcessCameraProviderHostApi {
   /// Constructor for [ProcessCameraProviderHostApi].  The [binaryMessenger] named argument is
   /// available for dependency injection.  If it is left null, the default
@@ -637,7 +935,7 @@ class ProcessCameraProviderHostApi {
       : _binaryMessenger = binaryMessenger;
   final BinaryMessenger? _binaryMessenger;
 
-  static const MessageCodec<Object?> codec = StandardMessageCodec();
+  static const MessageCodec<Object?> codec = _ProcessCameraProviderHostApiCodec();
 
   Future<int> getInstance() async {
     final BasicMessageChannel<Object?> channel = BasicMessageChannel<Object?>(
@@ -796,6 +1094,34 @@ class ProcessCameraProviderHostApi {
       return;
     }
   }
+
+  Future<CameraPrewarmTimings> prewarm(
+      int? arg_cameraSelectorIdentifier) async {
+    final BasicMessageChannel<Object?> channel = BasicMessageChannel<Object?>(
+        'dev.flutter.pigeon.ProcessCameraProviderHostApi.prewarm', codec,
+        binaryMessenger: _binaryMessenger);
+    final List<Object?>? replyList = await channel
+        .send(<Object?>[arg_cameraSelectorIdentifier]) as List<Object?>?;
+    if (replyList == null) {
+      throw PlatformException(
+        code: 'channel-error',
+        message: 'Unable to establish connection on channel.',
+      );
+    } else if (replyList.length > 1) {
+      throw PlatformException(
+        code: replyList[0]! as String,
+        message: replyList[1] as String?,
+        details: replyList[2],
+      );
+    } else if (replyList[0] == null) {
+      throw PlatformException(
+        code: 'null-error',
+        message: 'Host platform returned null value for non-null return value.',
+      );
+    } else {
+      return (replyList[0] as CameraPrewarmTimings?)!;
+    }
+  }
 }
 
 abstract class ProcessCameraProviderFlutterApi {
@@ -1973,6 +2299,34 @@ class ImageCaptureHostApi {
       return;
     }
   }
+
+  Future<Uint8List> takePictureToMemory(
+      int arg_identifier, int? arg_maxDimension) async {
+    final BasicMessageChannel<Object?> channel = BasicMessageChannel<Object?>(
+        'dev.flutter.pigeon.ImageCaptureHostApi.takePictureToMemory', codec,
+        binaryMessenger: _binaryMessenger);
+    final List<Object?>? replyList = await channel
+        .send(<Object?>[arg_identifier, arg_maxDimension]) as List<Object?>?;
+    if (replyList == null) {
+      throw PlatformException(
+        code: 'channel-error',
+        message: 'Unable to establish connection on channel.',
+      );
+    } else if (replyList.length > 1) {
+      throw PlatformException(
+        code: replyList[0]! as String,
+        message: replyList[1] as String?,
+        details: replyList[2],
+      );
+    } else if (replyList[0] == null) {
+      throw PlatformException(
+        code: 'null-error',
+        message: 'Host platform returned null value for non-null return value.',
+      );
+    } else {
+      return (replyList[0] as Uint8List?)!;
+    }
+  }
 }
 
 class _ResolutionStrategyHostApiCodec extends StandardMessageCodec {
@@ -3687,3 +4041,153 @@ abstract class Camera2CameraInfoFlutterApi {
     }
   }
 }
+
+class _CameraCapabilitiesHostApiCodec extends StandardMessageCodec {
+  const _CameraCapabilitiesHostApiCodec();
+  @override
+  void writeValue(WriteBuffer buffer, Object? value) {
+    if (value is CameraCapabilities) {
+      buffer.putUint8(128);
+      writeValue(buffer, value.encode());
+    } else if (value is ResolutionInfo) {
+      buffer.putUint8(129);
+      writeValue(buffer, value.encode());
+    } else if (value is VideoQualityData) {
+      buffer.putUint8(130);
+      writeValue(buffer, value.encode());
+    } else {
+      super.writeValue(buffer, value);
+    }
+  }
+
+  @override
+  Object? readValueOfType(int type, ReadBuffer buffer) {
+    switch (type) {
+      case 128:
+        return CameraCapabilities.decode(readValue(buffer)!);
+      case 129:
+        return ResolutionInfo.decode(readValue(buffer)!);
+      case 130:
+        return VideoQualityData.decode(readValue(buffer)!);
+      default:
+        return super.readValueOfType(type, buffer);
+    }
+  }
+}
+
+class CameraCapabilitiesHostApi {
+  /// Constructor for [CameraCapabilitiesHostApi].  The [binaryMessenger] named argument is
+  /// available for dependency injection.  If it is left null, the default
+  /// BinaryMessenger will be used which routes to the host platform.
+  CameraCapabilitiesHostApi({BinaryMessenger? binaryMessenger})
+      : _binaryMessenger = binaryMessenger;
+  final BinaryMessenger? _binaryMessenger;
+
+  static const MessageCodec<Object?> codec = _CameraCapabilitiesHostApiCodec();
+
+  Future<List<CameraCapabilities?>> getAvailableCameraCapabilities(
+      int arg_processCameraProviderIdentifier) async {
+    final BasicMessageChannel<Object?> channel = BasicMessageChannel<Object?>(
+        'dev.flutter.pigeon.CameraCapabilitiesHostApi.getAvailableCameraCapabilities',
+        codec,
+        binaryMessenger: _binaryMessenger);
+    final List<Object?>? replyList = await channel
+        .send(<Object?>[arg_processCameraProviderIdentifier]) as List<Object?>?;
+    if (replyList == null) {
+      throw PlatformException(
+        code: 'channel-error',
+        message: 'Unable to establish connection on channel.',
+      );
+    } else if (replyList.length > 1) {
+      throw PlatformException(
+        code: replyList[0]! as String,
+        message: replyList[1] as String?,
+        details: replyList[2],
+      );
+    } else if (replyList[0] == null) {
+      throw PlatformException(
+        code: 'null-error',
+        message: 'Host platform returned null value for non-null return value.',
+      );
+    } else {
+      return (replyList[0] as List<Object?>?)!.cast<CameraCapabilities?>();
+    }
+  }
+}
+
+class _UseCaseConfigurationHostApiCodec extends StandardMessageCodec {
+  const _UseCaseConfigurationHostApiCodec();
+  @override
+  void writeValue(WriteBuffer buffer, Object? value) {
+    if (value is QualitySelectorData) {
+      buffer.putUint8(128);
+      writeValue(buffer, value.encode());
+    } else if (value is ResolutionInfo) {
+      buffer.putUint8(129);
+      writeValue(buffer, value.encode());
+    } else if (value is ResolutionSelectorData) {
+      buffer.putUint8(130);
+      writeValue(buffer, value.encode());
+    } else if (value is UseCaseConfigurationData) {
+      buffer.putUint8(131);
+      writeValue(buffer, value.encode());
+    } else if (value is VideoQualityData) {
+      buffer.putUint8(132);
+      writeValue(buffer, value.encode());
+    } else {
+      super.writeValue(buffer, value);
+    }
+  }
+
+  @override
+  Object? readValueOfType(int type, ReadBuffer buffer) {
+    switch (type) {
+      case 128:
+        return QualitySelectorData.decode(readValue(buffer)!);
+      case 129:
+        return ResolutionInfo.decode(readValue(buffer)!);
+      case 130:
+        return ResolutionSelectorData.decode(readValue(buffer)!);
+      case 131:
+        return UseCaseConfigurationData.decode(readValue(buffer)!);
+      case 132:
+        return VideoQualityData.decode(readValue(buffer)!);
+      default:
+        return super.readValueOfType(type, buffer);
+    }
+  }
+}
+
+class UseCaseConfigurationHostApi {
+  /// Constructor for [UseCaseConfigurationHostApi].  The [binaryMessenger] named argument is
+  /// available for dependency injection.  If it is left null, the default
+  /// BinaryMessenger will be used which routes to the host platform.
+  UseCaseConfigurationHostApi({BinaryMessenger? binaryMessenger})
+      : _binaryMessenger = binaryMessenger;
+  final BinaryMessenger? _binaryMessenger;
+
+  static const MessageCodec<Object?> codec =
+      _UseCaseConfigurationHostApiCodec();
+
+  Future<void> configure(UseCaseConfigurationData arg_configuration) async {
+    final BasicMessageChannel<Object?> channel = BasicMessageChannel<Object?>(
+        'dev.flutter.pigeon.UseCaseConfigurationHostApi.configure', codec,
+        binaryMessenger: _binaryMessenger);
+    final List<Object?>? replyList =
+        await channel.send(<Object?>[arg_configuration]) as List<Object?>?;
+    if (replyList == null) {
+      throw PlatformException(
+        code: 'channel-error',
+        message: 'Unable to establish connection on channel.',
+      );
+    } else if (replyList.length > 1) {
+      throw PlatformException(
+        code: replyList[0]! as String,
+        message: replyList[1] as String?,
+        details: replyList[2],
+      );
+    } else {
+      return;
+    }
+  }
+}
@@ -32,29 +32,34 @@ import 'resolution_filter.dart';
 import 'resolution_selector.dart';
 import 'resolution_strategy.dart';
 import 'system_services.dart';
+import 'use_case_configuration.dart';
 import 'video_capture.dart';
 
 /// Handles `JavaObject` creation and calling their methods that require
 /// testing.
 ///
 /// By default, each function will create `JavaObject`s attached to an
-/// `InstanceManager` and call through to the appropriate method.
+/// `InstanceManager` and call through to the appropriate method, except for
+/// the use cases of a camera and their selectors, which are created detached
+/// and then created natively at once by [configureUseCases].
 class CameraXProxy {
   /// Constructs a [CameraXProxy].
   CameraXProxy({
     this.getProcessCameraProvider = _getProcessCameraProvider,
+    this.prewarmProcessCameraProvider = _prewarmProcessCameraProvider,
     this.createCameraSelector = _createAttachedCameraSelector,
-    this.createPreview = _createAttachedPreview,
-    this.createImageCapture = _createAttachedImageCapture,
-    this.createRecorder = _createAttachedRecorder,
+    this.createPreview = _createDetachedPreview,
+    this.createImageCapture = _createDetachedImageCapture,
+    this.createRecorder = _createDetachedRecorder,
+    this.configureUseCases = _configureUseCases,
     this.createVideoCapture = _createAttachedVideoCapture,
-    this.createImageAnalysis = _createAttachedImageAnalysis,
+    this.createImageAnalysis = _createDetachedImageAnalysis,
     this.createAnalyzer = _createAttachedAnalyzer,
     this.createCameraStateObserver = _createAttachedCameraStateObserver,
-    this.createResolutionStrategy = _createAttachedResolutionStrategy,
-    this.createResolutionSelector = _createAttachedResolutionSelector,
-    this.createFallbackStrategy = _createAttachedFallbackStrategy,
-    this.createQualitySelector = _createAttachedQualitySelector,
+    this.createResolutionStrategy = _createDetachedResolutionStrategy,
+    this.createResolutionSelector = _createDetachedResolutionSelector,
+    this.createFallbackStrategy = _createDetachedFallbackStrategy,
+    this.createQualitySelector = _createDetachedQualitySelector,
     this.requestCameraPermissions = _requestCameraPermissions,
     this.startListeningForDeviceOrientationChange =
         _startListeningForDeviceOrientationChange,
@@ -64,9 +69,9 @@ class CameraXProxy {
     this.createCaptureRequestOptions = _createAttachedCaptureRequestOptions,
     this.createMeteringPoint = _createAttachedMeteringPoint,
     this.createFocusMeteringAction = _createAttachedFocusMeteringAction,
-    this.createAspectRatioStrategy = _createAttachedAspectRatioStrategy,
+    this.createAspectRatioStrategy = _createDetachedAspectRatioStrategy,
     this.createResolutionFilterWithOnePreferredSize =
-        _createAttachedResolutionFilterWithOnePreferredSize,
+        _createDetachedResolutionFilterWithOnePreferredSize,
     this.getCamera2CameraInfo = _getCamera2CameraInfo,
     this.getUiOrientation = _getUiOrientation,
     this.getSensorOrientation = _getSensorOrientation,
@@ -75,6 +80,11 @@ class CameraXProxy {
   /// Returns a [ProcessCameraProvider] instance.
   Future<ProcessCameraProvider> Function() getProcessCameraProvider;
 
+  /// Initializes the [ProcessCameraProvider] and, if a [CameraSelector] is
+  /// specified, opens the selected camera ahead of binding use cases to it.
+  Future<CameraPrewarmTimings> Function(CameraSelector? cameraSelector)
+      prewarmProcessCameraProvider;
+
   /// Returns a [CameraSelector] based on the specified camera lens direction.
   CameraSelector Function(int cameraSelectorLensDirection) createCameraSelector;
 
@@ -95,6 +105,11 @@ class CameraXProxy {
   /// specified [QualitySelector].
   Recorder Function(QualitySelector? qualitySelector) createRecorder;
 
+  /// Creates the specified [Preview], [ImageCapture], [ImageAnalysis], and
+  /// [Recorder] together with their selectors on the native side in one call.
+  Future<void> Function(Preview preview, ImageCapture imageCapture,
+      ImageAnalysis imageAnalysis, Recorder recorder) configureUseCases;
+
   /// Returns a [VideoCapture] associated with the provided [Recorder].
   Future<VideoCapture> Function(Recorder recorder) createVideoCapture;
 
@@ -204,6 +219,11 @@ class CameraXProxy {
     return ProcessCameraProvider.getInstance();
   }
 
+  static Future<CameraPrewarmTimings> _prewarmProcessCameraProvider(
+      CameraSelector? cameraSelector) {
+    return ProcessCameraProvider.prewarm(cameraSelector: cameraSelector);
+  }
+
   static CameraSelector _createAttachedCameraSelector(
       int cameraSelectorLensDirection) {
     switch (cameraSelectorLensDirection) {
@@ -216,22 +236,31 @@ class CameraXProxy {
     }
   }
 
-  static Preview _createAttachedPreview(
+  static Preview _createDetachedPreview(
       ResolutionSelector? resolutionSelector, int? targetRotation) {
-    return Preview(
+    return Preview.detached(
         initialTargetRotation: targetRotation,
         resolutionSelector: resolutionSelector);
   }
 
-  static ImageCapture _createAttachedImageCapture(
+  static ImageCapture _createDetachedImageCapture(
       ResolutionSelector? resolutionSelector, int? targetRotation) {
-    return ImageCapture(
+    return ImageCapture.detached(
         resolutionSelector: resolutionSelector,
         initialTargetRotation: targetRotation);
   }
 
-  static Recorder _createAttachedRecorder(QualitySelector? qualitySelector) {
-    return Recorder(qualitySelector: qualitySelector);
+  static Recorder _createDetachedRecorder(QualitySelector? qualitySelector) {
+    return Recorder.detached(qualitySelector: qualitySelector);
+  }
+
+  static Future<void> _configureUseCases(
+      Preview preview,
+      ImageCapture imageCapture,
+      ImageAnalysis imageAnalysis,
+      Recorder recorder) {
+    return UseCaseConfiguration.configure(
+        preview, imageCapture, imageAnalysis, recorder);
   }
 
   static Future<VideoCapture> _createAttachedVideoCapture(
@@ -239,9 +268,9 @@ class CameraXProxy {
     return VideoCapture.withOutput(recorder);
   }
 
-  static ImageAnalysis _createAttachedImageAnalysis(
+  static ImageAnalysis _createDetachedImageAnalysis(
       ResolutionSelector? resolutionSelector, int? targetRotation) {
-    return ImageAnalysis(
+    return ImageAnalysis.detached(
         resolutionSelector: resolutionSelector,
         initialTargetRotation: targetRotation);
   }
@@ -256,38 +285,39 @@ class CameraXProxy {
     return Observer<CameraState>(onChanged: onChanged);
   }
 
-  static ResolutionStrategy _createAttachedResolutionStrategy(
+  static ResolutionStrategy _createDetachedResolutionStrategy(
       {bool highestAvailable = false, Size? boundSize, int? fallbackRule}) {
     if (highestAvailable) {
-      return ResolutionStrategy.highestAvailableStrategy();
+      return ResolutionStrategy.detachedHighestAvailableStrategy();
     }
 
-    return ResolutionStrategy(
+    return ResolutionStrategy.detached(
         boundSize: boundSize!, fallbackRule: fallbackRule);
   }
 
-  static ResolutionSelector _createAttachedResolutionSelector(
+  static ResolutionSelector _createDetachedResolutionSelector(
       ResolutionStrategy resolutionStrategy,
       ResolutionFilter? resolutionFilter,
       AspectRatioStrategy? aspectRatioStrategy) {
-    return ResolutionSelector(
+    return ResolutionSelector.detached(
         resolutionStrategy: resolutionStrategy,
         resolutionFilter: resolutionFilter,
         aspectRatioStrategy: aspectRatioStrategy);
   }
 
-  static FallbackStrategy _createAttachedFallbackStrategy(
+  static FallbackStrategy _createDetachedFallbackStrategy(
       {required VideoQuality quality,
       required VideoResolutionFallbackRule fallbackRule}) {
-    return FallbackStrategy(quality: quality, fallbackRule: fallbackRule);
+    return FallbackStrategy.detached(
+        quality: quality, fallbackRule: fallbackRule);
   }
 
-  static QualitySelector _createAttachedQualitySelector(
+  static QualitySelector _createDetachedQualitySelector(
       {required VideoQuality videoQuality,
       required FallbackStrategy fallbackStrategy}) {
-    return QualitySelector.from(
-        quality: VideoQualityData(quality: videoQuality),
-        fallbackStrategy: fallbackStrategy);
+    return QualitySelector.detached(qualityList: <VideoQualityData>[
+      VideoQualityData(quality: videoQuality)
+    ], fallbackStrategy: fallbackStrategy);
   }
 
   static Future<void> _requestCameraPermissions(bool enableAudio) async {
@@ -330,15 +360,15 @@ class CameraXProxy {
         disableAutoCancel: disableAutoCancel);
   }
 
-  static AspectRatioStrategy _createAttachedAspectRatioStrategy(
+  static AspectRatioStrategy _createDetachedAspectRatioStrategy(
       int preferredAspectRatio, int fallbackRule) {
-    return AspectRatioStrategy(
+    return AspectRatioStrategy.detached(
         preferredAspectRatio: preferredAspectRatio, fallbackRule: fallbackRule);
   }
 
-  static ResolutionFilter _createAttachedResolutionFilterWithOnePreferredSize(
+  static ResolutionFilter _createDetachedResolutionFilterWithOnePreferredSize(
       Size preferredSize) {
-    return ResolutionFilter.onePreferredSize(
+    return ResolutionFilter.onePreferredSizeDetached(
         preferredResolution: preferredSize);
   }
 
@@ -2,6 +2,8 @@
 // Use of this source code is governed by a BSD-style license that can be
 // found in the LICENSE file.
 
+import 'dart:typed_data' show Uint8List;
+
 import 'package:flutter/services.dart' show BinaryMessenger;
 import 'package:meta/meta.dart' show immutable;
 
@@ -117,6 +119,26 @@ class ImageCapture extends UseCase {
   Future<String> takePicture() async {
     return _api.takePictureFromInstances(this);
   }
+
+  /// Takes a picture and returns its encoded JPEG bytes without saving it to
+  /// a file.
+  ///
+  /// If [maxDimension] is specified, the picture is downscaled so that its
+  /// width and height are at most [maxDimension] and rotated upright before
+  /// being returned. Otherwise, the bytes are returned as captured, with the
+  /// orientation of the picture in their Exif data. Throws an [ArgumentError]
+  /// if [maxDimension] is not positive.
+  ///
+  /// This uses ImageCapture.OnImageCapturedCallback; see
+  /// https://developer.android.com/reference/androidx/camera/core/ImageCapture.OnImageCapturedCallback
+  /// for more information.
+  Future<Uint8List> takePictureToMemory({int? maxDimension}) async {
+    if (maxDimension != null && maxDimension <= 0) {
+      throw ArgumentError(
+          'maxDimension must be positive but was $maxDimension.');
+    }
+    return _api.takePictureToMemoryFromInstances(this, maxDimension);
+  }
 }
 
 /// Host API implementation of [ImageCapture].
@@ -192,4 +214,15 @@ class ImageCaptureHostApiImpl extends ImageCaptureHostApi {
     final String picturePath = await takePicture(identifier!);
     return picturePath;
   }
+
+  /// Takes a picture with the specified [ImageCapture] instance and returns
+  /// its encoded bytes.
+  Future<Uint8List> takePictureToMemoryFromInstances(
+      ImageCapture instance, int? maxDimension) {
+    final int? identifier = instanceManager.getIdentifier(instance);
+    assert(identifier != null,
+        'No ImageCapture has the identifer of that requested to take a picture with.');
+
+    return takePictureToMemory(identifier!, maxDimension);
+  }
 }
@@ -27,11 +27,15 @@ class ProcessCameraProvider extends JavaObject {
             instanceManager: instanceManager) {
     _api = ProcessCameraProviderHostApiImpl(
         binaryMessenger: binaryMessenger, instanceManager: instanceManager);
+    _capabilitiesApi = CameraCapabilitiesHostApiImpl(
+        binaryMessenger: binaryMessenger, instanceManager: instanceManager);
     AndroidCameraXCameraFlutterApis.instance.ensureSetUp();
   }
 
   late final ProcessCameraProviderHostApiImpl _api;
 
+  late final CameraCapabilitiesHostApiImpl _capabilitiesApi;
+
   /// Gets an instance of [ProcessCameraProvider].
   static Future<ProcessCameraProvider> getInstance(
       {BinaryMessenger? binaryMessenger, InstanceManager? instanceManager}) {
@@ -43,11 +47,37 @@ class ProcessCameraProvider extends JavaObject {
     return api.getInstancefromInstances();
   }
 
+  /// Initializes the [ProcessCameraProvider] ahead of [getInstance] and
+  /// returns how long that took.
+  ///
+  /// If [cameraSelector] is specified, a preview of the selected camera is
+  /// also bound so the camera is opened before the first call to
+  /// [bindToLifecycle], which replaces that preview.
+  static Future<CameraPrewarmTimings> prewarm(
+      {CameraSelector? cameraSelector,
+      BinaryMessenger? binaryMessenger,
+      InstanceManager? instanceManager}) {
+    AndroidCameraXCameraFlutterApis.instance.ensureSetUp();
+    final ProcessCameraProviderHostApiImpl api =
+        ProcessCameraProviderHostApiImpl(
+            binaryMessenger: binaryMessenger, instanceManager: instanceManager);
+
+    return api.prewarmFromInstances(cameraSelector);
+  }
+
   /// Retrieves the cameras available to the device.
   Future<List<CameraInfo>> getAvailableCameraInfos() {
     return _api.getAvailableCameraInfosFromInstances(this);
   }
 
+  /// Retrieves the capabilities of the cameras available to the device.
+  ///
+  /// The capabilities of every camera are read in parallel in one call to the
+  /// platform, and cached there for later calls.
+  Future<List<CameraCapabilities>> getAvailableCameraCapabilities() {
+    return _capabilitiesApi.getAvailableCameraCapabilitiesFromInstances(this);
+  }
+
   /// Binds the specified [UseCase]s to the lifecycle of the camera that it
   /// returns.
   Future<Camera> bindToLifecycle(
@@ -103,6 +133,15 @@ class ProcessCameraProviderHostApiImpl extends ProcessCameraProviderHostApi {
         await getInstance())!;
   }
 
+  /// Initializes the ProcessCameraProvider and, if [cameraSelector] is
+  /// specified, binds a preview of the camera it selects.
+  Future<CameraPrewarmTimings> prewarmFromInstances(
+      CameraSelector? cameraSelector) {
+    return prewarm(cameraSelector == null
+        ? null
+        : instanceManager.getIdentifier(cameraSelector));
+  }
+
   /// Gets identifier that the [instanceManager] has set for
   /// the [ProcessCameraProvider] instance.
   int getProcessCameraProviderIdentifier(ProcessCameraProvider instance) {
@@ -183,6 +222,42 @@ class ProcessCameraProviderHostApiImpl extends ProcessCameraProviderHostApi {
   }
 }
 
+/// Host API implementation of [CameraCapabilities].
+class CameraCapabilitiesHostApiImpl extends CameraCapabilitiesHostApi {
+  /// Constructs a [CameraCapabilitiesHostApiImpl].
+  ///
+  /// If [binaryMessenger] is null, the default [BinaryMessenger] will be used,
+  /// which routes to the host platform.
+  ///
+  /// An [instanceManager] is typically passed when a copy of an instance
+  /// contained by an [InstanceManager] is being created. If left null, it
+  /// will default to the global instance defined in [JavaObject].
+  CameraCapabilitiesHostApiImpl(
+      {this.binaryMessenger, InstanceManager? instanceManager})
+      : super(binaryMessenger: binaryMessenger) {
+    this.instanceManager = instanceManager ?? JavaObject.globalInstanceManager;
+  }
+
+  /// Receives binary data across the Flutter platform barrier.
+  final BinaryMessenger? binaryMessenger;
+
+  /// Maintains instances stored to communicate with native language objects.
+  late final InstanceManager instanceManager;
+
+  /// Retrieves the capabilities of the cameras available to the specified
+  /// [ProcessCameraProvider] instance.
+  Future<List<CameraCapabilities>> getAvailableCameraCapabilitiesFromInstances(
+      ProcessCameraProvider instance) async {
+    final List<CameraCapabilities?> capabilities =
+        await getAvailableCameraCapabilities(
+            instanceManager.getIdentifier(instance)!);
+    return capabilities
+        .map<CameraCapabilities>(
+            (CameraCapabilities? cameraCapabilities) => cameraCapabilities!)
+        .toList();
+  }
+}
+
 /// Flutter API Implementation of [ProcessCameraProvider].
 class ProcessCameraProviderFlutterApiImpl
     implements ProcessCameraProviderFlutterApi {
@@ -0,0 +1,170 @@
+// Copyright 2013 The Flutter Authors. All rights reserved.
+// Use of this source code is governed by a BSD-style license that can be
+// found in the LICENSE file.
+
+import 'dart:ui' show Size;
+
+import 'package:flutter/services.dart' show BinaryMessenger;
+
+import 'camerax_library.g.dart';
+import 'image_analysis.dart';
+import 'image_capture.dart';
+import 'instance_manager.dart';
+import 'java_object.dart';
+import 'preview.dart';
+import 'quality_selector.dart';
+import 'recorder.dart';
+import 'resolution_selector.dart';
+
+// Ignoring lint indicating this class only contains static members
+// as this class is a wrapper for a single native call.
+// ignore_for_file: avoid_classes_with_only_static_members
+
+/// Creates the native use cases of a camera in one call.
+///
+/// Creating each use case and each of its selectors separately takes one
+/// message to the native side per object. Instead, this creates the native
+/// [Preview], [ImageCapture], [ImageAnalysis], and [Recorder] of detached
+/// instances at once, building their selectors from the selector fields on
+/// the native side without adding the selectors to the [InstanceManager].
+class UseCaseConfiguration {
+  /// Creates the native use cases of the specified detached instances.
+  ///
+  /// The use cases are created with their [ResolutionSelector]s and
+  /// [QualitySelector]. Their target rotations, flash mode, aspect ratio and
+  /// bit rate are left to the CameraX defaults.
+  static Future<void> configure(
+    Preview preview,
+    ImageCapture imageCapture,
+    ImageAnalysis imageAnalysis,
+    Recorder recorder, {
+    BinaryMessenger? binaryMessenger,
+    InstanceManager? instanceManager,
+  }) {
+    assert(
+        preview.initialTargetRotation == null &&
+            imageCapture.initialTargetRotation == null &&
+            imageCapture.targetFlashMode == null &&
+            imageAnalysis.initialTargetRotation == null &&
+            recorder.aspectRatio == null &&
+            recorder.bitRate == null,
+        'Only selectors can be configured for the use cases.');
+    final UseCaseConfigurationHostApiImpl api = UseCaseConfigurationHostApiImpl(
+        binaryMessenger: binaryMessenger, instanceManager: instanceManager);
+    return api.configureFromInstances(
+        preview, imageCapture, imageAnalysis, recorder);
+  }
+}
+
+/// Host API implementation of [UseCaseConfiguration].
+class UseCaseConfigurationHostApiImpl extends UseCaseConfigurationHostApi {
+  /// Constructs a [UseCaseConfigurationHostApiImpl].
+  ///
+  /// If [binaryMessenger] is null, the default [BinaryMessenger] will be used,
+  /// which routes to the host platform.
+  ///
+  /// An [instanceManager] is typically passed when a copy of an instance
+  /// contained by an [InstanceManager] is being created. If left null, it
+  /// will default to the global instance defined in [JavaObject].
+  UseCaseConfigurationHostApiImpl(
+      {this.binaryMessenger, InstanceManager? instanceManager})
+      : instanceManager = instanceManager ?? JavaObject.globalInstanceManager,
+        super(binaryMessenger: binaryMessenger);
+
+  /// Receives binary data across the Flutter platform barrier.
+  final BinaryMessenger? binaryMessenger;
+
+  /// Maintains instances stored to communicate with native language objects.
+  final InstanceManager instanceManager;
+
+  /// Adds the use cases to the [InstanceManager] and creates them on the
+  /// native side in one call.
+  Future<void> configureFromInstances(
+    Preview preview,
+    ImageCapture imageCapture,
+    ImageAnalysis imageAnalysis,
+    Recorder recorder,
+  ) {
+    return configure(UseCaseConfigurationData(
+      previewIdentifier: instanceManager.addDartCreatedInstance(preview,
+          onCopy: (Preview original) => Preview.detached(
+              binaryMessenger: binaryMessenger,
+              instanceManager: instanceManager,
+              initialTargetRotation: original.initialTargetRotation,
+              resolutionSelector: original.resolutionSelector)),
+      imageCaptureIdentifier: instanceManager.addDartCreatedInstance(
+          imageCapture,
+          onCopy: (ImageCapture original) => ImageCapture.detached(
+              binaryMessenger: binaryMessenger,
+              instanceManager: instanceManager,
+              initialTargetRotation: original.initialTargetRotation,
+              targetFlashMode: original.targetFlashMode,
+              resolutionSelector: original.resolutionSelector)),
+      imageAnalysisIdentifier: instanceManager.addDartCreatedInstance(
+          imageAnalysis,
+          onCopy: (ImageAnalysis original) => ImageAnalysis.detached(
+              binaryMessenger: binaryMessenger,
+              instanceManager: instanceManager,
+              initialTargetRotation: original.initialTargetRotation,
+              resolutionSelector: original.resolutionSelector)),
+      recorderIdentifier: instanceManager.addDartCreatedInstance(recorder,
+          onCopy: (Recorder original) => Recorder.detached(
+              binaryMessenger: binaryMessenger,
+              instanceManager: instanceManager,
+              aspectRatio: original.aspectRatio,
+              bitRate: original.bitRate,
+              qualitySelector: original.qualitySelector)),
+      previewResolutionSelector:
+          _getResolutionSelectorData(preview.resolutionSelector),
+      imageCaptureResolutionSelector:
+          _getResolutionSelectorData(imageCapture.resolutionSelector),
+      imageAnalysisResolutionSelector:
+          _getResolutionSelectorData(imageAnalysis.resolutionSelector),
+      recorderQualitySelector:
+          _getQualitySelectorData(recorder.qualitySelector),
+    ));
+  }
+
+  /// Describes [resolutionSelector]; a selector without a resolution strategy
+  /// chooses the highest available resolution.
+  ResolutionSelectorData? _getResolutionSelectorData(
+      ResolutionSelector? resolutionSelector) {
+    if (resolutionSelector == null) {
+      return null;
+    }
+
+    return ResolutionSelectorData(
+      boundSize: _getResolutionInfo(
+          resolutionSelector.resolutionStrategy?.boundSize),
+      fallbackRule: resolutionSelector.resolutionStrategy?.fallbackRule,
+      preferredResolution: _getResolutionInfo(
+          resolutionSelector.resolutionFilter?.preferredResolution),
+      preferredAspectRatio:
+          resolutionSelector.aspectRatioStrategy?.preferredAspectRatio,
+      aspectRatioFallbackRule:
+          resolutionSelector.aspectRatioStrategy?.fallbackRule,
+    );
+  }
+
+  QualitySelectorData? _getQualitySelectorData(
+      QualitySelector? qualitySelector) {
+    if (qualitySelector == null) {
+      return null;
+    }
+
+    return QualitySelectorData(
+      qualityList: qualitySelector.qualityList,
+      fallbackQuality: qualitySelector.fallbackStrategy?.quality,
+      fallbackRule: qualitySelector.fallbackStrategy?.fallbackRule,
+    );
+  }
+
+  ResolutionInfo? _getResolutionInfo(Size? size) {
+    if (size == null) {
+      return null;
+    }
+
+    return ResolutionInfo(
+        width: size.width.toInt(), height: size.height.toInt());
+  }
+}
@@ -152,6 +152,141 @@ class MeteringPointInfo {
   int? meteringMode;
 }
 
+/// The capabilities of a camera, read at once on the native side.
+class CameraCapabilities {
+  CameraCapabilities({
+    required this.cameraInfoId,
+    required this.cameraId,
+    this.lensFacing,
+    required this.sensorRotationDegrees,
+    required this.supportedHardwareLevel,
+    required this.minExposureCompensation,
+    required this.maxExposureCompensation,
+    required this.exposureCompensationStep,
+    required this.minZoomRatio,
+    required this.maxZoomRatio,
+    required this.supportedVideoQualities,
+    required this.supportedVideoResolutions,
+  });
+
+  /// InstanceManager ID for the [CameraInfo] of the camera.
+  int cameraInfoId;
+
+  /// The Camera2 ID of the camera.
+  String cameraId;
+
+  /// The direction the lens faces, one of the [CameraSelector] lens facing
+  /// constants, or null if unknown.
+  int? lensFacing;
+
+  int sensorRotationDegrees;
+
+  /// One of the Camera2 `INFO_SUPPORTED_HARDWARE_LEVEL` constants.
+  int supportedHardwareLevel;
+
+  int minExposureCompensation;
+  int maxExposureCompensation;
+  double exposureCompensationStep;
+
+  double minZoomRatio;
+  double maxZoomRatio;
+
+  /// The video qualities the camera can record, from highest to lowest.
+  List<VideoQualityData?> supportedVideoQualities;
+
+  /// The resolution of each of the [supportedVideoQualities].
+  List<ResolutionInfo?> supportedVideoResolutions;
+}
+
+class CameraPrewarmTimings {
+  CameraPrewarmTimings({
+    required this.providerMillis,
+    this.previewBindMillis,
+  });
+
+  /// Milliseconds until the `ProcessCameraProvider` was available.
+  int providerMillis;
+
+  /// Milliseconds to bind preview, or null if preview was not pre-bound.
+  int? previewBindMillis;
+}
+
+/// Describes a `ResolutionSelector` to build in
+/// [UseCaseConfigurationHostApi.configure].
+class ResolutionSelectorData {
+  ResolutionSelectorData({
+    this.boundSize,
+    this.fallbackRule,
+    this.preferredResolution,
+    this.preferredAspectRatio,
+    this.aspectRatioFallbackRule,
+  });
+
+  /// The bound size of the `ResolutionStrategy`, or null to choose the highest
+  /// available resolution.
+  ResolutionInfo? boundSize;
+
+  /// The fallback rule of the `ResolutionStrategy`, one of the
+  /// [ResolutionStrategy] fallback rule constants.
+  int? fallbackRule;
+
+  /// The preferred resolution of a `ResolutionFilter`, or null for no filter.
+  ResolutionInfo? preferredResolution;
+
+  /// The preferred aspect ratio of an `AspectRatioStrategy`, one of the
+  /// [AspectRatio] constants, or null for no aspect ratio strategy.
+  int? preferredAspectRatio;
+
+  /// The fallback rule of the `AspectRatioStrategy`.
+  int? aspectRatioFallbackRule;
+}
+
+/// Describes a `QualitySelector` to build in
+/// [UseCaseConfigurationHostApi.configure].
+class QualitySelectorData {
+  QualitySelectorData({
+    required this.qualityList,
+    this.fallbackQuality,
+    this.fallbackRule,
+  });
+
+  List<VideoQualityData?> qualityList;
+
+  /// The quality of the `FallbackStrategy`, or null for no fallback strategy.
+  VideoQuality? fallbackQuality;
+
+  VideoResolutionFallbackRule? fallbackRule;
+}
+
+/// Describes the use cases of a camera to build in one
+/// [UseCaseConfigurationHostApi.configure] call.
+class UseCaseConfigurationData {
+  UseCaseConfigurationData({
+    required this.previewIdentifier,
+    required this.imageCaptureIdentifier,
+    required this.imageAnalysisIdentifier,
+    required this.recorderIdentifier,
+    this.previewResolutionSelector,
+    this.imageCaptureResolutionSelector,
+    this.imageAnalysisResolutionSelector,
+    this.recorderQualitySelector,
+  });
+
+  /// InstanceManager IDs the built use cases are added with.
+  int previewIdentifier;
+  int imageCaptureIdentifier;
+  int imageAnalysisIdentifier;
+  int recorderIdentifier;
+
+  /// The resolution selector of each use case, or null for the CameraX default.
+  ResolutionSelectorData? previewResolutionSelector;
+  ResolutionSelectorData? imageCaptureResolutionSelector;
+  ResolutionSelectorData? imageAnalysisResolutionSelector;
+
+  /// The quality selector of the recorder, or null for the CameraX default.
+  QualitySelectorData? recorderQualitySelector;
+}
+
 /// The types of capture request options this plugin currently supports.
 ///
 /// If you need to add another option to support, ensure the following is done
@@ -235,6 +370,9 @@ abstract class ProcessCameraProviderHostApi {
   void unbind(int identifier, List<int> useCaseIds);
 
   void unbindAll(int identifier);
+
+  @async
+  CameraPrewarmTimings prewarm(int? cameraSelectorIdentifier);
 }
 
 @FlutterApi()
@@ -369,6 +507,9 @@ abstract class ImageCaptureHostApi {
   String takePicture(int identifier);
 
   void setTargetRotation(int identifier, int rotation);
+
+  @async
+  Uint8List takePictureToMemory(int identifier, int? maxDimension);
 }
 
 @HostApi(dartHostTestHandler: 'TestResolutionStrategyHostApi')
@@ -574,3 +715,15 @@ abstract class Camera2CameraInfoHostApi {
 abstract class Camera2CameraInfoFlutterApi {
   void create(int identifier);
 }
+
+@HostApi(dartHostTestHandler: 'TestCameraCapabilitiesHostApi')
+abstract class CameraCapabilitiesHostApi {
+  @async
+  List<CameraCapabilities> getAvailableCameraCapabilities(
+      int processCameraProviderIdentifier);
+}
+
+@HostApi(dartHostTestHandler: 'TestUseCaseConfigurationHostApi')
+abstract class UseCaseConfigurationHostApi {
+  void configure(UseCaseConfigurationData configuration);
+}
@@ -151,6 +151,7 @@ void main() {
                     initialTargetRotation: targetRotation),
         createRecorder: (QualitySelector? qualitySelector) =>
             Recorder.detached(qualitySelector: qualitySelector),
+        configureUseCases: (_, __, ___, ____) async {},
         createVideoCapture: (_) =>
             Future<VideoCapture>.value(MockVideoCapture()),
         createImageAnalysis:
@@ -263,41 +264,37 @@ void main() {
     // Create mocks to use
     final MockProcessCameraProvider mockProcessCameraProvider =
         MockProcessCameraProvider();
-    final MockCameraSelector mockFrontCameraSelector = MockCameraSelector();
-    final MockCameraSelector mockBackCameraSelector = MockCameraSelector();
-    final MockCameraInfo mockFrontCameraInfo = MockCameraInfo();
-    final MockCameraInfo mockBackCameraInfo = MockCameraInfo();
 
-    // Tell plugin to create mock CameraSelectors for testing.
     camera.proxy = CameraXProxy(
       getProcessCameraProvider: () =>
           Future<ProcessCameraProvider>.value(mockProcessCameraProvider),
-      createCameraSelector: (int cameraSelectorLensDirection) {
-        switch (cameraSelectorLensDirection) {
-          case CameraSelector.lensFacingFront:
-            return mockFrontCameraSelector;
-          case CameraSelector.lensFacingBack:
-          default:
-            return mockBackCameraSelector;
-        }
-      },
     );
 
-    // Mock calls to native platform
-    when(mockProcessCameraProvider.getAvailableCameraInfos()).thenAnswer(
-        (_) async => <MockCameraInfo>[mockBackCameraInfo, mockFrontCameraInfo]);
-    when(mockBackCameraSelector.filter(<MockCameraInfo>[mockFrontCameraInfo]))
-        .thenAnswer((_) async => <MockCameraInfo>[]);
-    when(mockBackCameraSelector.filter(<MockCameraInfo>[mockBackCameraInfo]))
-        .thenAnswer((_) async => <MockCameraInfo>[mockBackCameraInfo]);
-    when(mockFrontCameraSelector.filter(<MockCameraInfo>[mockBackCameraInfo]))
-        .thenAnswer((_) async => <MockCameraInfo>[]);
-    when(mockFrontCameraSelector.filter(<MockCameraInfo>[mockFrontCameraInfo]))
-        .thenAnswer((_) async => <MockCameraInfo>[mockFrontCameraInfo]);
-    when(mockBackCameraInfo.getSensorRotationDegrees())
-        .thenAnswer((_) async => 0);
-    when(mockFrontCameraInfo.getSensorRotationDegrees())
-        .thenAnswer((_) async => 90);
+    CameraCapabilities createCapabilities(
+        String cameraId, int? lensFacing, int sensorRotationDegrees) {
+      return CameraCapabilities(
+        cameraInfoId: 0,
+        cameraId: cameraId,
+        lensFacing: lensFacing,
+        sensorRotationDegrees: sensorRotationDegrees,
+        supportedHardwareLevel: 1,
+        minExposureCompensation: 0,
+        maxExposureCompensation: 0,
+        exposureCompensationStep: 0,
+        minZoomRatio: 1,
+        maxZoomRatio: 1,
+        supportedVideoQualities: <VideoQualityData?>[],
+        supportedVideoResolutions: <ResolutionInfo?>[],
+      );
+    }
+
+    // Mock calls to native platform. The external camera is skipped.
+    when(mockProcessCameraProvider.getAvailableCameraCapabilities())
+        .thenAnswer((_) async => <CameraCapabilities>[
+              createCapabilities('0', CameraSelector.lensFacingBack, 0),
+              createCapabilities('2', CameraSelector.lensFacingExternal, 0),
+              createCapabilities('1', CameraSelector.lensFacingFront, 90),
+            ]);
 
     final List<CameraDescription> cameraDescriptions =
         await camera.availableCameras();
@@ -317,6 +314,41 @@ void main() {
     }
   });
 
+  test(
+      'prewarm warms the camera provider and opens the camera of the specified description',
+      () async {
+    final AndroidCameraCameraX camera = AndroidCameraCameraX();
+    final MockProcessCameraProvider mockProcessCameraProvider =
+        MockProcessCameraProvider();
+    final MockCameraSelector mockFrontCameraSelector = MockCameraSelector();
+    final CameraPrewarmTimings timings =
+        CameraPrewarmTimings(providerMillis: 200, previewBindMillis: 30);
+    CameraSelector? prewarmCameraSelector;
+
+    camera.proxy = CameraXProxy(
+      getProcessCameraProvider: () =>
+          Future<ProcessCameraProvider>.value(mockProcessCameraProvider),
+      prewarmProcessCameraProvider: (CameraSelector? cameraSelector) async {
+        prewarmCameraSelector = cameraSelector;
+        return timings;
+      },
+      createCameraSelector: (int cameraSelectorLensDirection) {
+        expect(cameraSelectorLensDirection, CameraSelector.lensFacingFront);
+        return mockFrontCameraSelector;
+      },
+    );
+
+    expect(
+        await camera.prewarm(
+            description: const CameraDescription(
+                name: 'Camera 1',
+                lensDirection: CameraLensDirection.front,
+                sensorOrientation: 90)),
+        timings);
+    expect(prewarmCameraSelector, mockFrontCameraSelector);
+    expect(camera.processCameraProvider, mockProcessCameraProvider);
+  });
+
   test(
       'createCamera requests permissions, starts listening for device orientation changes, updates camera state observers, and returns flutter surface texture ID',
       () async {
@@ -349,6 +381,7 @@ void main() {
 
     bool cameraPermissionsRequested = false;
     bool startedListeningForDeviceOrientationChanges = false;
+    List<UseCase>? configuredUseCases;
 
     // Tell plugin to create mock/detached objects and stub method calls for the
     // testing of createCamera.
@@ -367,6 +400,11 @@ void main() {
       createPreview: (_, __) => mockPreview,
       createImageCapture: (_, __) => mockImageCapture,
       createRecorder: (_) => mockRecorder,
+      configureUseCases: (Preview preview, ImageCapture imageCapture,
+          ImageAnalysis imageAnalysis, Recorder recorder) async {
+        configuredUseCases = <UseCase>[preview, imageCapture, imageAnalysis];
+        expect(recorder, equals(mockRecorder));
+      },
       createVideoCapture: (_) => Future<VideoCapture>.value(mockVideoCapture),
       createImageAnalysis: (_, __) => mockImageAnalysis,
       createResolutionStrategy: (
@@ -441,6 +479,10 @@ void main() {
     expect(camera.recorder, equals(mockRecorder));
     expect(camera.videoCapture, equals(mockVideoCapture));
 
+    // Verify the use cases are created natively in one call.
+    expect(configuredUseCases,
+        equals(<UseCase>[mockPreview, mockImageCapture, mockImageAnalysis]));
+
     // Verify the camera's Preview instance has its surface provider set.
     verify(camera.preview!.setSurfaceProvider());
 
@@ -502,6 +544,7 @@ void main() {
       createPreview: (_, __) => mockPreview,
       createImageCapture: (_, __) => mockImageCapture,
       createRecorder: (_) => mockRecorder,
+      configureUseCases: (_, __, ___, ____) async {},
       createVideoCapture: (_) => Future<VideoCapture>.value(mockVideoCapture),
       createImageAnalysis: (_, __) => mockImageAnalysis,
       createResolutionStrategy: (
@@ -1034,6 +1077,7 @@ void main() {
       createPreview: (_, __) => mockPreview,
       createImageCapture: (_, __) => mockImageCapture,
       createRecorder: (QualitySelector? qualitySelector) => MockRecorder(),
+      configureUseCases: (_, __, ___, ____) async {},
       createVideoCapture: (_) => Future<VideoCapture>.value(MockVideoCapture()),
       createImageAnalysis: (_, __) => mockImageAnalysis,
       createResolutionStrategy: (
@@ -2033,6 +2077,68 @@ void main() {
     expect(imageFile.path, equals(testPicturePath));
   });
 
+  test(
+      'takePictureToMemory binds ImageCapture to lifecycle and makes call to take a picture in memory',
+      () async {
+    final AndroidCameraCameraX camera = AndroidCameraCameraX();
+    final MockProcessCameraProvider mockProcessCameraProvider =
+        MockProcessCameraProvider();
+    final MockCamera mockCamera = MockCamera();
+    final MockCameraInfo mockCameraInfo = MockCameraInfo();
+    final Uint8List testPictureBytes = Uint8List.fromList(<int>[0xFF, 0xD8]);
+    const int maxDimension = 1024;
+
+    // Set directly for test versus calling createCamera.
+    camera.imageCapture = MockImageCapture();
+    camera.processCameraProvider = mockProcessCameraProvider;
+    camera.cameraSelector = MockCameraSelector();
+
+    // Ignore setting target rotation for this test; tested seprately.
+    camera.captureOrientationLocked = true;
+
+    // Tell plugin to create detached camera state observers.
+    camera.proxy = CameraXProxy(
+        createCameraStateObserver: (void Function(Object) onChanged) =>
+            Observer<CameraState>.detached(onChanged: onChanged));
+
+    when(mockProcessCameraProvider.isBound(camera.imageCapture))
+        .thenAnswer((_) async => false);
+    when(mockProcessCameraProvider.bindToLifecycle(
+            camera.cameraSelector, <UseCase>[camera.imageCapture!]))
+        .thenAnswer((_) async => mockCamera);
+    when(mockCamera.getCameraInfo()).thenAnswer((_) async => mockCameraInfo);
+    when(mockCameraInfo.getCameraState())
+        .thenAnswer((_) async => MockLiveCameraState());
+    when(camera.imageCapture!.takePictureToMemory(maxDimension: maxDimension))
+        .thenAnswer((_) async => testPictureBytes);
+
+    final Uint8List pictureBytes =
+        await camera.takePictureToMemory(3, maxDimension: maxDimension);
+
+    expect(pictureBytes, equals(testPictureBytes));
+    verify(mockProcessCameraProvider.bindToLifecycle(
+        camera.cameraSelector, <UseCase>[camera.imageCapture!]));
+  });
+
+  test(
+      'takePictureToMemory throws for a maxDimension that is not positive without binding ImageCapture',
+      () async {
+    final AndroidCameraCameraX camera = AndroidCameraCameraX();
+    final MockProcessCameraProvider mockProcessCameraProvider =
+        MockProcessCameraProvider();
+
+    // Set directly for test versus calling createCamera.
+    camera.imageCapture = MockImageCapture();
+    camera.processCameraProvider = mockProcessCameraProvider;
+    camera.cameraSelector = MockCameraSelector();
+
+    expect(() => camera.takePictureToMemory(3, maxDimension: -1),
+        throwsArgumentError);
+    verifyNever(mockProcessCameraProvider.bindToLifecycle(any, any));
+    verifyNever(camera.imageCapture!
+        .takePictureToMemory(maxDimension: anyNamed('maxDimension')));
+  });
+
   test(
       'takePicture sets ImageCapture target rotation to currrent photo rotation when orientation unlocked',
       () async {
@@ -948,6 +948,19 @@ class MockImageCapture extends _i1.Mock implements _i31.ImageCapture {
           ),
         )),
       ) as _i17.Future<String>);
+
+  @override
+  _i17.Future<_i34.Uint8List> takePictureToMemory({int? maxDimension}) =>
+      (super.noSuchMethod(
+        Invocation.method(
+          #takePictureToMemory,
+          [],
+          {#maxDimension: maxDimension},
+        ),
+        returnValue: _i17.Future<_i34.Uint8List>.value(_i34.Uint8List(0)),
+        returnValueForMissingStub:
+            _i17.Future<_i34.Uint8List>.value(_i34.Uint8List(0)),
+      ) as _i17.Future<_i34.Uint8List>);
 }
 
 /// A class which mocks [ImageProxy].
@@ -1155,6 +1168,20 @@ class MockProcessCameraProvider extends _i1.Mock
             _i17.Future<List<_i5.CameraInfo>>.value(<_i5.CameraInfo>[]),
       ) as _i17.Future<List<_i5.CameraInfo>>);
 
+  @override
+  _i17.Future<List<_i10.CameraCapabilities>> getAvailableCameraCapabilities() =>
+      (super.noSuchMethod(
+        Invocation.method(
+          #getAvailableCameraCapabilities,
+          [],
+        ),
+        returnValue: _i17.Future<List<_i10.CameraCapabilities>>.value(
+            <_i10.CameraCapabilities>[]),
+        returnValueForMissingStub:
+            _i17.Future<List<_i10.CameraCapabilities>>.value(
+                <_i10.CameraCapabilities>[]),
+      ) as _i17.Future<List<_i10.CameraCapabilities>>);
+
   @override
   _i17.Future<_i12.Camera> bindToLifecycle(
     _i28.CameraSelector? cameraSelector,
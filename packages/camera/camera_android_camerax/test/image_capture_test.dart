@@ -2,6 +2,8 @@
 // Use of this source code is governed by a BSD-style license that can be
 // found in the LICENSE file.
 
+import 'dart:typed_data';
+
 import 'package:camera_android_camerax/src/image_capture.dart';
 import 'package:camera_android_camerax/src/instance_manager.dart';
 import 'package:camera_android_camerax/src/resolution_selector.dart';
@@ -150,5 +152,56 @@ void main() {
       expect(await imageCapture.takePicture(), equals(expectedPicturePath));
       verify(mockApi.takePicture(instanceManager.getIdentifier(imageCapture)));
     });
+
+    test('takePictureToMemory makes call to capture still image in memory',
+        () async {
+      final MockTestImageCaptureHostApi mockApi = MockTestImageCaptureHostApi();
+      TestImageCaptureHostApi.setup(mockApi);
+
+      final Uint8List expectedBytes = Uint8List.fromList(<int>[0xFF, 0xD8]);
+      const int maxDimension = 1024;
+      final InstanceManager instanceManager = InstanceManager(
+        onWeakReferenceRemoved: (_) {},
+      );
+      final ImageCapture imageCapture = ImageCapture.detached(
+        instanceManager: instanceManager,
+      );
+      instanceManager.addHostCreatedInstance(
+        imageCapture,
+        0,
+        onCopy: (_) => ImageCapture.detached(),
+      );
+
+      when(mockApi.takePictureToMemory(
+              instanceManager.getIdentifier(imageCapture), maxDimension))
+          .thenAnswer((_) async => expectedBytes);
+      expect(
+          await imageCapture.takePictureToMemory(maxDimension: maxDimension),
+          equals(expectedBytes));
+      verify(mockApi.takePictureToMemory(
+          instanceManager.getIdentifier(imageCapture), maxDimension));
+    });
+
+    test('takePictureToMemory throws for a maxDimension that is not positive',
+        () async {
+      final MockTestImageCaptureHostApi mockApi = MockTestImageCaptureHostApi();
+      TestImageCaptureHostApi.setup(mockApi);
+
+      final InstanceManager instanceManager = InstanceManager(
+        onWeakReferenceRemoved: (_) {},
+      );
+      final ImageCapture imageCapture = ImageCapture.detached(
+        instanceManager: instanceManager,
+      );
+      instanceManager.addHostCreatedInstance(
+        imageCapture,
+        0,
+        onCopy: (_) => ImageCapture.detached(),
+      );
+
+      expect(() => imageCapture.takePictureToMemory(maxDimension: 0),
+          throwsArgumentError);
+      verifyNever(mockApi.takePictureToMemory(any, any));
+    });
   });
 }
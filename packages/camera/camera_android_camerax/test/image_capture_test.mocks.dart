@@ -4,6 +4,7 @@
 
 // ignore_for_file: no_leading_underscores_for_library_prefixes
 import 'dart:async' as _i3;
+import 'dart:typed_data' as _i6;
 
 import 'package:camera_android_camerax/src/resolution_selector.dart' as _i5;
 import 'package:mockito/mockito.dart' as _i1;
@@ -99,6 +100,22 @@ class MockTestImageCaptureHostApi extends _i1.Mock
         ),
         returnValueForMissingStub: null,
       );
+
+  @override
+  _i3.Future<_i6.Uint8List> takePictureToMemory(
+    int? identifier,
+    int? maxDimension,
+  ) =>
+      (super.noSuchMethod(
+        Invocation.method(
+          #takePictureToMemory,
+          [
+            identifier,
+            maxDimension,
+          ],
+        ),
+        returnValue: _i3.Future<_i6.Uint8List>.value(_i6.Uint8List(0)),
+      ) as _i3.Future<_i6.Uint8List>);
 }
 
 /// A class which mocks [TestInstanceManagerHostApi].
@@ -5,6 +5,7 @@
 import 'package:camera_android_camerax/src/camera.dart';
 import 'package:camera_android_camerax/src/camera_info.dart';
 import 'package:camera_android_camerax/src/camera_selector.dart';
+import 'package:camera_android_camerax/src/camerax_library.g.dart';
 import 'package:camera_android_camerax/src/instance_manager.dart';
 import 'package:camera_android_camerax/src/process_camera_provider.dart';
 import 'package:camera_android_camerax/src/use_case.dart';
@@ -15,8 +16,11 @@ import 'package:mockito/mockito.dart';
 import 'process_camera_provider_test.mocks.dart';
 import 'test_camerax_library.g.dart';
 
-@GenerateMocks(
-    <Type>[TestInstanceManagerHostApi, TestProcessCameraProviderHostApi])
+@GenerateMocks(<Type>[
+  TestInstanceManagerHostApi,
+  TestProcessCameraProviderHostApi,
+  TestCameraCapabilitiesHostApi,
+])
 void main() {
   TestWidgetsFlutterBinding.ensureInitialized();
 
@@ -24,7 +28,10 @@ void main() {
   TestInstanceManagerHostApi.setup(MockTestInstanceManagerHostApi());
 
   group('ProcessCameraProvider', () {
-    tearDown(() => TestProcessCameraProviderHostApi.setup(null));
+    tearDown(() {
+      TestProcessCameraProviderHostApi.setup(null);
+      TestCameraCapabilitiesHostApi.setup(null);
+    });
 
     test('getInstanceTest', () async {
       final MockTestProcessCameraProviderHostApi mockApi =
@@ -53,6 +60,33 @@ void main() {
       verify(mockApi.getInstance());
     });
 
+    test('prewarm passes camera selector and returns timings', () async {
+      final MockTestProcessCameraProviderHostApi mockApi =
+          MockTestProcessCameraProviderHostApi();
+      TestProcessCameraProviderHostApi.setup(mockApi);
+
+      final InstanceManager instanceManager = InstanceManager(
+        onWeakReferenceRemoved: (_) {},
+      );
+      final CameraSelector cameraSelector =
+          CameraSelector.detached(instanceManager: instanceManager);
+
+      instanceManager.addHostCreatedInstance(
+        cameraSelector,
+        3,
+        onCopy: (_) => CameraSelector.detached(),
+      );
+
+      when(mockApi.prewarm(3)).thenAnswer((_) async =>
+          CameraPrewarmTimings(providerMillis: 120, previewBindMillis: 40));
+      final CameraPrewarmTimings timings = await ProcessCameraProvider.prewarm(
+          cameraSelector: cameraSelector, instanceManager: instanceManager);
+
+      expect(timings.providerMillis, equals(120));
+      expect(timings.previewBindMillis, equals(40));
+      verify(mockApi.prewarm(3));
+    });
+
     test('getAvailableCameraInfosTest', () async {
       final MockTestProcessCameraProviderHostApi mockApi =
           MockTestProcessCameraProviderHostApi();
@@ -85,6 +119,57 @@ void main() {
       verify(mockApi.getAvailableCameraInfos(0));
     });
 
+    test('getAvailableCameraCapabilities returns capabilities of each camera',
+        () async {
+      final MockTestCameraCapabilitiesHostApi mockApi =
+          MockTestCameraCapabilitiesHostApi();
+      TestCameraCapabilitiesHostApi.setup(mockApi);
+
+      final InstanceManager instanceManager = InstanceManager(
+        onWeakReferenceRemoved: (_) {},
+      );
+      final ProcessCameraProvider processCameraProvider =
+          ProcessCameraProvider.detached(
+        instanceManager: instanceManager,
+      );
+
+      instanceManager.addHostCreatedInstance(
+        processCameraProvider,
+        0,
+        onCopy: (_) => ProcessCameraProvider.detached(),
+      );
+      final CameraCapabilities capabilities = CameraCapabilities(
+        cameraInfoId: 1,
+        cameraId: '0',
+        lensFacing: CameraSelector.lensFacingBack,
+        sensorRotationDegrees: 90,
+        supportedHardwareLevel: 1,
+        minExposureCompensation: -4,
+        maxExposureCompensation: 4,
+        exposureCompensationStep: 0.5,
+        minZoomRatio: 1,
+        maxZoomRatio: 8,
+        supportedVideoQualities: <VideoQualityData?>[
+          VideoQualityData(quality: VideoQuality.FHD)
+        ],
+        supportedVideoResolutions: <ResolutionInfo?>[
+          ResolutionInfo(width: 1920, height: 1080)
+        ],
+      );
+
+      when(mockApi.getAvailableCameraCapabilities(0))
+          .thenAnswer((_) async => <CameraCapabilities?>[capabilities]);
+      final List<CameraCapabilities> availableCapabilities =
+          await processCameraProvider.getAvailableCameraCapabilities();
+
+      expect(availableCapabilities, hasLength(1));
+      expect(availableCapabilities[0].cameraId, equals('0'));
+      expect(availableCapabilities[0].sensorRotationDegrees, equals(90));
+      expect(availableCapabilities[0].supportedVideoQualities[0]!.quality,
+          equals(VideoQuality.FHD));
+      verify(mockApi.getAvailableCameraCapabilities(0));
+    });
+
     test('bindToLifecycleTest', () async {
       final MockTestProcessCameraProviderHostApi mockApi =
           MockTestProcessCameraProviderHostApi();
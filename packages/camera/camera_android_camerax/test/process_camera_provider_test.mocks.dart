@@ -5,6 +5,7 @@
 // ignore_for_file: no_leading_underscores_for_library_prefixes
 import 'dart:async' as _i3;
 
+import 'package:camera_android_camerax/src/camerax_library.g.dart' as _i4;
 import 'package:mockito/mockito.dart' as _i1;
 
 import 'test_camerax_library.g.dart' as _i2;
@@ -22,6 +23,17 @@ import 'test_camerax_library.g.dart' as _i2;
 // ignore_for_file: camel_case_types
 // ignore_for_file: subtype_of_sealed_class
 
+class _FakeCameraPrewarmTimings_0 extends _i1.SmartFake
+    implements _i4.CameraPrewarmTimings {
+  _FakeCameraPrewarmTimings_0(
+    Object parent,
+    Invocation parentInvocation,
+  ) : super(
+          parent,
+          parentInvocation,
+        );
+}
+
 /// A class which mocks [TestInstanceManagerHostApi].
 ///
 /// See the documentation for Mockito's code generation for more information.
@@ -126,4 +138,44 @@ class MockTestProcessCameraProviderHostApi extends _i1.Mock
         ),
         returnValueForMissingStub: null,
       );
+
+  @override
+  _i3.Future<_i4.CameraPrewarmTimings> prewarm(
+          int? cameraSelectorIdentifier) =>
+      (super.noSuchMethod(
+        Invocation.method(
+          #prewarm,
+          [cameraSelectorIdentifier],
+        ),
+        returnValue: _i3.Future<_i4.CameraPrewarmTimings>.value(
+            _FakeCameraPrewarmTimings_0(
+          this,
+          Invocation.method(
+            #prewarm,
+            [cameraSelectorIdentifier],
+          ),
+        )),
+      ) as _i3.Future<_i4.CameraPrewarmTimings>);
+}
+
+/// A class which mocks [TestCameraCapabilitiesHostApi].
+///
+/// See the documentation for Mockito's code generation for more information.
+class MockTestCameraCapabilitiesHostApi extends _i1.Mock
+    implements _i2.TestCameraCapabilitiesHostApi {
+  MockTestCameraCapabilitiesHostApi() {
+    _i1.throwOnMissingStub(this);
+  }
+
+  @override
+  _i3.Future<List<_i4.CameraCapabilities?>> getAvailableCameraCapabilities(
+          int? processCameraProviderIdentifier) =>
+      (super.noSuchMethod(
+        Invocation.method(
+          #getAvailableCameraCapabilities,
+          [processCameraProviderIdentifier],
+        ),
+        returnValue: _i3.Future<List<_i4.CameraCapabilities?>>.value(
+            <_i4.CameraCapabilities?>[]),
+      ) as _i3.Future<List<_i4.CameraCapabilities?>>);
 }
@@ -250,10 +250,34 @@ abstract class TestCameraSelectorHostApi {
   }
 }
 
+class _TestProcessCameraProviderHostApiCodec extends StandardMessageCodec {
+  const _TestProcessCameraProviderHostApiCodec();
+  @override
+  void writeValue(WriteBuffer buffer, Object? value) {
+    if (value is CameraPrewarmTimings) {
+      buffer.putUint8(128);
+      writeValue(buffer, value.encode());
+    } else {
+      super.writeValue(buffer, value);
+    }
+  }
+
+  @override
+  Object? readValueOfType(int type, ReadBuffer buffer) {
+    switch (type) {
+      case 128:
+        return CameraPrewarmTimings.decode(readValue(buffer)!);
+      default:
+        return super.readValueOfType(type, buffer);
+    }
+  }
+}
+
 abstract class TestProcessCameraProviderHostApi {
   static TestDefaultBinaryMessengerBinding? get _testBinaryMessengerBinding =>
       TestDefaultBinaryMessengerBinding.instance;
-  static const MessageCodec<Object?> codec = StandardMessageCodec();
+  static const MessageCodec<Object?> codec =
+      _TestProcessCameraProviderHostApiCodec();
 
   Future<int> getInstance();
 
@@ -268,6 +292,8 @@ abstract class TestProcessCameraProviderHostApi {
 
   void unbindAll(int identifier);
 
+  Future<CameraPrewarmTimings> prewarm(int? cameraSelectorIdentifier);
+
   static void setup(TestProcessCameraProviderHostApi? api,
       {BinaryMessenger? binaryMessenger}) {
     {
@@ -416,6 +442,27 @@ abstract class TestProcessCameraProviderHostApi {
         });
       }
     }
+    {
+      final BasicMessageChannel<Object?> channel = BasicMessageChannel<Object?>(
+          'dev.flutter.pigeon.ProcessCameraProviderHostApi.prewarm', codec,
+          binaryMessenger: binaryMessenger);
+      if (api == null) {
+        _testBinaryMessengerBinding!.defaultBinaryMessenger
+            .setMockDecodedMessageHandler<Object?>(channel, null);
+      } else {
+        _testBinaryMessengerBinding!.defaultBinaryMessenger
+            .setMockDecodedMessageHandler<Object?>(channel,
+                (Object? message) async {
+          assert(message != null,
+              'Argument for dev.flutter.pigeon.ProcessCameraProviderHostApi.prewarm was null.');
+          final List<Object?> args = (message as List<Object?>?)!;
+          final int? arg_cameraSelectorIdentifier = (args[0] as int?);
+          final CameraPrewarmTimings output =
+              await api.prewarm(arg_cameraSelectorIdentifier);
+          return <Object?>[output];
+        });
+      }
+    }
   }
 }
 
@@ -1192,6 +1239,8 @@ abstract class TestImageCaptureHostApi {
 
   void setTargetRotation(int identifier, int rotation);
 
+  Future<Uint8List> takePictureToMemory(int identifier, int? maxDimension);
+
   static void setup(TestImageCaptureHostApi? api,
       {BinaryMessenger? binaryMessenger}) {
     {
@@ -1292,6 +1341,30 @@ abstract class TestImageCaptureHostApi {
         });
       }
     }
+    {
+      final BasicMessageChannel<Object?> channel = BasicMessageChannel<Object?>(
+          'dev.flutter.pigeon.ImageCaptureHostApi.takePictureToMemory', codec,
+          binaryMessenger: binaryMessenger);
+      if (api == null) {
+        _testBinaryMessengerBinding!.defaultBinaryMessenger
+            .setMockDecodedMessageHandler<Object?>(channel, null);
+      } else {
+        _testBinaryMessengerBinding!.defaultBinaryMessenger
+            .setMockDecodedMessageHandler<Object?>(channel,
+                (Object? message) async {
+          assert(message != null,
+              'Argument for dev.flutter.pigeon.ImageCaptureHostApi.takePictureToMemory was null.');
+          final List<Object?> args = (message as List<Object?>?)!;
+          final int? arg_identifier = (args[0] as int?);
+          assert(arg_identifier != null,
+              'Argument for dev.flutter.pigeon.ImageCaptureHostApi.takePictureToMemory was null, expected non-null int.');
+          final int? arg_maxDimension = (args[1] as int?);
+          final Uint8List output =
+              await api.takePictureToMemory(arg_identifier!, arg_maxDimension);
+          return <Object?>[output];
+        });
+      }
+    }
   }
 }
 
@@ -2581,3 +2654,154 @@ abstract class TestCamera2CameraInfoHostApi {
     }
   }
 }
+
+class _TestCameraCapabilitiesHostApiCodec extends StandardMessageCodec {
+  const _TestCameraCapabilitiesHostApiCodec();
+  @override
+  void writeValue(WriteBuffer buffer, Object? value) {
+    if (value is CameraCapabilities) {
+      buffer.putUint8(128);
+      writeValue(buffer, value.encode());
+    } else if (value is ResolutionInfo) {
+      buffer.putUint8(129);
+      writeValue(buffer, value.encode());
+    } else if (value is VideoQualityData) {
+      buffer.putUint8(130);
+      writeValue(buffer, value.encode());
+    } else {
+      super.writeValue(buffer, value);
+    }
+  }
+
+  @override
+  Object? readValueOfType(int type, ReadBuffer buffer) {
+    switch (type) {
+      case 128:
+        return CameraCapabilities.decode(readValue(buffer)!);
+      case 129:
+        return ResolutionInfo.decode(readValue(buffer)!);
+      case 130:
+        return VideoQualityData.decode(readValue(buffer)!);
+      default:
+        return super.readValueOfType(type, buffer);
+    }
+  }
+}
+
+abstract class TestCameraCapabilitiesHostApi {
+  static TestDefaultBinaryMessengerBinding? get _testBinaryMessengerBinding =>
+      TestDefaultBinaryMessengerBinding.instance;
+  static const MessageCodec<Object?> codec =
+      _TestCameraCapabilitiesHostApiCodec();
+
+  Future<List<CameraCapabilities?>> getAvailableCameraCapabilities(
+      int processCameraProviderIdentifier);
+
+  static void setup(TestCameraCapabilitiesHostApi? api,
+      {BinaryMessenger? binaryMessenger}) {
+    {
+      final BasicMessageChannel<Object?> channel = BasicMessageChannel<Object?>(
+          'dev.flutter.pigeon.CameraCapabilitiesHostApi.getAvailableCameraCapabilities',
+          codec,
+          binaryMessenger: binaryMessenger);
+      if (api == null) {
+        _testBinaryMessengerBinding!.defaultBinaryMessenger
+            .setMockDecodedMessageHandler<Object?>(channel, null);
+      } else {
+        _testBinaryMessengerBinding!.defaultBinaryMessenger
+            .setMockDecodedMessageHandler<Object?>(channel,
+                (Object? message) async {
+          assert(message != null,
+              'Argument for dev.flutter.pigeon.CameraCapabilitiesHostApi.getAvailableCameraCapabilities was null.');
+          final List<Object?> args = (message as List<Object?>?)!;
+          final int? arg_processCameraProviderIdentifier = (args[0] as int?);
+          assert(arg_processCameraProviderIdentifier != null,
+              'Argument for dev.flutter.pigeon.CameraCapabilitiesHostApi.getAvailableCameraCapabilities was null, expected non-null int.');
+          final List<CameraCapabilities?> output = await api
+              .getAvailableCameraCapabilities(
+                  arg_processCameraProviderIdentifier!);
+          return <Object?>[output];
+        });
+      }
+    }
+  }
+}
+
+class _TestUseCaseConfigurationHostApiCodec extends StandardMessageCodec {
+  const _TestUseCaseConfigurationHostApiCodec();
+  @override
+  void writeValue(WriteBuffer buffer, Object? value) {
+    if (value is QualitySelectorData) {
+      buffer.putUint8(128);
+      writeValue(buffer, value.encode());
+    } else if (value is ResolutionInfo) {
+      buffer.putUint8(129);
+      writeValue(buffer, value.encode());
+    } else if (value is ResolutionSelectorData) {
+      buffer.putUint8(130);
+      writeValue(buffer, value.encode());
+    } else if (value is UseCaseConfigurationData) {
+      buffer.putUint8(131);
+      writeValue(buffer, value.encode());
+    } else if (value is VideoQualityData) {
+      buffer.putUint8(132);
+      writeValue(buffer, value.encode());
+    } else {
+      super.writeValue(buffer, value);
+    }
+  }
+
+  @override
+  Object? readValueOfType(int type, ReadBuffer buffer) {
+    switch (type) {
+      case 128:
+        return QualitySelectorData.decode(readValue(buffer)!);
+      case 129:
+        return ResolutionInfo.decode(readValue(buffer)!);
+      case 130:
+        return ResolutionSelectorData.decode(readValue(buffer)!);
+      case 131:
+        return UseCaseConfigurationData.decode(readValue(buffer)!);
+      case 132:
+        return VideoQualityData.decode(readValue(buffer)!);
+      default:
+        return super.readValueOfType(type, buffer);
+    }
+  }
+}
+
+abstract class TestUseCaseConfigurationHostApi {
+  static TestDefaultBinaryMessengerBinding? get _testBinaryMessengerBinding =>
+      TestDefaultBinaryMessengerBinding.instance;
+  static const MessageCodec<Object?> codec =
+      _TestUseCaseConfigurationHostApiCodec();
+
+  void configure(UseCaseConfigurationData configuration);
+
+  static void setup(TestUseCaseConfigurationHostApi? api,
+      {BinaryMessenger? binaryMessenger}) {
+    {
+      final BasicMessageChannel<Object?> channel = BasicMessageChannel<Object?>(
+          'dev.flutter.pigeon.UseCaseConfigurationHostApi.configure', codec,
+          binaryMessenger: binaryMessenger);
+      if (api == null) {
+        _testBinaryMessengerBinding!.defaultBinaryMessenger
+            .setMockDecodedMessageHandler<Object?>(channel, null);
+      } else {
+        _testBinaryMessengerBinding!.defaultBinaryMessenger
+            .setMockDecodedMessageHandler<Object?>(channel,
+                (Object? message) async {
+          assert(message != null,
+              'Argument for dev.flutter.pigeon.UseCaseConfigurationHostApi.configure was null.');
+          final List<Object?> args = (message as List<Object?>?)!;
+          final UseCaseConfigurationData? arg_configuration =
+              (args[0] as UseCaseConfigurationData?);
+          assert(arg_configuration != null,
+              'Argument for dev.flutter.pigeon.UseCaseConfigurationHostApi.configure was null, expected non-null UseCaseConfigurationData.');
+          api.configure(arg_configuration!);
+          return <Object?>[];
+        });
+      }
+    }
+  }
+}
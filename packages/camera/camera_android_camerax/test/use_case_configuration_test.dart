@@ -0,0 +1,135 @@
+// Copyright 2013 The Flutter Authors. All rights reserved.
+// Use of this source code is governed by a BSD-style license that can be
+// found in the LICENSE file.
+
+import 'dart:ui';
+
+import 'package:camera_android_camerax/src/aspect_ratio_strategy.dart';
+import 'package:camera_android_camerax/src/camerax_library.g.dart';
+import 'package:camera_android_camerax/src/fallback_strategy.dart';
+import 'package:camera_android_camerax/src/image_analysis.dart';
+import 'package:camera_android_camerax/src/image_capture.dart';
+import 'package:camera_android_camerax/src/instance_manager.dart';
+import 'package:camera_android_camerax/src/preview.dart';
+import 'package:camera_android_camerax/src/quality_selector.dart';
+import 'package:camera_android_camerax/src/recorder.dart';
+import 'package:camera_android_camerax/src/resolution_filter.dart';
+import 'package:camera_android_camerax/src/resolution_selector.dart';
+import 'package:camera_android_camerax/src/resolution_strategy.dart';
+import 'package:camera_android_camerax/src/use_case_configuration.dart';
+import 'package:flutter_test/flutter_test.dart';
+import 'package:mockito/annotations.dart';
+import 'package:mockito/mockito.dart';
+
+import 'test_camerax_library.g.dart';
+import 'use_case_configuration_test.mocks.dart';
+
+@GenerateMocks(<Type>[
+  TestUseCaseConfigurationHostApi,
+  TestInstanceManagerHostApi,
+])
+void main() {
+  TestWidgetsFlutterBinding.ensureInitialized();
+
+  group('UseCaseConfiguration', () {
+    tearDown(() {
+      TestUseCaseConfigurationHostApi.setup(null);
+      TestInstanceManagerHostApi.setup(null);
+    });
+
+    test(
+        'configure adds use cases and describes their selectors in one call to the Host API',
+        () async {
+      final MockTestUseCaseConfigurationHostApi mockApi =
+          MockTestUseCaseConfigurationHostApi();
+      TestUseCaseConfigurationHostApi.setup(mockApi);
+      TestInstanceManagerHostApi.setup(MockTestInstanceManagerHostApi());
+
+      final InstanceManager instanceManager = InstanceManager(
+        onWeakReferenceRemoved: (_) {},
+      );
+
+      const Size boundSize = Size(1280, 720);
+      final ResolutionSelector resolutionSelector = ResolutionSelector.detached(
+        resolutionStrategy: ResolutionStrategy.detached(
+          boundSize: boundSize,
+          fallbackRule: ResolutionStrategy.fallbackRuleClosestLowerThenHigher,
+          instanceManager: instanceManager,
+        ),
+        resolutionFilter: ResolutionFilter.onePreferredSizeDetached(
+          preferredResolution: boundSize,
+          instanceManager: instanceManager,
+        ),
+        aspectRatioStrategy: AspectRatioStrategy.detached(
+          preferredAspectRatio: AspectRatio.ratio16To9,
+          fallbackRule: AspectRatioStrategy.fallbackRuleAuto,
+          instanceManager: instanceManager,
+        ),
+        instanceManager: instanceManager,
+      );
+      final QualitySelector qualitySelector = QualitySelector.detached(
+        qualityList: <VideoQualityData>[
+          VideoQualityData(quality: VideoQuality.HD)
+        ],
+        fallbackStrategy: FallbackStrategy.detached(
+          quality: VideoQuality.HD,
+          fallbackRule: VideoResolutionFallbackRule.lowerQualityOrHigherThan,
+          instanceManager: instanceManager,
+        ),
+        instanceManager: instanceManager,
+      );
+
+      final Preview preview = Preview.detached(
+          resolutionSelector: resolutionSelector,
+          instanceManager: instanceManager);
+      final ImageCapture imageCapture = ImageCapture.detached(
+          resolutionSelector: resolutionSelector,
+          instanceManager: instanceManager);
+      final ImageAnalysis imageAnalysis =
+          ImageAnalysis.detached(instanceManager: instanceManager);
+      final Recorder recorder = Recorder.detached(
+          qualitySelector: qualitySelector, instanceManager: instanceManager);
+
+      await UseCaseConfiguration.configure(
+          preview, imageCapture, imageAnalysis, recorder,
+          instanceManager: instanceManager);
+
+      final UseCaseConfigurationData configuration =
+          verify(mockApi.configure(captureAny)).captured.single
+              as UseCaseConfigurationData;
+      expect(configuration.previewIdentifier,
+          instanceManager.getIdentifier(preview));
+      expect(configuration.imageCaptureIdentifier,
+          instanceManager.getIdentifier(imageCapture));
+      expect(configuration.imageAnalysisIdentifier,
+          instanceManager.getIdentifier(imageAnalysis));
+      expect(configuration.recorderIdentifier,
+          instanceManager.getIdentifier(recorder));
+      expect(instanceManager.getIdentifier(resolutionSelector), isNull);
+      expect(instanceManager.getIdentifier(qualitySelector), isNull);
+
+      final ResolutionSelectorData previewResolutionSelector =
+          configuration.previewResolutionSelector!;
+      expect(previewResolutionSelector.boundSize!.width, 1280);
+      expect(previewResolutionSelector.boundSize!.height, 720);
+      expect(previewResolutionSelector.fallbackRule,
+          ResolutionStrategy.fallbackRuleClosestLowerThenHigher);
+      expect(previewResolutionSelector.preferredResolution!.width, 1280);
+      expect(previewResolutionSelector.preferredResolution!.height, 720);
+      expect(previewResolutionSelector.preferredAspectRatio,
+          AspectRatio.ratio16To9);
+      expect(previewResolutionSelector.aspectRatioFallbackRule,
+          AspectRatioStrategy.fallbackRuleAuto);
+      expect(configuration.imageCaptureResolutionSelector, isNotNull);
+      expect(configuration.imageAnalysisResolutionSelector, isNull);
+
+      final QualitySelectorData recorderQualitySelector =
+          configuration.recorderQualitySelector!;
+      expect(recorderQualitySelector.qualityList.single!.quality,
+          VideoQuality.HD);
+      expect(recorderQualitySelector.fallbackQuality, VideoQuality.HD);
+      expect(recorderQualitySelector.fallbackRule,
+          VideoResolutionFallbackRule.lowerQualityOrHigherThan);
+    });
+  });
+}
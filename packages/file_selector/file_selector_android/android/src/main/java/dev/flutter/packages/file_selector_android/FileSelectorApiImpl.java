@@ -12,6 +12,8 @@ import android.content.Intent;
 import android.database.Cursor;
 import android.net.Uri;
 import android.os.Build;
+import android.os.Handler;
+import android.os.Looper;
 import android.provider.DocumentsContract;
 import android.provider.OpenableColumns;
 import android.util.Log;
@@ -22,14 +24,19 @@ import androidx.annotation.Nullable;
 import androidx.annotation.VisibleForTesting;
 import io.flutter.embedding.engine.plugins.activity.ActivityPluginBinding;
 import io.flutter.plugin.common.PluginRegistry;
-import java.io.DataInputStream;
-import java.io.IOException;
-import java.io.InputStream;
+import java.io.File;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collections;
 import java.util.HashSet;
 import java.util.List;
 import java.util.Set;
+import java.util.concurrent.Executor;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
 
 public class FileSelectorApiImpl implements GeneratedFileSelectorApi.FileSelectorApi {
   private static final String TAG = "FileSelectorApiImpl";
@@ -39,9 +46,13 @@ public class FileSelectorApiImpl implements GeneratedFileSelectorApi.FileSelecto
   private static final int OPEN_FILES = 222;
   // Request code for selecting a directory.
   private static final int OPEN_DIR = 223;
+  // Maximum number of selected files whose metadata is read and which are copied at the same time.
+  private static final int MAX_FILE_RESOLUTION_THREADS = 4;
 
   private final @NonNull NativeObjectFactory objectFactory;
   private final @NonNull AndroidSdkChecker sdkChecker;
+  private final @NonNull Executor backgroundExecutor;
+  private final @NonNull Executor resultExecutor;
   @Nullable ActivityPluginBinding activityPluginBinding;
 
   private abstract static class OnResultListener {
@@ -56,11 +67,6 @@ public class FileSelectorApiImpl implements GeneratedFileSelectorApi.FileSelecto
     Intent newIntent(@NonNull String action) {
       return new Intent(action);
     }
-
-    @NonNull
-    DataInputStream newDataInputStream(InputStream inputStream) {
-      return new DataInputStream(inputStream);
-    }
   }
 
   // Interface for an injectable SDK version checker.
@@ -74,17 +80,41 @@ public class FileSelectorApiImpl implements GeneratedFileSelectorApi.FileSelecto
     this(
         activityPluginBinding,
         new NativeObjectFactory(),
-        (int version) -> Build.VERSION.SDK_INT >= version);
+        (int version) -> Build.VERSION.SDK_INT >= version,
+        createBackgroundExecutor(),
+        new Handler(Looper.getMainLooper())::post);
   }
 
+  /**
+   * Creates a {@link FileSelectorApiImpl}.
+   *
+   * @param backgroundExecutor runs the reading of the metadata and the copying of selected files
+   * @param resultExecutor runs the replies to Dart, which must be sent from the platform thread
+   */
   @VisibleForTesting
   FileSelectorApiImpl(
       @NonNull ActivityPluginBinding activityPluginBinding,
       @NonNull NativeObjectFactory objectFactory,
-      @NonNull AndroidSdkChecker sdkChecker) {
+      @NonNull AndroidSdkChecker sdkChecker,
+      @NonNull Executor backgroundExecutor,
+      @NonNull Executor resultExecutor) {
     this.activityPluginBinding = activityPluginBinding;
     this.objectFactory = objectFactory;
     this.sdkChecker = sdkChecker;
+    this.backgroundExecutor = backgroundExecutor;
+    this.resultExecutor = resultExecutor;
+  }
+
+  @NonNull
+  private static Executor createBackgroundExecutor() {
+    final int threadCount =
+        Math.max(
+            1, Math.min(MAX_FILE_RESOLUTION_THREADS, Runtime.getRuntime().availableProcessors()));
+    final ThreadPoolExecutor executor =
+        new ThreadPoolExecutor(
+            threadCount, threadCount, 30, TimeUnit.SECONDS, new LinkedBlockingQueue<>());
+    executor.allowCoreThreadTimeOut(true);
+    return executor;
   }
 
   @Override
@@ -114,12 +144,21 @@ public class FileSelectorApiImpl implements GeneratedFileSelectorApi.FileSelecto
                   return;
                 }
 
-                final GeneratedFileSelectorApi.FileResponse file = toFileResponse(uri);
-                if (file != null) {
-                  result.success(file);
-                } else {
-                  result.error(new Exception("Failed to read file: " + uri));
-                }
+                toFileResponses(
+                    Collections.singletonList(uri),
+                    new GeneratedFileSelectorApi.Result<
+                        List<GeneratedFileSelectorApi.FileResponse>>() {
+                      @Override
+                      public void success(
+                          @NonNull List<GeneratedFileSelectorApi.FileResponse> files) {
+                        result.success(files.get(0));
+                      }
+
+                      @Override
+                      public void error(@NonNull Throwable error) {
+                        result.error(error);
+                      }
+                    });
               } else {
                 result.success(null);
               }
@@ -151,35 +190,22 @@ public class FileSelectorApiImpl implements GeneratedFileSelectorApi.FileSelecto
             @Override
             public void onResult(int resultCode, @Nullable Intent data) {
               if (resultCode == Activity.RESULT_OK && data != null) {
-                // Only one file was returned.
-                final Uri uri = data.getData();
-                if (uri != null) {
-                  final GeneratedFileSelectorApi.FileResponse file = toFileResponse(uri);
-                  if (file != null) {
-                    result.success(Collections.singletonList(file));
-                  } else {
-                    result.error(new Exception("Failed to read file: " + uri));
-                  }
-                }
-
-                // Multiple files were returned.
+                final List<Uri> uris = new ArrayList<>();
                 final ClipData clipData = data.getClipData();
                 if (clipData != null) {
-                  final List<GeneratedFileSelectorApi.FileResponse> files =
-                      new ArrayList<>(clipData.getItemCount());
+                  // Multiple files were returned.
                   for (int i = 0; i < clipData.getItemCount(); i++) {
-                    final ClipData.Item clipItem = clipData.getItemAt(i);
-                    final GeneratedFileSelectorApi.FileResponse file =
-                        toFileResponse(clipItem.getUri());
-                    if (file != null) {
-                      files.add(file);
-                    } else {
-                      result.error(new Exception("Failed to read file: " + uri));
-                      return;
-                    }
+                    uris.add(clipData.getItemAt(i).getUri());
                   }
-                  result.success(files);
+                } else if (data.getData() != null) {
+                  // Only one file was returned.
+                  uris.add(data.getData());
+                } else {
+                  result.error(new Exception("Failed to retrieve data from opening files."));
+                  return;
                 }
+
+                toFileResponses(uris, result);
               } else {
                 result.success(new ArrayList<>());
               }
@@ -313,6 +339,60 @@ public class FileSelectorApiImpl implements GeneratedFileSelectorApi.FileSelecto
     activityPluginBinding.getActivity().startActivityForResult(intent, attemptRequestCode);
   }
 
+  /**
+   * Reads the metadata of and copies each of {@code uris} on {@link #backgroundExecutor}, several
+   * files at a time, and replies with their responses in the same order as {@code uris}.
+   *
+   * <p>Replies with an error if any of the files cannot be read.
+   */
+  private void toFileResponses(
+      @NonNull List<Uri> uris,
+      @NonNull
+          GeneratedFileSelectorApi.Result<List<GeneratedFileSelectorApi.FileResponse>> result) {
+    if (uris.isEmpty()) {
+      result.success(new ArrayList<>());
+      return;
+    }
+
+    final GeneratedFileSelectorApi.FileResponse[] files =
+        new GeneratedFileSelectorApi.FileResponse[uris.size()];
+    final AtomicInteger remainingCount = new AtomicInteger(uris.size());
+    final AtomicBoolean failed = new AtomicBoolean(false);
+    for (int i = 0; i < uris.size(); i++) {
+      final int index = i;
+      final Uri uri = uris.get(i);
+      backgroundExecutor.execute(
+          () -> {
+            // Once one file cannot be read, the selection fails, so skip the remaining files.
+            GeneratedFileSelectorApi.FileResponse file = null;
+            if (!failed.get()) {
+              try {
+                file = toFileResponse(uri);
+              } catch (RuntimeException exception) {
+                Log.w(TAG, "Failed to read file: " + exception.getMessage());
+              }
+            }
+
+            if (file == null) {
+              if (failed.compareAndSet(false, true)) {
+                resultExecutor.execute(
+                    () -> result.error(new Exception("Failed to read file: " + uri)));
+              }
+            } else {
+              files[index] = file;
+            }
+
+            if (remainingCount.decrementAndGet() == 0 && !failed.get()) {
+              resultExecutor.execute(() -> result.success(Arrays.asList(files)));
+            }
+          });
+    }
+  }
+
+  /**
+   * Reads the metadata of the file at {@code uri} and copies it to the cache, so that it can be
+   * read from its path without holding its content in memory.
+   */
   @Nullable
   GeneratedFileSelectorApi.FileResponse toFileResponse(@NonNull Uri uri) {
     if (activityPluginBinding == null) {
@@ -324,7 +404,7 @@ public class FileSelectorApiImpl implements GeneratedFileSelectorApi.FileSelecto
         activityPluginBinding.getActivity().getContentResolver();
 
     String name = null;
-    Integer size = null;
+    Long size = null;
     try (Cursor cursor = contentResolver.query(uri, null, null, null, null, null)) {
       if (cursor != null && cursor.moveToFirst()) {
         // Note it's called "Display Name". This is
@@ -338,34 +418,28 @@ public class FileSelectorApiImpl implements GeneratedFileSelectorApi.FileSelecto
         // If the size is unknown, the value stored is null. This will
         // happen often: The storage API allows for remote files, whose
         // size might not be locally known.
-        if (!cursor.isNull(sizeIndex)) {
-          size = cursor.getInt(sizeIndex);
+        if (sizeIndex >= 0 && !cursor.isNull(sizeIndex)) {
+          size = cursor.getLong(sizeIndex);
         }
       }
     }
 
-    if (size == null) {
+    final String uriPath =
+        FileUtils.getPathFromCopyOfFileFromUri(activityPluginBinding.getActivity(), uri);
+    if (uriPath == null) {
       return null;
     }
 
-    final byte[] bytes = new byte[size];
-    try (InputStream inputStream = contentResolver.openInputStream(uri)) {
-      final DataInputStream dataInputStream = objectFactory.newDataInputStream(inputStream);
-      dataInputStream.readFully(bytes);
-    } catch (IOException exception) {
-      Log.w(TAG, exception.getMessage());
-      return null;
+    if (size == null) {
+      // The copy has all of the content, so its length is the size of the file.
+      size = new File(uriPath).length();
     }
 
-    final String uriPath =
-        FileUtils.getPathFromCopyOfFileFromUri(activityPluginBinding.getActivity(), uri);
-
     return new GeneratedFileSelectorApi.FileResponse.Builder()
         .setName(name)
-        .setBytes(bytes)
         .setPath(uriPath)
         .setMimeType(contentResolver.getType(uri))
-        .setSize(size.longValue())
+        .setSize(size)
         .build();
   }
 }
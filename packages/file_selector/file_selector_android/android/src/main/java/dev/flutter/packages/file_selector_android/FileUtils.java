@@ -190,7 +190,7 @@ public class FileUtils {
   }
 
   private static void copy(InputStream in, OutputStream out) throws IOException {
-    final byte[] buffer = new byte[4 * 1024];
+    final byte[] buffer = new byte[64 * 1024];
     int bytesRead;
     while ((bytesRead = in.read(buffer)) != -1) {
       out.write(buffer, 0, bytesRead);
@@ -21,7 +21,6 @@ import java.lang.annotation.Retention;
 import java.lang.annotation.Target;
 import java.nio.ByteBuffer;
 import java.util.ArrayList;
-import java.util.Arrays;
 import java.util.List;
 import java.util.Objects;
 
@@ -114,19 +113,6 @@ public class GeneratedFileSelectorApi {
       this.size = setterArg;
     }
 
-    private @NonNull byte[] bytes;
-
-    public @NonNull byte[] getBytes() {
-      return bytes;
-    }
-
-    public void setBytes(@NonNull byte[] setterArg) {
-      if (setterArg == null) {
-        throw new IllegalStateException("Nonnull field \"bytes\" is null.");
-      }
-      this.bytes = setterArg;
-    }
-
     /** Constructor is non-public to enforce null safety; use Builder. */
     FileResponse() {}
 
@@ -142,15 +128,12 @@ public class GeneratedFileSelectorApi {
       return path.equals(that.path)
           && Objects.equals(mimeType, that.mimeType)
           && Objects.equals(name, that.name)
-          && size.equals(that.size)
-          && Arrays.equals(bytes, that.bytes);
+          && size.equals(that.size);
     }
 
     @Override
     public int hashCode() {
-      int pigeonVar_result = Objects.hash(path, mimeType, name, size);
-      pigeonVar_result = 31 * pigeonVar_result + Arrays.hashCode(bytes);
-      return pigeonVar_result;
+      return Objects.hash(path, mimeType, name, size);
     }
 
     public static final class Builder {
@@ -187,33 +170,23 @@ public class GeneratedFileSelectorApi {
         return this;
       }
 
-      private @Nullable byte[] bytes;
-
-      @CanIgnoreReturnValue
-      public @NonNull Builder setBytes(@NonNull byte[] setterArg) {
-        this.bytes = setterArg;
-        return this;
-      }
-
       public @NonNull FileResponse build() {
         FileResponse pigeonReturn = new FileResponse();
         pigeonReturn.setPath(path);
         pigeonReturn.setMimeType(mimeType);
         pigeonReturn.setName(name);
         pigeonReturn.setSize(size);
-        pigeonReturn.setBytes(bytes);
         return pigeonReturn;
       }
     }
 
     @NonNull
     ArrayList<Object> toList() {
-      ArrayList<Object> toListResult = new ArrayList<>(5);
+      ArrayList<Object> toListResult = new ArrayList<>(4);
       toListResult.add(path);
       toListResult.add(mimeType);
       toListResult.add(name);
       toListResult.add(size);
-      toListResult.add(bytes);
       return toListResult;
     }
 
@@ -227,8 +200,6 @@ public class GeneratedFileSelectorApi {
       pigeonResult.setName((String) name);
       Object size = pigeonVar_list.get(3);
       pigeonResult.setSize((Long) size);
-      Object bytes = pigeonVar_list.get(4);
-      pigeonResult.setBytes((byte[]) bytes);
       return pigeonResult;
     }
   }
@@ -25,9 +25,10 @@ import android.provider.OpenableColumns;
 import androidx.annotation.NonNull;
 import io.flutter.embedding.engine.plugins.activity.ActivityPluginBinding;
 import io.flutter.plugin.common.PluginRegistry;
-import java.io.DataInputStream;
 import java.io.FileNotFoundException;
-import java.io.InputStream;
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
 import java.util.Collections;
 import java.util.List;
 import org.junit.Rule;
@@ -54,7 +55,7 @@ public class FileSelectorAndroidPluginTest {
       @NonNull ContentResolver mockResolver,
       @NonNull Uri uri,
       @NonNull String displayName,
-      int size,
+      long size,
       @NonNull String mimeType)
       throws FileNotFoundException {
     final Cursor mockCursor = mock(Cursor.class);
@@ -65,11 +66,10 @@ public class FileSelectorAndroidPluginTest {
 
     when(mockCursor.getColumnIndex(OpenableColumns.SIZE)).thenReturn(1);
     when(mockCursor.isNull(1)).thenReturn(false);
-    when(mockCursor.getInt(1)).thenReturn(size);
+    when(mockCursor.getLong(1)).thenReturn(size);
 
     when(mockResolver.query(uri, null, null, null, null, null)).thenReturn(mockCursor);
     when(mockResolver.getType(uri)).thenReturn(mimeType);
-    when(mockResolver.openInputStream(uri)).thenReturn(mock(InputStream.class));
   }
 
   @SuppressWarnings({"rawtypes", "unchecked"})
@@ -86,14 +86,15 @@ public class FileSelectorAndroidPluginTest {
       mockContentResolver(mockContentResolver, mockUri, "filename", 30, "text/plain");
 
       when(mockObjectFactory.newIntent(Intent.ACTION_OPEN_DOCUMENT)).thenReturn(mockIntent);
-      when(mockObjectFactory.newDataInputStream(any())).thenReturn(mock(DataInputStream.class));
       when(mockActivity.getContentResolver()).thenReturn(mockContentResolver);
       when(mockActivityBinding.getActivity()).thenReturn(mockActivity);
       final FileSelectorApiImpl fileSelectorApi =
           new FileSelectorApiImpl(
               mockActivityBinding,
               mockObjectFactory,
-              (version) -> Build.VERSION.SDK_INT >= version);
+              (version) -> Build.VERSION.SDK_INT >= version,
+              Runnable::run,
+              Runnable::run);
 
       final GeneratedFileSelectorApi.NullableResult mockResult =
           mock(GeneratedFileSelectorApi.NullableResult.class);
@@ -121,7 +122,6 @@ public class FileSelectorAndroidPluginTest {
       verify(mockResult).success(fileCaptor.capture());
 
       final GeneratedFileSelectorApi.FileResponse file = fileCaptor.getValue();
-      assertEquals(file.getBytes().length, 30);
       assertEquals(file.getMimeType(), "text/plain");
       assertEquals(file.getName(), "filename");
       assertEquals(file.getSize(), (Long) 30L);
@@ -151,14 +151,15 @@ public class FileSelectorAndroidPluginTest {
       mockContentResolver(mockContentResolver, mockUri2, "filename2", 40, "image/jpg");
 
       when(mockObjectFactory.newIntent(Intent.ACTION_OPEN_DOCUMENT)).thenReturn(mockIntent);
-      when(mockObjectFactory.newDataInputStream(any())).thenReturn(mock(DataInputStream.class));
       when(mockActivity.getContentResolver()).thenReturn(mockContentResolver);
       when(mockActivityBinding.getActivity()).thenReturn(mockActivity);
       final FileSelectorApiImpl fileSelectorApi =
           new FileSelectorApiImpl(
               mockActivityBinding,
               mockObjectFactory,
-              (version) -> Build.VERSION.SDK_INT >= version);
+              (version) -> Build.VERSION.SDK_INT >= version,
+              Runnable::run,
+              Runnable::run);
 
       final GeneratedFileSelectorApi.Result mockResult =
           mock(GeneratedFileSelectorApi.Result.class);
@@ -198,13 +199,11 @@ public class FileSelectorAndroidPluginTest {
       verify(mockResult).success(fileListCaptor.capture());
 
       final List<GeneratedFileSelectorApi.FileResponse> fileList = fileListCaptor.getValue();
-      assertEquals(fileList.get(0).getBytes().length, 30);
       assertEquals(fileList.get(0).getMimeType(), "text/plain");
       assertEquals(fileList.get(0).getName(), "filename");
       assertEquals(fileList.get(0).getSize(), (Long) 30L);
       assertEquals(fileList.get(0).getPath(), mockUriPath);
 
-      assertEquals(fileList.get(1).getBytes().length, 40);
       assertEquals(fileList.get(1).getMimeType(), "image/jpg");
       assertEquals(fileList.get(1).getName(), "filename2");
       assertEquals(fileList.get(1).getSize(), (Long) 40L);
@@ -212,6 +211,60 @@ public class FileSelectorAndroidPluginTest {
     }
   }
 
+  @SuppressWarnings({"rawtypes", "unchecked"})
+  @Test
+  public void openFileUsesSizeOfCopyWhenSizeIsUnknown() throws IOException {
+    try (MockedStatic<FileUtils> mockedFileUtils = mockStatic(FileUtils.class)) {
+      final ContentResolver mockContentResolver = mock(ContentResolver.class);
+
+      final Uri mockUri = mock(Uri.class);
+      final File copy = File.createTempFile("file_selector", ".txt");
+      copy.deleteOnExit();
+      Files.write(copy.toPath(), new byte[25]);
+      mockedFileUtils
+          .when(() -> FileUtils.getPathFromCopyOfFileFromUri(any(Context.class), eq(mockUri)))
+          .thenAnswer((Answer<String>) invocation -> copy.getPath());
+      mockContentResolver(mockContentResolver, mockUri, "filename", 0, "text/plain");
+      final Cursor mockCursor = mockContentResolver.query(mockUri, null, null, null, null, null);
+      when(mockCursor.isNull(1)).thenReturn(true);
+
+      when(mockObjectFactory.newIntent(Intent.ACTION_OPEN_DOCUMENT)).thenReturn(mockIntent);
+      when(mockActivity.getContentResolver()).thenReturn(mockContentResolver);
+      when(mockActivityBinding.getActivity()).thenReturn(mockActivity);
+      final FileSelectorApiImpl fileSelectorApi =
+          new FileSelectorApiImpl(
+              mockActivityBinding,
+              mockObjectFactory,
+              (version) -> Build.VERSION.SDK_INT >= version,
+              Runnable::run,
+              Runnable::run);
+
+      final GeneratedFileSelectorApi.NullableResult mockResult =
+          mock(GeneratedFileSelectorApi.NullableResult.class);
+      fileSelectorApi.openFile(
+          null,
+          new GeneratedFileSelectorApi.FileTypes.Builder()
+              .setMimeTypes(Collections.emptyList())
+              .setExtensions(Collections.emptyList())
+              .build(),
+          mockResult);
+
+      final ArgumentCaptor<PluginRegistry.ActivityResultListener> listenerArgumentCaptor =
+          ArgumentCaptor.forClass(PluginRegistry.ActivityResultListener.class);
+      verify(mockActivityBinding).addActivityResultListener(listenerArgumentCaptor.capture());
+
+      final Intent resultMockIntent = mock(Intent.class);
+      when(resultMockIntent.getData()).thenReturn(mockUri);
+      listenerArgumentCaptor.getValue().onActivityResult(221, Activity.RESULT_OK, resultMockIntent);
+
+      final ArgumentCaptor<GeneratedFileSelectorApi.FileResponse> fileCaptor =
+          ArgumentCaptor.forClass(GeneratedFileSelectorApi.FileResponse.class);
+      verify(mockResult).success(fileCaptor.capture());
+      assertEquals(fileCaptor.getValue().getSize(), (Long) 25L);
+      assertEquals(fileCaptor.getValue().getPath(), copy.getPath());
+    }
+  }
+
   @SuppressWarnings({"rawtypes", "unchecked"})
   @Test
   public void getDirectoryPathReturnsSuccessfully() {
@@ -241,7 +294,9 @@ public class FileSelectorAndroidPluginTest {
             new FileSelectorApiImpl(
                 mockActivityBinding,
                 mockObjectFactory,
-                (version) -> Build.VERSION_CODES.LOLLIPOP >= version);
+                (version) -> Build.VERSION_CODES.LOLLIPOP >= version,
+                Runnable::run,
+                Runnable::run);
 
         final GeneratedFileSelectorApi.NullableResult mockResult =
             mock(GeneratedFileSelectorApi.NullableResult.class);
@@ -270,7 +325,9 @@ public class FileSelectorAndroidPluginTest {
         new FileSelectorApiImpl(
             mockActivityBinding,
             mockObjectFactory,
-            (version) -> Build.VERSION_CODES.KITKAT >= version);
+            (version) -> Build.VERSION_CODES.KITKAT >= version,
+            Runnable::run,
+            Runnable::run);
 
     @SuppressWarnings("unchecked")
     final GeneratedFileSelectorApi.NullableResult<String> mockResult =
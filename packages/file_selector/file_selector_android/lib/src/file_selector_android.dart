@@ -56,14 +56,15 @@ class FileSelectorAndroid extends FileSelectorPlatform {
   }
 
   XFile _xFileFromFileResponse(FileResponse file) {
-    return XFile.fromData(
-      file.bytes,
+    // The content is read lazily from the copy of the file at the path, rather
+    // than sent over the platform channel.
+    return XFile(
+      file.path,
       // Note: The name parameter is not used by XFile. The XFile.name returns
       // the extracted file name from XFile.path.
       name: file.name,
       length: file.size,
       mimeType: file.mimeType,
-      path: file.path,
     );
   }
 
@@ -24,7 +24,6 @@ class FileResponse {
     this.mimeType,
     this.name,
     required this.size,
-    required this.bytes,
   });
 
   String path;
@@ -35,15 +34,12 @@ class FileResponse {
 
   int size;
 
-  Uint8List bytes;
-
   Object encode() {
     return <Object?>[
       path,
       mimeType,
       name,
       size,
-      bytes,
     ];
   }
 
@@ -54,7 +50,6 @@ class FileResponse {
       mimeType: result[1] as String?,
       name: result[2] as String?,
       size: result[3]! as int,
-      bytes: result[4]! as Uint8List,
     );
   }
 }
@@ -2,7 +2,7 @@
 // Use of this source code is governed by a BSD-style license that can be
 // found in the LICENSE file.
 
-import 'dart:typed_data';
+import 'dart:io';
 
 import 'package:file_selector_android/src/file_selector_android.dart';
 import 'package:file_selector_android/src/file_selector_api.g.dart';
@@ -52,7 +52,6 @@ void main() {
           FileResponse(
             path: 'some/path.txt',
             size: 30,
-            bytes: Uint8List(0),
             name: 'name',
             mimeType: 'text/plain',
           ),
@@ -77,7 +76,31 @@ void main() {
       expect(file?.path, 'some/path.txt');
       expect(file?.mimeType, 'text/plain');
       expect(await file?.length(), 30);
-      expect(await file?.readAsBytes(), Uint8List(0));
+    });
+
+    test('returns a file that reads its content from its path', () async {
+      final Directory tempDir =
+          Directory.systemTemp.createTempSync('file_selector_android_test');
+      addTearDown(() => tempDir.deleteSync(recursive: true));
+      final File copy = File('${tempDir.path}/name.txt')
+        ..writeAsStringSync('content');
+      when(mockApi.openFile(any, any)).thenAnswer(
+        (_) => Future<FileResponse?>.value(
+          FileResponse(
+            path: copy.path,
+            size: 7,
+            name: 'name.txt',
+            mimeType: 'text/plain',
+          ),
+        ),
+      );
+
+      final XFile? file = await plugin.openFile();
+
+      expect(file?.path, copy.path);
+      expect(await file?.readAsString(), 'content');
+      copy.writeAsStringSync('changed');
+      expect(await file?.readAsString(), 'changed');
     });
   });
 
@@ -104,14 +127,12 @@ void main() {
             FileResponse(
               path: 'some/path.txt',
               size: 30,
-              bytes: Uint8List(0),
               name: 'name',
               mimeType: 'text/plain',
             ),
             FileResponse(
               path: 'other/dir.jpg',
               size: 40,
-              bytes: Uint8List(0),
               mimeType: 'image/jpg',
             ),
           ],
@@ -136,12 +157,10 @@ void main() {
       expect(files[0].path, 'some/path.txt');
       expect(files[0].mimeType, 'text/plain');
       expect(await files[0].length(), 30);
-      expect(await files[0].readAsBytes(), Uint8List(0));
 
       expect(files[1].path, 'other/dir.jpg');
       expect(files[1].mimeType, 'image/jpg');
       expect(await files[1].length(), 40);
-      expect(await files[1].readAsBytes(), Uint8List(0));
     });
   });
 
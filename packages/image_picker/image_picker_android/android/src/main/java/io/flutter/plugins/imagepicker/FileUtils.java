@@ -27,17 +27,24 @@ import android.content.ContentResolver;
 import android.content.Context;
 import android.database.Cursor;
 import android.net.Uri;
+import android.os.ParcelFileDescriptor;
 import android.provider.MediaStore;
 import android.webkit.MimeTypeMap;
+import androidx.annotation.Nullable;
 import io.flutter.Log;
 import java.io.File;
+import java.io.FileInputStream;
+import java.io.FileNotFoundException;
 import java.io.FileOutputStream;
 import java.io.IOException;
 import java.io.InputStream;
 import java.io.OutputStream;
+import java.nio.channels.FileChannel;
 import java.util.UUID;
 
 class FileUtils {
+  private static final int COPY_BUFFER_SIZE = 64 * 1024;
+
   /**
    * Copies the file from the given content URI to a temporary directory, retaining the original
    * file name if possible.
@@ -50,9 +57,18 @@ class FileUtils {
    *
    * <p>If the original file name is unknown, a predefined "image_picker" filename is used and the
    * file extension is deduced from the mime type (with fallback to ".jpg" in case of failure).
+   *
+   * <p>Files that the content provider can open as a regular file are copied by the kernel without
+   * passing through a buffer in the app. Other files are copied through an input stream.
    */
   String getPathFromUri(final Context context, final Uri uri) {
-    try (InputStream inputStream = context.getContentResolver().openInputStream(uri)) {
+    final ContentResolver contentResolver = context.getContentResolver();
+    try (ParcelFileDescriptor fileDescriptor = openRegularFileDescriptor(contentResolver, uri);
+        InputStream inputStream =
+            fileDescriptor == null ? contentResolver.openInputStream(uri) : null) {
+      if (fileDescriptor == null && inputStream == null) {
+        return null;
+      }
       String uuid = UUID.randomUUID().toString();
       File targetDirectory = new File(context.getCacheDir(), uuid);
       targetDirectory.mkdir();
@@ -70,8 +86,15 @@ class FileUtils {
         fileName = getBaseName(fileName) + extension;
       }
       File file = new File(targetDirectory, fileName);
-      try (OutputStream outputStream = new FileOutputStream(file)) {
-        copy(inputStream, outputStream);
+      try (FileOutputStream outputStream = new FileOutputStream(file)) {
+        if (fileDescriptor != null) {
+          // The channel is not closed here, as that would close the descriptor it reads from.
+          FileChannel inputChannel =
+              new FileInputStream(fileDescriptor.getFileDescriptor()).getChannel();
+          copy(inputChannel, outputStream.getChannel(), fileDescriptor.getStatSize());
+        } else {
+          copy(inputStream, outputStream);
+        }
         return file.getPath();
       }
     } catch (IOException e) {
@@ -127,8 +150,45 @@ class FileUtils {
         .query(uriImage, new String[] {MediaStore.MediaColumns.DISPLAY_NAME}, null, null, null);
   }
 
+  /**
+   * Opens the file at {@code uri} for reading if it is a regular file of known size.
+   *
+   * <p>Returns null if the content provider cannot open the file as a descriptor, or if the
+   * descriptor is a pipe or socket, in which case the file has to be read as a stream.
+   */
+  @Nullable
+  private static ParcelFileDescriptor openRegularFileDescriptor(
+      ContentResolver contentResolver, Uri uri) {
+    final ParcelFileDescriptor fileDescriptor;
+    try {
+      fileDescriptor = contentResolver.openFileDescriptor(uri, "r");
+    } catch (FileNotFoundException e) {
+      return null;
+    }
+    if (fileDescriptor != null && fileDescriptor.getStatSize() < 0) {
+      try {
+        fileDescriptor.close();
+      } catch (IOException e) {
+        Log.w("FileUtils", "Failed to close file descriptor for " + uri);
+      }
+      return null;
+    }
+    return fileDescriptor;
+  }
+
+  private static void copy(FileChannel in, FileChannel out, long size) throws IOException {
+    long position = 0;
+    while (position < size) {
+      long bytesTransferred = in.transferTo(position, size - position, out);
+      if (bytesTransferred <= 0) {
+        throw new IOException("File ended after " + position + " of " + size + " bytes.");
+      }
+      position += bytesTransferred;
+    }
+  }
+
   private static void copy(InputStream in, OutputStream out) throws IOException {
-    final byte[] buffer = new byte[4 * 1024];
+    final byte[] buffer = new byte[COPY_BUFFER_SIZE];
     int bytesRead;
     while ((bytesRead = in.read(buffer)) != -1) {
       out.write(buffer, 0, bytesRead);
@@ -30,11 +30,19 @@ import io.flutter.plugins.imagepicker.Messages.VideoSelectionOptions;
 import java.io.File;
 import java.io.IOException;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.List;
 import java.util.Map;
 import java.util.UUID;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executor;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Executors;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
 
 /**
  * A delegate class doing the heavy lifting for the plugin.
@@ -116,6 +124,8 @@ public class ImagePickerDelegate
   private final FileUriResolver fileUriResolver;
   private final FileUtils fileUtils;
   private final ExecutorService executor;
+  private final Executor processingExecutor;
+  private final @Nullable ProcessingProgressListener progressListener;
   private CameraDevice cameraDevice;
 
   interface PermissionManager {
@@ -136,6 +146,12 @@ public class ImagePickerDelegate
     void onPathReady(String path);
   }
 
+  /** Listens to the progress of copying and resizing picked items. */
+  interface ProcessingProgressListener {
+    /** Called from a background thread each time one of {@code totalCount} items is processed. */
+    void onProcessingProgress(int processedCount, int totalCount);
+  }
+
   private Uri pendingCameraMediaUri;
   private @Nullable PendingCallState pendingCallState;
   private final Object pendingCallStateLock = new Object();
@@ -144,6 +160,14 @@ public class ImagePickerDelegate
       final @NonNull Activity activity,
       final @NonNull ImageResizer imageResizer,
       final @NonNull ImagePickerCache cache) {
+    this(activity, imageResizer, cache, null);
+  }
+
+  ImagePickerDelegate(
+      final @NonNull Activity activity,
+      final @NonNull ImageResizer imageResizer,
+      final @NonNull ImagePickerCache cache,
+      final @Nullable ProcessingProgressListener progressListener) {
     this(
         activity,
         imageResizer,
@@ -184,7 +208,21 @@ public class ImagePickerDelegate
           }
         },
         new FileUtils(),
-        Executors.newSingleThreadExecutor());
+        Executors.newSingleThreadExecutor(),
+        createProcessingExecutor(ImagePickerUtils.getProcessingParallelism(activity)),
+        progressListener);
+  }
+
+  /**
+   * Creates the executor that copies and resizes picked items, running at most {@code
+   * parallelism} of them at once. Its threads stop once idle.
+   */
+  private static Executor createProcessingExecutor(int parallelism) {
+    ThreadPoolExecutor processingExecutor =
+        new ThreadPoolExecutor(
+            parallelism, parallelism, 30, TimeUnit.SECONDS, new LinkedBlockingQueue<>());
+    processingExecutor.allowCoreThreadTimeOut(true);
+    return processingExecutor;
   }
 
   /**
@@ -202,7 +240,9 @@ public class ImagePickerDelegate
       final PermissionManager permissionManager,
       final FileUriResolver fileUriResolver,
       final FileUtils fileUtils,
-      final ExecutorService executor) {
+      final ExecutorService executor,
+      final Executor processingExecutor,
+      final @Nullable ProcessingProgressListener progressListener) {
     this.activity = activity;
     this.imageResizer = imageResizer;
     this.fileProviderName = activity.getPackageName() + ".flutter.image_provider";
@@ -215,6 +255,8 @@ public class ImagePickerDelegate
     this.fileUtils = fileUtils;
     this.cache = cache;
     this.executor = executor;
+    this.processingExecutor = processingExecutor;
+    this.progressListener = progressListener;
   }
 
   void setCameraDevice(CameraDevice device) {
@@ -270,8 +312,13 @@ public class ImagePickerDelegate
         Double maxHeight = (Double) cacheMap.get(ImagePickerCache.MAP_KEY_MAX_HEIGHT);
         Integer boxedImageQuality = (Integer) cacheMap.get(ImagePickerCache.MAP_KEY_IMAGE_QUALITY);
         int imageQuality = boxedImageQuality == null ? 100 : boxedImageQuality;
+        Messages.ImageOutputFormat outputFormat =
+            (Messages.ImageOutputFormat) cacheMap.get(ImagePickerCache.MAP_KEY_OUTPUT_FORMAT);
+        Long maxFileSizeBytes = (Long) cacheMap.get(ImagePickerCache.MAP_KEY_MAX_FILE_SIZE_BYTES);
 
-        newPathList.add(imageResizer.resizeImageIfNeeded(path, maxWidth, maxHeight, imageQuality));
+        newPathList.add(
+            imageResizer.resizeImageIfNeeded(
+                path, maxWidth, maxHeight, imageQuality, outputFormat, maxFileSizeBytes));
       }
       result.setPaths(newPathList);
     }
@@ -638,9 +685,15 @@ public class ImagePickerDelegate
     return true;
   }
 
+  /**
+   * Copies the items picked in {@code data} to the cache and returns their paths, or null if any of
+   * them cannot be found.
+   *
+   * <p>Images are also resized if the pending call requested it. See {@link #processMedia}.
+   */
   @Nullable
-  private ArrayList<MediaPath> getPathsFromIntent(@NonNull Intent data, boolean includeMimeType) {
-    ArrayList<MediaPath> paths = new ArrayList<>();
+  private ArrayList<String> getPathsFromIntent(@NonNull Intent data, boolean includeMimeType) {
+    ArrayList<MediaUri> uris = new ArrayList<>();
 
     Uri uri = data.getData();
     // On several pre-Android 13 devices using Android Photo Picker, the Uri from getData() could
@@ -661,34 +714,99 @@ public class ImagePickerDelegate
         if (uri == null) {
           return null;
         }
-        String path = fileUtils.getPathFromUri(activity, uri);
-        // Again, same error state as above.
-        if (path == null) {
-          return null;
-        }
         String mimeType = includeMimeType ? activity.getContentResolver().getType(uri) : null;
-        paths.add(new MediaPath(path, mimeType));
+        uris.add(new MediaUri(uri, mimeType));
       }
     } else {
-      String path = fileUtils.getPathFromUri(activity, uri);
-      if (path == null) {
-        return null;
+      uris.add(new MediaUri(uri, null));
+    }
+    return processMedia(uris);
+  }
+
+  /** A picked item that has not been copied to the cache yet. */
+  private static class MediaUri {
+    final @NonNull Uri uri;
+    final @Nullable String mimeType;
+
+    MediaUri(@NonNull Uri uri, @Nullable String mimeType) {
+      this.uri = uri;
+      this.mimeType = mimeType;
+    }
+  }
+
+  /**
+   * Copies each of {@code uris} to the cache and, if the pending call requested it, resizes the
+   * images among them.
+   *
+   * <p>Items are processed in parallel on {@link #processingExecutor}, and each processed item is
+   * reported to {@link #progressListener}. The returned paths are in the same order as {@code
+   * uris}. Returns null if any item cannot be copied.
+   */
+  @Nullable
+  private ArrayList<String> processMedia(@NonNull List<MediaUri> uris) {
+    ImageSelectionOptions localImageOptions = null;
+    synchronized (pendingCallStateLock) {
+      if (pendingCallState != null) {
+        localImageOptions = pendingCallState.imageOptions;
       }
-      paths.add(new MediaPath(path, null));
     }
-    return paths;
+    final ImageSelectionOptions imageOptions = localImageOptions;
+
+    final int totalCount = uris.size();
+    final String[] finalPaths = new String[totalCount];
+    final AtomicBoolean failed = new AtomicBoolean(false);
+    final AtomicInteger processedCount = new AtomicInteger(0);
+    final CountDownLatch processed = new CountDownLatch(totalCount);
+    for (int i = 0; i < totalCount; i++) {
+      final MediaUri media = uris.get(i);
+      final int index = i;
+      processingExecutor.execute(
+          () -> {
+            try {
+              // Once one item is missing, the selection fails, so skip the remaining items.
+              if (!failed.get()) {
+                String path = fileUtils.getPathFromUri(activity, media.uri);
+                if (path == null) {
+                  failed.set(true);
+                } else {
+                  if (imageOptions != null
+                      && (media.mimeType == null || !media.mimeType.startsWith("video/"))) {
+                    path = getResizedImagePath(path, imageOptions);
+                  }
+                  finalPaths[index] = path;
+                }
+              }
+            } catch (RuntimeException e) {
+              failed.set(true);
+            } finally {
+              if (progressListener != null) {
+                progressListener.onProcessingProgress(
+                    processedCount.incrementAndGet(), totalCount);
+              }
+              processed.countDown();
+            }
+          });
+    }
+
+    try {
+      processed.await();
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+      return null;
+    }
+    return failed.get() ? null : new ArrayList<>(Arrays.asList(finalPaths));
   }
 
   private void handleChooseImageResult(int resultCode, Intent data) {
     if (resultCode == Activity.RESULT_OK && data != null) {
-      ArrayList<MediaPath> paths = getPathsFromIntent(data, false);
+      ArrayList<String> paths = getPathsFromIntent(data, false);
       // If there's no valid Uri, return an error
       if (paths == null) {
         finishWithError("no_valid_image_uri", "Cannot find the selected image.");
         return;
       }
 
-      handleMediaResult(paths);
+      finishWithListSuccess(paths);
       return;
     }
 
@@ -696,34 +814,16 @@ public class ImagePickerDelegate
     finishWithSuccess(null);
   }
 
-  public class MediaPath {
-    public MediaPath(@NonNull String path, @Nullable String mimeType) {
-      this.path = path;
-      this.mimeType = mimeType;
-    }
-
-    final String path;
-    final String mimeType;
-
-    public @NonNull String getPath() {
-      return path;
-    }
-
-    public @Nullable String getMimeType() {
-      return mimeType;
-    }
-  }
-
   private void handleChooseMediaResult(int resultCode, Intent intent) {
     if (resultCode == Activity.RESULT_OK && intent != null) {
-      ArrayList<MediaPath> paths = getPathsFromIntent(intent, true);
+      ArrayList<String> paths = getPathsFromIntent(intent, true);
       // If there's no valid Uri, return an error
       if (paths == null) {
         finishWithError("no_valid_media_uri", "Cannot find the selected media.");
         return;
       }
 
-      handleMediaResult(paths);
+      finishWithListSuccess(paths);
       return;
     }
 
@@ -733,7 +833,7 @@ public class ImagePickerDelegate
 
   private void handleChooseMultiImageResult(int resultCode, Intent intent) {
     if (resultCode == Activity.RESULT_OK && intent != null) {
-      ArrayList<MediaPath> paths = getPathsFromIntent(intent, false);
+      ArrayList<String> paths = getPathsFromIntent(intent, false);
       // If there's no valid Uri, return an error
       if (paths == null) {
         finishWithError(
@@ -741,7 +841,7 @@ public class ImagePickerDelegate
         return;
       }
 
-      handleMediaResult(paths);
+      finishWithListSuccess(paths);
       return;
     }
 
@@ -751,14 +851,14 @@ public class ImagePickerDelegate
 
   private void handleChooseVideoResult(int resultCode, Intent data) {
     if (resultCode == Activity.RESULT_OK && data != null) {
-      ArrayList<MediaPath> paths = getPathsFromIntent(data, false);
+      ArrayList<String> paths = getPathsFromIntent(data, false);
       // If there's no valid Uri, return an error
       if (paths == null || paths.size() < 1) {
         finishWithError("no_valid_video_uri", "Cannot find the selected video.");
         return;
       }
 
-      finishWithSuccess(paths.get(0).path);
+      finishWithSuccess(paths.get(0));
       return;
     }
 
@@ -822,34 +922,9 @@ public class ImagePickerDelegate
         path,
         outputOptions.getMaxWidth(),
         outputOptions.getMaxHeight(),
-        outputOptions.getQuality().intValue());
-  }
-
-  private void handleMediaResult(@NonNull ArrayList<MediaPath> paths) {
-    ImageSelectionOptions localImageOptions = null;
-    synchronized (pendingCallStateLock) {
-      if (pendingCallState != null) {
-        localImageOptions = pendingCallState.imageOptions;
-      }
-    }
-
-    ArrayList<String> finalPaths = new ArrayList<>();
-    if (localImageOptions != null) {
-      for (int i = 0; i < paths.size(); i++) {
-        MediaPath path = paths.get(i);
-        String finalPath = path.path;
-        if (path.mimeType == null || !path.mimeType.startsWith("video/")) {
-          finalPath = getResizedImagePath(path.path, localImageOptions);
-        }
-        finalPaths.add(finalPath);
-      }
-      finishWithListSuccess(finalPaths);
-    } else {
-      for (int i = 0; i < paths.size(); i++) {
-        finalPaths.add(paths.get(i).path);
-      }
-      finishWithListSuccess(finalPaths);
-    }
+        outputOptions.getQuality().intValue(),
+        outputOptions.getOutputFormat(),
+        outputOptions.getMaxFileSizeBytes());
   }
 
   private boolean setPendingOptionsAndResult(
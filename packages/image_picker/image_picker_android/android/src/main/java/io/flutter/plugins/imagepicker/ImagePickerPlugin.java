@@ -7,6 +7,8 @@ package io.flutter.plugins.imagepicker;
 import android.app.Activity;
 import android.app.Application;
 import android.os.Bundle;
+import android.os.Handler;
+import android.os.Looper;
 import androidx.annotation.NonNull;
 import androidx.annotation.Nullable;
 import androidx.annotation.VisibleForTesting;
@@ -22,6 +24,7 @@ import io.flutter.plugins.imagepicker.Messages.CacheRetrievalResult;
 import io.flutter.plugins.imagepicker.Messages.FlutterError;
 import io.flutter.plugins.imagepicker.Messages.GeneralOptions;
 import io.flutter.plugins.imagepicker.Messages.ImagePickerApi;
+import io.flutter.plugins.imagepicker.Messages.ImagePickerProgressApi;
 import io.flutter.plugins.imagepicker.Messages.ImageSelectionOptions;
 import io.flutter.plugins.imagepicker.Messages.MediaSelectionOptions;
 import io.flutter.plugins.imagepicker.Messages.Result;
@@ -122,7 +125,7 @@ public class ImagePickerPlugin implements FlutterPlugin, ActivityAware, ImagePic
       this.activityBinding = activityBinding;
       this.messenger = messenger;
 
-      delegate = constructDelegate(activity);
+      delegate = constructDelegate(activity, messenger);
       ImagePickerApi.setUp(messenger, handler);
       observer = new LifeCycleObserver(activity);
 
@@ -243,12 +246,32 @@ public class ImagePickerPlugin implements FlutterPlugin, ActivityAware, ImagePic
   }
 
   @VisibleForTesting
-  final ImagePickerDelegate constructDelegate(final Activity setupActivity) {
+  final ImagePickerDelegate constructDelegate(
+      final Activity setupActivity, final BinaryMessenger messenger) {
     final ImagePickerCache cache = new ImagePickerCache(setupActivity);
 
     final ExifDataCopier exifDataCopier = new ExifDataCopier();
     final ImageResizer imageResizer = new ImageResizer(setupActivity, exifDataCopier);
-    return new ImagePickerDelegate(setupActivity, imageResizer, cache);
+    final ImagePickerProgressApi progressApi = new ImagePickerProgressApi(messenger);
+    final Handler mainHandler = new Handler(Looper.getMainLooper());
+    return new ImagePickerDelegate(
+        setupActivity,
+        imageResizer,
+        cache,
+        (processedCount, totalCount) ->
+            // Messages to Dart must be sent from the platform thread.
+            mainHandler.post(
+                () ->
+                    progressApi.onProcessingProgress(
+                        (long) processedCount,
+                        (long) totalCount,
+                        new Messages.VoidResult() {
+                          @Override
+                          public void success() {}
+
+                          @Override
+                          public void error(@NonNull Throwable error) {}
+                        })));
   }
 
   private @Nullable ImagePickerDelegate getImagePickerDelegate() {
@@ -6,6 +6,7 @@ package io.flutter.plugins.imagepicker;
 
 import android.Manifest;
 import android.annotation.SuppressLint;
+import android.app.ActivityManager;
 import android.content.Context;
 import android.content.pm.PackageInfo;
 import android.content.pm.PackageManager;
@@ -15,6 +16,12 @@ import androidx.activity.result.contract.ActivityResultContracts;
 import java.util.Arrays;
 
 final class ImagePickerUtils {
+  /** The most picked items that are copied and resized at once. */
+  static final int MAX_PROCESSING_PARALLELISM = 4;
+
+  /** Memory set aside for each picked item being resized, which decodes a full size bitmap. */
+  static final int MEGABYTES_PER_PROCESSED_ITEM = 64;
+
   /** returns true, if permission present in manifest, otherwise false */
   private static boolean isPermissionPresentInManifest(Context context, String permissionName) {
     try {
@@ -85,4 +92,19 @@ final class ImagePickerUtils {
 
     return effectiveLimit;
   }
+
+  /**
+   * Returns how many picked items can be copied and resized at once.
+   *
+   * <p>This is one item per processor, limited by the memory class of the app since each resize
+   * decodes a full size bitmap, and by {@link #MAX_PROCESSING_PARALLELISM}.
+   */
+  static int getProcessingParallelism(Context context) {
+    ActivityManager activityManager =
+        (ActivityManager) context.getSystemService(Context.ACTIVITY_SERVICE);
+    int memoryClass = activityManager == null ? 0 : activityManager.getMemoryClass();
+    int memoryBound = memoryClass / MEGABYTES_PER_PROCESSED_ITEM;
+    int processorBound = Runtime.getRuntime().availableProcessors();
+    return Math.max(1, Math.min(MAX_PROCESSING_PARALLELISM, Math.min(memoryBound, processorBound)));
+  }
 }
@@ -7,16 +7,19 @@ package io.flutter.plugins.imagepicker;
 import android.content.Context;
 import android.graphics.Bitmap;
 import android.graphics.BitmapFactory;
+import android.os.Build;
 import android.util.Log;
 import androidx.annotation.NonNull;
 import androidx.annotation.Nullable;
 import androidx.annotation.VisibleForTesting;
 import androidx.core.util.SizeFCompat;
 import androidx.exifinterface.media.ExifInterface;
-import java.io.ByteArrayOutputStream;
+import io.flutter.plugins.imagepicker.Messages.ImageOutputFormat;
+import java.io.BufferedOutputStream;
 import java.io.File;
 import java.io.FileOutputStream;
 import java.io.IOException;
+import java.io.OutputStream;
 
 class ImageResizer {
   private final Context context;
@@ -28,33 +31,54 @@ class ImageResizer {
   }
 
   /**
-   * If necessary, resizes the image located in imagePath and then returns the path for the scaled
-   * image.
+   * If necessary, resizes or re-encodes the image located in imagePath and then returns the path
+   * for the scaled image.
+   *
+   * <p>The image is written in {@code outputFormat} if it is set, and lossy images are compressed
+   * with a lower quality than {@code imageQuality} if needed to fit in {@code maxFileSizeBytes}.
    *
    * <p>If no resizing is needed, returns the path for the original image.
    */
   String resizeImageIfNeeded(
-      String imagePath, @Nullable Double maxWidth, @Nullable Double maxHeight, int imageQuality) {
+      String imagePath,
+      @Nullable Double maxWidth,
+      @Nullable Double maxHeight,
+      int imageQuality,
+      @Nullable ImageOutputFormat outputFormat,
+      @Nullable Long maxFileSizeBytes) {
     SizeFCompat originalSize = readFileDimensions(imagePath);
     if (originalSize.getWidth() == -1 || originalSize.getHeight() == -1) {
       return imagePath;
     }
-    boolean shouldScale = maxWidth != null || maxHeight != null || imageQuality < 100;
+    boolean exceedsMaxFileSize =
+        maxFileSizeBytes != null && new File(imagePath).length() > maxFileSizeBytes;
+    boolean shouldScale =
+        maxWidth != null
+            || maxHeight != null
+            || imageQuality < 100
+            || outputFormat != null
+            || exceedsMaxFileSize;
     if (!shouldScale) {
       return imagePath;
     }
     try {
       String[] pathParts = imagePath.split("/");
-      String imageName = pathParts[pathParts.length - 1];
+      String imageName = getOutputImageName(pathParts[pathParts.length - 1], outputFormat);
       SizeFCompat targetSize =
           calculateTargetSize(
               (double) originalSize.getWidth(),
               (double) originalSize.getHeight(),
               maxWidth,
               maxHeight);
+      // Subsample while decoding so that only about the pixels needed for the target size are
+      // loaded, rather than the full image.
       BitmapFactory.Options options = new BitmapFactory.Options();
       options.inSampleSize =
-          calculateSampleSize(options, (int) targetSize.getWidth(), (int) targetSize.getHeight());
+          calculateSampleSize(
+              (int) originalSize.getWidth(),
+              (int) originalSize.getHeight(),
+              (int) targetSize.getWidth(),
+              (int) targetSize.getHeight());
       Bitmap bmp = decodeFile(imagePath, options);
       if (bmp == null) {
         return imagePath;
@@ -65,7 +89,9 @@ class ImageResizer {
               (double) targetSize.getWidth(),
               (double) targetSize.getHeight(),
               imageQuality,
-              imageName);
+              imageName,
+              outputFormat,
+              maxFileSizeBytes);
       copyExif(imagePath, file.getPath());
       return file.getPath();
     } catch (IOException e) {
@@ -74,12 +100,25 @@ class ImageResizer {
   }
 
   private File resizedImage(
-      Bitmap bmp, Double width, Double height, int imageQuality, String outputImageName)
+      Bitmap bmp,
+      Double width,
+      Double height,
+      int imageQuality,
+      String outputImageName,
+      @Nullable ImageOutputFormat outputFormat,
+      @Nullable Long maxFileSizeBytes)
       throws IOException {
     Bitmap scaledBmp = createScaledBitmap(bmp, width.intValue(), height.intValue(), false);
-    File file =
-        createImageOnExternalDirectory("/scaled_" + outputImageName, scaledBmp, imageQuality);
-    return file;
+    if (scaledBmp != bmp) {
+      // The decoded bitmap is no longer needed, so free its pixels before compressing.
+      bmp.recycle();
+    }
+    try {
+      return createImageOnExternalDirectory(
+          "/scaled_" + outputImageName, scaledBmp, imageQuality, outputFormat, maxFileSizeBytes);
+    } finally {
+      scaledBmp.recycle();
+    }
   }
 
   private SizeFCompat calculateTargetSize(
@@ -121,8 +160,8 @@ class ImageResizer {
     return image;
   }
 
-  private FileOutputStream createOutputStream(File imageFile) throws IOException {
-    return new FileOutputStream(imageFile);
+  private OutputStream createOutputStream(File imageFile) throws IOException {
+    return new BufferedOutputStream(new FileOutputStream(imageFile));
   }
 
   private void copyExif(String filePathOri, String filePathDest) {
@@ -150,8 +189,8 @@ class ImageResizer {
   }
 
   /**
-   * Calculates the largest sample size value that is a power of two based on a target width and
-   * height.
+   * Calculates the largest sample size value that is a power of two that keeps an image of the
+   * specified width and height at least as large as the target width and height.
    *
    * <p>This value is necessary to tell the Bitmap decoder to subsample the original image,
    * returning a smaller image to save memory.
@@ -160,10 +199,8 @@ class ImageResizer {
    *     href="https://developer.android.com/topic/performance/graphics/load-bitmap#load-bitmap">
    *     Loading Large Bitmaps Efficiently</a>
    */
-  private int calculateSampleSize(
-      BitmapFactory.Options options, int targetWidth, int targetHeight) {
-    final int height = options.outHeight;
-    final int width = options.outWidth;
+  @VisibleForTesting
+  static int calculateSampleSize(int width, int height, int targetWidth, int targetHeight) {
     int sampleSize = 1;
     if (height > targetHeight || width > targetWidth) {
       final int halfHeight = height / 2;
@@ -175,25 +212,113 @@ class ImageResizer {
     return sampleSize;
   }
 
-  private File createImageOnExternalDirectory(String name, Bitmap bitmap, int imageQuality)
+  private static String getOutputImageName(
+      String imageName, @Nullable ImageOutputFormat outputFormat) {
+    if (outputFormat == null) {
+      return imageName;
+    }
+    int extensionIndex = imageName.lastIndexOf('.');
+    String baseName = extensionIndex > 0 ? imageName.substring(0, extensionIndex) : imageName;
+    return baseName + ".webp";
+  }
+
+  @SuppressWarnings("deprecation")
+  private static Bitmap.CompressFormat getCompressFormat(
+      Bitmap bitmap, @Nullable ImageOutputFormat outputFormat) {
+    if (outputFormat == null) {
+      return bitmap.hasAlpha() ? Bitmap.CompressFormat.PNG : Bitmap.CompressFormat.JPEG;
+    }
+    if (Build.VERSION.SDK_INT >= Build.VERSION_CODES.R) {
+      return outputFormat == ImageOutputFormat.WEBP_LOSSLESS
+          ? Bitmap.CompressFormat.WEBP_LOSSLESS
+          : Bitmap.CompressFormat.WEBP_LOSSY;
+    }
+    // Before Android 11, WebP can only be written lossy, so lossless WebP is written with the
+    // highest quality instead.
+    return Bitmap.CompressFormat.WEBP;
+  }
+
+  /**
+   * Returns the highest quality up to {@code maxQuality} with which {@code bitmap} compresses to at
+   * most {@code maxFileSizeBytes}, or 0 if there is none.
+   *
+   * <p>The compressed sizes are counted without keeping the compressed bytes in memory.
+   */
+  @VisibleForTesting
+  static int findQualityForMaxFileSize(
+      Bitmap bitmap, Bitmap.CompressFormat format, int maxQuality, long maxFileSizeBytes) {
+    if (getCompressedSize(bitmap, format, maxQuality) <= maxFileSizeBytes) {
+      return maxQuality;
+    }
+    int quality = 0;
+    int low = 0;
+    int high = maxQuality - 1;
+    while (low <= high) {
+      int middle = (low + high) >>> 1;
+      if (getCompressedSize(bitmap, format, middle) <= maxFileSizeBytes) {
+        quality = middle;
+        low = middle + 1;
+      } else {
+        high = middle - 1;
+      }
+    }
+    return quality;
+  }
+
+  private static long getCompressedSize(Bitmap bitmap, Bitmap.CompressFormat format, int quality) {
+    ByteCountingOutputStream outputStream = new ByteCountingOutputStream();
+    bitmap.compress(format, quality, outputStream);
+    return outputStream.byteCount;
+  }
+
+  /** An output stream that discards its bytes and only counts them. */
+  private static class ByteCountingOutputStream extends OutputStream {
+    long byteCount = 0;
+
+    @Override
+    public void write(int b) {
+      byteCount++;
+    }
+
+    @Override
+    public void write(@NonNull byte[] b, int off, int len) {
+      byteCount += len;
+    }
+  }
+
+  private File createImageOnExternalDirectory(
+      String name,
+      Bitmap bitmap,
+      int imageQuality,
+      @Nullable ImageOutputFormat outputFormat,
+      @Nullable Long maxFileSizeBytes)
       throws IOException {
-    ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
-    boolean saveAsPNG = bitmap.hasAlpha();
-    if (saveAsPNG) {
+    Bitmap.CompressFormat compressFormat = getCompressFormat(bitmap, outputFormat);
+    boolean isLossy;
+    if (compressFormat == Bitmap.CompressFormat.PNG) {
+      isLossy = false;
       Log.d(
           "ImageResizer",
           "image_picker: compressing is not supported for type PNG. Returning the image with original quality");
+    } else if (outputFormat == ImageOutputFormat.WEBP_LOSSLESS) {
+      isLossy = false;
+      if (Build.VERSION.SDK_INT < Build.VERSION_CODES.R) {
+        imageQuality = 100;
+      }
+    } else {
+      isLossy = true;
+    }
+    if (isLossy && maxFileSizeBytes != null) {
+      imageQuality =
+          findQualityForMaxFileSize(bitmap, compressFormat, imageQuality, maxFileSizeBytes);
     }
-    bitmap.compress(
-        saveAsPNG ? Bitmap.CompressFormat.PNG : Bitmap.CompressFormat.JPEG,
-        imageQuality,
-        outputStream);
 
     File cacheDirectory = context.getCacheDir();
     File imageFile = createFile(cacheDirectory, name);
-    FileOutputStream fileOutput = createOutputStream(imageFile);
-    fileOutput.write(outputStream.toByteArray());
-    fileOutput.close();
+    // Compress straight to the file instead of holding the whole encoded image in memory.
+    try (OutputStream fileOutput = createOutputStream(imageFile)) {
+      bitmap.compress(compressFormat, imageQuality, fileOutput);
+    }
     return imageFile;
   }
 }
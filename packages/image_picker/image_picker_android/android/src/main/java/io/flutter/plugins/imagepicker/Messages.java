@@ -21,6 +21,7 @@ import java.lang.annotation.Retention;
 import java.lang.annotation.Target;
 import java.nio.ByteBuffer;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.List;
 
 /** Generated class from Pigeon. */
@@ -60,10 +61,30 @@ public class Messages {
     return errorList;
   }
 
+  @NonNull
+  protected static FlutterError createConnectionError(@NonNull String channelName) {
+    return new FlutterError(
+        "channel-error", "Unable to establish connection on channel: " + channelName + ".", "");
+  }
+
   @Target(METHOD)
   @Retention(CLASS)
   @interface CanIgnoreReturnValue {}
 
+  /** The file format that resized or compressed images are written in. */
+  public enum ImageOutputFormat {
+    /** Lossy WebP, compressed with the requested quality. */
+    WEBP_LOSSY(0),
+    /** Lossless WebP. */
+    WEBP_LOSSLESS(1);
+
+    final int index;
+
+    private ImageOutputFormat(final int index) {
+      this.index = index;
+    }
+  }
+
   public enum SourceCamera {
     REAR(0),
     FRONT(1);
@@ -241,6 +262,37 @@ public class Messages {
       this.quality = setterArg;
     }
 
+    /**
+     * If set, the format that the image should be written in.
+     *
+     * <p>If null, images are written as JPEG, or as PNG if they have transparency.
+     */
+    private @Nullable ImageOutputFormat outputFormat;
+
+    public @Nullable ImageOutputFormat getOutputFormat() {
+      return outputFormat;
+    }
+
+    public void setOutputFormat(@Nullable ImageOutputFormat setterArg) {
+      this.outputFormat = setterArg;
+    }
+
+    /**
+     * If set, the max size in bytes of the output image file.
+     *
+     * <p>Lossy images are compressed with a lower quality than [quality] as needed to fit in this
+     * size.
+     */
+    private @Nullable Long maxFileSizeBytes;
+
+    public @Nullable Long getMaxFileSizeBytes() {
+      return maxFileSizeBytes;
+    }
+
+    public void setMaxFileSizeBytes(@Nullable Long setterArg) {
+      this.maxFileSizeBytes = setterArg;
+    }
+
     /** Constructor is non-public to enforce null safety; use Builder. */
     ImageSelectionOptions() {}
 
@@ -270,21 +322,41 @@ public class Messages {
         return this;
       }
 
+      private @Nullable ImageOutputFormat outputFormat;
+
+      @CanIgnoreReturnValue
+      public @NonNull Builder setOutputFormat(@Nullable ImageOutputFormat setterArg) {
+        this.outputFormat = setterArg;
+        return this;
+      }
+
+      private @Nullable Long maxFileSizeBytes;
+
+      @CanIgnoreReturnValue
+      public @NonNull Builder setMaxFileSizeBytes(@Nullable Long setterArg) {
+        this.maxFileSizeBytes = setterArg;
+        return this;
+      }
+
       public @NonNull ImageSelectionOptions build() {
         ImageSelectionOptions pigeonReturn = new ImageSelectionOptions();
         pigeonReturn.setMaxWidth(maxWidth);
         pigeonReturn.setMaxHeight(maxHeight);
         pigeonReturn.setQuality(quality);
+        pigeonReturn.setOutputFormat(outputFormat);
+        pigeonReturn.setMaxFileSizeBytes(maxFileSizeBytes);
         return pigeonReturn;
       }
     }
 
     @NonNull
     ArrayList<Object> toList() {
-      ArrayList<Object> toListResult = new ArrayList<Object>(3);
+      ArrayList<Object> toListResult = new ArrayList<Object>(5);
       toListResult.add(maxWidth);
       toListResult.add(maxHeight);
       toListResult.add(quality);
+      toListResult.add(outputFormat == null ? null : outputFormat.index);
+      toListResult.add(maxFileSizeBytes);
       return toListResult;
     }
 
@@ -299,6 +371,16 @@ public class Messages {
           (quality == null)
               ? null
               : ((quality instanceof Integer) ? (Integer) quality : (Long) quality));
+      Object outputFormat = list.get(3);
+      pigeonResult.setOutputFormat(
+          outputFormat == null ? null : ImageOutputFormat.values()[(int) outputFormat]);
+      Object maxFileSizeBytes = list.get(4);
+      pigeonResult.setMaxFileSizeBytes(
+          (maxFileSizeBytes == null)
+              ? null
+              : ((maxFileSizeBytes instanceof Integer)
+                  ? (Integer) maxFileSizeBytes
+                  : (Long) maxFileSizeBytes));
       return pigeonResult;
     }
   }
@@ -929,4 +1011,47 @@ public class Messages {
       }
     }
   }
+  /** Generated class from Pigeon that represents Flutter messages that can be called from Java. */
+  public static class ImagePickerProgressApi {
+    private final @NonNull BinaryMessenger binaryMessenger;
+
+    public ImagePickerProgressApi(@NonNull BinaryMessenger argBinaryMessenger) {
+      this.binaryMessenger = argBinaryMessenger;
+    }
+
+    /** Public interface for sending reply. */
+    /** The codec used by ImagePickerProgressApi. */
+    static @NonNull MessageCodec<Object> getCodec() {
+      return new StandardMessageCodec();
+    }
+    /**
+     * Reports that [processedCount] of the [totalCount] picked items have been copied and, if
+     * requested, resized.
+     */
+    public void onProcessingProgress(
+        @NonNull Long processedCountArg, @NonNull Long totalCountArg, @NonNull VoidResult result) {
+      final String channelName =
+          "dev.flutter.pigeon.image_picker_android.ImagePickerProgressApi.onProcessingProgress";
+      BasicMessageChannel<Object> channel =
+          new BasicMessageChannel<>(binaryMessenger, channelName, getCodec());
+      channel.send(
+          new ArrayList<Object>(Arrays.asList(processedCountArg, totalCountArg)),
+          channelReply -> {
+            if (channelReply instanceof List) {
+              List<Object> listReply = (List<Object>) channelReply;
+              if (listReply.size() > 1) {
+                result.error(
+                    new FlutterError(
+                        (String) listReply.get(0),
+                        (String) listReply.get(1),
+                        (String) listReply.get(2)));
+              } else {
+                result.success();
+              }
+            } else {
+              result.error(createConnectionError(channelName));
+            }
+          });
+    }
+  }
 }
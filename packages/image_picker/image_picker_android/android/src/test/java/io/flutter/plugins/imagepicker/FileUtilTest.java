@@ -20,6 +20,7 @@ import android.content.Context;
 import android.database.Cursor;
 import android.database.MatrixCursor;
 import android.net.Uri;
+import android.os.ParcelFileDescriptor;
 import android.provider.MediaStore;
 import android.webkit.MimeTypeMap;
 import androidx.annotation.NonNull;
@@ -29,7 +30,10 @@ import java.io.BufferedInputStream;
 import java.io.ByteArrayInputStream;
 import java.io.File;
 import java.io.FileInputStream;
+import java.io.FileNotFoundException;
+import java.io.FileOutputStream;
 import java.io.IOException;
+import java.io.OutputStream;
 import org.junit.Before;
 import org.junit.Test;
 import org.junit.runner.RunWith;
@@ -75,6 +79,22 @@ public class FileUtilTest {
     assertEquals("imageStream", imageStream);
   }
 
+  @Test
+  public void FileUtil_GetPathFromUri_copiesFileOpenedAsDescriptor() throws IOException {
+    Uri uri = MockContentProvider.DESCRIPTOR_URI;
+    Robolectric.buildContentProvider(MockContentProvider.class).create("dummy");
+    String path = fileUtils.getPathFromUri(context, uri);
+    File file = new File(path);
+    byte[] bytes = new byte[(int) file.length()];
+
+    BufferedInputStream buf = new BufferedInputStream(new FileInputStream(file));
+    buf.read(bytes, 0, bytes.length);
+    buf.close();
+
+    assertTrue(path.endsWith("h.png"));
+    assertEquals(MockContentProvider.DESCRIPTOR_CONTENT, new String(bytes, UTF_8));
+  }
+
   @Test
   public void FileUtil_GetPathFromUri_securityException() throws IOException {
     Uri uri = Uri.parse("content://dummy/dummy.png");
@@ -144,6 +164,8 @@ public class FileUtilTest {
     public static final Uri WEBP_URI = Uri.parse("content://dummy/c.d.png");
     public static final Uri UNKNOWN_URI = Uri.parse("content://dummy/e.f.g");
     public static final Uri NO_EXTENSION_URI = Uri.parse("content://dummy/abc");
+    public static final Uri DESCRIPTOR_URI = Uri.parse("content://dummy/h.png");
+    public static final String DESCRIPTOR_CONTENT = "imageFromDescriptor";
 
     @Override
     public boolean onCreate() {
@@ -169,9 +191,26 @@ public class FileUtilTest {
       if (uri.equals(PNG_URI)) return "image/png";
       if (uri.equals(WEBP_URI)) return "image/webp";
       if (uri.equals(NO_EXTENSION_URI)) return "image/png";
+      if (uri.equals(DESCRIPTOR_URI)) return "image/png";
       return null;
     }
 
+    @Nullable
+    @Override
+    public ParcelFileDescriptor openFile(@NonNull Uri uri, @NonNull String mode)
+        throws FileNotFoundException {
+      if (!uri.equals(DESCRIPTOR_URI)) {
+        throw new FileNotFoundException();
+      }
+      File file = new File(getContext().getCacheDir(), "descriptor_source");
+      try (OutputStream outputStream = new FileOutputStream(file)) {
+        outputStream.write(DESCRIPTOR_CONTENT.getBytes(UTF_8));
+      } catch (IOException e) {
+        throw new FileNotFoundException(e.getMessage());
+      }
+      return ParcelFileDescriptor.open(file, ParcelFileDescriptor.MODE_READ_ONLY);
+    }
+
     @Nullable
     @Override
     public Uri insert(@NonNull Uri uri, @Nullable ContentValues values) {
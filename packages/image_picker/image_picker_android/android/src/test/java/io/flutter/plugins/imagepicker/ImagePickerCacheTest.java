@@ -119,6 +119,22 @@ public class ImagePickerCacheTest {
     assertThat(defaultImageQuality, equalTo(100));
   }
 
+  @Test
+  public void imageCache_shouldBeAbleToSetAndGetOutputFormatAndMaxFileSize() {
+    ImagePickerCache cache = new ImagePickerCache(mockActivity);
+    cache.saveDimensionWithOutputOptions(
+        new Messages.ImageSelectionOptions.Builder()
+            .setQuality(100L)
+            .setOutputFormat(Messages.ImageOutputFormat.WEBP_LOSSLESS)
+            .setMaxFileSizeBytes(500000L)
+            .build());
+    Map<String, Object> resultMap = cache.getCacheMap();
+    assertThat(
+        resultMap.get(ImagePickerCache.MAP_KEY_OUTPUT_FORMAT),
+        equalTo(Messages.ImageOutputFormat.WEBP_LOSSLESS));
+    assertThat(resultMap.get(ImagePickerCache.MAP_KEY_MAX_FILE_SIZE_BYTES), equalTo(500000L));
+  }
+
   @Test
   public void imageCache_shouldNotThrowIfPathIsNullInSaveResult() {
     final ImagePickerCache cache = new ImagePickerCache(mockActivity);
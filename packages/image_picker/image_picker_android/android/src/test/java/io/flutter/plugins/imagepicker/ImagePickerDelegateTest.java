@@ -75,6 +75,7 @@ public class ImagePickerDelegateTest {
   @Mock Intent mockIntent;
   @Mock ImagePickerCache cache;
   @Mock ExecutorService mockExecutor;
+  @Mock ImagePickerDelegate.ProcessingProgressListener mockProgressListener;
 
   ImagePickerDelegate.FileUriResolver mockFileUriResolver;
   MockedStatic<File> mockStaticFile;
@@ -115,15 +116,15 @@ public class ImagePickerDelegateTest {
     when(mockFileUtils.getPathFromUri(any(Context.class), any(Uri.class)))
         .thenReturn("pathFromUri");
 
-    when(mockImageResizer.resizeImageIfNeeded("pathFromUri", null, null, 100))
+    when(mockImageResizer.resizeImageIfNeeded("pathFromUri", null, null, 100, null, null))
         .thenReturn("originalPath");
-    when(mockImageResizer.resizeImageIfNeeded("pathFromUri", null, null, IMAGE_QUALITY))
+    when(mockImageResizer.resizeImageIfNeeded("pathFromUri", null, null, IMAGE_QUALITY, null, null))
         .thenReturn("originalPath");
-    when(mockImageResizer.resizeImageIfNeeded("pathFromUri", WIDTH, HEIGHT, 100))
+    when(mockImageResizer.resizeImageIfNeeded("pathFromUri", WIDTH, HEIGHT, 100, null, null))
         .thenReturn("scaledPath");
-    when(mockImageResizer.resizeImageIfNeeded("pathFromUri", WIDTH, null, 100))
+    when(mockImageResizer.resizeImageIfNeeded("pathFromUri", WIDTH, null, 100, null, null))
         .thenReturn("scaledPath");
-    when(mockImageResizer.resizeImageIfNeeded("pathFromUri", null, HEIGHT, 100))
+    when(mockImageResizer.resizeImageIfNeeded("pathFromUri", null, HEIGHT, 100, null, null))
         .thenReturn("scaledPath");
 
     mockFileUriResolver = new MockFileUriResolver();
@@ -863,6 +864,49 @@ public class ImagePickerDelegateTest {
     assertEquals("Cannot find the selected media.", errorCaptor.getValue().getMessage());
   }
 
+  @Test
+  public void
+      onActivityResult_whenMultipleImagesPickedFromGallery_finishesWithPathsInPickedOrderAndReportsProgress() {
+    ClipData mockClipData = mock(ClipData.class);
+    Uri firstUri = mock(Uri.class);
+    Uri secondUri = mock(Uri.class);
+    ClipData.Item firstItem = mock(ClipData.Item.class);
+    ClipData.Item secondItem = mock(ClipData.Item.class);
+    when(firstItem.getUri()).thenReturn(firstUri);
+    when(secondItem.getUri()).thenReturn(secondUri);
+    when(mockClipData.getItemCount()).thenReturn(2);
+    when(mockClipData.getItemAt(0)).thenReturn(firstItem);
+    when(mockClipData.getItemAt(1)).thenReturn(secondItem);
+    when(mockIntent.getData()).thenReturn(null);
+    when(mockIntent.getClipData()).thenReturn(mockClipData);
+    when(mockFileUtils.getPathFromUri(any(Context.class), eq(firstUri))).thenReturn("firstPath");
+    when(mockFileUtils.getPathFromUri(any(Context.class), eq(secondUri))).thenReturn("secondPath");
+
+    Mockito.doAnswer(
+            invocation -> {
+              ((Runnable) invocation.getArgument(0)).run();
+              return null;
+            })
+        .when(mockExecutor)
+        .execute(any(Runnable.class));
+    ImagePickerDelegate delegate = createDelegateWithPendingResultAndOptions(null, null);
+
+    delegate.onActivityResult(
+        ImagePickerDelegate.REQUEST_CODE_CHOOSE_MULTI_IMAGE_FROM_GALLERY,
+        Activity.RESULT_OK,
+        mockIntent);
+
+    @SuppressWarnings("unchecked")
+    ArgumentCaptor<List<String>> pathListCapture = ArgumentCaptor.forClass(List.class);
+    verify(mockResult).success(pathListCapture.capture());
+    assertEquals(2, pathListCapture.getValue().size());
+    assertEquals("firstPath", pathListCapture.getValue().get(0));
+    assertEquals("secondPath", pathListCapture.getValue().get(1));
+    verify(mockProgressListener).onProcessingProgress(1, 2);
+    verify(mockProgressListener).onProcessingProgress(2, 2);
+    verifyNoMoreInteractions(mockResult);
+  }
+
   private ImagePickerDelegate createDelegate() {
     return new ImagePickerDelegate(
         mockActivity,
@@ -874,7 +918,9 @@ public class ImagePickerDelegateTest {
         mockPermissionManager,
         mockFileUriResolver,
         mockFileUtils,
-        mockExecutor);
+        mockExecutor,
+        Runnable::run,
+        mockProgressListener);
   }
 
   private ImagePickerDelegate createDelegateWithPendingResultAndOptions(
@@ -889,7 +935,9 @@ public class ImagePickerDelegateTest {
         mockPermissionManager,
         mockFileUriResolver,
         mockFileUtils,
-        mockExecutor);
+        mockExecutor,
+        Runnable::run,
+        mockProgressListener);
   }
 
   private void verifyFinishedWithAlreadyActiveError() {
@@ -19,6 +19,7 @@ import android.content.Context;
 import android.graphics.Bitmap;
 import android.graphics.BitmapFactory;
 import androidx.core.util.SizeFCompat;
+import io.flutter.plugins.imagepicker.Messages.ImageOutputFormat;
 import java.io.File;
 import java.io.IOException;
 import java.util.List;
@@ -73,28 +74,53 @@ public class ImageResizerTest {
 
   @Test
   public void onResizeImageIfNeeded_whenQualityIsMax_shouldNotResize_returnTheUnscaledFile() {
-    String outputFile = resizer.resizeImageIfNeeded(imageFile.getPath(), null, null, 100);
+    String outputFile =
+        resizer.resizeImageIfNeeded(imageFile.getPath(), null, null, 100, null, null);
     assertThat(outputFile, equalTo(imageFile.getPath()));
   }
 
   @Test
   public void onResizeImageIfNeeded_whenQualityIsNotMax_shouldResize_returnResizedFile() {
-    String outputFile = resizer.resizeImageIfNeeded(imageFile.getPath(), null, null, 50);
+    String outputFile =
+        resizer.resizeImageIfNeeded(imageFile.getPath(), null, null, 50, null, null);
     assertThat(outputFile, equalTo(externalDirectory.getPath() + "/scaled_pngImage.png"));
   }
 
   @Test
   public void onResizeImageIfNeeded_whenWidthIsNotNull_shouldResize_returnResizedFile() {
-    String outputFile = resizer.resizeImageIfNeeded(imageFile.getPath(), 50.0, null, 100);
+    String outputFile =
+        resizer.resizeImageIfNeeded(imageFile.getPath(), 50.0, null, 100, null, null);
     assertThat(outputFile, equalTo(externalDirectory.getPath() + "/scaled_pngImage.png"));
   }
 
   @Test
   public void onResizeImageIfNeeded_whenHeightIsNotNull_shouldResize_returnResizedFile() {
-    String outputFile = resizer.resizeImageIfNeeded(imageFile.getPath(), null, 50.0, 100);
+    String outputFile =
+        resizer.resizeImageIfNeeded(imageFile.getPath(), null, 50.0, 100, null, null);
     assertThat(outputFile, equalTo(externalDirectory.getPath() + "/scaled_pngImage.png"));
   }
 
+  @Test
+  public void onResizeImageIfNeeded_whenOutputFormatIsWebp_shouldReturnWebpFile() {
+    String outputFile =
+        resizer.resizeImageIfNeeded(
+            imageFile.getPath(), null, null, 100, ImageOutputFormat.WEBP_LOSSY, null);
+    assertThat(outputFile, equalTo(externalDirectory.getPath() + "/scaled_pngImage.webp"));
+  }
+
+  @Test
+  public void onResizeImageIfNeeded_whenFileIsLargerThanMaxFileSize_shouldReturnResizedFile() {
+    String outputFile = resizer.resizeImageIfNeeded(imageFile.getPath(), null, null, 100, null, 1L);
+    assertThat(outputFile, equalTo(externalDirectory.getPath() + "/scaled_pngImage.png"));
+  }
+
+  @Test
+  public void onResizeImageIfNeeded_whenFileFitsInMaxFileSize_shouldReturnTheUnscaledFile() {
+    String outputFile =
+        resizer.resizeImageIfNeeded(imageFile.getPath(), null, null, 100, null, Long.MAX_VALUE);
+    assertThat(outputFile, equalTo(imageFile.getPath()));
+  }
+
   @Test
   public void onResizeImageIfNeeded_whenImagePathIsNotBitmap_shouldReturnPathAndNotNull() {
     String nonBitmapImagePath = svgImageFile.getPath();
@@ -107,7 +133,8 @@ public class ImageResizerTest {
           .when(() -> BitmapFactory.decodeFile(nonBitmapImagePath, null))
           .thenReturn(null);
 
-      String resizedImagePath = resizer.resizeImageIfNeeded(nonBitmapImagePath, null, null, 100);
+      String resizedImagePath =
+          resizer.resizeImageIfNeeded(nonBitmapImagePath, null, null, 100, null, null);
 
       assertNotNull(resizedImagePath);
       assertThat(resizedImagePath, equalTo(nonBitmapImagePath));
@@ -118,7 +145,8 @@ public class ImageResizerTest {
   public void onResizeImageIfNeeded_whenResizeIsNotNecessary_shouldOnlyQueryBitmapDimensions() {
     try (MockedStatic<BitmapFactory> mockBitmapFactory =
         mockStatic(BitmapFactory.class, Mockito.CALLS_REAL_METHODS)) {
-      String outputFile = resizer.resizeImageIfNeeded(imageFile.getPath(), null, null, 100);
+      String outputFile =
+          resizer.resizeImageIfNeeded(imageFile.getPath(), null, null, 100, null, null);
       ArgumentCaptor<BitmapFactory.Options> argument =
           ArgumentCaptor.forClass(BitmapFactory.Options.class);
       mockBitmapFactory.verify(() -> BitmapFactory.decodeFile(anyString(), argument.capture()));
@@ -131,7 +159,8 @@ public class ImageResizerTest {
   public void onResizeImageIfNeeded_whenResizeIsNecessary_shouldDecodeBitmapPixels() {
     try (MockedStatic<BitmapFactory> mockBitmapFactory =
         mockStatic(BitmapFactory.class, Mockito.CALLS_REAL_METHODS)) {
-      String outputFile = resizer.resizeImageIfNeeded(imageFile.getPath(), 50.0, 50.0, 100);
+      String outputFile =
+          resizer.resizeImageIfNeeded(imageFile.getPath(), 50.0, 50.0, 100, null, null);
       ArgumentCaptor<BitmapFactory.Options> argument =
           ArgumentCaptor.forClass(BitmapFactory.Options.class);
       mockBitmapFactory.verify(
@@ -142,10 +171,23 @@ public class ImageResizerTest {
     }
   }
 
+  @Test
+  public void calculateSampleSize_whenTargetIsMuchSmaller_subsamplesToAtLeastTheTargetSize() {
+    // An 8000x6000 (48 MP) photo resized to 1000x750 only needs every eighth pixel decoded.
+    assertThat(ImageResizer.calculateSampleSize(8000, 6000, 1000, 750), equalTo(8));
+    assertThat(ImageResizer.calculateSampleSize(8000, 6000, 1001, 751), equalTo(4));
+  }
+
+  @Test
+  public void calculateSampleSize_whenTargetIsTheOriginalSize_doesNotSubsample() {
+    assertThat(ImageResizer.calculateSampleSize(4000, 3000, 4000, 3000), equalTo(1));
+    assertThat(ImageResizer.calculateSampleSize(4000, 3000, 2001, 1500), equalTo(1));
+  }
+
   @Test
   public void
       onResizeImageIfNeeded_whenImageIsVertical_WidthIsGreaterThanOriginal_shouldResizeCorrectly() {
-    String outputFile = resizer.resizeImageIfNeeded(tallJPG.getPath(), 5.0, 5.0, 100);
+    String outputFile = resizer.resizeImageIfNeeded(tallJPG.getPath(), 5.0, 5.0, 100, null, null);
     SizeFCompat originalSize =
         resizer.readFileDimensions(externalDirectory.getPath() + "/scaled_jpgImageTall.jpg");
 
@@ -158,7 +200,7 @@ public class ImageResizerTest {
   @Test
   public void
       onResizeImageIfNeeded_whenImageIsVertical_HeightIsGreaterThanOriginal_shouldResizeCorrectly() {
-    String outputFile = resizer.resizeImageIfNeeded(tallJPG.getPath(), 3.0, 10.0, 100);
+    String outputFile = resizer.resizeImageIfNeeded(tallJPG.getPath(), 3.0, 10.0, 100, null, null);
     SizeFCompat originalSize =
         resizer.readFileDimensions(externalDirectory.getPath() + "/scaled_jpgImageTall.jpg");
 
@@ -171,7 +213,7 @@ public class ImageResizerTest {
   @Test
   public void
       onResizeImageIfNeeded_whenImageIsVertical_HeightAndWidthIsGreaterThanOriginal_shouldNotResize() {
-    String outputFile = resizer.resizeImageIfNeeded(tallJPG.getPath(), 10.0, 10.0, 100);
+    String outputFile = resizer.resizeImageIfNeeded(tallJPG.getPath(), 10.0, 10.0, 100, null, null);
     SizeFCompat originalSize =
         resizer.readFileDimensions(externalDirectory.getPath() + "/scaled_jpgImageTall.jpg");
 
@@ -184,7 +226,7 @@ public class ImageResizerTest {
   @Test
   public void
       onResizeImageIfNeeded_whenImageIsHorizontal_WidthIsGreaterThanOriginal_shouldResizeCorrectly() {
-    String outputFile = resizer.resizeImageIfNeeded(wideJPG.getPath(), 10.0, 20.0, 100);
+    String outputFile = resizer.resizeImageIfNeeded(wideJPG.getPath(), 10.0, 20.0, 100, null, null);
     SizeFCompat originalSize =
         resizer.readFileDimensions(externalDirectory.getPath() + "/scaled_jpgImageWide.jpg");
 
@@ -197,7 +239,7 @@ public class ImageResizerTest {
   @Test
   public void
       onResizeImageIfNeeded_whenImageIsHorizontal_HeightIsGreaterThanOriginal_shouldResizeCorrectly() {
-    String outputFile = resizer.resizeImageIfNeeded(wideJPG.getPath(), 10.0, 10.0, 100);
+    String outputFile = resizer.resizeImageIfNeeded(wideJPG.getPath(), 10.0, 10.0, 100, null, null);
     SizeFCompat originalSize =
         resizer.readFileDimensions(externalDirectory.getPath() + "/scaled_jpgImageWide.jpg");
 
@@ -210,7 +252,8 @@ public class ImageResizerTest {
   @Test
   public void
       onResizeImageIfNeeded_whenImageIsHorizontal_HeightAndWidthIsGreaterThanOriginal_shouldNotResize() {
-    String outputFile = resizer.resizeImageIfNeeded(wideJPG.getPath(), 100.0, 100.0, 100);
+    String outputFile =
+        resizer.resizeImageIfNeeded(wideJPG.getPath(), 100.0, 100.0, 100, null, null);
     SizeFCompat originalSize =
         resizer.readFileDimensions(externalDirectory.getPath() + "/scaled_jpgImageWide.jpg");
 
@@ -2,6 +2,8 @@
 // Use of this source code is governed by a BSD-style license that can be
 // found in the LICENSE file.
 
+import 'dart:async';
+
 import 'package:flutter/foundation.dart';
 import 'package:flutter/services.dart';
 
@@ -22,11 +24,40 @@ class ImagePickerAndroid extends ImagePickerPlatform {
   /// Currently defaults to false, but the default is subject to change.
   bool useAndroidPhotoPicker = false;
 
+  /// The file format that picked images are written in when they are resized
+  /// or compressed.
+  ///
+  /// Defaults to [AndroidImageOutputFormat.jpegOrPng].
+  AndroidImageOutputFormat imageOutputFormat =
+      AndroidImageOutputFormat.jpegOrPng;
+
+  /// If set, the max size in bytes of picked image files.
+  ///
+  /// Images larger than this are compressed, and lossy images are compressed
+  /// with a lower quality than requested as needed to fit in this size.
+  int? maxImageFileSizeBytes;
+
   /// Registers this class as the default platform implementation.
   static void registerWith() {
     ImagePickerPlatform.instance = ImagePickerAndroid();
   }
 
+  late final StreamController<ImagePickerProcessingProgress>
+      _processingProgressController =
+      StreamController<ImagePickerProcessingProgress>.broadcast(
+    onListen: () => ImagePickerProgressApi.setup(
+        _ProcessingProgressListener(_processingProgressController)),
+    onCancel: () => ImagePickerProgressApi.setup(null),
+  );
+
+  /// Reports the progress of copying and resizing picked items.
+  ///
+  /// Picked items are copied, and resized if requested, before the picking
+  /// call completes. An event is emitted each time one of the items has been
+  /// processed, so that progress can be shown when many items are picked.
+  Stream<ImagePickerProcessingProgress> get processingProgress =>
+      _processingProgressController.stream;
+
   @override
   Future<PickedFile?> pickImage({
     required ImageSource source,
@@ -88,7 +119,7 @@ class ImagePickerAndroid extends ImagePickerPlatform {
 
     return _hostApi.pickImages(
       SourceSpecification(type: SourceType.gallery),
-      ImageSelectionOptions(
+      _buildImageSelectionOptions(
           maxWidth: maxWidth,
           maxHeight: maxHeight,
           quality: imageQuality ?? 100),
@@ -123,7 +154,7 @@ class ImagePickerAndroid extends ImagePickerPlatform {
 
     final List<String?> paths = await _hostApi.pickImages(
       _buildSourceSpec(source, preferredCameraDevice),
-      ImageSelectionOptions(
+      _buildImageSelectionOptions(
           maxWidth: maxWidth,
           maxHeight: maxHeight,
           quality: imageQuality ?? 100),
@@ -290,10 +321,34 @@ class ImagePickerAndroid extends ImagePickerPlatform {
     if (maxHeight != null && maxHeight < 0) {
       throw ArgumentError.value(maxHeight, 'maxHeight', 'cannot be negative');
     }
-    return ImageSelectionOptions(
+    return _buildImageSelectionOptions(
         quality: imageQuality ?? 100, maxHeight: maxHeight, maxWidth: maxWidth);
   }
 
+  ImageSelectionOptions _buildImageSelectionOptions({
+    double? maxWidth,
+    double? maxHeight,
+    required int quality,
+  }) {
+    final int? maxFileSizeBytes = maxImageFileSizeBytes;
+    if (maxFileSizeBytes != null && maxFileSizeBytes <= 0) {
+      throw ArgumentError.value(
+          maxFileSizeBytes, 'maxImageFileSizeBytes', 'must be positive');
+    }
+
+    return ImageSelectionOptions(
+      maxWidth: maxWidth,
+      maxHeight: maxHeight,
+      quality: quality,
+      outputFormat: switch (imageOutputFormat) {
+        AndroidImageOutputFormat.jpegOrPng => null,
+        AndroidImageOutputFormat.webpLossy => ImageOutputFormat.webpLossy,
+        AndroidImageOutputFormat.webpLossless => ImageOutputFormat.webpLossless,
+      },
+      maxFileSizeBytes: maxFileSizeBytes,
+    );
+  }
+
   GeneralOptions _mediaOptionsToGeneralOptions(MediaOptions options) {
     final bool allowMultiple = options.allowMultiple;
     final int? limit = options.limit;
@@ -416,3 +471,49 @@ class ImagePickerAndroid extends ImagePickerPlatform {
     return RetrieveType.image;
   }
 }
+
+/// The file format that [ImagePickerAndroid] writes resized or compressed
+/// images in.
+enum AndroidImageOutputFormat {
+  /// JPEG, or PNG for images with transparency.
+  ///
+  /// PNG images are not compressed with the requested quality.
+  jpegOrPng,
+
+  /// Lossy WebP, compressed with the requested quality.
+  webpLossy,
+
+  /// Lossless WebP.
+  ///
+  /// Before Android 11, images are written as lossy WebP with the highest
+  /// quality instead.
+  webpLossless,
+}
+
+/// The progress of processing the items of a pick.
+@immutable
+class ImagePickerProcessingProgress {
+  /// Creates a progress report.
+  const ImagePickerProcessingProgress({
+    required this.processedCount,
+    required this.totalCount,
+  });
+
+  /// The number of items that have been processed.
+  final int processedCount;
+
+  /// The number of items picked.
+  final int totalCount;
+}
+
+class _ProcessingProgressListener implements ImagePickerProgressApi {
+  _ProcessingProgressListener(this._controller);
+
+  final StreamController<ImagePickerProcessingProgress> _controller;
+
+  @override
+  void onProcessingProgress(int processedCount, int totalCount) {
+    _controller.add(ImagePickerProcessingProgress(
+        processedCount: processedCount, totalCount: totalCount));
+  }
+}
@@ -29,6 +29,15 @@ List<Object?> wrapResponse(
   return <Object?>[error.code, error.message, error.details];
 }
 
+/// The file format that resized or compressed images are written in.
+enum ImageOutputFormat {
+  /// Lossy WebP, compressed with the requested quality.
+  webpLossy,
+
+  /// Lossless WebP.
+  webpLossless,
+}
+
 enum SourceCamera {
   rear,
   front,
@@ -81,6 +90,8 @@ class ImageSelectionOptions {
     this.maxWidth,
     this.maxHeight,
     required this.quality,
+    this.outputFormat,
+    this.maxFileSizeBytes,
   });
 
   /// If set, the max width that the image should be resized to fit in.
@@ -94,11 +105,24 @@ class ImageSelectionOptions {
   /// 100 indicates original quality.
   int quality;
 
+  /// If set, the format that the image should be written in.
+  ///
+  /// If null, images are written as JPEG, or as PNG if they have transparency.
+  ImageOutputFormat? outputFormat;
+
+  /// If set, the max size in bytes of the output image file.
+  ///
+  /// Lossy images are compressed with a lower quality than [quality] as
+  /// needed to fit in this size.
+  int? maxFileSizeBytes;
+
   Object encode() {
     return <Object?>[
       maxWidth,
       maxHeight,
       quality,
+      outputFormat?.index,
+      maxFileSizeBytes,
     ];
   }
 
@@ -108,6 +132,10 @@ class ImageSelectionOptions {
       maxWidth: result[0] as double?,
       maxHeight: result[1] as double?,
       quality: result[2]! as int,
+      outputFormat: result[3] != null
+          ? ImageOutputFormat.values[result[3]! as int]
+          : null,
+      maxFileSizeBytes: result[4] as int?,
     );
   }
 }
@@ -445,3 +473,47 @@ class ImagePickerApi {
     }
   }
 }
+
+abstract class ImagePickerProgressApi {
+  static const MessageCodec<Object?> pigeonChannelCodec =
+      StandardMessageCodec();
+
+  /// Reports that [processedCount] of the [totalCount] picked items have been
+  /// copied and, if requested, resized.
+  void onProcessingProgress(int processedCount, int totalCount);
+
+  static void setup(ImagePickerProgressApi? api,
+      {BinaryMessenger? binaryMessenger}) {
+    {
+      final BasicMessageChannel<Object?> __pigeon_channel = BasicMessageChannel<
+              Object?>(
+          'dev.flutter.pigeon.image_picker_android.ImagePickerProgressApi.onProcessingProgress',
+          pigeonChannelCodec,
+          binaryMessenger: binaryMessenger);
+      if (api == null) {
+        __pigeon_channel.setMessageHandler(null);
+      } else {
+        __pigeon_channel.setMessageHandler((Object? message) async {
+          assert(message != null,
+              'Argument for dev.flutter.pigeon.image_picker_android.ImagePickerProgressApi.onProcessingProgress was null.');
+          final List<Object?> args = (message as List<Object?>?)!;
+          final int? arg_processedCount = (args[0] as int?);
+          assert(arg_processedCount != null,
+              'Argument for dev.flutter.pigeon.image_picker_android.ImagePickerProgressApi.onProcessingProgress was null, expected non-null int.');
+          final int? arg_totalCount = (args[1] as int?);
+          assert(arg_totalCount != null,
+              'Argument for dev.flutter.pigeon.image_picker_android.ImagePickerProgressApi.onProcessingProgress was null, expected non-null int.');
+          try {
+            api.onProcessingProgress(arg_processedCount!, arg_totalCount!);
+            return wrapResponse(empty: true);
+          } on PlatformException catch (e) {
+            return wrapResponse(error: e);
+          } catch (e) {
+            return wrapResponse(
+                error: PlatformException(code: 'error', message: e.toString()));
+          }
+        });
+      }
+    }
+  }
+}
@@ -20,9 +20,24 @@ class GeneralOptions {
   int? limit;
 }
 
+/// The file format that resized or compressed images are written in.
+enum ImageOutputFormat {
+  /// Lossy WebP, compressed with the requested quality.
+  webpLossy,
+
+  /// Lossless WebP.
+  webpLossless,
+}
+
 /// Options for image selection and output.
 class ImageSelectionOptions {
-  ImageSelectionOptions({this.maxWidth, this.maxHeight, required this.quality});
+  ImageSelectionOptions({
+    this.maxWidth,
+    this.maxHeight,
+    required this.quality,
+    this.outputFormat,
+    this.maxFileSizeBytes,
+  });
 
   /// If set, the max width that the image should be resized to fit in.
   double? maxWidth;
@@ -34,6 +49,17 @@ class ImageSelectionOptions {
   ///
   /// 100 indicates original quality.
   int quality;
+
+  /// If set, the format that the image should be written in.
+  ///
+  /// If null, images are written as JPEG, or as PNG if they have transparency.
+  ImageOutputFormat? outputFormat;
+
+  /// If set, the max size in bytes of the output image file.
+  ///
+  /// Lossy images are compressed with a lower quality than [quality] as
+  /// needed to fit in this size.
+  int? maxFileSizeBytes;
 }
 
 class MediaSelectionOptions {
@@ -135,3 +161,10 @@ abstract class ImagePickerApi {
   @TaskQueue(type: TaskQueueType.serialBackgroundThread)
   CacheRetrievalResult? retrieveLostResults();
 }
+
+@FlutterApi()
+abstract class ImagePickerProgressApi {
+  /// Reports that [processedCount] of the [totalCount] picked items have been
+  /// copied and, if requested, resized.
+  void onProcessingProgress(int processedCount, int totalCount);
+}
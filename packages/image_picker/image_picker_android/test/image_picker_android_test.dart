@@ -2,6 +2,9 @@
 // Use of this source code is governed by a BSD-style license that can be
 // found in the LICENSE file.
 
+import 'dart:async';
+
+import 'package:flutter/services.dart';
 import 'package:flutter_test/flutter_test.dart';
 
 import 'package:image_picker_android/image_picker_android.dart';
@@ -947,7 +950,64 @@ void main() {
 
       expect(api.passedPhotoPickerFlag, true);
     });
+
+    test('defaults to the JPEG or PNG output format', () async {
+      await picker.getImageFromSource(source: ImageSource.gallery);
+
+      expect(api.passedImageOptions?.outputFormat, null);
+      expect(api.passedImageOptions?.maxFileSizeBytes, null);
+    });
+
+    test('passes the output format and max file size', () async {
+      picker.imageOutputFormat = AndroidImageOutputFormat.webpLossy;
+      picker.maxImageFileSizeBytes = 500000;
+      await picker.getImageFromSource(source: ImageSource.gallery);
+
+      expect(api.passedImageOptions?.outputFormat, ImageOutputFormat.webpLossy);
+      expect(api.passedImageOptions?.maxFileSizeBytes, 500000);
+    });
+
+    test('does not accept a max file size that is not positive', () {
+      picker.maxImageFileSizeBytes = 0;
+
+      expect(
+        () => picker.getImageFromSource(source: ImageSource.gallery),
+        throwsArgumentError,
+      );
+    });
   });
+
+  group('#processingProgress', () {
+    test('emits the progress reported by the platform', () async {
+      TestWidgetsFlutterBinding.ensureInitialized();
+      final List<ImagePickerProcessingProgress> events =
+          <ImagePickerProcessingProgress>[];
+      final StreamSubscription<ImagePickerProcessingProgress> subscription =
+          picker.processingProgress.listen(events.add);
+
+      await _sendProcessingProgress(1, 2);
+      await _sendProcessingProgress(2, 2);
+      await subscription.cancel();
+
+      expect(events.length, 2);
+      expect(events[0].processedCount, 1);
+      expect(events[0].totalCount, 2);
+      expect(events[1].processedCount, 2);
+      expect(events[1].totalCount, 2);
+    });
+  });
+}
+
+Future<void> _sendProcessingProgress(int processedCount, int totalCount) {
+  const MessageCodec<Object?> codec = StandardMessageCodec();
+  final Completer<void> replied = Completer<void>();
+  TestDefaultBinaryMessengerBinding.instance.defaultBinaryMessenger
+      .handlePlatformMessage(
+    'dev.flutter.pigeon.image_picker_android.ImagePickerProgressApi.onProcessingProgress',
+    codec.encodeMessage(<Object?>[processedCount, totalCount]),
+    (ByteData? reply) => replied.complete(),
+  );
+  return replied.future;
 }
 
 enum _LastPickType { image, video }
@@ -356,6 +356,7 @@ class SharedPreferencesWithCache {
   /// values cannot start with the following:
   ///
   /// - 'VGhpcyBpcyB0aGUgcHJlZml4IGZvciBhIGxpc3Qu'
+  /// - 'VGhpcyBpcyB0aGUgcHJlZml4IGZvciBhIHNob3J0IGxpc3Qu'
   ///
   /// Throws an [ArgumentError] if [key] is not in this instance's filter.
   Future<void> setString(String key, String value) async {
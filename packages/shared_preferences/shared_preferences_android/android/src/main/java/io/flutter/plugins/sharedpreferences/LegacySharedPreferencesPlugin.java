@@ -6,6 +6,7 @@ package io.flutter.plugins.sharedpreferences;
 
 import android.content.Context;
 import android.content.SharedPreferences;
+import android.os.Build;
 import android.util.Base64;
 import android.util.Log;
 import androidx.annotation.NonNull;
@@ -21,22 +22,54 @@ import java.io.ObjectInputStream;
 import java.io.ObjectOutputStream;
 import java.math.BigInteger;
 import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
 import java.util.HashMap;
 import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
 
 /** LegacySharedPreferencesPlugin */
 public class LegacySharedPreferencesPlugin implements FlutterPlugin, SharedPreferencesApi {
   private static final String TAG = "SharedPreferencesPlugin";
   private static final String SHARED_PREFERENCES_NAME = "FlutterSharedPreferences";
-  private static final String LIST_IDENTIFIER = "VGhpcyBpcyB0aGUgcHJlZml4IGZvciBhIGxpc3Qu";
+  // Prefix of lists stored by earlier versions, which are serialized by the legacy list encoder.
+  @VisibleForTesting
+  static final String LIST_IDENTIFIER = "VGhpcyBpcyB0aGUgcHJlZml4IGZvciBhIGxpc3Qu";
+  // Prefix of lists stored with the CompactListEncoder.
+  @VisibleForTesting
+  static final String COMPACT_LIST_IDENTIFIER = "VGhpcyBpcyB0aGUgcHJlZml4IGZvciBhIHNob3J0IGxpc3Qu";
   private static final String BIG_INTEGER_PREFIX = "VGhpcyBpcyB0aGUgcHJlZml4IGZvciBCaWdJbnRlZ2Vy";
   private static final String DOUBLE_PREFIX = "VGhpcyBpcyB0aGUgcHJlZml4IGZvciBEb3VibGUu";
 
   private SharedPreferences preferences;
   private SharedPreferencesListEncoder listEncoder;
+  private final SharedPreferencesListEncoder compactListEncoder = new CompactListEncoder();
+  // Whether writes are applied asynchronously instead of committed before returning.
+  private volatile boolean writesDeferred = false;
+
+  private final Object cacheLock = new Object();
+  // Decoded values of all preferences sorted by key, so that the preferences with a prefix are a
+  // contiguous range. Null until the preferences are first read. Guarded by [cacheLock].
+  @Nullable private TreeMap<String, Object> cachedPrefs;
+  // The value of [cacheGeneration] when [cachedPrefs] was read. Guarded by [cacheLock].
+  private int cachedGeneration;
+  // Incremented when all of the preferences may have changed.
+  private final AtomicInteger cacheGeneration = new AtomicInteger();
+  // Keys whose value changed since it was cached. Changes are recorded without taking [cacheLock],
+  // so the change listener never waits on the main thread for the preferences to be decoded.
+  private final Set<String> staleKeys =
+      Collections.newSetFromMap(new ConcurrentHashMap<String, Boolean>());
+  // Before API 30, Editor.clear() does not notify listeners of the keys it removes.
+  @VisibleForTesting
+  boolean clearNotifiesListeners = Build.VERSION.SDK_INT >= Build.VERSION_CODES.R;
+  // Held by the plugin, as SharedPreferences only keeps weak references to its listeners.
+  private final SharedPreferences.OnSharedPreferenceChangeListener changeListener =
+      (sharedPreferences, key) -> invalidateCachedPrefs(key);
 
   public LegacySharedPreferencesPlugin() {
     this(new ListEncoder());
@@ -49,6 +82,7 @@ public class LegacySharedPreferencesPlugin implements FlutterPlugin, SharedPrefe
 
   private void setUp(@NonNull BinaryMessenger messenger, @NonNull Context context) {
     preferences = context.getSharedPreferences(SHARED_PREFERENCES_NAME, Context.MODE_PRIVATE);
+    preferences.registerOnSharedPreferenceChangeListener(changeListener);
     try {
       SharedPreferencesApi.setUp(messenger, this);
     } catch (Exception ex) {
@@ -64,45 +98,76 @@ public class LegacySharedPreferencesPlugin implements FlutterPlugin, SharedPrefe
   @Override
   public void onDetachedFromEngine(@NonNull FlutterPlugin.FlutterPluginBinding binding) {
     SharedPreferencesApi.setUp(binding.getBinaryMessenger(), null);
+    preferences.unregisterOnSharedPreferenceChangeListener(changeListener);
+    invalidateCachedPrefs(null);
   }
 
   @Override
   public @NonNull Boolean setBool(@NonNull String key, @NonNull Boolean value) {
-    return preferences.edit().putBoolean(key, value).commit();
+    return write(preferences.edit().putBoolean(key, value), Collections.singleton(key));
   }
 
   @Override
   public @NonNull Boolean setString(@NonNull String key, @NonNull String value) {
-    // TODO (tarrinneal): Move this string prefix checking logic to dart code and make it an Argument Error.
-    if (value.startsWith(LIST_IDENTIFIER)
-        || value.startsWith(BIG_INTEGER_PREFIX)
-        || value.startsWith(DOUBLE_PREFIX)) {
-      throw new RuntimeException(
-          "StorageError: This string cannot be stored as it clashes with special identifier prefixes");
-    }
-    return preferences.edit().putString(key, value).commit();
+    return write(putString(preferences.edit(), key, value), Collections.singleton(key));
   }
 
   @Override
   public @NonNull Boolean setInt(@NonNull String key, @NonNull Long value) {
-    return preferences.edit().putLong(key, value).commit();
+    return write(preferences.edit().putLong(key, value), Collections.singleton(key));
   }
 
   @Override
   public @NonNull Boolean setDouble(@NonNull String key, @NonNull Double value) {
-    String doubleValueStr = Double.toString(value);
-    return preferences.edit().putString(key, DOUBLE_PREFIX + doubleValueStr).commit();
+    return write(putDouble(preferences.edit(), key, value), Collections.singleton(key));
   }
 
   @Override
   public @NonNull Boolean remove(@NonNull String key) {
-    return preferences.edit().remove(key).commit();
+    return write(preferences.edit().remove(key), Collections.singleton(key));
   }
 
   @Override
   public @NonNull Boolean setStringList(@NonNull String key, @NonNull List<String> value)
       throws RuntimeException {
-    return preferences.edit().putString(key, LIST_IDENTIFIER + listEncoder.encode(value)).commit();
+    return write(putStringList(preferences.edit(), key, value), Collections.singleton(key));
+  }
+
+  @Override
+  @SuppressWarnings("unchecked")
+  public @NonNull Boolean setValues(@NonNull Map<String, Object> values) throws RuntimeException {
+    SharedPreferences.Editor editor = preferences.edit();
+    for (Map.Entry<String, Object> entry : values.entrySet()) {
+      final String key = entry.getKey();
+      final Object value = entry.getValue();
+      if (value instanceof Boolean) {
+        editor.putBoolean(key, (Boolean) value);
+      } else if (value instanceof String) {
+        putString(editor, key, (String) value);
+      } else if (value instanceof Integer || value instanceof Long) {
+        // The codec decodes ints that fit in 32 bits as Integer.
+        editor.putLong(key, ((Number) value).longValue());
+      } else if (value instanceof Double) {
+        putDouble(editor, key, (Double) value);
+      } else if (value instanceof List) {
+        putStringList(editor, key, (List<String>) value);
+      } else {
+        throw new RuntimeException(
+            "StorageError: The value of \"" + key + "\" is not of a supported type");
+      }
+    }
+    return write(editor, values.keySet());
+  }
+
+  @Override
+  public void setWritesDeferred(@NonNull Boolean deferred) {
+    writesDeferred = deferred;
+  }
+
+  @Override
+  public @NonNull Boolean flush() {
+    // Committing an empty edit waits until the writes applied before it are on disk.
+    return preferences.edit().commit();
   }
 
   @Override
@@ -116,40 +181,149 @@ public class LegacySharedPreferencesPlugin implements FlutterPlugin, SharedPrefe
   public @NonNull Boolean clear(@NonNull String prefix, @Nullable List<String> allowList)
       throws RuntimeException {
     SharedPreferences.Editor clearEditor = preferences.edit();
-    Map<String, ?> allPrefs = preferences.getAll();
-    ArrayList<String> filteredPrefs = new ArrayList<>();
-    for (String key : allPrefs.keySet()) {
-      if (key.startsWith(prefix) && (allowList == null || allowList.contains(key))) {
-        filteredPrefs.add(key);
-      }
-    }
+    final Set<String> allowSet = allowList == null ? null : new HashSet<>(allowList);
+    Set<String> filteredPrefs = getAllPrefs(prefix, allowSet).keySet();
     for (String key : filteredPrefs) {
       clearEditor.remove(key);
     }
-    return clearEditor.commit();
+    return write(clearEditor, filteredPrefs);
   }
 
   // Gets all shared preferences, filtered to only those set with the given prefix.
   // Optionally filtered also to only those items in the optional [allowList].
-  @SuppressWarnings("unchecked")
   private @NonNull Map<String, Object> getAllPrefs(
       @NonNull String prefix, @Nullable Set<String> allowList) throws RuntimeException {
-    Map<String, ?> allPrefs = preferences.getAll();
     Map<String, Object> filteredPrefs = new HashMap<>();
-    for (String key : allPrefs.keySet()) {
-      if (key.startsWith(prefix) && (allowList == null || allowList.contains(key))) {
-        filteredPrefs.put(key, transformPref(key, allPrefs.get(key)));
+    synchronized (cacheLock) {
+      TreeMap<String, Object> allPrefs = getCachedPrefs();
+      if (allowList != null) {
+        for (String key : allowList) {
+          Object value = key.startsWith(prefix) ? allPrefs.get(key) : null;
+          if (value != null) {
+            filteredPrefs.put(key, value);
+          }
+        }
+      } else {
+        // The keys with the prefix are the first keys not less than the prefix.
+        for (Map.Entry<String, Object> entry : allPrefs.tailMap(prefix).entrySet()) {
+          if (!entry.getKey().startsWith(prefix)) {
+            break;
+          }
+          filteredPrefs.put(entry.getKey(), entry.getValue());
+        }
       }
     }
 
     return filteredPrefs;
   }
 
+  // Returns the decoded values of all preferences, decoding only the values that changed since
+  // they were last decoded. Must be called while holding [cacheLock].
+  private @NonNull TreeMap<String, Object> getCachedPrefs() {
+    final int generation = cacheGeneration.get();
+    if (cachedPrefs == null || cachedGeneration != generation) {
+      staleKeys.clear();
+      TreeMap<String, Object> allPrefs = new TreeMap<>();
+      for (Map.Entry<String, ?> entry : preferences.getAll().entrySet()) {
+        allPrefs.put(entry.getKey(), transformPref(entry.getKey(), entry.getValue()));
+      }
+      cachedPrefs = allPrefs;
+      cachedGeneration = generation;
+      return cachedPrefs;
+    }
+
+    // Take the stale keys before reading the preferences, so that a change made after the read is
+    // left marked for the next one.
+    List<String> keys = new ArrayList<>(staleKeys);
+    staleKeys.removeAll(keys);
+    if (keys.isEmpty() && clearNotifiesListeners) {
+      return cachedPrefs;
+    }
+    Map<String, ?> allPrefs = preferences.getAll();
+    if (!clearNotifiesListeners) {
+      // Keys removed by Editor.clear() were not reported, so compare the keys instead.
+      cachedPrefs.keySet().retainAll(allPrefs.keySet());
+      for (String key : allPrefs.keySet()) {
+        if (!cachedPrefs.containsKey(key)) {
+          keys.add(key);
+        }
+      }
+    }
+    for (String key : keys) {
+      Object value = allPrefs.get(key);
+      if (value == null) {
+        cachedPrefs.remove(key);
+      } else {
+        cachedPrefs.put(key, transformPref(key, value));
+      }
+    }
+    return cachedPrefs;
+  }
+
+  // Marks the cached value of [key] as changed, or all of the cached values if [key] is null.
+  private void invalidateCachedPrefs(@Nullable String key) {
+    if (key == null) {
+      cacheGeneration.incrementAndGet();
+    } else {
+      staleKeys.add(key);
+    }
+  }
+
+  private @NonNull SharedPreferences.Editor putString(
+      @NonNull SharedPreferences.Editor editor, @NonNull String key, @NonNull String value) {
+    // TODO (tarrinneal): Move this string prefix checking logic to dart code and make it an Argument Error.
+    if (value.startsWith(LIST_IDENTIFIER)
+        || value.startsWith(COMPACT_LIST_IDENTIFIER)
+        || value.startsWith(BIG_INTEGER_PREFIX)
+        || value.startsWith(DOUBLE_PREFIX)) {
+      throw new RuntimeException(
+          "StorageError: This string cannot be stored as it clashes with special identifier prefixes");
+    }
+    return editor.putString(key, value);
+  }
+
+  private @NonNull SharedPreferences.Editor putDouble(
+      @NonNull SharedPreferences.Editor editor, @NonNull String key, @NonNull Double value) {
+    String doubleValueStr = Double.toString(value);
+    return editor.putString(key, DOUBLE_PREFIX + doubleValueStr);
+  }
+
+  private @NonNull SharedPreferences.Editor putStringList(
+      @NonNull SharedPreferences.Editor editor, @NonNull String key, @NonNull List<String> value) {
+    return editor.putString(key, COMPACT_LIST_IDENTIFIER + compactListEncoder.encode(value));
+  }
+
+  // Commits the edit to disk, or applies it to memory and writes it to disk asynchronously if
+  // writes are deferred. Deferred writes can be waited for with [flush].
+  //
+  // The cached values of the edited [keys] are invalidated right away, rather than when the change
+  // listener is called on the main thread, so that reads that follow see the new values.
+  private boolean write(
+      @NonNull SharedPreferences.Editor editor, @NonNull Collection<String> keys) {
+    boolean result;
+    if (writesDeferred) {
+      editor.apply();
+      result = true;
+    } else {
+      result = editor.commit();
+    }
+    for (String key : keys) {
+      invalidateCachedPrefs(key);
+    }
+    return result;
+  }
+
   private Object transformPref(@NonNull String key, @NonNull Object value) {
     if (value instanceof String) {
       String stringValue = (String) value;
-      if (stringValue.startsWith(LIST_IDENTIFIER)) {
-        return listEncoder.decode(stringValue.substring(LIST_IDENTIFIER.length()));
+      if (stringValue.startsWith(COMPACT_LIST_IDENTIFIER)) {
+        return compactListEncoder.decode(stringValue.substring(COMPACT_LIST_IDENTIFIER.length()));
+      } else if (stringValue.startsWith(LIST_IDENTIFIER)) {
+        List<String> listValue =
+            listEncoder.decode(stringValue.substring(LIST_IDENTIFIER.length()));
+        // Migrate the value to the compact encoding, so it is only deserialized once.
+        putStringList(preferences.edit(), key, listValue).apply();
+        return listValue;
       } else if (stringValue.startsWith(BIG_INTEGER_PREFIX)) {
         // TODO (tarrinneal): Remove all BigInt code.
         // https://github.com/flutter/flutter/issues/124420
@@ -167,17 +341,54 @@ public class LegacySharedPreferencesPlugin implements FlutterPlugin, SharedPrefe
       @SuppressWarnings("unchecked")
       List<String> listValue = new ArrayList<>((Set<String>) value);
       // Let's migrate the value too while we are at it.
-      preferences
-          .edit()
-          .remove(key)
-          .putString(key, LIST_IDENTIFIER + listEncoder.encode(listValue))
-          .apply();
+      putStringList(preferences.edit().remove(key), key, listValue).apply();
 
       return listValue;
     }
     return value;
   }
 
+  /**
+   * Encodes lists as the length of each element followed by a separator and the element, e.g.
+   * {@code 7:Flutter4:Dart}.
+   *
+   * <p>Unlike the {@link ListEncoder}, this needs neither Java serialization nor Base64, so the
+   * encoded lists are smaller and faster to encode and decode.
+   */
+  static class CompactListEncoder implements SharedPreferencesListEncoder {
+    private static final char LENGTH_SEPARATOR = ':';
+
+    @Override
+    public @NonNull String encode(@NonNull List<String> list) {
+      StringBuilder builder = new StringBuilder();
+      for (String element : list) {
+        builder.append(element.length()).append(LENGTH_SEPARATOR).append(element);
+      }
+      return builder.toString();
+    }
+
+    @Override
+    public @NonNull List<String> decode(@NonNull String listString) throws RuntimeException {
+      List<String> list = new ArrayList<>();
+      int index = 0;
+      while (index < listString.length()) {
+        int separatorIndex = listString.indexOf(LENGTH_SEPARATOR, index);
+        if (separatorIndex < 0) {
+          throw new RuntimeException("StorageError: Missing length separator in encoded list");
+        }
+        int start = separatorIndex + 1;
+        int end = start + Integer.parseInt(listString.substring(index, separatorIndex));
+        if (end < start || end > listString.length()) {
+          throw new RuntimeException("StorageError: Invalid element length in encoded list");
+        }
+        list.add(listString.substring(start, end));
+        index = end;
+      }
+      return list;
+    }
+  }
+
+  /** Encodes lists with Java serialization and Base64, as earlier versions of the plugin did. */
   static class ListEncoder implements SharedPreferencesListEncoder {
     @Override
     public @NonNull String encode(@NonNull List<String> list) throws RuntimeException {
@@ -73,6 +73,21 @@ public class Messages {
     /** Adds property to shared preferences data set of type List<String>. */
     @NonNull
     Boolean setStringList(@NonNull String key, @NonNull List<String> value);
+    /**
+     * Adds all of the properties in [values] to shared preferences data set in a single write.
+     *
+     * <p>The values must be of type bool, String, int, double or List<String>.
+     */
+    @NonNull
+    Boolean setValues(@NonNull Map<String, Object> values);
+    /**
+     * Sets whether writes are committed to disk before returning, or applied to memory and written
+     * to disk asynchronously.
+     */
+    void setWritesDeferred(@NonNull Boolean deferred);
+    /** Waits for all asynchronous writes to be written to disk. */
+    @NonNull
+    Boolean flush();
     /** Removes all properties from shared preferences data set with matching prefix. */
     @NonNull
     Boolean clear(@NonNull String prefix, @Nullable List<String> allowList);
@@ -258,6 +273,85 @@ public class Messages {
           channel.setMessageHandler(null);
         }
       }
+      {
+        BinaryMessenger.TaskQueue taskQueue = binaryMessenger.makeBackgroundTaskQueue();
+        BasicMessageChannel<Object> channel =
+            new BasicMessageChannel<>(
+                binaryMessenger,
+                "dev.flutter.pigeon.shared_preferences_android.SharedPreferencesApi.setValues",
+                getCodec(),
+                taskQueue);
+        if (api != null) {
+          channel.setMessageHandler(
+              (message, reply) -> {
+                ArrayList<Object> wrapped = new ArrayList<Object>();
+                ArrayList<Object> args = (ArrayList<Object>) message;
+                Map<String, Object> valuesArg = (Map<String, Object>) args.get(0);
+                try {
+                  Boolean output = api.setValues(valuesArg);
+                  wrapped.add(0, output);
+                } catch (Throwable exception) {
+                  ArrayList<Object> wrappedError = wrapError(exception);
+                  wrapped = wrappedError;
+                }
+                reply.reply(wrapped);
+              });
+        } else {
+          channel.setMessageHandler(null);
+        }
+      }
+      {
+        BinaryMessenger.TaskQueue taskQueue = binaryMessenger.makeBackgroundTaskQueue();
+        BasicMessageChannel<Object> channel =
+            new BasicMessageChannel<>(
+                binaryMessenger,
+                "dev.flutter.pigeon.shared_preferences_android.SharedPreferencesApi.setWritesDeferred",
+                getCodec(),
+                taskQueue);
+        if (api != null) {
+          channel.setMessageHandler(
+              (message, reply) -> {
+                ArrayList<Object> wrapped = new ArrayList<Object>();
+                ArrayList<Object> args = (ArrayList<Object>) message;
+                Boolean deferredArg = (Boolean) args.get(0);
+                try {
+                  api.setWritesDeferred(deferredArg);
+                  wrapped.add(0, null);
+                } catch (Throwable exception) {
+                  ArrayList<Object> wrappedError = wrapError(exception);
+                  wrapped = wrappedError;
+                }
+                reply.reply(wrapped);
+              });
+        } else {
+          channel.setMessageHandler(null);
+        }
+      }
+      {
+        BinaryMessenger.TaskQueue taskQueue = binaryMessenger.makeBackgroundTaskQueue();
+        BasicMessageChannel<Object> channel =
+            new BasicMessageChannel<>(
+                binaryMessenger,
+                "dev.flutter.pigeon.shared_preferences_android.SharedPreferencesApi.flush",
+                getCodec(),
+                taskQueue);
+        if (api != null) {
+          channel.setMessageHandler(
+              (message, reply) -> {
+                ArrayList<Object> wrapped = new ArrayList<Object>();
+                try {
+                  Boolean output = api.flush();
+                  wrapped.add(0, output);
+                } catch (Throwable exception) {
+                  ArrayList<Object> wrappedError = wrapError(exception);
+                  wrapped = wrappedError;
+                }
+                reply.reply(wrapped);
+              });
+        } else {
+          channel.setMessageHandler(null);
+        }
+      }
       {
         BinaryMessenger.TaskQueue taskQueue = binaryMessenger.makeBackgroundTaskQueue();
         BasicMessageChannel<Object> channel =
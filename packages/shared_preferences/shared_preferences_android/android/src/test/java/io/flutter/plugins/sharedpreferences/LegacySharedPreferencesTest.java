@@ -7,6 +7,8 @@ package io.flutter.plugins.sharedpreferences;
 import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertThrows;
+import static org.junit.Assert.assertTrue;
 import static org.mockito.Mockito.anyInt;
 import static org.mockito.Mockito.anyString;
 
@@ -15,9 +17,11 @@ import android.content.SharedPreferences;
 import androidx.annotation.NonNull;
 import io.flutter.embedding.engine.plugins.FlutterPlugin;
 import io.flutter.plugin.common.BinaryMessenger;
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.HashMap;
+import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
@@ -29,6 +33,7 @@ import org.mockito.Mockito;
 public class LegacySharedPreferencesTest {
 
   LegacySharedPreferencesPlugin plugin;
+  FakeSharedPreferences sharedPrefs;
 
   @Mock BinaryMessenger mockMessenger;
   @Mock FlutterPlugin.FlutterPluginBinding flutterPluginBinding;
@@ -36,7 +41,7 @@ public class LegacySharedPreferencesTest {
   @Before
   public void before() {
     Context context = Mockito.mock(Context.class);
-    SharedPreferences sharedPrefs = new FakeSharedPreferences();
+    sharedPrefs = new FakeSharedPreferences();
 
     flutterPluginBinding = Mockito.mock(FlutterPlugin.FlutterPluginBinding.class);
 
@@ -159,6 +164,154 @@ public class LegacySharedPreferencesTest {
     assertEquals(flutterData.get(key), value);
   }
 
+  @Test
+  public void setStringListUsesCompactEncoding() {
+    plugin.setStringList("Names", Arrays.asList("Flutter", "Dart"));
+
+    assertEquals(
+        sharedPrefs.sharedPrefData.get("Names"),
+        LegacySharedPreferencesPlugin.COMPACT_LIST_IDENTIFIER + "7:Flutter4:Dart");
+  }
+
+  @Test
+  public void getAllMigratesLegacyEncodedList() {
+    sharedPrefs.sharedPrefData.put(
+        "Names", LegacySharedPreferencesPlugin.LIST_IDENTIFIER + "Flutter;-;Dart");
+
+    Map<String, Object> flutterData = plugin.getAll("", null);
+
+    assertEquals(flutterData.get("Names"), Arrays.asList("Flutter", "Dart"));
+    assertEquals(
+        sharedPrefs.sharedPrefData.get("Names"),
+        LegacySharedPreferencesPlugin.COMPACT_LIST_IDENTIFIER + "7:Flutter4:Dart");
+    assertEquals(plugin.getAll("", null).get("Names"), Arrays.asList("Flutter", "Dart"));
+  }
+
+  @Test
+  public void setStringRejectsCompactListPrefix() {
+    assertThrows(
+        RuntimeException.class,
+        () ->
+            plugin.setString(
+                "Language", LegacySharedPreferencesPlugin.COMPACT_LIST_IDENTIFIER + "Java"));
+  }
+
+  @Test
+  public void getAllReadsPreferencesOnce() {
+    plugin.clearNotifiesListeners = true;
+    addData();
+
+    assertEquals(plugin.getAll("flutter.", null).size(), 5);
+    assertEquals(plugin.getAll("prefix.", null).size(), 5);
+    assertEquals(plugin.getAll("", Collections.singletonList("Language")).size(), 1);
+
+    assertEquals(sharedPrefs.getAllCount, 1);
+  }
+
+  @Test
+  public void getAllSeesChangesMadeOutsideOfPlugin() {
+    addData();
+    assertEquals(plugin.getAll("flutter.", null).get("flutter.Language"), "Java");
+
+    sharedPrefs.edit().putString("flutter.Language", "Kotlin").remove("flutter.Counter").commit();
+
+    Map<String, Object> flutterData = plugin.getAll("flutter.", null);
+    assertEquals(flutterData.size(), 4);
+    assertEquals(flutterData.get("flutter.Language"), "Kotlin");
+    assertFalse(flutterData.containsKey("flutter.Counter"));
+  }
+
+  @Test
+  public void getAllRereadsPreferencesWhenAllChange() {
+    plugin.clearNotifiesListeners = true;
+    addData();
+    assertEquals(plugin.getAll("", null).size(), 15);
+
+    sharedPrefs.sharedPrefData.clear();
+    sharedPrefs.notifyListeners(Collections.singleton(null));
+
+    assertEquals(plugin.getAll("", null).size(), 0);
+    assertEquals(sharedPrefs.getAllCount, 2);
+  }
+
+  @Test
+  public void getAllSeesUnreportedClearBeforeApi30() {
+    plugin.clearNotifiesListeners = false;
+    addData();
+    assertEquals(plugin.getAll("", null).size(), 15);
+
+    // Before API 30, Editor.clear() does not notify listeners of the removed keys.
+    sharedPrefs.sharedPrefData.clear();
+    sharedPrefs.edit().putString("flutter.Language", "Kotlin").putString("Other", "Dart").commit();
+
+    Map<String, Object> allData = plugin.getAll("", null);
+    assertEquals(allData.size(), 2);
+    assertEquals(allData.get("flutter.Language"), "Kotlin");
+    assertEquals(allData.get("Other"), "Dart");
+  }
+
+  @Test
+  public void getAllWithPrefixExcludesNeighboringKeys() {
+    plugin.setString("flutter", "Java");
+    plugin.setString("flutter.Language", "Java");
+    plugin.setString("flutter/Language", "Java");
+    plugin.setString("fluttery.Language", "Java");
+
+    assertEquals(
+        plugin.getAll("flutter.", null).keySet(), Collections.singleton("flutter.Language"));
+  }
+
+  @Test
+  public void setValues() {
+    final Map<String, Object> values = new HashMap<>();
+    values.put("Language", "Java");
+    values.put("Counter", 0L);
+    values.put("SmallCounter", 1);
+    values.put("Pie", 3.14);
+    values.put("Names", Arrays.asList("Flutter", "Dart"));
+    values.put("NewToFlutter", false);
+
+    assertTrue(plugin.setValues(values));
+
+    assertEquals(sharedPrefs.commitCount, 1);
+    Map<String, Object> flutterData = plugin.getAll("", null);
+    assertEquals(flutterData.size(), 6);
+    assertEquals(flutterData.get("Language"), "Java");
+    assertEquals(flutterData.get("Counter"), 0L);
+    assertEquals(flutterData.get("SmallCounter"), 1L);
+    assertEquals(flutterData.get("Pie"), 3.14);
+    assertEquals(flutterData.get("Names"), Arrays.asList("Flutter", "Dart"));
+    assertEquals(flutterData.get("NewToFlutter"), false);
+  }
+
+  @Test
+  public void setValuesRejectsUnsupportedType() {
+    final Map<String, Object> values = new HashMap<>();
+    values.put("Bytes", new byte[] {1, 2, 3});
+
+    assertThrows(RuntimeException.class, () -> plugin.setValues(values));
+    assertEquals(sharedPrefs.commitCount, 0);
+  }
+
+  @Test
+  public void deferredWritesAreAppliedUntilFlushed() {
+    plugin.setWritesDeferred(true);
+
+    assertTrue(plugin.setString("Language", "Java"));
+    assertTrue(plugin.setBool("NewToFlutter", false));
+    assertEquals(plugin.getAll("", null).size(), 2);
+    assertEquals(sharedPrefs.applyCount, 2);
+    assertEquals(sharedPrefs.commitCount, 0);
+
+    assertTrue(plugin.flush());
+    assertEquals(sharedPrefs.commitCount, 1);
+
+    plugin.setWritesDeferred(false);
+    plugin.setInt("Counter", 0L);
+    assertEquals(sharedPrefs.applyCount, 2);
+    assertEquals(sharedPrefs.commitCount, 2);
+  }
+
   @Test
   public void clearWithNoAllowList() {
     addData();
@@ -222,14 +375,18 @@ public class LegacySharedPreferencesTest {
 
   /** A dummy implementation for tests for use with FakeSharedPreferences */
   public static class FakeSharedPreferencesEditor implements SharedPreferences.Editor {
+    private final FakeSharedPreferences sharedPrefs;
     private final Map<String, Object> sharedPrefData;
+    private final Set<String> changedKeys = new HashSet<>();
 
-    FakeSharedPreferencesEditor(@NonNull Map<String, Object> data) {
-      sharedPrefData = data;
+    FakeSharedPreferencesEditor(@NonNull FakeSharedPreferences preferences) {
+      sharedPrefs = preferences;
+      sharedPrefData = preferences.sharedPrefData;
     }
 
     @Override
     public @NonNull SharedPreferences.Editor putString(@NonNull String key, @NonNull String value) {
+      changedKeys.add(key);
       sharedPrefData.put(key, value);
       return this;
     }
@@ -237,48 +394,57 @@ public class LegacySharedPreferencesTest {
     @Override
     public @NonNull SharedPreferences.Editor putStringSet(
         @NonNull String key, @NonNull Set<String> values) {
+      changedKeys.add(key);
       sharedPrefData.put(key, values);
       return this;
     }
 
     @Override
     public @NonNull SharedPreferences.Editor putBoolean(@NonNull String key, boolean value) {
+      changedKeys.add(key);
       sharedPrefData.put(key, value);
       return this;
     }
 
     @Override
     public @NonNull SharedPreferences.Editor putInt(@NonNull String key, int value) {
+      changedKeys.add(key);
       sharedPrefData.put(key, value);
       return this;
     }
 
     @Override
     public @NonNull SharedPreferences.Editor putLong(@NonNull String key, long value) {
+      changedKeys.add(key);
       sharedPrefData.put(key, value);
       return this;
     }
 
     @Override
     public @NonNull SharedPreferences.Editor putFloat(@NonNull String key, float value) {
+      changedKeys.add(key);
       sharedPrefData.put(key, value);
       return this;
     }
 
     @Override
     public @NonNull SharedPreferences.Editor remove(@NonNull String key) {
+      changedKeys.add(key);
       sharedPrefData.remove(key);
       return this;
     }
 
     @Override
     public boolean commit() {
+      sharedPrefs.commitCount++;
+      sharedPrefs.notifyListeners(changedKeys);
       return true;
     }
 
     @Override
     public void apply() {
-      throw new UnsupportedOperationException("This method is not implemented for testing");
+      sharedPrefs.applyCount++;
+      sharedPrefs.notifyListeners(changedKeys);
     }
 
     @Override
@@ -291,15 +457,42 @@ public class LegacySharedPreferencesTest {
   private static class FakeSharedPreferences implements SharedPreferences {
 
     Map<String, Object> sharedPrefData = new HashMap<>();
+    int commitCount = 0;
+    int applyCount = 0;
+    int getAllCount = 0;
+    private final List<SharedPreferences.OnSharedPreferenceChangeListener> listeners =
+        new ArrayList<>();
 
     @Override
     public @NonNull Map<String, ?> getAll() {
-      return sharedPrefData;
+      getAllCount++;
+      return new HashMap<>(sharedPrefData);
+    }
+
+    @Override
+    public void registerOnSharedPreferenceChangeListener(
+        @NonNull SharedPreferences.OnSharedPreferenceChangeListener listener) {
+      listeners.add(listener);
+    }
+
+    @Override
+    public void unregisterOnSharedPreferenceChangeListener(
+        @NonNull SharedPreferences.OnSharedPreferenceChangeListener listener) {
+      listeners.remove(listener);
+    }
+
+    void notifyListeners(@NonNull Set<String> keys) {
+      for (String key : keys) {
+        for (SharedPreferences.OnSharedPreferenceChangeListener listener :
+            new ArrayList<>(listeners)) {
+          listener.onSharedPreferenceChanged(this, key);
+        }
+      }
     }
 
     @Override
     public @NonNull SharedPreferences.Editor edit() {
-      return new FakeSharedPreferencesEditor(sharedPrefData);
+      return new FakeSharedPreferencesEditor(this);
     }
 
     // All methods below are not implemented.
@@ -338,17 +531,6 @@ public class LegacySharedPreferencesTest {
       throw new UnsupportedOperationException("This method is not implemented for testing");
     }
 
-    @Override
-    public void registerOnSharedPreferenceChangeListener(
-        @NonNull SharedPreferences.OnSharedPreferenceChangeListener listener) {
-      throw new UnsupportedOperationException("This method is not implemented for testing");
-    }
-
-    @Override
-    public void unregisterOnSharedPreferenceChangeListener(
-        @NonNull SharedPreferences.OnSharedPreferenceChangeListener listener) {
-      throw new UnsupportedOperationException("This method is not implemented for testing");
-    }
   }
 
   /** A dummy implementation of SharedPreferencesListEncoder for tests that store List<String>. */
@@ -0,0 +1,82 @@
+// Copyright 2013 The Flutter Authors. All rights reserved.
+// Use of this source code is governed by a BSD-style license that can be
+// found in the LICENSE file.
+
+package io.flutter.plugins.sharedpreferences;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertThrows;
+import static org.junit.Assert.assertTrue;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.robolectric.RobolectricTestRunner;
+
+// Robolectric is needed for the android.util.Base64 used by the legacy encoder.
+@RunWith(RobolectricTestRunner.class)
+public class ListEncoderTest {
+  private final SharedPreferencesListEncoder legacyEncoder =
+      new LegacySharedPreferencesPlugin.ListEncoder();
+  private final SharedPreferencesListEncoder compactEncoder =
+      new LegacySharedPreferencesPlugin.CompactListEncoder();
+
+  @Test
+  public void compactEncoderRoundTrips() {
+    final List<List<String>> lists =
+        Arrays.asList(
+            Collections.emptyList(),
+            Collections.singletonList(""),
+            Arrays.asList("Flutter", "Dart"),
+            Arrays.asList("12:34", "", "::", "\u00e9\u4e16\ud83d\ude00", "line\nbreak"));
+    for (List<String> list : lists) {
+      assertEquals(list, compactEncoder.decode(compactEncoder.encode(list)));
+    }
+  }
+
+  @Test
+  public void compactEncoderDecodesToMutableList() {
+    final List<String> list = compactEncoder.decode(compactEncoder.encode(Arrays.asList("a")));
+    list.add("b");
+    assertEquals(Arrays.asList("a", "b"), list);
+  }
+
+  @Test
+  public void compactEncoderRejectsMalformedInput() {
+    assertThrows(RuntimeException.class, () -> compactEncoder.decode("7:Flutter4"));
+    assertThrows(RuntimeException.class, () -> compactEncoder.decode("9:Flutter"));
+    assertThrows(RuntimeException.class, () -> compactEncoder.decode("x:Flutter"));
+    assertThrows(RuntimeException.class, () -> compactEncoder.decode("-1:Flutter"));
+  }
+
+  @Test
+  public void compactEncodingIsSmallerThanLegacyEncoding() {
+    for (List<String> list :
+        Arrays.asList(
+            Collections.<String>emptyList(), Arrays.asList("Flutter", "Dart"), createList(100))) {
+      final int legacyLength = legacyEncoder.encode(list).length();
+      final int compactLength = compactEncoder.encode(list).length();
+      assertTrue(compactLength < legacyLength);
+    }
+  }
+
+  @Test
+  public void compactEncoderDecodesSameListsAsLegacyEncoder() {
+    final List<String> list = createList(100);
+
+    assertEquals(
+        legacyEncoder.decode(legacyEncoder.encode(list)),
+        compactEncoder.decode(compactEncoder.encode(list)));
+  }
+
+  private static List<String> createList(int size) {
+    final List<String> list = new ArrayList<>(size);
+    for (int i = 0; i < size; i++) {
+      list.add("element " + i);
+    }
+    return list;
+  }
+}
@@ -478,6 +478,8 @@ void main() {
       const List<String> specialPrefixes = <String>[
         // Prefix for lists:
         'VGhpcyBpcyB0aGUgcHJlZml4IGZvciBhIGxpc3Qu',
+        // Prefix for compactly encoded lists:
+        'VGhpcyBpcyB0aGUgcHJlZml4IGZvciBhIHNob3J0IGxpc3Qu',
         // Prefix for doubles:
         'VGhpcyBpcyB0aGUgcHJlZml4IGZvciBEb3VibGUu',
       ];
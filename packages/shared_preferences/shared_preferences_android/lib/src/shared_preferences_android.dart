@@ -55,6 +55,42 @@ class SharedPreferencesAndroid extends SharedPreferencesStorePlatform {
         message: '"$valueType" is not a supported type.');
   }
 
+  /// Sets all of [values] with a single write to disk, rather than one write
+  /// per key as [setValue] does.
+  ///
+  /// The values must be of type `bool`, `String`, `int`, `double` or
+  /// `List<String>`.
+  Future<bool> setValues(Map<String, Object> values) async {
+    for (final MapEntry<String, Object> entry in values.entries) {
+      final Object value = entry.value;
+      if (value is! bool &&
+          value is! String &&
+          value is! int &&
+          value is! double &&
+          value is! List<String>) {
+        throw PlatformException(
+            code: 'InvalidOperation',
+            message: 'The value of "${entry.key}" is not of a supported type.');
+      }
+    }
+    return _api.setValues(values);
+  }
+
+  /// Sets whether writes return as soon as they are applied to memory, with
+  /// the write to disk happening asynchronously.
+  ///
+  /// By default, each write returns only once it is on disk. Deferring writes
+  /// avoids waiting for the disk on every write; call [flush] to wait for the
+  /// deferred writes, e.g. before the app is backgrounded.
+  Future<void> setWritesDeferred(bool deferred) async {
+    return _api.setWritesDeferred(deferred);
+  }
+
+  /// Waits for all deferred writes to be written to disk.
+  Future<bool> flush() async {
+    return _api.flush();
+  }
+
   @override
   Future<bool> clear() async {
     return clearWithParameters(
@@ -10,6 +10,8 @@ import 'package:shared_preferences_platform_interface/types.dart';
 import 'messages_async.g.dart';
 
 const String _listPrefix = 'VGhpcyBpcyB0aGUgcHJlZml4IGZvciBhIGxpc3Qu';
+const String _compactListPrefix =
+    'VGhpcyBpcyB0aGUgcHJlZml4IGZvciBhIHNob3J0IGxpc3Qu';
 
 /// The Android implementation of [SharedPreferencesAsyncPlatform].
 ///
@@ -56,7 +58,8 @@ base class SharedPreferencesAsyncAndroid
     String value,
     SharedPreferencesOptions options,
   ) async {
-    if (value.startsWith(_listPrefix)) {
+    if (value.startsWith(_listPrefix) ||
+        value.startsWith(_compactListPrefix)) {
       throw ArgumentError(
           'StorageError: This string cannot be stored as it clashes with special identifier prefixes');
     }
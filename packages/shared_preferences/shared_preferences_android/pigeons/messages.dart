@@ -39,6 +39,22 @@ abstract class SharedPreferencesApi {
   @TaskQueue(type: TaskQueueType.serialBackgroundThread)
   bool setStringList(String key, List<String> value);
 
+  /// Adds all of the properties in [values] to shared preferences data set in
+  /// a single write.
+  ///
+  /// The values must be of type bool, String, int, double or List<String>.
+  @TaskQueue(type: TaskQueueType.serialBackgroundThread)
+  bool setValues(Map<String, Object> values);
+
+  /// Sets whether writes are committed to disk before returning, or applied
+  /// to memory and written to disk asynchronously.
+  @TaskQueue(type: TaskQueueType.serialBackgroundThread)
+  void setWritesDeferred(bool deferred);
+
+  /// Waits for all asynchronous writes to be written to disk.
+  @TaskQueue(type: TaskQueueType.serialBackgroundThread)
+  bool flush();
+
   /// Removes all properties from shared preferences data set with matching prefix.
   @TaskQueue(type: TaskQueueType.serialBackgroundThread)
   bool clear(
@@ -145,6 +145,31 @@ void main() {
     expect(all, flutterTestValues);
   });
 
+  test('setValues', () async {
+    expect(await plugin.setValues(flutterTestValues), isTrue);
+    expect(api.items, flutterTestValues);
+    expect(api.setValuesCallCount, 1);
+  });
+
+  test('setValues with unsupported type', () async {
+    expect(() async {
+      await plugin.setValues(<String, Object>{
+        'flutter.String': 'hi',
+        'flutter.key': <String, String>{},
+      });
+    }, throwsA(isA<PlatformException>()));
+    expect(api.items, isEmpty);
+  });
+
+  test('setWritesDeferred and flush', () async {
+    await plugin.setWritesDeferred(true);
+    expect(api.writesDeferred, isTrue);
+    expect(await plugin.flush(), isTrue);
+    expect(api.flushCallCount, 1);
+    await plugin.setWritesDeferred(false);
+    expect(api.writesDeferred, isFalse);
+  });
+
   test('getAllWithNoPrefix', () async {
     for (final String key in allTestValues.keys) {
       api.items[key] = allTestValues[key]!;
@@ -257,6 +282,9 @@ void main() {
 
 class _FakeSharedPreferencesApi implements SharedPreferencesApi {
   final Map<String, Object> items = <String, Object>{};
+  int setValuesCallCount = 0;
+  bool writesDeferred = false;
+  int flushCallCount = 0;
 
   @override
   Future<Map<String?, Object?>> getAll(
@@ -321,4 +349,22 @@ class _FakeSharedPreferencesApi implements SharedPreferencesApi {
     items[key] = value;
     return true;
   }
+
+  @override
+  Future<bool> setValues(Map<String?, Object?> values) async {
+    setValuesCallCount++;
+    items.addAll(values.cast<String, Object>());
+    return true;
+  }
+
+  @override
+  Future<void> setWritesDeferred(bool deferred) async {
+    writesDeferred = deferred;
+  }
+
+  @override
+  Future<bool> flush() async {
+    flushCallCount++;
+    return true;
+  }
 }
@@ -40,6 +40,20 @@ void main() {
     expect(await preferences.getString(stringKey, emptyOptions), testString);
   });
 
+  test('setString rejects reserved list prefixes', () async {
+    final SharedPreferencesAsyncAndroid preferences = getPreferences();
+
+    for (final String prefix in <String>[
+      'VGhpcyBpcyB0aGUgcHJlZml4IGZvciBhIGxpc3Qu',
+      'VGhpcyBpcyB0aGUgcHJlZml4IGZvciBhIHNob3J0IGxpc3Qu',
+    ]) {
+      expect(
+          () => preferences.setString(
+              stringKey, '${prefix}hello', emptyOptions),
+          throwsArgumentError);
+    }
+  });
+
   test('set and get bool', () async {
     final SharedPreferencesAsyncAndroid preferences = getPreferences();
 
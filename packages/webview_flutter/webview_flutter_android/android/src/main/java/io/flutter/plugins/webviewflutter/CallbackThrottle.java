@@ -0,0 +1,103 @@
+// Copyright 2013 The Flutter Authors. All rights reserved.
+// Use of this source code is governed by a BSD-style license that can be
+// found in the LICENSE file.
+
+package io.flutter.plugins.webviewflutter;
+
+import android.os.SystemClock;
+import androidx.annotation.NonNull;
+import androidx.annotation.VisibleForTesting;
+
+/**
+ * Decides whether a frequently fired native callback should be forwarded to Dart.
+ *
+ * <p>A callback is forwarded when it is enabled, its value moved by at least the minimum delta
+ * from the last forwarded value, and the minimum interval has elapsed since the last forwarded
+ * callback. The first callback after {@link #configure} or {@link #reset} is always forwarded.
+ */
+class CallbackThrottle {
+  /** Source of the current time, in milliseconds. */
+  @VisibleForTesting
+  interface Clock {
+    long uptimeMillis();
+  }
+
+  private final Clock clock;
+
+  private boolean enabled = true;
+  private long minDelta = 0;
+  private long minIntervalMillis = 0;
+
+  private boolean hasDispatched = false;
+  private long lastX;
+  private long lastY;
+  private long lastDispatchMillis;
+
+  CallbackThrottle() {
+    this(SystemClock::uptimeMillis);
+  }
+
+  @VisibleForTesting
+  CallbackThrottle(@NonNull Clock clock) {
+    this.clock = clock;
+  }
+
+  /**
+   * Updates the throttling settings and forgets the last forwarded value.
+   *
+   * @param enabled whether the callback should be forwarded at all
+   * @param minDelta minimum change of either value before the callback is forwarded again
+   * @param minIntervalMillis minimum time between two forwarded callbacks
+   */
+  void configure(boolean enabled, long minDelta, long minIntervalMillis) {
+    this.enabled = enabled;
+    this.minDelta = Math.max(0, minDelta);
+    this.minIntervalMillis = Math.max(0, minIntervalMillis);
+    reset();
+  }
+
+  /** Whether the callback is forwarded at all. */
+  boolean isEnabled() {
+    return enabled;
+  }
+
+  /** Whether the callback with the given values should be forwarded now. */
+  boolean shouldDispatch(long x, long y) {
+    if (!enabled) {
+      return false;
+    }
+    if (!hasDispatched) {
+      return true;
+    }
+    return hasMinDelta(x, y) && millisUntilNextDispatch() == 0;
+  }
+
+  /**
+   * Whether the given values moved by at least the minimum delta from the last forwarded values.
+   */
+  boolean hasMinDelta(long x, long y) {
+    return !hasDispatched || Math.max(Math.abs(x - lastX), Math.abs(y - lastY)) >= minDelta;
+  }
+
+  /** Time left until the minimum interval since the last forwarded callback has elapsed. */
+  long millisUntilNextDispatch() {
+    if (!hasDispatched) {
+      return 0;
+    }
+    final long elapsed = clock.uptimeMillis() - lastDispatchMillis;
+    return Math.max(0, minIntervalMillis - elapsed);
+  }
+
+  /** Records that a callback with the given values was forwarded. */
+  void onDispatched(long x, long y) {
+    hasDispatched = true;
+    lastX = x;
+    lastY = y;
+    lastDispatchMillis = clock.uptimeMillis();
+  }
+
+  /** Forgets the last forwarded value, so the next callback is always forwarded. */
+  void reset() {
+    hasDispatched = false;
+  }
+}
@@ -8,10 +8,24 @@ import android.os.Build;
 import android.webkit.CookieManager;
 import androidx.annotation.ChecksSdkIntAtLeast;
 import androidx.annotation.NonNull;
+import androidx.annotation.Nullable;
 import androidx.annotation.VisibleForTesting;
 import io.flutter.plugin.common.BinaryMessenger;
+import io.flutter.plugins.webviewflutter.GeneratedAndroidWebView.CookieBatchResult;
+import io.flutter.plugins.webviewflutter.GeneratedAndroidWebView.CookieData;
 import io.flutter.plugins.webviewflutter.GeneratedAndroidWebView.CookieManagerHostApi;
+import java.net.URI;
+import java.net.URISyntaxException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
 import java.util.Objects;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicBoolean;
 
 /**
  * Host API implementation for `CookieManager`.
@@ -27,6 +41,14 @@ public class CookieManagerHostApiImpl implements CookieManagerHostApi {
   private final InstanceManager instanceManager;
   private final CookieManagerProxy proxy;
   private final @NonNull AndroidSdkChecker sdkChecker;
+  // Runs the flushes requested by batches, so they do not block the platform thread.
+  private final @NonNull Executor flushExecutor;
+  // Whether a flush is queued on `flushExecutor` and has not started yet.
+  private final AtomicBoolean flushPending = new AtomicBoolean();
+
+  // Value that makes `CookieManager` drop a cookie with the same name, followed by its `Path`.
+  private static final String EXPIRED_COOKIE_VALUE =
+      "=; Expires=Thu, 01 Jan 1970 00:00:00 GMT; Path=";
 
   // Interface for an injectable SDK version checker.
   @VisibleForTesting
@@ -71,10 +93,32 @@ public class CookieManagerHostApiImpl implements CookieManagerHostApi {
       @NonNull InstanceManager instanceManager,
       @NonNull CookieManagerProxy proxy,
       @NonNull AndroidSdkChecker sdkChecker) {
+    this(binaryMessenger, instanceManager, proxy, sdkChecker, Executors.newSingleThreadExecutor());
+  }
+
+  @VisibleForTesting
+  CookieManagerHostApiImpl(
+      @NonNull BinaryMessenger binaryMessenger,
+      @NonNull InstanceManager instanceManager,
+      @NonNull CookieManagerProxy proxy,
+      @NonNull AndroidSdkChecker sdkChecker,
+      @NonNull Executor flushExecutor) {
     this.binaryMessenger = binaryMessenger;
     this.instanceManager = instanceManager;
     this.proxy = proxy;
     this.sdkChecker = sdkChecker;
+    this.flushExecutor = flushExecutor;
+  }
+
+  /**
+   * Stops the background thread that flushes cookies once the engine detaches.
+   *
+   * <p>Flushes that are already scheduled still run.
+   */
+  public void dispose() {
+    if (flushExecutor instanceof ExecutorService) {
+      ((ExecutorService) flushExecutor).shutdown();
+    }
   }
 
   @Override
@@ -110,6 +154,257 @@ public class CookieManagerHostApiImpl implements CookieManagerHostApi {
     }
   }
 
+  @Override
+  public void setCookies(
+      @NonNull Long identifier,
+      @NonNull List<CookieData> cookies,
+      @NonNull Boolean flush,
+      @NonNull GeneratedAndroidWebView.Result<CookieBatchResult> result) {
+    final long startNanos = System.nanoTime();
+    final CookieManager cookieManager = getCookieManagerInstance(identifier);
+
+    final List<String> urls = new ArrayList<>(cookies.size());
+    final List<String> values = new ArrayList<>(cookies.size());
+    for (CookieData cookie : cookies) {
+      urls.add(cookie.getUrl());
+      values.add(cookie.getValue());
+    }
+
+    setCookieValues(
+        cookieManager,
+        urls,
+        values,
+        successCount ->
+            result.success(
+                createBatchResult(
+                    cookieManager, successCount, Collections.emptyMap(), flush, startNanos)));
+  }
+
+  @NonNull
+  @Override
+  public CookieBatchResult getCookies(@NonNull Long identifier, @NonNull List<String> urls) {
+    final long startNanos = System.nanoTime();
+    final CookieManager cookieManager = getCookieManagerInstance(identifier);
+
+    final Map<String, String> cookies = new HashMap<>();
+    long foundCount = 0;
+    for (String url : urls) {
+      final String cookieHeader = cookieManager.getCookie(url);
+      cookies.put(url, cookieHeader);
+      foundCount += parseCookieNames(cookieHeader).size();
+    }
+
+    return createBatchResult(cookieManager, foundCount, cookies, false, startNanos);
+  }
+
+  @Override
+  public void removeCookies(
+      @NonNull Long identifier,
+      @NonNull List<String> urls,
+      @NonNull Boolean flush,
+      @NonNull GeneratedAndroidWebView.Result<CookieBatchResult> result) {
+    final long startNanos = System.nanoTime();
+    final CookieManager cookieManager = getCookieManagerInstance(identifier);
+
+    final List<String> expiredUrls = new ArrayList<>();
+    final List<String> expiredValues = new ArrayList<>();
+    long existingCount = 0;
+    for (String url : urls) {
+      final List<String> names = parseCookieNames(cookieManager.getCookie(url));
+      existingCount += names.size();
+
+      for (String name : names) {
+        for (String value : createExpiredCookieValues(url, name)) {
+          expiredUrls.add(url);
+          expiredValues.add(value);
+        }
+      }
+    }
+
+    final long removableCount = existingCount;
+    setCookieValues(
+        cookieManager,
+        expiredUrls,
+        expiredValues,
+        successCount -> {
+          long remainingCount = 0;
+          for (String url : urls) {
+            remainingCount += parseCookieNames(cookieManager.getCookie(url)).size();
+          }
+          result.success(
+              createBatchResult(
+                  cookieManager,
+                  Math.max(0, removableCount - remainingCount),
+                  Collections.emptyMap(),
+                  flush,
+                  startNanos));
+        });
+  }
+
+  @Override
+  public void flush(@NonNull Long identifier) {
+    if (sdkChecker.sdkIsAtLeast(Build.VERSION_CODES.LOLLIPOP)) {
+      getCookieManagerInstance(identifier).flush();
+    }
+  }
+
+  // Called once every cookie of a batch has been set.
+  private interface BatchCallback {
+    void onComplete(long successCount);
+  }
+
+  // Sets `values.get(i)` for `urls.get(i)` and calls `callback` once `CookieManager` reported the
+  // outcome of every cookie.
+  //
+  // `CookieManager` runs the callbacks on the calling thread, so the counters are not shared
+  // between threads.
+  private void setCookieValues(
+      @NonNull CookieManager cookieManager,
+      @NonNull List<String> urls,
+      @NonNull List<String> values,
+      @NonNull BatchCallback callback) {
+    if (!sdkChecker.sdkIsAtLeast(Build.VERSION_CODES.LOLLIPOP)) {
+      for (int i = 0; i < urls.size(); i++) {
+        cookieManager.setCookie(urls.get(i), values.get(i));
+      }
+      callback.onComplete(urls.size());
+      return;
+    }
+
+    if (urls.isEmpty()) {
+      callback.onComplete(0);
+      return;
+    }
+
+    final int[] pendingCount = {urls.size()};
+    final long[] successCount = {0};
+    for (int i = 0; i < urls.size(); i++) {
+      cookieManager.setCookie(
+          urls.get(i),
+          values.get(i),
+          success -> {
+            if (Boolean.TRUE.equals(success)) {
+              successCount[0]++;
+            }
+            pendingCount[0]--;
+            if (pendingCount[0] == 0) {
+              callback.onComplete(successCount[0]);
+            }
+          });
+    }
+  }
+
+  @NonNull
+  private CookieBatchResult createBatchResult(
+      @NonNull CookieManager cookieManager,
+      long count,
+      @NonNull Map<String, String> cookies,
+      boolean flush,
+      long startNanos) {
+    // A single flush for the whole batch replaces the periodic sync of every change.
+    // The result is sent without waiting for the flush, so it only reports that one is scheduled.
+    final boolean flushScheduled =
+        flush && sdkChecker.sdkIsAtLeast(Build.VERSION_CODES.LOLLIPOP);
+    if (flushScheduled) {
+      scheduleFlush(cookieManager);
+    }
+
+    return new CookieBatchResult.Builder()
+        .setCount(count)
+        .setCookies(cookies)
+        .setFlushed(flushScheduled)
+        .setElapsedMicroseconds((System.nanoTime() - startNanos) / 1000)
+        .build();
+  }
+
+  // Flushes `cookieManager` on `flushExecutor`. Batches that finish while a flush is still queued
+  // share it, since it writes their changes as well.
+  private void scheduleFlush(@NonNull CookieManager cookieManager) {
+    if (flushPending.compareAndSet(false, true)) {
+      flushExecutor.execute(
+          () -> {
+            flushPending.set(false);
+            cookieManager.flush();
+          });
+    }
+  }
+
+  // Creates the values that expire every cookie named `name` that is sent to `url`.
+  //
+  // A cookie is only replaced by one with the same `Domain` and `Path` attributes, and
+  // `CookieManager` only reports the names of the cookies. So a value is created for each domain
+  // and path the cookie could have been set with: without a `Domain` attribute or with the host of
+  // `url` or one of its parent domains, and with any path that `url` is on. Values for `https`
+  // URLs are marked `Secure`, since a secure cookie can only be replaced by a secure one.
+  @NonNull
+  private static List<String> createExpiredCookieValues(@NonNull String url, @NonNull String name) {
+    final URI uri;
+    try {
+      uri = new URI(url);
+    } catch (URISyntaxException exception) {
+      return Collections.singletonList(name + EXPIRED_COOKIE_VALUE + "/");
+    }
+
+    final List<String> domainAttributes = new ArrayList<>();
+    domainAttributes.add("");
+    final String host = uri.getHost();
+    if (host != null) {
+      // Stop before the top-level domain, which cookies cannot be set on.
+      for (String domain = host; domain.indexOf('.') > 0; ) {
+        domainAttributes.add("; Domain=" + domain);
+        domain = domain.substring(domain.indexOf('.') + 1);
+      }
+    }
+    final String secureAttribute = "https".equalsIgnoreCase(uri.getScheme()) ? "; Secure" : "";
+
+    final List<String> values = new ArrayList<>();
+    for (String path : getCookiePaths(uri.getPath())) {
+      for (String domainAttribute : domainAttributes) {
+        values.add(name + EXPIRED_COOKIE_VALUE + path + domainAttribute + secureAttribute);
+      }
+    }
+    return values;
+  }
+
+  // Returns every cookie path that matches `path`, e.g. "/", "/a", "/a/" and "/a/b" for "/a/b".
+  @NonNull
+  private static List<String> getCookiePaths(@Nullable String path) {
+    final List<String> paths = new ArrayList<>();
+    paths.add("/");
+    if (path == null || path.isEmpty() || path.equals("/")) {
+      return paths;
+    }
+
+    int separatorIndex = path.indexOf('/', 1);
+    while (separatorIndex > 0) {
+      paths.add(path.substring(0, separatorIndex));
+      paths.add(path.substring(0, separatorIndex + 1));
+      separatorIndex = path.indexOf('/', separatorIndex + 1);
+    }
+    if (!path.endsWith("/")) {
+      paths.add(path);
+    }
+    return paths;
+  }
+
+  // Parses the names out of a `Cookie` HTTP request header, e.g. "a=1; b=2".
+  @NonNull
+  private static List<String> parseCookieNames(@Nullable String cookieHeader) {
+    if (cookieHeader == null || cookieHeader.isEmpty()) {
+      return Collections.emptyList();
+    }
+
+    final List<String> names = new ArrayList<>();
+    for (String cookie : cookieHeader.split(";")) {
+      final int separatorIndex = cookie.indexOf('=');
+      final String name = (separatorIndex >= 0 ? cookie.substring(0, separatorIndex) : cookie);
+      if (!name.trim().isEmpty()) {
+        names.add(name.trim());
+      }
+    }
+    return names;
+  }
+
   /**
    * Removes all cookies from the given cookie manager, using the deprecated (pre-Lollipop)
    * implementation.
@@ -647,6 +647,461 @@ public class GeneratedAndroidWebView {
     }
   }
 
+  /**
+   * Usage statistics of the pool of `WebView`s created ahead of time.
+   *
+   * <p>Generated class from Pigeon that represents data sent in messages.
+   */
+  public static final class WebViewPoolMetrics {
+    /** Maximum number of `WebView`s kept ready in the pool. */
+    private @NonNull Long maxSize;
+
+    public @NonNull Long getMaxSize() {
+      return maxSize;
+    }
+
+    public void setMaxSize(@NonNull Long setterArg) {
+      if (setterArg == null) {
+        throw new IllegalStateException("Nonnull field \"maxSize\" is null.");
+      }
+      this.maxSize = setterArg;
+    }
+
+    /** Number of `WebView`s currently ready in the pool. */
+    private @NonNull Long availableCount;
+
+    public @NonNull Long getAvailableCount() {
+      return availableCount;
+    }
+
+    public void setAvailableCount(@NonNull Long setterArg) {
+      if (setterArg == null) {
+        throw new IllegalStateException("Nonnull field \"availableCount\" is null.");
+      }
+      this.availableCount = setterArg;
+    }
+
+    /** Number of `WebView`s that were taken from the pool. */
+    private @NonNull Long hitCount;
+
+    public @NonNull Long getHitCount() {
+      return hitCount;
+    }
+
+    public void setHitCount(@NonNull Long setterArg) {
+      if (setterArg == null) {
+        throw new IllegalStateException("Nonnull field \"hitCount\" is null.");
+      }
+      this.hitCount = setterArg;
+    }
+
+    /** Number of `WebView`s that were created because the pool was empty. */
+    private @NonNull Long missCount;
+
+    public @NonNull Long getMissCount() {
+      return missCount;
+    }
+
+    public void setMissCount(@NonNull Long setterArg) {
+      if (setterArg == null) {
+        throw new IllegalStateException("Nonnull field \"missCount\" is null.");
+      }
+      this.missCount = setterArg;
+    }
+
+    /** Number of `WebView`s created, both ahead of time and on demand. */
+    private @NonNull Long createdCount;
+
+    public @NonNull Long getCreatedCount() {
+      return createdCount;
+    }
+
+    public void setCreatedCount(@NonNull Long setterArg) {
+      if (setterArg == null) {
+        throw new IllegalStateException("Nonnull field \"createdCount\" is null.");
+      }
+      this.createdCount = setterArg;
+    }
+
+    /** Average time it took to create a `WebView`. */
+    private @NonNull Long averageCreationMicroseconds;
+
+    public @NonNull Long getAverageCreationMicroseconds() {
+      return averageCreationMicroseconds;
+    }
+
+    public void setAverageCreationMicroseconds(@NonNull Long setterArg) {
+      if (setterArg == null) {
+        throw new IllegalStateException("Nonnull field \"averageCreationMicroseconds\" is null.");
+      }
+      this.averageCreationMicroseconds = setterArg;
+    }
+
+    /** Longest time it took to create a `WebView`. */
+    private @NonNull Long maxCreationMicroseconds;
+
+    public @NonNull Long getMaxCreationMicroseconds() {
+      return maxCreationMicroseconds;
+    }
+
+    public void setMaxCreationMicroseconds(@NonNull Long setterArg) {
+      if (setterArg == null) {
+        throw new IllegalStateException("Nonnull field \"maxCreationMicroseconds\" is null.");
+      }
+      this.maxCreationMicroseconds = setterArg;
+    }
+
+    /** Constructor is non-public to enforce null safety; use Builder. */
+    WebViewPoolMetrics() {}
+
+    public static final class Builder {
+
+      private @Nullable Long maxSize;
+
+      public @NonNull Builder setMaxSize(@NonNull Long setterArg) {
+        this.maxSize = setterArg;
+        return this;
+      }
+
+      private @Nullable Long availableCount;
+
+      public @NonNull Builder setAvailableCount(@NonNull Long setterArg) {
+        this.availableCount = setterArg;
+        return this;
+      }
+
+      private @Nullable Long hitCount;
+
+      public @NonNull Builder setHitCount(@NonNull Long setterArg) {
+        this.hitCount = setterArg;
+        return this;
+      }
+
+      private @Nullable Long missCount;
+
+      public @NonNull Builder setMissCount(@NonNull Long setterArg) {
+        this.missCount = setterArg;
+        return this;
+      }
+
+      private @Nullable Long createdCount;
+
+      public @NonNull Builder setCreatedCount(@NonNull Long setterArg) {
+        this.createdCount = setterArg;
+        return this;
+      }
+
+      private @Nullable Long averageCreationMicroseconds;
+
+      public @NonNull Builder setAverageCreationMicroseconds(@NonNull Long setterArg) {
+        this.averageCreationMicroseconds = setterArg;
+        return this;
+      }
+
+      private @Nullable Long maxCreationMicroseconds;
+
+      public @NonNull Builder setMaxCreationMicroseconds(@NonNull Long setterArg) {
+        this.maxCreationMicroseconds = setterArg;
+        return this;
+      }
+
+      public @NonNull WebViewPoolMetrics build() {
+        WebViewPoolMetrics pigeonReturn = new WebViewPoolMetrics();
+        pigeonReturn.setMaxSize(maxSize);
+        pigeonReturn.setAvailableCount(availableCount);
+        pigeonReturn.setHitCount(hitCount);
+        pigeonReturn.setMissCount(missCount);
+        pigeonReturn.setCreatedCount(createdCount);
+        pigeonReturn.setAverageCreationMicroseconds(averageCreationMicroseconds);
+        pigeonReturn.setMaxCreationMicroseconds(maxCreationMicroseconds);
+        return pigeonReturn;
+      }
+    }
+
+    @NonNull
+    ArrayList<Object> toList() {
+      ArrayList<Object> toListResult = new ArrayList<Object>(7);
+      toListResult.add(maxSize);
+      toListResult.add(availableCount);
+      toListResult.add(hitCount);
+      toListResult.add(missCount);
+      toListResult.add(createdCount);
+      toListResult.add(averageCreationMicroseconds);
+      toListResult.add(maxCreationMicroseconds);
+      return toListResult;
+    }
+
+    static @NonNull WebViewPoolMetrics fromList(@NonNull ArrayList<Object> list) {
+      WebViewPoolMetrics pigeonResult = new WebViewPoolMetrics();
+      Object maxSize = list.get(0);
+      pigeonResult.setMaxSize(
+          (maxSize == null)
+              ? null
+              : ((maxSize instanceof Integer) ? (Integer) maxSize : (Long) maxSize));
+      Object availableCount = list.get(1);
+      pigeonResult.setAvailableCount(
+          (availableCount == null)
+              ? null
+              : ((availableCount instanceof Integer)
+                  ? (Integer) availableCount
+                  : (Long) availableCount));
+      Object hitCount = list.get(2);
+      pigeonResult.setHitCount(
+          (hitCount == null)
+              ? null
+              : ((hitCount instanceof Integer) ? (Integer) hitCount : (Long) hitCount));
+      Object missCount = list.get(3);
+      pigeonResult.setMissCount(
+          (missCount == null)
+              ? null
+              : ((missCount instanceof Integer) ? (Integer) missCount : (Long) missCount));
+      Object createdCount = list.get(4);
+      pigeonResult.setCreatedCount(
+          (createdCount == null)
+              ? null
+              : ((createdCount instanceof Integer) ? (Integer) createdCount : (Long) createdCount));
+      Object averageCreationMicroseconds = list.get(5);
+      pigeonResult.setAverageCreationMicroseconds(
+          (averageCreationMicroseconds == null)
+              ? null
+              : ((averageCreationMicroseconds instanceof Integer)
+                  ? (Integer) averageCreationMicroseconds
+                  : (Long) averageCreationMicroseconds));
+      Object maxCreationMicroseconds = list.get(6);
+      pigeonResult.setMaxCreationMicroseconds(
+          (maxCreationMicroseconds == null)
+              ? null
+              : ((maxCreationMicroseconds instanceof Integer)
+                  ? (Integer) maxCreationMicroseconds
+                  : (Long) maxCreationMicroseconds));
+      return pigeonResult;
+    }
+  }
+
+  /**
+   * A cookie set by `CookieManagerHostApi.setCookies`.
+   *
+   * <p>Generated class from Pigeon that represents data sent in messages.
+   */
+  public static final class CookieData {
+    /** The URL for which the cookie is set. */
+    private @NonNull String url;
+
+    public @NonNull String getUrl() {
+      return url;
+    }
+
+    public void setUrl(@NonNull String setterArg) {
+      if (setterArg == null) {
+        throw new IllegalStateException("Nonnull field \"url\" is null.");
+      }
+      this.url = setterArg;
+    }
+
+    /** The cookie in the format of the `Set-Cookie` HTTP response header. */
+    private @NonNull String value;
+
+    public @NonNull String getValue() {
+      return value;
+    }
+
+    public void setValue(@NonNull String setterArg) {
+      if (setterArg == null) {
+        throw new IllegalStateException("Nonnull field \"value\" is null.");
+      }
+      this.value = setterArg;
+    }
+
+    /** Constructor is non-public to enforce null safety; use Builder. */
+    CookieData() {}
+
+    public static final class Builder {
+
+      private @Nullable String url;
+
+      public @NonNull Builder setUrl(@NonNull String setterArg) {
+        this.url = setterArg;
+        return this;
+      }
+
+      private @Nullable String value;
+
+      public @NonNull Builder setValue(@NonNull String setterArg) {
+        this.value = setterArg;
+        return this;
+      }
+
+      public @NonNull CookieData build() {
+        CookieData pigeonReturn = new CookieData();
+        pigeonReturn.setUrl(url);
+        pigeonReturn.setValue(value);
+        return pigeonReturn;
+      }
+    }
+
+    @NonNull
+    ArrayList<Object> toList() {
+      ArrayList<Object> toListResult = new ArrayList<Object>(2);
+      toListResult.add(url);
+      toListResult.add(value);
+      return toListResult;
+    }
+
+    static @NonNull CookieData fromList(@NonNull ArrayList<Object> list) {
+      CookieData pigeonResult = new CookieData();
+      Object url = list.get(0);
+      pigeonResult.setUrl((String) url);
+      Object value = list.get(1);
+      pigeonResult.setValue((String) value);
+      return pigeonResult;
+    }
+  }
+
+  /**
+   * Outcome of a batch of cookie operations performed in a single host call.
+   *
+   * <p>Generated class from Pigeon that represents data sent in messages.
+   */
+  public static final class CookieBatchResult {
+    /** Number of cookies that were set, found or removed. */
+    private @NonNull Long count;
+
+    public @NonNull Long getCount() {
+      return count;
+    }
+
+    public void setCount(@NonNull Long setterArg) {
+      if (setterArg == null) {
+        throw new IllegalStateException("Nonnull field \"count\" is null.");
+      }
+      this.count = setterArg;
+    }
+
+    /**
+     * Cookies of each requested URL, in the format of the `Cookie` HTTP request header.
+     *
+     * <p>Only filled by `CookieManagerHostApi.getCookies`.
+     */
+    private @NonNull Map<String, String> cookies;
+
+    public @NonNull Map<String, String> getCookies() {
+      return cookies;
+    }
+
+    public void setCookies(@NonNull Map<String, String> setterArg) {
+      if (setterArg == null) {
+        throw new IllegalStateException("Nonnull field \"cookies\" is null.");
+      }
+      this.cookies = setterArg;
+    }
+
+    /**
+     * Whether a flush to persistent storage was scheduled in the background once the batch was
+     * done.
+     *
+     * <p>The flush may still be pending when the result is returned. Await
+     * `CookieManagerHostApi.flush` to know the cookies are on disk.
+     */
+    private @NonNull Boolean flushed;
+
+    public @NonNull Boolean getFlushed() {
+      return flushed;
+    }
+
+    public void setFlushed(@NonNull Boolean setterArg) {
+      if (setterArg == null) {
+        throw new IllegalStateException("Nonnull field \"flushed\" is null.");
+      }
+      this.flushed = setterArg;
+    }
+
+    /** Time it took to perform the whole batch on the platform side. */
+    private @NonNull Long elapsedMicroseconds;
+
+    public @NonNull Long getElapsedMicroseconds() {
+      return elapsedMicroseconds;
+    }
+
+    public void setElapsedMicroseconds(@NonNull Long setterArg) {
+      if (setterArg == null) {
+        throw new IllegalStateException("Nonnull field \"elapsedMicroseconds\" is null.");
+      }
+      this.elapsedMicroseconds = setterArg;
+    }
+
+    /** Constructor is non-public to enforce null safety; use Builder. */
+    CookieBatchResult() {}
+
+    public static final class Builder {
+
+      private @Nullable Long count;
+
+      public @NonNull Builder setCount(@NonNull Long setterArg) {
+        this.count = setterArg;
+        return this;
+      }
+
+      private @Nullable Map<String, String> cookies;
+
+      public @NonNull Builder setCookies(@NonNull Map<String, String> setterArg) {
+        this.cookies = setterArg;
+        return this;
+      }
+
+      private @Nullable Boolean flushed;
+
+      public @NonNull Builder setFlushed(@NonNull Boolean setterArg) {
+        this.flushed = setterArg;
+        return this;
+      }
+
+      private @Nullable Long elapsedMicroseconds;
+
+      public @NonNull Builder setElapsedMicroseconds(@NonNull Long setterArg) {
+        this.elapsedMicroseconds = setterArg;
+        return this;
+      }
+
+      public @NonNull CookieBatchResult build() {
+        CookieBatchResult pigeonReturn = new CookieBatchResult();
+        pigeonReturn.setCount(count);
+        pigeonReturn.setCookies(cookies);
+        pigeonReturn.setFlushed(flushed);
+        pigeonReturn.setElapsedMicroseconds(elapsedMicroseconds);
+        return pigeonReturn;
+      }
+    }
+
+    @NonNull
+    ArrayList<Object> toList() {
+      ArrayList<Object> toListResult = new ArrayList<Object>(4);
+      toListResult.add(count);
+      toListResult.add(cookies);
+      toListResult.add(flushed);
+      toListResult.add(elapsedMicroseconds);
+      return toListResult;
+    }
+
+    static @NonNull CookieBatchResult fromList(@NonNull ArrayList<Object> list) {
+      CookieBatchResult pigeonResult = new CookieBatchResult();
+      Object count = list.get(0);
+      pigeonResult.setCount(
+          (count == null) ? null : ((count instanceof Integer) ? (Integer) count : (Long) count));
+      Object cookies = list.get(1);
+      pigeonResult.setCookies((Map<String, String>) cookies);
+      Object flushed = list.get(2);
+      pigeonResult.setFlushed((Boolean) flushed);
+      Object elapsedMicroseconds = list.get(3);
+      pigeonResult.setElapsedMicroseconds(
+          (elapsedMicroseconds == null)
+              ? null
+              : ((elapsedMicroseconds instanceof Integer)
+                  ? (Integer) elapsedMicroseconds
+                  : (Long) elapsedMicroseconds));
+      return pigeonResult;
+    }
+  }
+
   public interface Result<T> {
     @SuppressWarnings("UnknownNullness")
     void success(T result);
@@ -784,6 +1239,37 @@ public class GeneratedAndroidWebView {
           channelReply -> callback.reply(null));
     }
   }
+  private static class CookieManagerHostApiCodec extends StandardMessageCodec {
+    public static final CookieManagerHostApiCodec INSTANCE = new CookieManagerHostApiCodec();
+
+    private CookieManagerHostApiCodec() {}
+
+    @Override
+    protected Object readValueOfType(byte type, @NonNull ByteBuffer buffer) {
+      switch (type) {
+        case (byte) 128:
+          return CookieBatchResult.fromList((ArrayList<Object>) readValue(buffer));
+        case (byte) 129:
+          return CookieData.fromList((ArrayList<Object>) readValue(buffer));
+        default:
+          return super.readValueOfType(type, buffer);
+      }
+    }
+
+    @Override
+    protected void writeValue(@NonNull ByteArrayOutputStream stream, Object value) {
+      if (value instanceof CookieBatchResult) {
+        stream.write(128);
+        writeValue(stream, ((CookieBatchResult) value).toList());
+      } else if (value instanceof CookieData) {
+        stream.write(129);
+        writeValue(stream, ((CookieData) value).toList());
+      } else {
+        super.writeValue(stream, value);
+      }
+    }
+  }
+
   /**
    * Host API for `CookieManager`.
    *
@@ -803,32 +1289,139 @@ public class GeneratedAndroidWebView {
     /** Handles Dart method `CookieManager.setAcceptThirdPartyCookies`. */
     void setAcceptThirdPartyCookies(
         @NonNull Long identifier, @NonNull Long webViewIdentifier, @NonNull Boolean accept);
+    /** Handles Dart method `CookieManager.setCookies`. */
+    void setCookies(
+        @NonNull Long identifier,
+        @NonNull List<CookieData> cookies,
+        @NonNull Boolean flush,
+        @NonNull Result<CookieBatchResult> result);
+    /** Handles Dart method `CookieManager.getCookies`. */
+    @NonNull
+    CookieBatchResult getCookies(@NonNull Long identifier, @NonNull List<String> urls);
+    /** Handles Dart method `CookieManager.removeCookies`. */
+    void removeCookies(
+        @NonNull Long identifier,
+        @NonNull List<String> urls,
+        @NonNull Boolean flush,
+        @NonNull Result<CookieBatchResult> result);
+    /** Handles Dart method `CookieManager.flush`. */
+    void flush(@NonNull Long identifier);
+
+    /** The codec used by CookieManagerHostApi. */
+    static @NonNull MessageCodec<Object> getCodec() {
+      return CookieManagerHostApiCodec.INSTANCE;
+    }
+    /**
+     * Sets up an instance of `CookieManagerHostApi` to handle messages through the
+     * `binaryMessenger`.
+     */
+    static void setup(
+        @NonNull BinaryMessenger binaryMessenger, @Nullable CookieManagerHostApi api) {
+      {
+        BasicMessageChannel<Object> channel =
+            new BasicMessageChannel<>(
+                binaryMessenger,
+                "dev.flutter.pigeon.webview_flutter_android.CookieManagerHostApi.attachInstance",
+                getCodec());
+        if (api != null) {
+          channel.setMessageHandler(
+              (message, reply) -> {
+                ArrayList<Object> wrapped = new ArrayList<Object>();
+                ArrayList<Object> args = (ArrayList<Object>) message;
+                Number instanceIdentifierArg = (Number) args.get(0);
+                try {
+                  api.attachInstance(
+                      (instanceIdentifierArg == null) ? null : instanceIdentifierArg.longValue());
+                  wrapped.add(0, null);
+                } catch (Throwable exception) {
+                  ArrayList<Object> wrappedError = wrapError(exception);
+                  wrapped = wrappedError;
+                }
+                reply.reply(wrapped);
+              });
+        } else {
+          channel.setMessageHandler(null);
+        }
+      }
+      {
+        BasicMessageChannel<Object> channel =
+            new BasicMessageChannel<>(
+                binaryMessenger,
+                "dev.flutter.pigeon.webview_flutter_android.CookieManagerHostApi.setCookie",
+                getCodec());
+        if (api != null) {
+          channel.setMessageHandler(
+              (message, reply) -> {
+                ArrayList<Object> wrapped = new ArrayList<Object>();
+                ArrayList<Object> args = (ArrayList<Object>) message;
+                Number identifierArg = (Number) args.get(0);
+                String urlArg = (String) args.get(1);
+                String valueArg = (String) args.get(2);
+                try {
+                  api.setCookie(
+                      (identifierArg == null) ? null : identifierArg.longValue(), urlArg, valueArg);
+                  wrapped.add(0, null);
+                } catch (Throwable exception) {
+                  ArrayList<Object> wrappedError = wrapError(exception);
+                  wrapped = wrappedError;
+                }
+                reply.reply(wrapped);
+              });
+        } else {
+          channel.setMessageHandler(null);
+        }
+      }
+      {
+        BasicMessageChannel<Object> channel =
+            new BasicMessageChannel<>(
+                binaryMessenger,
+                "dev.flutter.pigeon.webview_flutter_android.CookieManagerHostApi.removeAllCookies",
+                getCodec());
+        if (api != null) {
+          channel.setMessageHandler(
+              (message, reply) -> {
+                ArrayList<Object> wrapped = new ArrayList<Object>();
+                ArrayList<Object> args = (ArrayList<Object>) message;
+                Number identifierArg = (Number) args.get(0);
+                Result<Boolean> resultCallback =
+                    new Result<Boolean>() {
+                      public void success(Boolean result) {
+                        wrapped.add(0, result);
+                        reply.reply(wrapped);
+                      }
 
-    /** The codec used by CookieManagerHostApi. */
-    static @NonNull MessageCodec<Object> getCodec() {
-      return new StandardMessageCodec();
-    }
-    /**
-     * Sets up an instance of `CookieManagerHostApi` to handle messages through the
-     * `binaryMessenger`.
-     */
-    static void setup(
-        @NonNull BinaryMessenger binaryMessenger, @Nullable CookieManagerHostApi api) {
+                      public void error(Throwable error) {
+                        ArrayList<Object> wrappedError = wrapError(error);
+                        reply.reply(wrappedError);
+                      }
+                    };
+
+                api.removeAllCookies(
+                    (identifierArg == null) ? null : identifierArg.longValue(), resultCallback);
+              });
+        } else {
+          channel.setMessageHandler(null);
+        }
+      }
       {
         BasicMessageChannel<Object> channel =
             new BasicMessageChannel<>(
                 binaryMessenger,
-                "dev.flutter.pigeon.webview_flutter_android.CookieManagerHostApi.attachInstance",
+                "dev.flutter.pigeon.webview_flutter_android.CookieManagerHostApi.setAcceptThirdPartyCookies",
                 getCodec());
         if (api != null) {
           channel.setMessageHandler(
               (message, reply) -> {
                 ArrayList<Object> wrapped = new ArrayList<Object>();
                 ArrayList<Object> args = (ArrayList<Object>) message;
-                Number instanceIdentifierArg = (Number) args.get(0);
+                Number identifierArg = (Number) args.get(0);
+                Number webViewIdentifierArg = (Number) args.get(1);
+                Boolean acceptArg = (Boolean) args.get(2);
                 try {
-                  api.attachInstance(
-                      (instanceIdentifierArg == null) ? null : instanceIdentifierArg.longValue());
+                  api.setAcceptThirdPartyCookies(
+                      (identifierArg == null) ? null : identifierArg.longValue(),
+                      (webViewIdentifierArg == null) ? null : webViewIdentifierArg.longValue(),
+                      acceptArg);
                   wrapped.add(0, null);
                 } catch (Throwable exception) {
                   ArrayList<Object> wrappedError = wrapError(exception);
@@ -844,7 +1437,7 @@ public class GeneratedAndroidWebView {
         BasicMessageChannel<Object> channel =
             new BasicMessageChannel<>(
                 binaryMessenger,
-                "dev.flutter.pigeon.webview_flutter_android.CookieManagerHostApi.setCookie",
+                "dev.flutter.pigeon.webview_flutter_android.CookieManagerHostApi.setCookies",
                 getCodec());
         if (api != null) {
           channel.setMessageHandler(
@@ -852,12 +1445,49 @@ public class GeneratedAndroidWebView {
                 ArrayList<Object> wrapped = new ArrayList<Object>();
                 ArrayList<Object> args = (ArrayList<Object>) message;
                 Number identifierArg = (Number) args.get(0);
-                String urlArg = (String) args.get(1);
-                String valueArg = (String) args.get(2);
+                List<CookieData> cookiesArg = (List<CookieData>) args.get(1);
+                Boolean flushArg = (Boolean) args.get(2);
+                Result<CookieBatchResult> resultCallback =
+                    new Result<CookieBatchResult>() {
+                      public void success(CookieBatchResult result) {
+                        wrapped.add(0, result);
+                        reply.reply(wrapped);
+                      }
+
+                      public void error(Throwable error) {
+                        ArrayList<Object> wrappedError = wrapError(error);
+                        reply.reply(wrappedError);
+                      }
+                    };
+
+                api.setCookies(
+                    (identifierArg == null) ? null : identifierArg.longValue(),
+                    cookiesArg,
+                    flushArg,
+                    resultCallback);
+              });
+        } else {
+          channel.setMessageHandler(null);
+        }
+      }
+      {
+        BasicMessageChannel<Object> channel =
+            new BasicMessageChannel<>(
+                binaryMessenger,
+                "dev.flutter.pigeon.webview_flutter_android.CookieManagerHostApi.getCookies",
+                getCodec());
+        if (api != null) {
+          channel.setMessageHandler(
+              (message, reply) -> {
+                ArrayList<Object> wrapped = new ArrayList<Object>();
+                ArrayList<Object> args = (ArrayList<Object>) message;
+                Number identifierArg = (Number) args.get(0);
+                List<String> urlsArg = (List<String>) args.get(1);
                 try {
-                  api.setCookie(
-                      (identifierArg == null) ? null : identifierArg.longValue(), urlArg, valueArg);
-                  wrapped.add(0, null);
+                  CookieBatchResult output =
+                      api.getCookies(
+                          (identifierArg == null) ? null : identifierArg.longValue(), urlsArg);
+                  wrapped.add(0, output);
                 } catch (Throwable exception) {
                   ArrayList<Object> wrappedError = wrapError(exception);
                   wrapped = wrappedError;
@@ -872,7 +1502,7 @@ public class GeneratedAndroidWebView {
         BasicMessageChannel<Object> channel =
             new BasicMessageChannel<>(
                 binaryMessenger,
-                "dev.flutter.pigeon.webview_flutter_android.CookieManagerHostApi.removeAllCookies",
+                "dev.flutter.pigeon.webview_flutter_android.CookieManagerHostApi.removeCookies",
                 getCodec());
         if (api != null) {
           channel.setMessageHandler(
@@ -880,9 +1510,11 @@ public class GeneratedAndroidWebView {
                 ArrayList<Object> wrapped = new ArrayList<Object>();
                 ArrayList<Object> args = (ArrayList<Object>) message;
                 Number identifierArg = (Number) args.get(0);
-                Result<Boolean> resultCallback =
-                    new Result<Boolean>() {
-                      public void success(Boolean result) {
+                List<String> urlsArg = (List<String>) args.get(1);
+                Boolean flushArg = (Boolean) args.get(2);
+                Result<CookieBatchResult> resultCallback =
+                    new Result<CookieBatchResult>() {
+                      public void success(CookieBatchResult result) {
                         wrapped.add(0, result);
                         reply.reply(wrapped);
                       }
@@ -893,8 +1525,11 @@ public class GeneratedAndroidWebView {
                       }
                     };
 
-                api.removeAllCookies(
-                    (identifierArg == null) ? null : identifierArg.longValue(), resultCallback);
+                api.removeCookies(
+                    (identifierArg == null) ? null : identifierArg.longValue(),
+                    urlsArg,
+                    flushArg,
+                    resultCallback);
               });
         } else {
           channel.setMessageHandler(null);
@@ -904,7 +1539,7 @@ public class GeneratedAndroidWebView {
         BasicMessageChannel<Object> channel =
             new BasicMessageChannel<>(
                 binaryMessenger,
-                "dev.flutter.pigeon.webview_flutter_android.CookieManagerHostApi.setAcceptThirdPartyCookies",
+                "dev.flutter.pigeon.webview_flutter_android.CookieManagerHostApi.flush",
                 getCodec());
         if (api != null) {
           channel.setMessageHandler(
@@ -912,13 +1547,8 @@ public class GeneratedAndroidWebView {
                 ArrayList<Object> wrapped = new ArrayList<Object>();
                 ArrayList<Object> args = (ArrayList<Object>) message;
                 Number identifierArg = (Number) args.get(0);
-                Number webViewIdentifierArg = (Number) args.get(1);
-                Boolean acceptArg = (Boolean) args.get(2);
                 try {
-                  api.setAcceptThirdPartyCookies(
-                      (identifierArg == null) ? null : identifierArg.longValue(),
-                      (webViewIdentifierArg == null) ? null : webViewIdentifierArg.longValue(),
-                      acceptArg);
+                  api.flush((identifierArg == null) ? null : identifierArg.longValue());
                   wrapped.add(0, null);
                 } catch (Throwable exception) {
                   ArrayList<Object> wrappedError = wrapError(exception);
@@ -1034,6 +1664,18 @@ public class GeneratedAndroidWebView {
 
     void setBackgroundColor(@NonNull Long instanceId, @NonNull Long color);
 
+    void setScrollChangedCallbackSettings(
+        @NonNull Long instanceId,
+        @NonNull Boolean enabled,
+        @NonNull Long minDelta,
+        @NonNull Long minIntervalMilliseconds);
+
+    void setProgressChangedCallbackSettings(
+        @NonNull Long instanceId,
+        @NonNull Boolean enabled,
+        @NonNull Long minDelta,
+        @NonNull Long minIntervalMilliseconds);
+
     /** The codec used by WebViewHostApi. */
     static @NonNull MessageCodec<Object> getCodec() {
       return WebViewHostApiCodec.INSTANCE;
@@ -1771,6 +2413,74 @@ public class GeneratedAndroidWebView {
           channel.setMessageHandler(null);
         }
       }
+      {
+        BasicMessageChannel<Object> channel =
+            new BasicMessageChannel<>(
+                binaryMessenger,
+                "dev.flutter.pigeon.webview_flutter_android.WebViewHostApi.setScrollChangedCallbackSettings",
+                getCodec());
+        if (api != null) {
+          channel.setMessageHandler(
+              (message, reply) -> {
+                ArrayList<Object> wrapped = new ArrayList<Object>();
+                ArrayList<Object> args = (ArrayList<Object>) message;
+                Number instanceIdArg = (Number) args.get(0);
+                Boolean enabledArg = (Boolean) args.get(1);
+                Number minDeltaArg = (Number) args.get(2);
+                Number minIntervalMillisecondsArg = (Number) args.get(3);
+                try {
+                  api.setScrollChangedCallbackSettings(
+                      (instanceIdArg == null) ? null : instanceIdArg.longValue(),
+                      enabledArg,
+                      (minDeltaArg == null) ? null : minDeltaArg.longValue(),
+                      (minIntervalMillisecondsArg == null)
+                          ? null
+                          : minIntervalMillisecondsArg.longValue());
+                  wrapped.add(0, null);
+                } catch (Throwable exception) {
+                  ArrayList<Object> wrappedError = wrapError(exception);
+                  wrapped = wrappedError;
+                }
+                reply.reply(wrapped);
+              });
+        } else {
+          channel.setMessageHandler(null);
+        }
+      }
+      {
+        BasicMessageChannel<Object> channel =
+            new BasicMessageChannel<>(
+                binaryMessenger,
+                "dev.flutter.pigeon.webview_flutter_android.WebViewHostApi.setProgressChangedCallbackSettings",
+                getCodec());
+        if (api != null) {
+          channel.setMessageHandler(
+              (message, reply) -> {
+                ArrayList<Object> wrapped = new ArrayList<Object>();
+                ArrayList<Object> args = (ArrayList<Object>) message;
+                Number instanceIdArg = (Number) args.get(0);
+                Boolean enabledArg = (Boolean) args.get(1);
+                Number minDeltaArg = (Number) args.get(2);
+                Number minIntervalMillisecondsArg = (Number) args.get(3);
+                try {
+                  api.setProgressChangedCallbackSettings(
+                      (instanceIdArg == null) ? null : instanceIdArg.longValue(),
+                      enabledArg,
+                      (minDeltaArg == null) ? null : minDeltaArg.longValue(),
+                      (minIntervalMillisecondsArg == null)
+                          ? null
+                          : minIntervalMillisecondsArg.longValue());
+                  wrapped.add(0, null);
+                } catch (Throwable exception) {
+                  ArrayList<Object> wrappedError = wrapError(exception);
+                  wrapped = wrappedError;
+                }
+                reply.reply(wrapped);
+              });
+        } else {
+          channel.setMessageHandler(null);
+        }
+      }
     }
   }
   /**
@@ -3823,4 +4533,133 @@ public class GeneratedAndroidWebView {
           channelReply -> callback.reply(null));
     }
   }
+
+  private static class WebViewPoolHostApiCodec extends StandardMessageCodec {
+    public static final WebViewPoolHostApiCodec INSTANCE = new WebViewPoolHostApiCodec();
+
+    private WebViewPoolHostApiCodec() {}
+
+    @Override
+    protected Object readValueOfType(byte type, @NonNull ByteBuffer buffer) {
+      switch (type) {
+        case (byte) 128:
+          return WebViewPoolMetrics.fromList((ArrayList<Object>) readValue(buffer));
+        default:
+          return super.readValueOfType(type, buffer);
+      }
+    }
+
+    @Override
+    protected void writeValue(@NonNull ByteArrayOutputStream stream, Object value) {
+      if (value instanceof WebViewPoolMetrics) {
+        stream.write(128);
+        writeValue(stream, ((WebViewPoolMetrics) value).toList());
+      } else {
+        super.writeValue(stream, value);
+      }
+    }
+  }
+
+  /**
+   * Host API for the pool of `WebView`s created ahead of time.
+   *
+   * <p>See `WebViewPool` in the Java implementation.
+   *
+   * <p>Generated interface from Pigeon that represents a handler of messages from Flutter.
+   */
+  public interface WebViewPoolHostApi {
+    /**
+     * Sets the maximum number of `WebView`s kept ready in the pool.
+     *
+     * <p>A size of 0 disables the pool.
+     */
+    void setMaxSize(@NonNull Long maxSize);
+    /** Destroys all pooled `WebView`s and creates new ones when the main thread is idle. */
+    void clear();
+
+    @NonNull
+    WebViewPoolMetrics getMetrics();
+
+    /** The codec used by WebViewPoolHostApi. */
+    static @NonNull MessageCodec<Object> getCodec() {
+      return WebViewPoolHostApiCodec.INSTANCE;
+    }
+    /**
+     * Sets up an instance of `WebViewPoolHostApi` to handle messages through the
+     * `binaryMessenger`.
+     */
+    static void setup(@NonNull BinaryMessenger binaryMessenger, @Nullable WebViewPoolHostApi api) {
+      {
+        BasicMessageChannel<Object> channel =
+            new BasicMessageChannel<>(
+                binaryMessenger,
+                "dev.flutter.pigeon.webview_flutter_android.WebViewPoolHostApi.setMaxSize",
+                getCodec());
+        if (api != null) {
+          channel.setMessageHandler(
+              (message, reply) -> {
+                ArrayList<Object> wrapped = new ArrayList<Object>();
+                ArrayList<Object> args = (ArrayList<Object>) message;
+                Number maxSizeArg = (Number) args.get(0);
+                try {
+                  api.setMaxSize((maxSizeArg == null) ? null : maxSizeArg.longValue());
+                  wrapped.add(0, null);
+                } catch (Throwable exception) {
+                  ArrayList<Object> wrappedError = wrapError(exception);
+                  wrapped = wrappedError;
+                }
+                reply.reply(wrapped);
+              });
+        } else {
+          channel.setMessageHandler(null);
+        }
+      }
+      {
+        BasicMessageChannel<Object> channel =
+            new BasicMessageChannel<>(
+                binaryMessenger,
+                "dev.flutter.pigeon.webview_flutter_android.WebViewPoolHostApi.clear",
+                getCodec());
+        if (api != null) {
+          channel.setMessageHandler(
+              (message, reply) -> {
+                ArrayList<Object> wrapped = new ArrayList<Object>();
+                try {
+                  api.clear();
+                  wrapped.add(0, null);
+                } catch (Throwable exception) {
+                  ArrayList<Object> wrappedError = wrapError(exception);
+                  wrapped = wrappedError;
+                }
+                reply.reply(wrapped);
+              });
+        } else {
+          channel.setMessageHandler(null);
+        }
+      }
+      {
+        BasicMessageChannel<Object> channel =
+            new BasicMessageChannel<>(
+                binaryMessenger,
+                "dev.flutter.pigeon.webview_flutter_android.WebViewPoolHostApi.getMetrics",
+                getCodec());
+        if (api != null) {
+          channel.setMessageHandler(
+              (message, reply) -> {
+                ArrayList<Object> wrapped = new ArrayList<Object>();
+                try {
+                  WebViewPoolMetrics output = api.getMetrics();
+                  wrapped.add(0, output);
+                } catch (Throwable exception) {
+                  ArrayList<Object> wrappedError = wrapError(exception);
+                  wrapped = wrappedError;
+                }
+                reply.reply(wrapped);
+              });
+        } else {
+          channel.setMessageHandler(null);
+        }
+      }
+    }
+  }
 }
@@ -60,6 +60,10 @@ public class WebChromeClientHostApiImpl implements WebChromeClientHostApi {
 
     @Override
     public void onProgressChanged(@NonNull WebView view, int progress) {
+      if (view instanceof WebViewHostApiImpl.WebViewPlatformView
+          && !((WebViewHostApiImpl.WebViewPlatformView) view).shouldSendProgressChanged(progress)) {
+        return;
+      }
       flutterApi.onProgressChanged(this, view, (long) progress, reply -> {});
     }
 
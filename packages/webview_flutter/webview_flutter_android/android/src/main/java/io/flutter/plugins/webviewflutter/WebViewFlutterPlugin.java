@@ -7,6 +7,7 @@ package io.flutter.plugins.webviewflutter;
 import android.content.Context;
 import android.os.Build;
 import android.os.Handler;
+import android.os.Looper;
 import androidx.annotation.NonNull;
 import androidx.annotation.Nullable;
 import io.flutter.embedding.engine.plugins.FlutterPlugin;
@@ -29,6 +30,7 @@ import io.flutter.plugins.webviewflutter.GeneratedAndroidWebView.WebSettingsHost
 import io.flutter.plugins.webviewflutter.GeneratedAndroidWebView.WebStorageHostApi;
 import io.flutter.plugins.webviewflutter.GeneratedAndroidWebView.WebViewClientHostApi;
 import io.flutter.plugins.webviewflutter.GeneratedAndroidWebView.WebViewHostApi;
+import io.flutter.plugins.webviewflutter.GeneratedAndroidWebView.WebViewPoolHostApi;
 
 /**
  * Java platform implementation of the webview_flutter plugin.
@@ -40,6 +42,8 @@ public class WebViewFlutterPlugin implements FlutterPlugin, ActivityAware {
 
   private FlutterPluginBinding pluginBinding;
   private WebViewHostApiImpl webViewHostApi;
+  private WebViewPool webViewPool;
+  private CookieManagerHostApiImpl cookieManagerHostApi;
   private JavaScriptChannelHostApiImpl javaScriptChannelHostApi;
 
   /**
@@ -67,9 +71,14 @@ public class WebViewFlutterPlugin implements FlutterPlugin, ActivityAware {
     viewRegistry.registerViewFactory(
         "plugins.flutter.io/webview", new FlutterViewFactory(instanceManager));
 
+    webViewPool = new WebViewPool(Looper.myQueue());
     webViewHostApi =
         new WebViewHostApiImpl(
-            instanceManager, binaryMessenger, new WebViewHostApiImpl.WebViewProxy(), context);
+            instanceManager,
+            binaryMessenger,
+            new WebViewHostApiImpl.WebViewProxy(),
+            context,
+            webViewPool);
     javaScriptChannelHostApi =
         new JavaScriptChannelHostApiImpl(
             instanceManager,
@@ -77,8 +86,10 @@ public class WebViewFlutterPlugin implements FlutterPlugin, ActivityAware {
             new JavaScriptChannelFlutterApiImpl(binaryMessenger, instanceManager),
             new Handler(context.getMainLooper()));
 
-    JavaObjectHostApi.setup(binaryMessenger, new JavaObjectHostApiImpl(instanceManager));
+    JavaObjectHostApi.setup(
+        binaryMessenger, new JavaObjectHostApiImpl(instanceManager, webViewPool));
     WebViewHostApi.setup(binaryMessenger, webViewHostApi);
+    WebViewPoolHostApi.setup(binaryMessenger, new WebViewPoolHostApiImpl(webViewPool));
     JavaScriptChannelHostApi.setup(binaryMessenger, javaScriptChannelHostApi);
     WebViewClientHostApi.setup(
         binaryMessenger,
@@ -104,8 +115,8 @@ public class WebViewFlutterPlugin implements FlutterPlugin, ActivityAware {
             instanceManager, new WebSettingsHostApiImpl.WebSettingsCreator()));
     FlutterAssetManagerHostApi.setup(
         binaryMessenger, new FlutterAssetManagerHostApiImpl(flutterAssetManager));
-    CookieManagerHostApi.setup(
-        binaryMessenger, new CookieManagerHostApiImpl(binaryMessenger, instanceManager));
+    cookieManagerHostApi = new CookieManagerHostApiImpl(binaryMessenger, instanceManager);
+    CookieManagerHostApi.setup(binaryMessenger, cookieManagerHostApi);
     WebStorageHostApi.setup(
         binaryMessenger,
         new WebStorageHostApiImpl(instanceManager, new WebStorageHostApiImpl.WebStorageCreator()));
@@ -136,6 +147,14 @@ public class WebViewFlutterPlugin implements FlutterPlugin, ActivityAware {
 
   @Override
   public void onDetachedFromEngine(@NonNull FlutterPluginBinding binding) {
+    if (webViewPool != null) {
+      webViewPool.setMaxSize(0);
+      webViewPool = null;
+    }
+    if (cookieManagerHostApi != null) {
+      cookieManagerHostApi.dispose();
+      cookieManagerHostApi = null;
+    }
     if (instanceManager != null) {
       instanceManager.stopFinalizationListener();
       instanceManager = null;
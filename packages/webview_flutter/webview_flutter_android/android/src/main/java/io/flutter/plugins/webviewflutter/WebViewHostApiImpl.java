@@ -6,11 +6,14 @@ package io.flutter.plugins.webviewflutter;
 
 import android.annotation.SuppressLint;
 import android.content.Context;
+import android.graphics.Color;
 import android.hardware.display.DisplayManager;
 import android.os.Build;
 import android.view.View;
+import android.view.ViewGroup;
 import android.view.ViewParent;
 import android.webkit.WebChromeClient;
+import android.webkit.WebSettings;
 import android.webkit.WebView;
 import android.webkit.WebViewClient;
 import androidx.annotation.ChecksSdkIntAtLeast;
@@ -21,6 +24,7 @@ import io.flutter.embedding.android.FlutterView;
 import io.flutter.plugin.common.BinaryMessenger;
 import io.flutter.plugin.platform.PlatformView;
 import io.flutter.plugins.webviewflutter.GeneratedAndroidWebView.WebViewHostApi;
+import java.util.HashSet;
 import java.util.Map;
 import java.util.Objects;
 
@@ -33,6 +37,7 @@ public class WebViewHostApiImpl implements WebViewHostApi {
   private final InstanceManager instanceManager;
   private final WebViewProxy webViewProxy;
   private final BinaryMessenger binaryMessenger;
+  @Nullable private final WebViewPool webViewPool;
 
   private Context context;
 
@@ -75,8 +80,23 @@ public class WebViewHostApiImpl implements WebViewHostApi {
     private WebViewClient currentWebViewClient;
     private WebChromeClientHostApiImpl.SecureWebChromeClient currentWebChromeClient;
 
+    // Names of the JavaScript interfaces that are currently added to this view.
+    private final HashSet<String> javaScriptInterfaceNames = new HashSet<>();
+
     private final @NonNull AndroidSdkChecker sdkChecker;
 
+    private final CallbackThrottle scrollChangedThrottle;
+    private final CallbackThrottle progressChangedThrottle;
+
+    // Latest scroll change that was held back by `scrollChangedThrottle`. It is sent once the
+    // minimum interval has elapsed so Dart always receives the final scroll position.
+    private boolean hasPendingScrollChanged = false;
+    private long pendingScrollLeft;
+    private long pendingScrollTop;
+    private long lastSentScrollLeft;
+    private long lastSentScrollTop;
+    private final Runnable pendingScrollChangedRunnable = this::sendPendingScrollChanged;
+
     // Interface for an injectable SDK version checker.
     @VisibleForTesting
     interface AndroidSdkChecker {
@@ -106,11 +126,30 @@ public class WebViewHostApiImpl implements WebViewHostApi {
         @NonNull BinaryMessenger binaryMessenger,
         @NonNull InstanceManager instanceManager,
         @NonNull AndroidSdkChecker sdkChecker) {
+      this(
+          context,
+          binaryMessenger,
+          instanceManager,
+          sdkChecker,
+          new CallbackThrottle(),
+          new CallbackThrottle());
+    }
+
+    @VisibleForTesting
+    WebViewPlatformView(
+        @NonNull Context context,
+        @NonNull BinaryMessenger binaryMessenger,
+        @NonNull InstanceManager instanceManager,
+        @NonNull AndroidSdkChecker sdkChecker,
+        @NonNull CallbackThrottle scrollChangedThrottle,
+        @NonNull CallbackThrottle progressChangedThrottle) {
       super(context);
       currentWebViewClient = new WebViewClient();
       currentWebChromeClient = new WebChromeClientHostApiImpl.SecureWebChromeClient();
       api = new WebViewFlutterApiImpl(binaryMessenger, instanceManager);
       this.sdkChecker = sdkChecker;
+      this.scrollChangedThrottle = scrollChangedThrottle;
+      this.progressChangedThrottle = progressChangedThrottle;
 
       setWebViewClient(currentWebViewClient);
       setWebChromeClient(currentWebChromeClient);
@@ -171,6 +210,19 @@ public class WebViewHostApiImpl implements WebViewHostApi {
       currentWebChromeClient.setWebViewClient(currentWebViewClient);
     }
 
+    @SuppressLint("JavascriptInterface")
+    @Override
+    public void addJavascriptInterface(@NonNull Object object, @NonNull String name) {
+      super.addJavascriptInterface(object, name);
+      javaScriptInterfaceNames.add(name);
+    }
+
+    @Override
+    public void removeJavascriptInterface(@NonNull String name) {
+      super.removeJavascriptInterface(name);
+      javaScriptInterfaceNames.remove(name);
+    }
+
     // When running unit tests, the parent `WebView` class is replaced by a stub that returns null
     // for every method. This is overridden so that this returns the current WebChromeClient during
     // unit tests. This should only remain overridden as long as `setWebChromeClient` is overridden.
@@ -183,8 +235,168 @@ public class WebViewHostApiImpl implements WebViewHostApi {
     @Override
     protected void onScrollChanged(int left, int top, int oldLeft, int oldTop) {
       super.onScrollChanged(left, top, oldLeft, oldTop);
-      api.onScrollChanged(
-          this, (long) left, (long) top, (long) oldLeft, (long) oldTop, reply -> {});
+      if (!scrollChangedThrottle.isEnabled()) {
+        return;
+      }
+
+      if (scrollChangedThrottle.shouldDispatch(left, top)) {
+        if (hasPendingScrollChanged) {
+          // The held back change is superseded by this one, so report the last sent position as
+          // the previous one.
+          oldLeft = (int) lastSentScrollLeft;
+          oldTop = (int) lastSentScrollTop;
+          hasPendingScrollChanged = false;
+          removeCallbacks(pendingScrollChangedRunnable);
+        }
+        sendScrollChanged(left, top, oldLeft, oldTop);
+      } else if (hasPendingScrollChanged) {
+        // Keep the latest position, even if it is close to the last sent one, so the held back
+        // change reports where the scroll ended.
+        pendingScrollLeft = left;
+        pendingScrollTop = top;
+      } else if (scrollChangedThrottle.hasMinDelta(left, top)) {
+        hasPendingScrollChanged = true;
+        pendingScrollLeft = left;
+        pendingScrollTop = top;
+        postDelayed(pendingScrollChangedRunnable, scrollChangedThrottle.millisUntilNextDispatch());
+      }
+    }
+
+    private void sendPendingScrollChanged() {
+      if (!hasPendingScrollChanged) {
+        return;
+      }
+      hasPendingScrollChanged = false;
+      sendScrollChanged(pendingScrollLeft, pendingScrollTop, lastSentScrollLeft, lastSentScrollTop);
+    }
+
+    private void sendScrollChanged(long left, long top, long oldLeft, long oldTop) {
+      scrollChangedThrottle.onDispatched(left, top);
+      lastSentScrollLeft = left;
+      lastSentScrollTop = top;
+      api.onScrollChanged(this, left, top, oldLeft, oldTop, reply -> {});
+    }
+
+    /**
+     * Sets whether and how often scroll changes of this view are sent to Dart.
+     *
+     * @param enabled whether scroll changes are sent at all
+     * @param minDelta minimum distance in pixels, along either axis, from the last sent position
+     * @param minIntervalMillis minimum time in milliseconds between two sent scroll changes
+     */
+    public void setScrollChangedCallbackSettings(
+        boolean enabled, long minDelta, long minIntervalMillis) {
+      scrollChangedThrottle.configure(enabled, minDelta, minIntervalMillis);
+      hasPendingScrollChanged = false;
+      removeCallbacks(pendingScrollChangedRunnable);
+    }
+
+    /**
+     * Sets whether and how often progress changes of this view are sent to Dart by its {@link
+     * WebChromeClientHostApiImpl.WebChromeClientImpl}.
+     *
+     * <p>A progress of 100 is always sent when enabled, so Dart is notified when a page has
+     * finished loading.
+     *
+     * @param enabled whether progress changes are sent at all
+     * @param minDelta minimum change in percent from the last sent progress
+     * @param minIntervalMillis minimum time in milliseconds between two sent progress changes
+     */
+    public void setProgressChangedCallbackSettings(
+        boolean enabled, long minDelta, long minIntervalMillis) {
+      progressChangedThrottle.configure(enabled, minDelta, minIntervalMillis);
+    }
+
+    /**
+     * Whether a progress change of this view should be sent to Dart.
+     *
+     * <p>Records the progress as sent when this returns true.
+     */
+    boolean shouldSendProgressChanged(int progress) {
+      if (!progressChangedThrottle.isEnabled()) {
+        return false;
+      }
+      if (progress >= 100 || progressChangedThrottle.shouldDispatch(progress, 0)) {
+        progressChangedThrottle.onDispatched(progress, 0);
+        return true;
+      }
+      return false;
+    }
+
+    /**
+     * Resets this view to the state of a newly created {@link WebViewPlatformView}, so it can be
+     * handed out again by a {@link WebViewPool}.
+     */
+    void resetForReuse() {
+      final ViewParent parent = getParent();
+      if (parent instanceof ViewGroup) {
+        ((ViewGroup) parent).removeView(this);
+      }
+
+      stopLoading();
+      // `clearHistory` only drops entries that are committed, so the history is cleared again by
+      // `ResetWebViewClient` once `about:blank` has loaded.
+      setWebViewClient(new ResetWebViewClient());
+      loadUrl("about:blank");
+      clearHistory();
+      clearSslPreferences();
+      clearFormData();
+
+      for (String name : new HashSet<>(javaScriptInterfaceNames)) {
+        removeJavascriptInterface(name);
+      }
+
+      setWebChromeClient(new WebChromeClientHostApiImpl.SecureWebChromeClient());
+      setDownloadListener(null);
+      // Dart has disposed this view, so no callback may reach it until `enableCallbacks` is called
+      // by the next owner. This also cancels a held back scroll change.
+      setScrollChangedCallbackSettings(false, 0, 0);
+      setProgressChangedCallbackSettings(false, 0, 0);
+      scrollTo(0, 0);
+      setBackgroundColor(Color.WHITE);
+
+      // Restores the defaults of every setting that can be changed by `WebSettingsHostApiImpl`.
+      final WebSettings settings = getSettings();
+      settings.setDomStorageEnabled(false);
+      settings.setJavaScriptCanOpenWindowsAutomatically(false);
+      settings.setSupportMultipleWindows(false);
+      settings.setJavaScriptEnabled(false);
+      settings.setUserAgentString(null);
+      settings.setMediaPlaybackRequiresUserGesture(true);
+      settings.setSupportZoom(true);
+      settings.setLoadWithOverviewMode(false);
+      settings.setUseWideViewPort(false);
+      settings.setDisplayZoomControls(true);
+      settings.setBuiltInZoomControls(false);
+      settings.setAllowFileAccess(!sdkChecker.sdkIsAtLeast(Build.VERSION_CODES.R));
+      settings.setTextZoom(100);
+    }
+
+    /**
+     * Sends scroll and progress changes to Dart again with their default settings.
+     *
+     * <p>Called when a {@link WebViewPlatformView} reset by {@link #resetForReuse} is handed out to
+     * a new owner.
+     */
+    void enableCallbacks() {
+      setScrollChangedCallbackSettings(true, 0, 0);
+      setProgressChangedCallbackSettings(true, 0, 0);
+    }
+
+    /**
+     * {@link WebViewClient} of a {@link WebViewPlatformView} reset by {@link #resetForReuse}.
+     *
+     * <p>Clears the history once the `about:blank` page loaded by {@link #resetForReuse} has
+     * finished, so it isn't kept as an entry the next user can go back to.
+     */
+    @VisibleForTesting
+    static class ResetWebViewClient extends WebViewClient {
+      @Override
+      public void onPageFinished(@NonNull WebView view, @NonNull String url) {
+        if ("about:blank".equals(url)) {
+          view.clearHistory();
+        }
+      }
     }
 
     /**
@@ -212,32 +424,72 @@ public class WebViewHostApiImpl implements WebViewHostApi {
       @NonNull BinaryMessenger binaryMessenger,
       @NonNull WebViewProxy webViewProxy,
       @Nullable Context context) {
+    this(instanceManager, binaryMessenger, webViewProxy, context, null);
+  }
+
+  /**
+   * Creates a host API that handles creating {@link WebView}s and invoking its methods.
+   *
+   * @param instanceManager maintains instances stored to communicate with Dart objects
+   * @param binaryMessenger used to communicate with Dart over asynchronous messages
+   * @param webViewProxy handles creating {@link WebView}s and calling its static methods
+   * @param context an Activity Context to access application assets. This value cannot be null.
+   * @param webViewPool provides {@link WebView}s created ahead of time
+   */
+  public WebViewHostApiImpl(
+      @NonNull InstanceManager instanceManager,
+      @NonNull BinaryMessenger binaryMessenger,
+      @NonNull WebViewProxy webViewProxy,
+      @Nullable Context context,
+      @Nullable WebViewPool webViewPool) {
     this.instanceManager = instanceManager;
     this.binaryMessenger = binaryMessenger;
     this.webViewProxy = webViewProxy;
     this.context = context;
+    this.webViewPool = webViewPool;
+    updateWebViewPoolFactory();
   }
 
   /**
    * Sets the context to construct {@link WebView}s.
    *
+   * <p>WebViews pooled with the previous context are destroyed.
+   *
    * @param context the new context.
    */
   public void setContext(@Nullable Context context) {
     this.context = context;
+    if (webViewPool != null) {
+      webViewPool.clear();
+      updateWebViewPoolFactory();
+    }
+  }
+
+  // The pool can only create WebViews ahead of time while a context is available.
+  private void updateWebViewPoolFactory() {
+    if (webViewPool != null) {
+      webViewPool.setWebViewFactory(context != null ? this::createWebView : null);
+    }
   }
 
   @Override
   public void create(@NonNull Long instanceId) {
+    final WebView webView = webViewPool != null ? webViewPool.obtain() : createWebView();
+    instanceManager.addDartCreatedInstance(webView, instanceId);
+  }
+
+  @NonNull
+  private WebViewPlatformView createWebView() {
     DisplayListenerProxy displayListenerProxy = new DisplayListenerProxy();
     DisplayManager displayManager =
         (DisplayManager) context.getSystemService(Context.DISPLAY_SERVICE);
     displayListenerProxy.onPreWebViewInitialization(displayManager);
 
-    final WebView webView = webViewProxy.createWebView(context, binaryMessenger, instanceManager);
+    final WebViewPlatformView webView =
+        webViewProxy.createWebView(context, binaryMessenger, instanceManager);
 
     displayListenerProxy.onPostWebViewInitialization(displayManager);
-    instanceManager.addDartCreatedInstance(webView, instanceId);
+    return webView;
   }
 
   @Override
@@ -422,6 +674,28 @@ public class WebViewHostApiImpl implements WebViewHostApi {
     webView.setBackgroundColor(color.intValue());
   }
 
+  @Override
+  public void setScrollChangedCallbackSettings(
+      @NonNull Long instanceId,
+      @NonNull Boolean enabled,
+      @NonNull Long minDelta,
+      @NonNull Long minIntervalMilliseconds) {
+    final WebViewPlatformView webView =
+        Objects.requireNonNull(instanceManager.getInstance(instanceId));
+    webView.setScrollChangedCallbackSettings(enabled, minDelta, minIntervalMilliseconds);
+  }
+
+  @Override
+  public void setProgressChangedCallbackSettings(
+      @NonNull Long instanceId,
+      @NonNull Boolean enabled,
+      @NonNull Long minDelta,
+      @NonNull Long minIntervalMilliseconds) {
+    final WebViewPlatformView webView =
+        Objects.requireNonNull(instanceManager.getInstance(instanceId));
+    webView.setProgressChangedCallbackSettings(enabled, minDelta, minIntervalMilliseconds);
+  }
+
   /** Maintains instances used to communicate with the corresponding WebView Dart object. */
   @NonNull
   public InstanceManager getInstanceManager() {
@@ -0,0 +1,208 @@
+// Copyright 2013 The Flutter Authors. All rights reserved.
+// Use of this source code is governed by a BSD-style license that can be
+// found in the LICENSE file.
+
+package io.flutter.plugins.webviewflutter;
+
+import android.os.MessageQueue;
+import android.os.SystemClock;
+import androidx.annotation.NonNull;
+import androidx.annotation.Nullable;
+import androidx.annotation.VisibleForTesting;
+import io.flutter.plugins.webviewflutter.WebViewHostApiImpl.WebViewPlatformView;
+import java.util.ArrayDeque;
+
+/**
+ * Pool of {@link WebViewPlatformView}s that are created ahead of time.
+ *
+ * <p>Creating the first {@link android.webkit.WebView} of a process starts the Chromium renderer,
+ * which can take several hundred milliseconds. The pool creates {@link WebViewPlatformView}s while
+ * the main thread is idle, hands them out to {@link WebViewHostApiImpl#create} and takes them back
+ * when Dart disposes them.
+ *
+ * <p>The pool is disabled until {@link #setMaxSize} is called with a positive size.
+ */
+public class WebViewPool {
+  /** Creates the {@link WebViewPlatformView}s held by the pool. */
+  public interface WebViewFactory {
+    @NonNull
+    WebViewPlatformView createWebView();
+  }
+
+  /** Source of the current time, in nanoseconds. */
+  @VisibleForTesting
+  interface Clock {
+    long elapsedRealtimeNanos();
+  }
+
+  private final MessageQueue idleQueue;
+  private final Clock clock;
+  private final ArrayDeque<WebViewPlatformView> availableWebViews = new ArrayDeque<>();
+  private final MessageQueue.IdleHandler fillIdleHandler = this::fillOnIdle;
+
+  @Nullable private WebViewFactory webViewFactory;
+  private int maxSize = 0;
+  private boolean isIdleHandlerAdded = false;
+
+  private long hitCount = 0;
+  private long missCount = 0;
+  private long createdCount = 0;
+  private long totalCreationNanos = 0;
+  private long maxCreationNanos = 0;
+
+  /**
+   * Creates an empty, disabled pool.
+   *
+   * @param idleQueue the queue of the main thread, used to create {@link WebViewPlatformView}s
+   *     while it is idle
+   */
+  public WebViewPool(@NonNull MessageQueue idleQueue) {
+    this(idleQueue, SystemClock::elapsedRealtimeNanos);
+  }
+
+  @VisibleForTesting
+  WebViewPool(@NonNull MessageQueue idleQueue, @NonNull Clock clock) {
+    this.idleQueue = idleQueue;
+    this.clock = clock;
+  }
+
+  /**
+   * Sets how the pool creates {@link WebViewPlatformView}s.
+   *
+   * @param webViewFactory creates {@link WebViewPlatformView}s for the pool
+   */
+  public void setWebViewFactory(@Nullable WebViewFactory webViewFactory) {
+    this.webViewFactory = webViewFactory;
+    scheduleFill();
+  }
+
+  /**
+   * Sets the maximum number of {@link WebViewPlatformView}s kept ready in the pool.
+   *
+   * <p>A size of 0 disables the pool and destroys all pooled {@link WebViewPlatformView}s.
+   *
+   * @param maxSize the maximum number of pooled {@link WebViewPlatformView}s
+   */
+  public void setMaxSize(int maxSize) {
+    this.maxSize = Math.max(0, maxSize);
+    while (availableWebViews.size() > this.maxSize) {
+      availableWebViews.removeLast().destroy();
+    }
+    scheduleFill();
+  }
+
+  /** The maximum number of {@link WebViewPlatformView}s kept ready in the pool. */
+  public int getMaxSize() {
+    return maxSize;
+  }
+
+  /**
+   * Takes a {@link WebViewPlatformView} out of the pool, creating one if the pool is empty.
+   *
+   * @return a {@link WebViewPlatformView} ready to be used
+   * @throws IllegalStateException if no {@link WebViewFactory} is set
+   */
+  @NonNull
+  public WebViewPlatformView obtain() {
+    final WebViewPlatformView pooledWebView = availableWebViews.pollFirst();
+    if (pooledWebView != null) {
+      hitCount++;
+      // Drops whatever history the `about:blank` load of `WebViewPlatformView.resetForReuse` has
+      // committed if it hasn't finished yet.
+      pooledWebView.clearHistory();
+      pooledWebView.enableCallbacks();
+      scheduleFill();
+      return pooledWebView;
+    }
+
+    if (maxSize > 0) {
+      missCount++;
+      scheduleFill();
+    }
+    return createWebView();
+  }
+
+  /**
+   * Returns a {@link WebViewPlatformView} to the pool once Dart no longer uses it.
+   *
+   * <p>The {@link WebViewPlatformView} is reset so none of its history, clients or JavaScript
+   * channels leak to its next user. If the pool is full, the {@link WebViewPlatformView} is
+   * destroyed instead.
+   *
+   * @param webView the {@link WebViewPlatformView} to return
+   */
+  public void recycle(@NonNull WebViewPlatformView webView) {
+    if (availableWebViews.size() >= maxSize || availableWebViews.contains(webView)) {
+      webView.destroy();
+      return;
+    }
+    webView.resetForReuse();
+    availableWebViews.addLast(webView);
+  }
+
+  /** Destroys all pooled {@link WebViewPlatformView}s and creates new ones when idle. */
+  public void clear() {
+    while (!availableWebViews.isEmpty()) {
+      availableWebViews.removeFirst().destroy();
+    }
+    scheduleFill();
+  }
+
+  /** The number of {@link WebViewPlatformView}s currently ready in the pool. */
+  public int getAvailableCount() {
+    return availableWebViews.size();
+  }
+
+  /** Creates a snapshot of the usage statistics of the pool. */
+  @NonNull
+  public GeneratedAndroidWebView.WebViewPoolMetrics getMetrics() {
+    return new GeneratedAndroidWebView.WebViewPoolMetrics.Builder()
+        .setMaxSize((long) maxSize)
+        .setAvailableCount((long) availableWebViews.size())
+        .setHitCount(hitCount)
+        .setMissCount(missCount)
+        .setCreatedCount(createdCount)
+        .setAverageCreationMicroseconds(
+            createdCount == 0 ? 0L : totalCreationNanos / createdCount / 1000)
+        .setMaxCreationMicroseconds(maxCreationNanos / 1000)
+        .build();
+  }
+
+  @NonNull
+  private WebViewPlatformView createWebView() {
+    if (webViewFactory == null) {
+      throw new IllegalStateException("A WebViewFactory must be set to create WebViews.");
+    }
+
+    final long startNanos = clock.elapsedRealtimeNanos();
+    final WebViewPlatformView webView = webViewFactory.createWebView();
+    final long durationNanos = clock.elapsedRealtimeNanos() - startNanos;
+
+    createdCount++;
+    totalCreationNanos += durationNanos;
+    maxCreationNanos = Math.max(maxCreationNanos, durationNanos);
+    return webView;
+  }
+
+  private void scheduleFill() {
+    if (!isIdleHandlerAdded && webViewFactory != null && availableWebViews.size() < maxSize) {
+      isIdleHandlerAdded = true;
+      idleQueue.addIdleHandler(fillIdleHandler);
+    }
+  }
+
+  // Creates at most one WebView per idle pass so a single pass never blocks the main thread for
+  // longer than one WebView creation. Returning true keeps the handler for the next pass.
+  @VisibleForTesting
+  boolean fillOnIdle() {
+    if (webViewFactory == null || availableWebViews.size() >= maxSize) {
+      isIdleHandlerAdded = false;
+      return false;
+    }
+
+    availableWebViews.addLast(createWebView());
+
+    isIdleHandlerAdded = availableWebViews.size() < maxSize;
+    return isIdleHandlerAdded;
+  }
+}
@@ -0,0 +1,44 @@
+// Copyright 2013 The Flutter Authors. All rights reserved.
+// Use of this source code is governed by a BSD-style license that can be
+// found in the LICENSE file.
+
+package io.flutter.plugins.webviewflutter;
+
+import androidx.annotation.NonNull;
+import io.flutter.plugins.webviewflutter.GeneratedAndroidWebView.WebViewPoolHostApi;
+import io.flutter.plugins.webviewflutter.GeneratedAndroidWebView.WebViewPoolMetrics;
+
+/**
+ * Host api implementation for {@link WebViewPool}.
+ *
+ * <p>Handles configuring the pool of {@link android.webkit.WebView}s that are created ahead of
+ * time.
+ */
+public class WebViewPoolHostApiImpl implements WebViewPoolHostApi {
+  private final WebViewPool webViewPool;
+
+  /**
+   * Creates a host API that handles configuring a {@link WebViewPool}.
+   *
+   * @param webViewPool the pool shared with {@link WebViewHostApiImpl}
+   */
+  public WebViewPoolHostApiImpl(@NonNull WebViewPool webViewPool) {
+    this.webViewPool = webViewPool;
+  }
+
+  @Override
+  public void setMaxSize(@NonNull Long maxSize) {
+    webViewPool.setMaxSize(maxSize.intValue());
+  }
+
+  @Override
+  public void clear() {
+    webViewPool.clear();
+  }
+
+  @NonNull
+  @Override
+  public WebViewPoolMetrics getMetrics() {
+    return webViewPool.getMetrics();
+  }
+}
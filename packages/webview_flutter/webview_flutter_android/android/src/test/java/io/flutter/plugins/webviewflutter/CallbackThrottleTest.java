@@ -0,0 +1,76 @@
+// Copyright 2013 The Flutter Authors. All rights reserved.
+// Use of this source code is governed by a BSD-style license that can be
+// found in the LICENSE file.
+
+package io.flutter.plugins.webviewflutter;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import org.junit.Test;
+
+public class CallbackThrottleTest {
+  private long currentTimeMillis = 0;
+
+  @Test
+  public void dispatchesEveryCallbackByDefault() {
+    final CallbackThrottle throttle = new CallbackThrottle(() -> currentTimeMillis);
+
+    assertTrue(throttle.shouldDispatch(0, 0));
+    throttle.onDispatched(0, 0);
+    assertTrue(throttle.shouldDispatch(0, 1));
+    throttle.onDispatched(0, 1);
+    assertTrue(throttle.shouldDispatch(0, 1));
+  }
+
+  @Test
+  public void doesNotDispatchWhenDisabled() {
+    final CallbackThrottle throttle = new CallbackThrottle(() -> currentTimeMillis);
+    throttle.configure(false, 0, 0);
+
+    assertFalse(throttle.isEnabled());
+    assertFalse(throttle.shouldDispatch(0, 0));
+  }
+
+  @Test
+  public void waitsForMinDelta() {
+    final CallbackThrottle throttle = new CallbackThrottle(() -> currentTimeMillis);
+    throttle.configure(true, 10, 0);
+
+    assertTrue(throttle.shouldDispatch(0, 0));
+    throttle.onDispatched(0, 0);
+
+    assertFalse(throttle.shouldDispatch(5, 9));
+    assertTrue(throttle.shouldDispatch(0, 10));
+    assertTrue(throttle.shouldDispatch(-10, 0));
+  }
+
+  @Test
+  public void waitsForMinInterval() {
+    final CallbackThrottle throttle = new CallbackThrottle(() -> currentTimeMillis);
+    throttle.configure(true, 0, 100);
+
+    assertTrue(throttle.shouldDispatch(0, 0));
+    throttle.onDispatched(0, 0);
+
+    currentTimeMillis = 60;
+    assertFalse(throttle.shouldDispatch(0, 50));
+    assertEquals(40, throttle.millisUntilNextDispatch());
+
+    currentTimeMillis = 100;
+    assertTrue(throttle.shouldDispatch(0, 50));
+    assertEquals(0, throttle.millisUntilNextDispatch());
+  }
+
+  @Test
+  public void configureResetsLastDispatchedValue() {
+    final CallbackThrottle throttle = new CallbackThrottle(() -> currentTimeMillis);
+    throttle.configure(true, 10, 100);
+    throttle.onDispatched(0, 0);
+
+    throttle.configure(true, 10, 100);
+
+    assertTrue(throttle.shouldDispatch(0, 1));
+  }
+}
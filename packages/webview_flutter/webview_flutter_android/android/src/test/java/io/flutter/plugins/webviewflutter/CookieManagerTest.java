@@ -5,7 +5,15 @@
 package io.flutter.plugins.webviewflutter;
 
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
@@ -15,6 +23,13 @@ import android.webkit.ValueCallback;
 import android.webkit.WebView;
 import androidx.annotation.NonNull;
 import io.flutter.plugin.common.BinaryMessenger;
+import io.flutter.plugins.webviewflutter.GeneratedAndroidWebView.CookieBatchResult;
+import io.flutter.plugins.webviewflutter.GeneratedAndroidWebView.CookieData;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
 import org.junit.After;
 import org.junit.Before;
 import org.junit.Rule;
@@ -129,4 +144,258 @@ public class CookieManagerTest {
 
     verify(mockCookieManager).setAcceptThirdPartyCookies(mockWebView, accept);
   }
+
+  @SuppressWarnings({"rawtypes", "unchecked"})
+  @Test
+  public void setCookies() {
+    final long instanceIdentifier = 0;
+    instanceManager.addDartCreatedInstance(mockCookieManager, instanceIdentifier);
+
+    final CookieManagerHostApiImpl hostApi =
+        new CookieManagerHostApiImpl(
+            mockBinaryMessenger,
+            instanceManager,
+            new CookieManagerHostApiImpl.CookieManagerProxy(),
+            (int version) -> version <= Build.VERSION_CODES.LOLLIPOP,
+            Runnable::run);
+
+    final List<CookieData> cookies =
+        Arrays.asList(
+            new CookieData.Builder().setUrl("https://a.com").setValue("a=1").build(),
+            new CookieData.Builder().setUrl("https://b.com").setValue("b=2").build());
+
+    final CookieBatchResult[] batchResult = new CookieBatchResult[1];
+    hostApi.setCookies(instanceIdentifier, cookies, true, createResult(batchResult));
+
+    final ArgumentCaptor<ValueCallback> firstCallbackCaptor =
+        ArgumentCaptor.forClass(ValueCallback.class);
+    verify(mockCookieManager)
+        .setCookie(eq("https://a.com"), eq("a=1"), firstCallbackCaptor.capture());
+    final ArgumentCaptor<ValueCallback> secondCallbackCaptor =
+        ArgumentCaptor.forClass(ValueCallback.class);
+    verify(mockCookieManager)
+        .setCookie(eq("https://b.com"), eq("b=2"), secondCallbackCaptor.capture());
+
+    firstCallbackCaptor.getValue().onReceiveValue(true);
+    assertNull(batchResult[0]);
+    verify(mockCookieManager, never()).flush();
+
+    secondCallbackCaptor.getValue().onReceiveValue(false);
+    assertEquals(1L, (long) batchResult[0].getCount());
+    assertTrue(batchResult[0].getFlushed());
+    assertTrue(batchResult[0].getCookies().isEmpty());
+    verify(mockCookieManager, times(1)).flush();
+  }
+
+  @Test
+  public void setCookiesWithEmptyList() {
+    final long instanceIdentifier = 0;
+    instanceManager.addDartCreatedInstance(mockCookieManager, instanceIdentifier);
+
+    final CookieManagerHostApiImpl hostApi =
+        new CookieManagerHostApiImpl(
+            mockBinaryMessenger,
+            instanceManager,
+            new CookieManagerHostApiImpl.CookieManagerProxy(),
+            (int version) -> version <= Build.VERSION_CODES.LOLLIPOP);
+
+    final CookieBatchResult[] batchResult = new CookieBatchResult[1];
+    hostApi.setCookies(
+        instanceIdentifier, Collections.emptyList(), false, createResult(batchResult));
+
+    assertEquals(0L, (long) batchResult[0].getCount());
+    assertFalse(batchResult[0].getFlushed());
+    verify(mockCookieManager, never()).flush();
+  }
+
+  @Test
+  public void getCookies() {
+    final long instanceIdentifier = 0;
+    instanceManager.addDartCreatedInstance(mockCookieManager, instanceIdentifier);
+
+    when(mockCookieManager.getCookie("https://a.com")).thenReturn("a=1; b=2");
+
+    final CookieManagerHostApiImpl hostApi =
+        new CookieManagerHostApiImpl(mockBinaryMessenger, instanceManager);
+
+    final CookieBatchResult batchResult =
+        hostApi.getCookies(instanceIdentifier, Arrays.asList("https://a.com", "https://b.com"));
+
+    assertEquals(2L, (long) batchResult.getCount());
+    assertEquals("a=1; b=2", batchResult.getCookies().get("https://a.com"));
+    assertTrue(batchResult.getCookies().containsKey("https://b.com"));
+    assertNull(batchResult.getCookies().get("https://b.com"));
+  }
+
+  @SuppressWarnings({"rawtypes", "unchecked"})
+  @Test
+  public void removeCookies() {
+    final long instanceIdentifier = 0;
+    instanceManager.addDartCreatedInstance(mockCookieManager, instanceIdentifier);
+
+    when(mockCookieManager.getCookie("https://a.com")).thenReturn("a=1");
+
+    final CookieManagerHostApiImpl hostApi =
+        new CookieManagerHostApiImpl(
+            mockBinaryMessenger,
+            instanceManager,
+            new CookieManagerHostApiImpl.CookieManagerProxy(),
+            (int version) -> version <= Build.VERSION_CODES.LOLLIPOP);
+
+    final CookieBatchResult[] batchResult = new CookieBatchResult[1];
+    hostApi.removeCookies(
+        instanceIdentifier,
+        Collections.singletonList("https://a.com"),
+        false,
+        createResult(batchResult));
+
+    final ArgumentCaptor<ValueCallback> hostOnlyCallbackCaptor =
+        ArgumentCaptor.forClass(ValueCallback.class);
+    verify(mockCookieManager)
+        .setCookie(
+            eq("https://a.com"),
+            eq("a=; Expires=Thu, 01 Jan 1970 00:00:00 GMT; Path=/; Secure"),
+            hostOnlyCallbackCaptor.capture());
+    final ArgumentCaptor<ValueCallback> domainCallbackCaptor =
+        ArgumentCaptor.forClass(ValueCallback.class);
+    verify(mockCookieManager)
+        .setCookie(
+            eq("https://a.com"),
+            eq("a=; Expires=Thu, 01 Jan 1970 00:00:00 GMT; Path=/; Domain=a.com; Secure"),
+            domainCallbackCaptor.capture());
+
+    when(mockCookieManager.getCookie("https://a.com")).thenReturn(null);
+    hostOnlyCallbackCaptor.getValue().onReceiveValue(true);
+    domainCallbackCaptor.getValue().onReceiveValue(true);
+
+    assertEquals(1L, (long) batchResult[0].getCount());
+    assertFalse(batchResult[0].getFlushed());
+    verify(mockCookieManager, never()).flush();
+  }
+
+  @Test
+  public void removeCookiesExpiresCookiesOfParentDomainsAndPaths() {
+    final long instanceIdentifier = 0;
+    instanceManager.addDartCreatedInstance(mockCookieManager, instanceIdentifier);
+
+    when(mockCookieManager.getCookie("http://www.a.com/b/c")).thenReturn("a=1");
+
+    final CookieManagerHostApiImpl hostApi =
+        new CookieManagerHostApiImpl(
+            mockBinaryMessenger,
+            instanceManager,
+            new CookieManagerHostApiImpl.CookieManagerProxy(),
+            (int version) -> version <= Build.VERSION_CODES.LOLLIPOP);
+
+    hostApi.removeCookies(
+        instanceIdentifier,
+        Collections.singletonList("http://www.a.com/b/c"),
+        false,
+        createResult(new CookieBatchResult[1]));
+
+    // Four paths, each without a `Domain` attribute and with two domains.
+    verify(mockCookieManager, times(12)).setCookie(eq("http://www.a.com/b/c"), anyString(), any());
+    verify(mockCookieManager)
+        .setCookie(
+            eq("http://www.a.com/b/c"),
+            eq("a=; Expires=Thu, 01 Jan 1970 00:00:00 GMT; Path=/b/; Domain=a.com"),
+            any());
+    verify(mockCookieManager)
+        .setCookie(
+            eq("http://www.a.com/b/c"),
+            eq("a=; Expires=Thu, 01 Jan 1970 00:00:00 GMT; Path=/b/c; Domain=www.a.com"),
+            any());
+    verify(mockCookieManager)
+        .setCookie(
+            eq("http://www.a.com/b/c"),
+            eq("a=; Expires=Thu, 01 Jan 1970 00:00:00 GMT; Path=/b"),
+            any());
+  }
+
+  @SuppressWarnings({"rawtypes", "unchecked"})
+  @Test
+  public void setCookiesFlushesInBackgroundOncePerPendingFlush() {
+    final long instanceIdentifier = 0;
+    instanceManager.addDartCreatedInstance(mockCookieManager, instanceIdentifier);
+
+    final List<Runnable> queuedFlushes = new ArrayList<>();
+    final CookieManagerHostApiImpl hostApi =
+        new CookieManagerHostApiImpl(
+            mockBinaryMessenger,
+            instanceManager,
+            new CookieManagerHostApiImpl.CookieManagerProxy(),
+            (int version) -> version <= Build.VERSION_CODES.LOLLIPOP,
+            queuedFlushes::add);
+
+    final List<CookieData> cookies =
+        Collections.singletonList(
+            new CookieData.Builder().setUrl("https://a.com").setValue("a=1").build());
+    final ArgumentCaptor<ValueCallback> callbackCaptor =
+        ArgumentCaptor.forClass(ValueCallback.class);
+
+    final CookieBatchResult[] firstResult = new CookieBatchResult[1];
+    hostApi.setCookies(instanceIdentifier, cookies, true, createResult(firstResult));
+    final CookieBatchResult[] secondResult = new CookieBatchResult[1];
+    hostApi.setCookies(instanceIdentifier, cookies, true, createResult(secondResult));
+    verify(mockCookieManager, times(2))
+        .setCookie(eq("https://a.com"), eq("a=1"), callbackCaptor.capture());
+    for (ValueCallback callback : callbackCaptor.getAllValues()) {
+      callback.onReceiveValue(true);
+    }
+
+    assertTrue(firstResult[0].getFlushed());
+    assertTrue(secondResult[0].getFlushed());
+    assertEquals(1, queuedFlushes.size());
+    verify(mockCookieManager, never()).flush();
+
+    queuedFlushes.get(0).run();
+    verify(mockCookieManager).flush();
+  }
+
+  @Test
+  public void disposeShutsDownFlushExecutor() {
+    final ExecutorService mockFlushExecutor = mock(ExecutorService.class);
+    final CookieManagerHostApiImpl hostApi =
+        new CookieManagerHostApiImpl(
+            mockBinaryMessenger,
+            instanceManager,
+            new CookieManagerHostApiImpl.CookieManagerProxy(),
+            (int version) -> version <= Build.VERSION_CODES.LOLLIPOP,
+            mockFlushExecutor);
+
+    hostApi.dispose();
+
+    verify(mockFlushExecutor).shutdown();
+  }
+
+  @Test
+  public void flush() {
+    final long instanceIdentifier = 0;
+    instanceManager.addDartCreatedInstance(mockCookieManager, instanceIdentifier);
+
+    final CookieManagerHostApiImpl hostApi =
+        new CookieManagerHostApiImpl(
+            mockBinaryMessenger,
+            instanceManager,
+            new CookieManagerHostApiImpl.CookieManagerProxy(),
+            (int version) -> version <= Build.VERSION_CODES.LOLLIPOP);
+
+    hostApi.flush(instanceIdentifier);
+
+    verify(mockCookieManager).flush();
+  }
+
+  @NonNull
+  private static GeneratedAndroidWebView.Result<CookieBatchResult> createResult(
+      @NonNull CookieBatchResult[] batchResult) {
+    return new GeneratedAndroidWebView.Result<CookieBatchResult>() {
+      @Override
+      public void success(CookieBatchResult result) {
+        batchResult[0] = result;
+      }
+
+      @Override
+      public void error(@NonNull Throwable error) {}
+    };
+  }
 }
@@ -5,6 +5,9 @@
 package io.flutter.plugins.webviewflutter;
 
 import static org.junit.Assert.assertNull;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
 
 import org.junit.Test;
 
@@ -29,4 +32,25 @@ public class JavaObjectHostApiTest {
 
     instanceManager.stopFinalizationListener();
   }
+
+  @Test
+  public void disposeRecyclesWebViewIntoPool() {
+    final InstanceManager instanceManager = InstanceManager.create(identifier -> {});
+    final WebViewPool mockWebViewPool = mock(WebViewPool.class);
+
+    final JavaObjectHostApiImpl hostApi =
+        new JavaObjectHostApiImpl(instanceManager, mockWebViewPool);
+
+    final WebViewHostApiImpl.WebViewPlatformView mockWebView =
+        mock(WebViewHostApiImpl.WebViewPlatformView.class);
+    instanceManager.addDartCreatedInstance(mockWebView, 0);
+
+    hostApi.dispose(0L);
+
+    verify(mockWebViewPool).recycle(mockWebView);
+    verify(mockWebView, never()).destroy();
+    assertNull(instanceManager.getInstance(0));
+
+    instanceManager.stopFinalizationListener();
+  }
 }
@@ -80,6 +80,17 @@ public class WebChromeClientTest {
     verify(mockFlutterApi).onProgressChanged(eq(webChromeClient), eq(mockWebView), eq(23L), any());
   }
 
+  @Test
+  public void onProgressChangedIsNotSentWhenDisabledForWebView() {
+    final WebViewHostApiImpl.WebViewPlatformView mockPlatformView =
+        mock(WebViewHostApiImpl.WebViewPlatformView.class);
+    when(mockPlatformView.shouldSendProgressChanged(23)).thenReturn(false);
+
+    webChromeClient.onProgressChanged(mockPlatformView, 23);
+
+    verify(mockFlutterApi, never()).onProgressChanged(any(), any(), any(), any());
+  }
+
   @Test
   public void onCreateWindow() {
     final WebView mockOnCreateWindowWebView = mock(WebView.class);
@@ -0,0 +1,58 @@
+// Copyright 2013 The Flutter Authors. All rights reserved.
+// Use of this source code is governed by a BSD-style license that can be
+// found in the LICENSE file.
+
+package io.flutter.plugins.webviewflutter;
+
+import static org.junit.Assert.assertEquals;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.mockito.Mock;
+import org.mockito.junit.MockitoJUnit;
+import org.mockito.junit.MockitoRule;
+
+public class WebViewPoolHostApiImplTest {
+  @Rule public MockitoRule mockitoRule = MockitoJUnit.rule();
+
+  @Mock WebViewPool mockWebViewPool;
+
+  WebViewPoolHostApiImpl testHostApiImpl;
+
+  @Before
+  public void setUp() {
+    testHostApiImpl = new WebViewPoolHostApiImpl(mockWebViewPool);
+  }
+
+  @Test
+  public void setMaxSize() {
+    testHostApiImpl.setMaxSize(3L);
+    verify(mockWebViewPool).setMaxSize(3);
+  }
+
+  @Test
+  public void clear() {
+    testHostApiImpl.clear();
+    verify(mockWebViewPool).clear();
+  }
+
+  @Test
+  public void getMetrics() {
+    final GeneratedAndroidWebView.WebViewPoolMetrics metrics =
+        new GeneratedAndroidWebView.WebViewPoolMetrics.Builder()
+            .setMaxSize(1L)
+            .setAvailableCount(0L)
+            .setHitCount(0L)
+            .setMissCount(0L)
+            .setCreatedCount(0L)
+            .setAverageCreationMicroseconds(0L)
+            .setMaxCreationMicroseconds(0L)
+            .build();
+    when(mockWebViewPool.getMetrics()).thenReturn(metrics);
+
+    assertEquals(metrics, testHostApiImpl.getMetrics());
+  }
+}
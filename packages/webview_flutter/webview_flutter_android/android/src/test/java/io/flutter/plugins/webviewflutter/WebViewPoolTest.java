@@ -0,0 +1,155 @@
+// Copyright 2013 The Flutter Authors. All rights reserved.
+// Use of this source code is governed by a BSD-style license that can be
+// found in the LICENSE file.
+
+package io.flutter.plugins.webviewflutter;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+import android.os.MessageQueue;
+import io.flutter.plugins.webviewflutter.WebViewHostApiImpl.WebViewPlatformView;
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.mockito.Mock;
+import org.mockito.junit.MockitoJUnit;
+import org.mockito.junit.MockitoRule;
+
+public class WebViewPoolTest {
+  @Rule public MockitoRule mockitoRule = MockitoJUnit.rule();
+
+  @Mock MessageQueue mockIdleQueue;
+
+  long currentTimeNanos = 0;
+  int createdWebViewCount = 0;
+
+  WebViewPool testPool;
+
+  @Before
+  public void setUp() {
+    testPool = new WebViewPool(mockIdleQueue, () -> currentTimeNanos);
+    testPool.setWebViewFactory(
+        () -> {
+          createdWebViewCount++;
+          currentTimeNanos += 2000;
+          return mock(WebViewPlatformView.class);
+        });
+  }
+
+  @Test
+  public void poolIsDisabledByDefault() {
+    verify(mockIdleQueue, never()).addIdleHandler(any());
+
+    testPool.obtain();
+    assertEquals(1, createdWebViewCount);
+    assertEquals(0, testPool.getAvailableCount());
+    assertEquals(0L, (long) testPool.getMetrics().getMissCount());
+  }
+
+  @Test
+  public void setMaxSizeSchedulesFillOnIdle() {
+    testPool.setMaxSize(2);
+    verify(mockIdleQueue).addIdleHandler(any());
+
+    assertTrue(testPool.fillOnIdle());
+    assertEquals(1, testPool.getAvailableCount());
+
+    assertFalse(testPool.fillOnIdle());
+    assertEquals(2, testPool.getAvailableCount());
+    assertEquals(2, createdWebViewCount);
+  }
+
+  @Test
+  public void obtainReturnsPooledWebView() {
+    testPool.setMaxSize(1);
+    testPool.fillOnIdle();
+
+    final WebViewPlatformView webView = testPool.obtain();
+    verify(webView).clearHistory();
+    verify(webView).enableCallbacks();
+    assertEquals(0, testPool.getAvailableCount());
+    assertEquals(1L, (long) testPool.getMetrics().getHitCount());
+    assertEquals(0L, (long) testPool.getMetrics().getMissCount());
+  }
+
+  @Test
+  public void obtainCreatesWebViewWhenPoolIsEmpty() {
+    testPool.setMaxSize(1);
+
+    testPool.obtain();
+    assertEquals(1, createdWebViewCount);
+    assertEquals(0L, (long) testPool.getMetrics().getHitCount());
+    assertEquals(1L, (long) testPool.getMetrics().getMissCount());
+  }
+
+  @Test
+  public void recycleResetsWebView() {
+    testPool.setMaxSize(1);
+    final WebViewPlatformView webView = testPool.obtain();
+
+    testPool.recycle(webView);
+    verify(webView).resetForReuse();
+    verify(webView, never()).destroy();
+    assertEquals(1, testPool.getAvailableCount());
+  }
+
+  @Test
+  public void recycleDestroysWebViewWhenPoolIsFull() {
+    final WebViewPlatformView webView = testPool.obtain();
+
+    testPool.recycle(webView);
+    verify(webView, never()).resetForReuse();
+    verify(webView).destroy();
+    assertEquals(0, testPool.getAvailableCount());
+  }
+
+  @Test
+  public void setMaxSizeDestroysExtraWebViews() {
+    testPool.setMaxSize(2);
+    final WebViewPlatformView firstWebView = testPool.obtain();
+    final WebViewPlatformView secondWebView = testPool.obtain();
+    testPool.recycle(firstWebView);
+    testPool.recycle(secondWebView);
+
+    testPool.setMaxSize(1);
+    verify(firstWebView, never()).destroy();
+    verify(secondWebView).destroy();
+    assertEquals(1, testPool.getAvailableCount());
+  }
+
+  @Test
+  public void clear() {
+    testPool.setMaxSize(1);
+    final WebViewPlatformView webView = testPool.obtain();
+    testPool.recycle(webView);
+
+    testPool.clear();
+    verify(webView).destroy();
+    assertEquals(0, testPool.getAvailableCount());
+    verify(mockIdleQueue, times(1)).addIdleHandler(any());
+  }
+
+  @Test
+  public void getMetrics() {
+    testPool.setMaxSize(2);
+    testPool.fillOnIdle();
+    testPool.obtain();
+    testPool.obtain();
+
+    final GeneratedAndroidWebView.WebViewPoolMetrics metrics = testPool.getMetrics();
+    assertEquals(2L, (long) metrics.getMaxSize());
+    assertEquals(0L, (long) metrics.getAvailableCount());
+    assertEquals(1L, (long) metrics.getHitCount());
+    assertEquals(1L, (long) metrics.getMissCount());
+    assertEquals(2L, (long) metrics.getCreatedCount());
+    assertEquals(2L, (long) metrics.getAverageCreationMicroseconds());
+    assertEquals(2L, (long) metrics.getMaxCreationMicroseconds());
+  }
+}
@@ -8,8 +8,10 @@ import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertTrue;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.spy;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
@@ -20,6 +22,7 @@ import android.view.View;
 import android.webkit.DownloadListener;
 import android.webkit.ValueCallback;
 import android.webkit.WebChromeClient;
+import android.webkit.WebSettings;
 import android.webkit.WebViewClient;
 import androidx.annotation.NonNull;
 import io.flutter.embedding.android.FlutterView;
@@ -68,6 +71,18 @@ public class WebViewTest {
     testInstanceManager.stopFinalizationListener();
   }
 
+  @Test
+  public void resetWebViewClientClearsHistoryWhenBlankPageFinishes() {
+    final WebViewPlatformView.ResetWebViewClient resetWebViewClient =
+        new WebViewPlatformView.ResetWebViewClient();
+
+    resetWebViewClient.onPageFinished(mockWebView, "https://flutter.dev");
+    verify(mockWebView, never()).clearHistory();
+
+    resetWebViewClient.onPageFinished(mockWebView, "about:blank");
+    verify(mockWebView).clearHistory();
+  }
+
   @Test
   public void loadData() {
     testHostApiImpl.loadData(
@@ -359,6 +374,158 @@ public class WebViewTest {
     verify(mockFlutterView).setImportantForAutofill(View.IMPORTANT_FOR_AUTOFILL_YES);
   }
 
+  @Test
+  public void setScrollChangedCallbackSettings() {
+    testHostApiImpl.setScrollChangedCallbackSettings(0L, true, 8L, 16L);
+    verify(mockWebView).setScrollChangedCallbackSettings(true, 8L, 16L);
+  }
+
+  @Test
+  public void setProgressChangedCallbackSettings() {
+    testHostApiImpl.setProgressChangedCallbackSettings(0L, false, 0L, 0L);
+    verify(mockWebView).setProgressChangedCallbackSettings(false, 0L, 0L);
+  }
+
+  @Test
+  public void onScrollChangedIsNotSentWhenDisabled() {
+    final WebViewFlutterApiImpl mockFlutterApi = mock(WebViewFlutterApiImpl.class);
+    final WebViewPlatformView webView =
+        new WebViewPlatformView(mockContext, mockBinaryMessenger, testInstanceManager);
+    webView.setApi(mockFlutterApi);
+
+    webView.setScrollChangedCallbackSettings(false, 0, 0);
+    webView.onScrollChanged(0, 10, 0, 0);
+
+    verify(mockFlutterApi, never())
+        .onScrollChanged(any(), anyLong(), anyLong(), anyLong(), anyLong(), any());
+  }
+
+  @Test
+  public void onScrollChangedIsCoalescedByMinDelta() {
+    final WebViewFlutterApiImpl mockFlutterApi = mock(WebViewFlutterApiImpl.class);
+    final WebViewPlatformView webView =
+        new WebViewPlatformView(mockContext, mockBinaryMessenger, testInstanceManager);
+    webView.setApi(mockFlutterApi);
+
+    webView.setScrollChangedCallbackSettings(true, 10, 0);
+    webView.onScrollChanged(0, 10, 0, 0);
+    webView.onScrollChanged(0, 15, 0, 10);
+    webView.onScrollChanged(0, 20, 0, 15);
+
+    verify(mockFlutterApi).onScrollChanged(eq(webView), eq(0L), eq(10L), eq(0L), eq(0L), any());
+    verify(mockFlutterApi, never())
+        .onScrollChanged(eq(webView), anyLong(), eq(15L), anyLong(), anyLong(), any());
+    verify(mockFlutterApi).onScrollChanged(eq(webView), eq(0L), eq(20L), eq(0L), eq(15L), any());
+  }
+
+  @Test
+  public void onScrollChangedHeldBackByMinIntervalIsSentLater() {
+    final WebViewFlutterApiImpl mockFlutterApi = mock(WebViewFlutterApiImpl.class);
+    final Runnable[] postedRunnable = {null};
+    final WebViewPlatformView webView =
+        new WebViewPlatformView(mockContext, mockBinaryMessenger, testInstanceManager) {
+          @Override
+          public boolean postDelayed(Runnable action, long delayMillis) {
+            postedRunnable[0] = action;
+            return true;
+          }
+        };
+    webView.setApi(mockFlutterApi);
+
+    webView.setScrollChangedCallbackSettings(true, 0, 10000);
+    webView.onScrollChanged(0, 10, 0, 0);
+    webView.onScrollChanged(0, 20, 0, 10);
+    webView.onScrollChanged(0, 30, 0, 20);
+
+    verify(mockFlutterApi)
+        .onScrollChanged(eq(webView), anyLong(), anyLong(), anyLong(), anyLong(), any());
+
+    Objects.requireNonNull(postedRunnable[0]).run();
+
+    verify(mockFlutterApi).onScrollChanged(eq(webView), eq(0L), eq(30L), eq(0L), eq(10L), any());
+  }
+
+  @Test
+  public void onScrollChangedHeldBackSendsLatestPositionBelowMinDelta() {
+    final WebViewFlutterApiImpl mockFlutterApi = mock(WebViewFlutterApiImpl.class);
+    final Runnable[] postedRunnable = {null};
+    final WebViewPlatformView webView =
+        new WebViewPlatformView(mockContext, mockBinaryMessenger, testInstanceManager) {
+          @Override
+          public boolean postDelayed(Runnable action, long delayMillis) {
+            postedRunnable[0] = action;
+            return true;
+          }
+        };
+    webView.setApi(mockFlutterApi);
+
+    webView.setScrollChangedCallbackSettings(true, 10, 10000);
+    webView.onScrollChanged(0, 10, 0, 0);
+    webView.onScrollChanged(0, 30, 0, 10);
+    webView.onScrollChanged(0, 15, 0, 30);
+
+    Objects.requireNonNull(postedRunnable[0]).run();
+
+    verify(mockFlutterApi).onScrollChanged(eq(webView), eq(0L), eq(15L), eq(0L), eq(10L), any());
+    verify(mockFlutterApi, never())
+        .onScrollChanged(eq(webView), anyLong(), eq(30L), anyLong(), anyLong(), any());
+  }
+
+  @Test
+  public void onScrollChangedIsNotSentAfterResetForReuse() {
+    final WebViewFlutterApiImpl mockFlutterApi = mock(WebViewFlutterApiImpl.class);
+    final Runnable[] postedRunnable = {null};
+    final WebViewPlatformView webView =
+        new WebViewPlatformView(mockContext, mockBinaryMessenger, testInstanceManager) {
+          @Override
+          public boolean postDelayed(Runnable action, long delayMillis) {
+            postedRunnable[0] = action;
+            return true;
+          }
+
+          @NonNull
+          @Override
+          public WebSettings getSettings() {
+            return mock(WebSettings.class);
+          }
+        };
+    webView.setApi(mockFlutterApi);
+
+    webView.setScrollChangedCallbackSettings(true, 0, 10000);
+    webView.onScrollChanged(0, 10, 0, 0);
+    webView.onScrollChanged(0, 20, 0, 10);
+    verify(mockFlutterApi)
+        .onScrollChanged(eq(webView), anyLong(), anyLong(), anyLong(), anyLong(), any());
+
+    webView.resetForReuse();
+    Objects.requireNonNull(postedRunnable[0]).run();
+    webView.onScrollChanged(0, 0, 0, 20);
+    assertFalse(webView.shouldSendProgressChanged(100));
+
+    verify(mockFlutterApi)
+        .onScrollChanged(eq(webView), anyLong(), anyLong(), anyLong(), anyLong(), any());
+
+    webView.enableCallbacks();
+    webView.onScrollChanged(0, 30, 0, 0);
+    verify(mockFlutterApi).onScrollChanged(eq(webView), eq(0L), eq(30L), eq(0L), eq(0L), any());
+  }
+
+  @Test
+  public void shouldSendProgressChangedAlwaysSendsCompletedProgress() {
+    final WebViewPlatformView webView =
+        new WebViewPlatformView(mockContext, mockBinaryMessenger, testInstanceManager);
+
+    webView.setProgressChangedCallbackSettings(true, 50, 0);
+
+    assertTrue(webView.shouldSendProgressChanged(10));
+    assertFalse(webView.shouldSendProgressChanged(40));
+    assertTrue(webView.shouldSendProgressChanged(100));
+
+    webView.setProgressChangedCallbackSettings(false, 0, 0);
+
+    assertFalse(webView.shouldSendProgressChanged(100));
+  }
+
   @Test
   public void onScrollChanged() {
     final InstanceManager instanceManager = InstanceManager.create(identifier -> {});
@@ -379,4 +546,23 @@ public class WebViewTest {
 
     instanceManager.stopFinalizationListener();
   }
+
+  @Test
+  public void createObtainsWebViewFromPool() {
+    final InstanceManager instanceManager = InstanceManager.create(identifier -> {});
+    final WebViewPool mockWebViewPool = mock(WebViewPool.class);
+    final WebViewPlatformView pooledWebView = mock(WebViewPlatformView.class);
+    when(mockWebViewPool.obtain()).thenReturn(pooledWebView);
+
+    final WebViewHostApiImpl hostApi =
+        new WebViewHostApiImpl(
+            instanceManager, mockBinaryMessenger, mockWebViewProxy, mockContext, mockWebViewPool);
+    verify(mockWebViewPool).setWebViewFactory(any());
+
+    hostApi.create(1L);
+
+    assertEquals(pooledWebView, instanceManager.getInstance(1L));
+
+    instanceManager.stopFinalizationListener();
+  }
 }
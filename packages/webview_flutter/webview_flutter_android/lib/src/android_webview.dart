@@ -13,7 +13,13 @@ import 'android_webview_api_impls.dart';
 import 'instance_manager.dart';
 
 export 'android_webview_api_impls.dart'
-    show ConsoleMessage, ConsoleMessageLevel, FileChooserMode;
+    show
+        ConsoleMessage,
+        ConsoleMessageLevel,
+        CookieBatchResult,
+        CookieData,
+        FileChooserMode,
+        WebViewPoolMetrics;
 
 /// Root of the Java class hierarchy.
 ///
@@ -455,6 +461,48 @@ class WebView extends View {
     return api.setBackgroundColorFromInstance(this, color.value);
   }
 
+  /// Sets whether and how often [onScrollChanged] is called.
+  ///
+  /// When [enabled] is false, the native `WebView` doesn't send scroll changes
+  /// at all. Otherwise, a scroll change is only sent once the scroll position
+  /// moved by at least [minDelta] pixels and [minInterval] has elapsed since
+  /// the previous scroll change. A scroll change held back by [minInterval] is
+  /// sent as soon as it has elapsed, so the final scroll position is always
+  /// reported.
+  Future<void> setScrollChangedCallbackSettings({
+    required bool enabled,
+    int minDelta = 0,
+    Duration minInterval = Duration.zero,
+  }) {
+    return api.setScrollChangedCallbackSettingsFromInstance(
+      this,
+      enabled,
+      minDelta,
+      minInterval,
+    );
+  }
+
+  /// Sets whether and how often [WebChromeClient.onProgressChanged] is called
+  /// for this WebView.
+  ///
+  /// When [enabled] is false, the native `WebView` doesn't send progress
+  /// changes at all. Otherwise, a progress change is only sent once the
+  /// progress changed by at least [minDelta] percent and [minInterval] has
+  /// elapsed since the previous progress change. A progress of 100 is always
+  /// sent.
+  Future<void> setProgressChangedCallbackSettings({
+    required bool enabled,
+    int minDelta = 0,
+    Duration minInterval = Duration.zero,
+  }) {
+    return api.setProgressChangedCallbackSettingsFromInstance(
+      this,
+      enabled,
+      minDelta,
+      minInterval,
+    );
+  }
+
   @override
   WebView copy() {
     return WebView.detached(
@@ -537,6 +585,56 @@ class CookieManager extends JavaObject {
     );
   }
 
+  /// Sets multiple cookies in a single platform call.
+  ///
+  /// Each [CookieData.value] follows the format described in [setCookie].
+  ///
+  /// If [flush] is true, the cookies are written to persistent storage in the
+  /// background once all of them are set.
+  ///
+  /// The returned [CookieBatchResult.count] is the number of cookies that were
+  /// set successfully.
+  Future<CookieBatchResult> setCookies(
+    List<CookieData> cookies, {
+    bool flush = false,
+  }) {
+    return _cookieManagerApi.setCookiesFromInstances(this, cookies, flush);
+  }
+
+  /// Retrieves the cookies of multiple URLs in a single platform call.
+  ///
+  /// The returned [CookieBatchResult.cookies] maps each URL to its cookies in
+  /// the format of the `Cookie` HTTP request header, or null if it has none.
+  Future<CookieBatchResult> getCookies(List<String> urls) {
+    return _cookieManagerApi.getCookiesFromInstances(this, urls);
+  }
+
+  /// Removes the cookies that are sent to each of the [urls] in a single
+  /// platform call.
+  ///
+  /// Cookies are removed by replacing them with expired cookies. Since only
+  /// their names are known, an expired cookie is set for every path that
+  /// matches the URL, both without a `Domain` attribute and with the host of
+  /// the URL and each of its parent domains. The expired cookies of `https`
+  /// URLs are `Secure`, so `Secure` and `__Host-` cookies are removed as well.
+  ///
+  /// If [flush] is true, the changes are written to persistent storage in the
+  /// background once all cookies are removed.
+  ///
+  /// The returned [CookieBatchResult.count] is the number of cookies that
+  /// were removed.
+  Future<CookieBatchResult> removeCookies(
+    List<String> urls, {
+    bool flush = false,
+  }) {
+    return _cookieManagerApi.removeCookiesFromInstances(this, urls, flush);
+  }
+
+  /// Writes all cookies that are only kept in memory to persistent storage.
+  Future<void> flush() {
+    return _cookieManagerApi.flushFromInstances(this);
+  }
+
   @override
   CookieManager copy() {
     return CookieManager.detached(
@@ -1675,3 +1773,38 @@ class HttpAuthHandler extends JavaObject {
     return api.useHttpAuthUsernamePasswordFromInstance(this);
   }
 }
+
+/// Manages the pool of [WebView]s that are created ahead of time by the
+/// native side.
+///
+/// Creating the first `WebView` of a process starts the Chromium renderer,
+/// which can take several hundred milliseconds. A pooled [WebView] is created
+/// while the main thread is idle and is reused once it is released.
+///
+/// The pool is disabled by default.
+class WebViewPool {
+  WebViewPool._();
+
+  /// Pigeon Host Api implementation for [WebViewPool].
+  @visibleForTesting
+  static WebViewPoolHostApi api = WebViewPoolHostApi();
+
+  /// Sets the maximum number of [WebView]s kept ready in the pool.
+  ///
+  /// A size of 0 disables the pool and destroys all pooled [WebView]s.
+  static Future<void> setMaxSize(int maxSize) {
+    assert(maxSize >= 0);
+    return api.setMaxSize(maxSize);
+  }
+
+  /// Destroys all pooled [WebView]s and creates new ones when the main thread
+  /// is idle.
+  static Future<void> clear() {
+    return api.clear();
+  }
+
+  /// Retrieves the usage statistics of the pool.
+  static Future<WebViewPoolMetrics> getMetrics() {
+    return api.getMetrics();
+  }
+}
@@ -227,6 +227,142 @@ class ConsoleMessage {
   }
 }
 
+/// Usage statistics of the pool of `WebView`s created ahead of time.
+class WebViewPoolMetrics {
+  WebViewPoolMetrics({
+    required this.maxSize,
+    required this.availableCount,
+    required this.hitCount,
+    required this.missCount,
+    required this.createdCount,
+    required this.averageCreationMicroseconds,
+    required this.maxCreationMicroseconds,
+  });
+
+  /// Maximum number of `WebView`s kept ready in the pool.
+  int maxSize;
+
+  /// Number of `WebView`s currently ready in the pool.
+  int availableCount;
+
+  /// Number of `WebView`s that were taken from the pool.
+  int hitCount;
+
+  /// Number of `WebView`s that were created because the pool was empty.
+  int missCount;
+
+  /// Number of `WebView`s created, both ahead of time and on demand.
+  int createdCount;
+
+  /// Average time it took to create a `WebView`.
+  int averageCreationMicroseconds;
+
+  /// Longest time it took to create a `WebView`.
+  int maxCreationMicroseconds;
+
+  Object encode() {
+    return <Object?>[
+      maxSize,
+      availableCount,
+      hitCount,
+      missCount,
+      createdCount,
+      averageCreationMicroseconds,
+      maxCreationMicroseconds,
+    ];
+  }
+
+  static WebViewPoolMetrics decode(Object result) {
+    result as List<Object?>;
+    return WebViewPoolMetrics(
+      maxSize: result[0]! as int,
+      availableCount: result[1]! as int,
+      hitCount: result[2]! as int,
+      missCount: result[3]! as int,
+      createdCount: result[4]! as int,
+      averageCreationMicroseconds: result[5]! as int,
+      maxCreationMicroseconds: result[6]! as int,
+    );
+  }
+}
+
+/// A cookie set by `CookieManagerHostApi.setCookies`.
+class CookieData {
+  CookieData({
+    required this.url,
+    required this.value,
+  });
+
+  /// The URL for which the cookie is set.
+  String url;
+
+  /// The cookie in the format of the `Set-Cookie` HTTP response header.
+  String value;
+
+  Object encode() {
+    return <Object?>[
+      url,
+      value,
+    ];
+  }
+
+  static CookieData decode(Object result) {
+    result as List<Object?>;
+    return CookieData(
+      url: result[0]! as String,
+      value: result[1]! as String,
+    );
+  }
+}
+
+/// Outcome of a batch of cookie operations performed in a single host call.
+class CookieBatchResult {
+  CookieBatchResult({
+    required this.count,
+    required this.cookies,
+    required this.flushed,
+    required this.elapsedMicroseconds,
+  });
+
+  /// Number of cookies that were set, found or removed.
+  int count;
+
+  /// Cookies of each requested URL, in the format of the `Cookie` HTTP request
+  /// header.
+  ///
+  /// Only filled by `CookieManagerHostApi.getCookies`.
+  Map<String?, String?> cookies;
+
+  /// Whether a flush to persistent storage was scheduled in the background
+  /// once the batch was done.
+  ///
+  /// The flush may still be pending when the result is returned. Await
+  /// `CookieManagerHostApi.flush` to know the cookies are on disk.
+  bool flushed;
+
+  /// Time it took to perform the whole batch on the platform side.
+  int elapsedMicroseconds;
+
+  Object encode() {
+    return <Object?>[
+      count,
+      cookies,
+      flushed,
+      elapsedMicroseconds,
+    ];
+  }
+
+  static CookieBatchResult decode(Object result) {
+    result as List<Object?>;
+    return CookieBatchResult(
+      count: result[0]! as int,
+      cookies: (result[1] as Map<Object?, Object?>?)!.cast<String?, String?>(),
+      flushed: result[2]! as bool,
+      elapsedMicroseconds: result[3]! as int,
+    );
+  }
+}
+
 /// Host API for managing the native `InstanceManager`.
 class InstanceManagerHostApi {
   /// Constructor for [InstanceManagerHostApi].  The [binaryMessenger] named argument is
@@ -336,6 +472,34 @@ abstract class JavaObjectFlutterApi {
   }
 }
 
+class _CookieManagerHostApiCodec extends StandardMessageCodec {
+  const _CookieManagerHostApiCodec();
+  @override
+  void writeValue(WriteBuffer buffer, Object? value) {
+    if (value is CookieBatchResult) {
+      buffer.putUint8(128);
+      writeValue(buffer, value.encode());
+    } else if (value is CookieData) {
+      buffer.putUint8(129);
+      writeValue(buffer, value.encode());
+    } else {
+      super.writeValue(buffer, value);
+    }
+  }
+
+  @override
+  Object? readValueOfType(int type, ReadBuffer buffer) {
+    switch (type) {
+      case 128:
+        return CookieBatchResult.decode(readValue(buffer)!);
+      case 129:
+        return CookieData.decode(readValue(buffer)!);
+      default:
+        return super.readValueOfType(type, buffer);
+    }
+  }
+}
+
 /// Host API for `CookieManager`.
 ///
 /// This class may handle instantiating and adding native object instances that
@@ -349,7 +513,7 @@ class CookieManagerHostApi {
       : _binaryMessenger = binaryMessenger;
   final BinaryMessenger? _binaryMessenger;
 
-  static const MessageCodec<Object?> codec = StandardMessageCodec();
+  static const MessageCodec<Object?> codec = _CookieManagerHostApiCodec();
 
   /// Handles attaching `CookieManager.instance` to a native instance.
   Future<void> attachInstance(int arg_instanceIdentifier) async {
@@ -454,6 +618,121 @@ class CookieManagerHostApi {
       return;
     }
   }
+
+  /// Handles Dart method `CookieManager.setCookies`.
+  Future<CookieBatchResult> setCookies(
+      int arg_identifier, List<CookieData?> arg_cookies, bool arg_flush) async {
+    final BasicMessageChannel<Object?> channel = BasicMessageChannel<Object?>(
+        'dev.flutter.pigeon.webview_flutter_android.CookieManagerHostApi.setCookies',
+        codec,
+        binaryMessenger: _binaryMessenger);
+    final List<Object?>? replyList =
+        await channel.send(<Object?>[arg_identifier, arg_cookies, arg_flush])
+            as List<Object?>?;
+    if (replyList == null) {
+      throw PlatformException(
+        code: 'channel-error',
+        message: 'Unable to establish connection on channel.',
+      );
+    } else if (replyList.length > 1) {
+      throw PlatformException(
+        code: replyList[0]! as String,
+        message: replyList[1] as String?,
+        details: replyList[2],
+      );
+    } else if (replyList[0] == null) {
+      throw PlatformException(
+        code: 'null-error',
+        message: 'Host platform returned null value for non-null return value.',
+      );
+    } else {
+      return (replyList[0] as CookieBatchResult?)!;
+    }
+  }
+
+  /// Handles Dart method `CookieManager.getCookies`.
+  Future<CookieBatchResult> getCookies(
+      int arg_identifier, List<String?> arg_urls) async {
+    final BasicMessageChannel<Object?> channel = BasicMessageChannel<Object?>(
+        'dev.flutter.pigeon.webview_flutter_android.CookieManagerHostApi.getCookies',
+        codec,
+        binaryMessenger: _binaryMessenger);
+    final List<Object?>? replyList = await channel
+        .send(<Object?>[arg_identifier, arg_urls]) as List<Object?>?;
+    if (replyList == null) {
+      throw PlatformException(
+        code: 'channel-error',
+        message: 'Unable to establish connection on channel.',
+      );
+    } else if (replyList.length > 1) {
+      throw PlatformException(
+        code: replyList[0]! as String,
+        message: replyList[1] as String?,
+        details: replyList[2],
+      );
+    } else if (replyList[0] == null) {
+      throw PlatformException(
+        code: 'null-error',
+        message: 'Host platform returned null value for non-null return value.',
+      );
+    } else {
+      return (replyList[0] as CookieBatchResult?)!;
+    }
+  }
+
+  /// Handles Dart method `CookieManager.removeCookies`.
+  Future<CookieBatchResult> removeCookies(
+      int arg_identifier, List<String?> arg_urls, bool arg_flush) async {
+    final BasicMessageChannel<Object?> channel = BasicMessageChannel<Object?>(
+        'dev.flutter.pigeon.webview_flutter_android.CookieManagerHostApi.removeCookies',
+        codec,
+        binaryMessenger: _binaryMessenger);
+    final List<Object?>? replyList = await channel
+        .send(<Object?>[arg_identifier, arg_urls, arg_flush]) as List<Object?>?;
+    if (replyList == null) {
+      throw PlatformException(
+        code: 'channel-error',
+        message: 'Unable to establish connection on channel.',
+      );
+    } else if (replyList.length > 1) {
+      throw PlatformException(
+        code: replyList[0]! as String,
+        message: replyList[1] as String?,
+        details: replyList[2],
+      );
+    } else if (replyList[0] == null) {
+      throw PlatformException(
+        code: 'null-error',
+        message: 'Host platform returned null value for non-null return value.',
+      );
+    } else {
+      return (replyList[0] as CookieBatchResult?)!;
+    }
+  }
+
+  /// Handles Dart method `CookieManager.flush`.
+  Future<void> flush(int arg_identifier) async {
+    final BasicMessageChannel<Object?> channel = BasicMessageChannel<Object?>(
+        'dev.flutter.pigeon.webview_flutter_android.CookieManagerHostApi.flush',
+        codec,
+        binaryMessenger: _binaryMessenger);
+    final List<Object?>? replyList =
+        await channel.send(<Object?>[arg_identifier]) as List<Object?>?;
+    if (replyList == null) {
+      throw PlatformException(
+        code: 'channel-error',
+        message: 'Unable to establish connection on channel.',
+      );
+    } else if (replyList.length > 1) {
+      throw PlatformException(
+        code: replyList[0]! as String,
+        message: replyList[1] as String?,
+        details: replyList[2],
+      );
+    } else {
+      return;
+    }
+  }
 }
 
 class _WebViewHostApiCodec extends StandardMessageCodec {
@@ -1141,6 +1420,62 @@ class WebViewHostApi {
       return;
     }
   }
+
+  Future<void> setScrollChangedCallbackSettings(int arg_instanceId, bool arg_enabled,
+      int arg_minDelta, int arg_minIntervalMilliseconds) async {
+    final BasicMessageChannel<Object?> channel = BasicMessageChannel<Object?>(
+        'dev.flutter.pigeon.webview_flutter_android.WebViewHostApi.setScrollChangedCallbackSettings',
+        codec,
+        binaryMessenger: _binaryMessenger);
+    final List<Object?>? replyList = await channel.send(<Object?>[
+      arg_instanceId,
+      arg_enabled,
+      arg_minDelta,
+      arg_minIntervalMilliseconds
+    ]) as List<Object?>?;
+    if (replyList == null) {
+      throw PlatformException(
+        code: 'channel-error',
+        message: 'Unable to establish connection on channel.',
+      );
+    } else if (replyList.length > 1) {
+      throw PlatformException(
+        code: replyList[0]! as String,
+        message: replyList[1] as String?,
+        details: replyList[2],
+      );
+    } else {
+      return;
+    }
+  }
+
+  Future<void> setProgressChangedCallbackSettings(int arg_instanceId, bool arg_enabled,
+      int arg_minDelta, int arg_minIntervalMilliseconds) async {
+    final BasicMessageChannel<Object?> channel = BasicMessageChannel<Object?>(
+        'dev.flutter.pigeon.webview_flutter_android.WebViewHostApi.setProgressChangedCallbackSettings',
+        codec,
+        binaryMessenger: _binaryMessenger);
+    final List<Object?>? replyList = await channel.send(<Object?>[
+      arg_instanceId,
+      arg_enabled,
+      arg_minDelta,
+      arg_minIntervalMilliseconds
+    ]) as List<Object?>?;
+    if (replyList == null) {
+      throw PlatformException(
+        code: 'channel-error',
+        message: 'Unable to establish connection on channel.',
+      );
+    } else if (replyList.length > 1) {
+      throw PlatformException(
+        code: replyList[0]! as String,
+        message: replyList[1] as String?,
+        details: replyList[2],
+      );
+    } else {
+      return;
+    }
+  }
 }
 
 /// Flutter API for `WebView`.
@@ -3229,3 +3564,117 @@ abstract class HttpAuthHandlerFlutterApi {
     }
   }
 }
+
+class _WebViewPoolHostApiCodec extends StandardMessageCodec {
+  const _WebViewPoolHostApiCodec();
+  @override
+  void writeValue(WriteBuffer buffer, Object? value) {
+    if (value is WebViewPoolMetrics) {
+      buffer.putUint8(128);
+      writeValue(buffer, value.encode());
+    } else {
+      super.writeValue(buffer, value);
+    }
+  }
+
+  @override
+  Object? readValueOfType(int type, ReadBuffer buffer) {
+    switch (type) {
+      case 128:
+        return WebViewPoolMetrics.decode(readValue(buffer)!);
+      default:
+        return super.readValueOfType(type, buffer);
+    }
+  }
+}
+
+/// Host API for the pool of `WebView`s created ahead of time.
+///
+/// See `WebViewPool` in the Java implementation.
+class WebViewPoolHostApi {
+  /// Constructor for [WebViewPoolHostApi].  The [binaryMessenger] named argument is
+  /// available for dependency injection.  If it is left null, the default
+  /// BinaryMessenger will be used which routes to the host platform.
+  WebViewPoolHostApi({BinaryMessenger? binaryMessenger})
+      : _binaryMessenger = binaryMessenger;
+  final BinaryMessenger? _binaryMessenger;
+
+  static const MessageCodec<Object?> codec = _WebViewPoolHostApiCodec();
+
+  /// Sets the maximum number of `WebView`s kept ready in the pool.
+  ///
+  /// A size of 0 disables the pool.
+  Future<void> setMaxSize(int arg_maxSize) async {
+    final BasicMessageChannel<Object?> channel = BasicMessageChannel<Object?>(
+        'dev.flutter.pigeon.webview_flutter_android.WebViewPoolHostApi.setMaxSize',
+        codec,
+        binaryMessenger: _binaryMessenger);
+    final List<Object?>? replyList =
+        await channel.send(<Object?>[arg_maxSize]) as List<Object?>?;
+    if (replyList == null) {
+      throw PlatformException(
+        code: 'channel-error',
+        message: 'Unable to establish connection on channel.',
+      );
+    } else if (replyList.length > 1) {
+      throw PlatformException(
+        code: replyList[0]! as String,
+        message: replyList[1] as String?,
+        details: replyList[2],
+      );
+    } else {
+      return;
+    }
+  }
+
+  /// Destroys all pooled `WebView`s and creates new ones when the main thread
+  /// is idle.
+  Future<void> clear() async {
+    final BasicMessageChannel<Object?> channel = BasicMessageChannel<Object?>(
+        'dev.flutter.pigeon.webview_flutter_android.WebViewPoolHostApi.clear',
+        codec,
+        binaryMessenger: _binaryMessenger);
+    final List<Object?>? replyList = await channel.send(null) as List<Object?>?;
+    if (replyList == null) {
+      throw PlatformException(
+        code: 'channel-error',
+        message: 'Unable to establish connection on channel.',
+      );
+    } else if (replyList.length > 1) {
+      throw PlatformException(
+        code: replyList[0]! as String,
+        message: replyList[1] as String?,
+        details: replyList[2],
+      );
+    } else {
+      return;
+    }
+  }
+
+  Future<WebViewPoolMetrics> getMetrics() async {
+    final BasicMessageChannel<Object?> channel = BasicMessageChannel<Object?>(
+        'dev.flutter.pigeon.webview_flutter_android.WebViewPoolHostApi.getMetrics',
+        codec,
+        binaryMessenger: _binaryMessenger);
+    final List<Object?>? replyList = await channel.send(null) as List<Object?>?;
+    if (replyList == null) {
+      throw PlatformException(
+        code: 'channel-error',
+        message: 'Unable to establish connection on channel.',
+      );
+    } else if (replyList.length > 1) {
+      throw PlatformException(
+        code: replyList[0]! as String,
+        message: replyList[1] as String?,
+        details: replyList[2],
+      );
+    } else if (replyList[0] == null) {
+      throw PlatformException(
+        code: 'null-error',
+        message: 'Host platform returned null value for non-null return value.',
+      );
+    } else {
+      return (replyList[0] as WebViewPoolMetrics?)!;
+    }
+  }
+}
@@ -11,7 +11,13 @@ import 'android_webview.g.dart';
 import 'instance_manager.dart';
 
 export 'android_webview.g.dart'
-    show ConsoleMessage, ConsoleMessageLevel, FileChooserMode;
+    show
+        ConsoleMessage,
+        ConsoleMessageLevel,
+        CookieBatchResult,
+        CookieData,
+        FileChooserMode,
+        WebViewPoolMetrics;
 
 /// Converts [WebResourceRequestData] to [WebResourceRequest]
 WebResourceRequest _toWebResourceRequest(WebResourceRequestData data) {
@@ -390,6 +396,36 @@ class WebViewHostApiImpl extends WebViewHostApi {
   Future<void> setBackgroundColorFromInstance(WebView instance, int color) {
     return setBackgroundColor(instanceManager.getIdentifier(instance)!, color);
   }
+
+  /// Helper method to convert instances ids to objects.
+  Future<void> setScrollChangedCallbackSettingsFromInstance(
+    WebView instance,
+    bool enabled,
+    int minDelta,
+    Duration minInterval,
+  ) {
+    return setScrollChangedCallbackSettings(
+      instanceManager.getIdentifier(instance)!,
+      enabled,
+      minDelta,
+      minInterval.inMilliseconds,
+    );
+  }
+
+  /// Helper method to convert instances ids to objects.
+  Future<void> setProgressChangedCallbackSettingsFromInstance(
+    WebView instance,
+    bool enabled,
+    int minDelta,
+    Duration minInterval,
+  ) {
+    return setProgressChangedCallbackSettings(
+      instanceManager.getIdentifier(instance)!,
+      enabled,
+      minDelta,
+      minInterval.inMilliseconds,
+    );
+  }
 }
 
 /// Flutter API implementation for [WebView].
@@ -1526,6 +1562,45 @@ class CookieManagerHostApiImpl extends CookieManagerHostApi {
       accept,
     );
   }
+
+  /// Helper method to convert instance ids to objects.
+  Future<CookieBatchResult> setCookiesFromInstances(
+    CookieManager instance,
+    List<CookieData> cookies,
+    bool flush,
+  ) {
+    return setCookies(
+      instanceManager.getIdentifier(instance)!,
+      cookies,
+      flush,
+    );
+  }
+
+  /// Helper method to convert instance ids to objects.
+  Future<CookieBatchResult> getCookiesFromInstances(
+    CookieManager instance,
+    List<String> urls,
+  ) {
+    return getCookies(instanceManager.getIdentifier(instance)!, urls);
+  }
+
+  /// Helper method to convert instance ids to objects.
+  Future<CookieBatchResult> removeCookiesFromInstances(
+    CookieManager instance,
+    List<String> urls,
+    bool flush,
+  ) {
+    return removeCookies(
+      instanceManager.getIdentifier(instance)!,
+      urls,
+      flush,
+    );
+  }
+
+  /// Helper method to convert instance ids to objects.
+  Future<void> flushFromInstances(CookieManager instance) {
+    return flush(instanceManager.getIdentifier(instance)!);
+  }
 }
 
 /// Host api implementation for [HttpAuthHandler].
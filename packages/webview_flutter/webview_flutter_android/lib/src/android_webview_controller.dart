@@ -91,6 +91,11 @@ class AndroidWebViewController extends PlatformWebViewController {
     _webView.settings.setDisplayZoomControls(false);
     _webView.settings.setBuiltInZoomControls(true);
 
+    // Scroll and progress changes are only sent by the native WebView once a
+    // callback that handles them is set.
+    _webView.setScrollChangedCallbackSettings(enabled: false);
+    _webView.setProgressChangedCallbackSettings(enabled: false);
+
     _webView.setWebChromeClient(_webChromeClient);
   }
 
@@ -351,6 +356,12 @@ class AndroidWebViewController extends PlatformWebViewController {
   void Function(ScrollPositionChange scrollPositionChange)?
       _onScrollPositionChangedCallback;
 
+  int _scrollChangedMinDelta = 0;
+  Duration _scrollChangedMinInterval = Duration.zero;
+
+  int _progressChangedMinDelta = 0;
+  Duration _progressChangedMinInterval = Duration.zero;
+
   /// Whether to enable the platform's webview content debugging tools.
   ///
   /// Defaults to false.
@@ -362,6 +373,43 @@ class AndroidWebViewController extends PlatformWebViewController {
     return webViewProxy.setWebContentsDebuggingEnabled(enabled);
   }
 
+  /// Sets the maximum number of native `WebView`s that are created ahead of
+  /// time and kept ready for new [AndroidWebViewController]s.
+  ///
+  /// Creating the first `WebView` of a process can take several hundred
+  /// milliseconds. Pooled `WebView`s are created while the platform thread is
+  /// idle and are reset and reused once their controller is garbage
+  /// collected.
+  ///
+  /// A size of 0 disables the pool. Defaults to 0.
+  static Future<void> setWebViewPoolSize(int maxSize) {
+    return android_webview.WebViewPool.setMaxSize(maxSize);
+  }
+
+  /// Destroys all native `WebView`s kept ready in the pool.
+  ///
+  /// New `WebView`s are created when the platform thread is idle, up to the
+  /// size set with [setWebViewPoolSize].
+  static Future<void> clearWebViewPool() {
+    return android_webview.WebViewPool.clear();
+  }
+
+  /// Retrieves the usage statistics of the pool of native `WebView`s.
+  static Future<AndroidWebViewPoolMetrics> getWebViewPoolMetrics() async {
+    final android_webview.WebViewPoolMetrics metrics =
+        await android_webview.WebViewPool.getMetrics();
+    return AndroidWebViewPoolMetrics._(
+      maxSize: metrics.maxSize,
+      availableCount: metrics.availableCount,
+      hitCount: metrics.hitCount,
+      missCount: metrics.missCount,
+      createdCount: metrics.createdCount,
+      averageCreationTime:
+          Duration(microseconds: metrics.averageCreationMicroseconds),
+      maxCreationTime: Duration(microseconds: metrics.maxCreationMicroseconds),
+    );
+  }
+
   /// Identifier used to retrieve the underlying native `WKWebView`.
   ///
   /// This is typically used by other plugins to retrieve the native `WebView`
@@ -474,11 +522,19 @@ class AndroidWebViewController extends PlatformWebViewController {
   @override
   Future<void> setPlatformNavigationDelegate(
       covariant AndroidNavigationDelegate handler) async {
+    _currentNavigationDelegate?._onProgressCallbackChanged = null;
     _currentNavigationDelegate = handler;
+    handler._onProgressCallbackChanged = withWeakReferenceTo(this,
+        (WeakReference<AndroidWebViewController> weakReference) {
+      return () async {
+        await weakReference.target?._updateProgressChangedCallbackSettings();
+      };
+    });
     await Future.wait(<Future<void>>[
       handler.setOnLoadRequest(loadRequest),
       _webView.setWebViewClient(handler.androidWebViewClient),
       _webView.setDownloadListener(handler.androidDownloadListener),
+      _updateProgressChangedCallbackSettings(),
     ]);
   }
 
@@ -575,6 +631,57 @@ class AndroidWebViewController extends PlatformWebViewController {
       void Function(ScrollPositionChange scrollPositionChange)?
           onScrollPositionChange) async {
     _onScrollPositionChangedCallback = onScrollPositionChange;
+    return _updateScrollChangedCallbackSettings();
+  }
+
+  /// Sets how often the callback passed to [setOnScrollPositionChange] is
+  /// called while the page is scrolled.
+  ///
+  /// A scroll position change is only reported once the position moved by at
+  /// least [minDelta] pixels and [minInterval] has elapsed since the previous
+  /// report. The final scroll position is always reported.
+  ///
+  /// Defaults to reporting every scroll position change.
+  Future<void> setOnScrollPositionChangeThrottling({
+    int minDelta = 0,
+    Duration minInterval = Duration.zero,
+  }) {
+    _scrollChangedMinDelta = minDelta;
+    _scrollChangedMinInterval = minInterval;
+    return _updateScrollChangedCallbackSettings();
+  }
+
+  /// Sets how often the progress callback of the current navigation delegate
+  /// is called while a page is loading.
+  ///
+  /// A progress change is only reported once the progress changed by at least
+  /// [minDelta] percent and [minInterval] has elapsed since the previous
+  /// report. A progress of 100 is always reported.
+  ///
+  /// Defaults to reporting every progress change.
+  Future<void> setOnProgressThrottling({
+    int minDelta = 0,
+    Duration minInterval = Duration.zero,
+  }) {
+    _progressChangedMinDelta = minDelta;
+    _progressChangedMinInterval = minInterval;
+    return _updateProgressChangedCallbackSettings();
+  }
+
+  Future<void> _updateScrollChangedCallbackSettings() {
+    return _webView.setScrollChangedCallbackSettings(
+      enabled: _onScrollPositionChangedCallback != null,
+      minDelta: _scrollChangedMinDelta,
+      minInterval: _scrollChangedMinInterval,
+    );
+  }
+
+  Future<void> _updateProgressChangedCallbackSettings() {
+    return _webView.setProgressChangedCallbackSettings(
+      enabled: _currentNavigationDelegate?._onProgress != null,
+      minDelta: _progressChangedMinDelta,
+      minInterval: _progressChangedMinInterval,
+    );
   }
 
   /// Sets the restrictions that apply on automatic media playback.
@@ -1165,6 +1272,44 @@ AndroidViewController _initAndroidView(
   }
 }
 
+/// Usage statistics of the pool of native `WebView`s.
+///
+/// See [AndroidWebViewController.setWebViewPoolSize].
+@immutable
+class AndroidWebViewPoolMetrics {
+  const AndroidWebViewPoolMetrics._({
+    required this.maxSize,
+    required this.availableCount,
+    required this.hitCount,
+    required this.missCount,
+    required this.createdCount,
+    required this.averageCreationTime,
+    required this.maxCreationTime,
+  });
+
+  /// Maximum number of `WebView`s kept ready in the pool.
+  final int maxSize;
+
+  /// Number of `WebView`s currently ready in the pool.
+  final int availableCount;
+
+  /// Number of `WebView`s that were taken from the pool.
+  final int hitCount;
+
+  /// Number of `WebView`s that were created on demand because the pool was
+  /// empty.
+  final int missCount;
+
+  /// Number of `WebView`s created, both ahead of time and on demand.
+  final int createdCount;
+
+  /// Average time it took to create a `WebView`.
+  final Duration averageCreationTime;
+
+  /// Longest time it took to create a `WebView`.
+  final Duration maxCreationTime;
+}
+
 /// Signature for the `loadRequest` callback responsible for loading the [url]
 /// after a navigation request has been approved.
 typedef LoadRequestCallback = Future<void> Function(LoadRequestParams params);
@@ -1450,6 +1595,9 @@ class AndroidNavigationDelegate extends PlatformNavigationDelegate {
   PageEventCallback? _onPageStarted;
   HttpResponseErrorCallback? _onHttpError;
   ProgressCallback? _onProgress;
+  // Lets the controller this delegate is set on enable progress changes once
+  // the progress callback is set.
+  Future<void> Function()? _onProgressCallbackChanged;
   WebResourceErrorCallback? _onWebResourceError;
   NavigationRequestCallback? _onNavigationRequest;
   LoadRequestCallback? _onLoadRequest;
@@ -1539,6 +1687,7 @@ class AndroidNavigationDelegate extends PlatformNavigationDelegate {
     ProgressCallback onProgress,
   ) async {
     _onProgress = onProgress;
+    await _onProgressCallbackChanged?.call();
   }
 
   @override
@@ -53,14 +53,74 @@ class AndroidWebViewCookieManager extends PlatformWebViewCookieManager {
 
   @override
   Future<void> setCookie(WebViewCookie cookie) {
+    return _cookieManager.setCookie(cookie.domain, _toCookieValue(cookie));
+  }
+
+  /// Sets multiple cookies in a single platform call.
+  ///
+  /// This is faster than calling [setCookie] for each cookie, because the
+  /// platform channel is only crossed once.
+  ///
+  /// If [flush] is true, the cookies are written to persistent storage in the
+  /// background once all of them are set, instead of when the platform next
+  /// syncs them.
+  ///
+  /// Throws an [ArgumentError] if the path of any cookie is invalid, before
+  /// any cookie is set.
+  Future<AndroidCookieBatchResult> setCookies(
+    List<WebViewCookie> cookies, {
+    bool flush = false,
+  }) async {
+    final List<CookieData> cookieData = cookies.map((WebViewCookie cookie) {
+      return CookieData(url: cookie.domain, value: _toCookieValue(cookie));
+    }).toList();
+    return AndroidCookieBatchResult._fromCookieBatchResult(
+      await _cookieManager.setCookies(cookieData, flush: flush),
+    );
+  }
+
+  /// Retrieves the cookies of multiple domains in a single platform call.
+  ///
+  /// The returned [AndroidCookieBatchResult.cookies] maps each domain to its
+  /// cookies in the format of the `Cookie` HTTP request header, or null if it
+  /// has none.
+  Future<AndroidCookieBatchResult> getCookies(List<String> domains) async {
+    return AndroidCookieBatchResult._fromCookieBatchResult(
+      await _cookieManager.getCookies(domains),
+    );
+  }
+
+  /// Removes the cookies of multiple domains in a single platform call.
+  ///
+  /// Cookies are removed for each path of the domain's URL and for the host
+  /// and its parent domains, so cookies set by the URL's pages or with a
+  /// `Domain` attribute are removed as well. Cookies that are not sent to the
+  /// URL, such as cookies on another path, are kept.
+  ///
+  /// If [flush] is true, the changes are written to persistent storage in the
+  /// background once all cookies are removed.
+  Future<AndroidCookieBatchResult> removeCookies(
+    List<String> domains, {
+    bool flush = false,
+  }) async {
+    return AndroidCookieBatchResult._fromCookieBatchResult(
+      await _cookieManager.removeCookies(domains, flush: flush),
+    );
+  }
+
+  /// Writes all cookies that are only kept in memory to persistent storage.
+  ///
+  /// Use this after a series of [setCookie] calls to persist them at once.
+  Future<void> flush() {
+    return _cookieManager.flush();
+  }
+
+  String _toCookieValue(WebViewCookie cookie) {
     if (!_isValidPath(cookie.path)) {
       throw ArgumentError(
           'The path property for the provided cookie was not given a legal value.');
     }
-    return _cookieManager.setCookie(
-      cookie.domain,
-      '${Uri.encodeComponent(cookie.name)}=${Uri.encodeComponent(cookie.value)}; path=${cookie.path}',
-    );
+    return '${Uri.encodeComponent(cookie.name)}=${Uri.encodeComponent(cookie.value)}; path=${cookie.path}';
   }
 
   bool _isValidPath(String path) {
@@ -88,3 +148,38 @@ class AndroidWebViewCookieManager extends PlatformWebViewCookieManager {
     return _cookieManager.setAcceptThirdPartyCookies(webView, accept);
   }
 }
+
+/// Outcome of a batch of cookie operations performed by an
+/// [AndroidWebViewCookieManager] in a single platform call.
+@immutable
+class AndroidCookieBatchResult {
+  AndroidCookieBatchResult._fromCookieBatchResult(CookieBatchResult result)
+      : count = result.count,
+        cookies = Map<String, String?>.unmodifiable(
+          result.cookies.map(
+            (String? key, String? value) =>
+                MapEntry<String, String?>(key!, value),
+          ),
+        ),
+        flushed = result.flushed,
+        elapsedTime = Duration(microseconds: result.elapsedMicroseconds);
+
+  /// Number of cookies that were set, found or removed.
+  final int count;
+
+  /// Cookies of each requested domain, in the format of the `Cookie` HTTP
+  /// request header.
+  ///
+  /// Only filled by [AndroidWebViewCookieManager.getCookies].
+  final Map<String, String?> cookies;
+
+  /// Whether a flush to persistent storage was scheduled in the background
+  /// once the batch was done.
+  ///
+  /// The flush may still be pending when the result is returned. Await
+  /// [AndroidWebViewCookieManager.flush] to know the cookies are on disk.
+  final bool flushed;
+
+  /// Time it took to perform the whole batch on the platform side.
+  final Duration elapsedTime;
+}
@@ -143,6 +143,61 @@ class ConsoleMessage {
   late String sourceId;
 }
 
+/// Usage statistics of the pool of `WebView`s created ahead of time.
+class WebViewPoolMetrics {
+  /// Maximum number of `WebView`s kept ready in the pool.
+  late int maxSize;
+
+  /// Number of `WebView`s currently ready in the pool.
+  late int availableCount;
+
+  /// Number of `WebView`s that were taken from the pool.
+  late int hitCount;
+
+  /// Number of `WebView`s that were created because the pool was empty.
+  late int missCount;
+
+  /// Number of `WebView`s created, both ahead of time and on demand.
+  late int createdCount;
+
+  /// Average time it took to create a `WebView`.
+  late int averageCreationMicroseconds;
+
+  /// Longest time it took to create a `WebView`.
+  late int maxCreationMicroseconds;
+}
+
+/// A cookie set by `CookieManagerHostApi.setCookies`.
+class CookieData {
+  /// The URL for which the cookie is set.
+  late String url;
+
+  /// The cookie in the format of the `Set-Cookie` HTTP response header.
+  late String value;
+}
+
+/// Outcome of a batch of cookie operations performed in a single host call.
+class CookieBatchResult {
+  /// Number of cookies that were set, found or removed.
+  late int count;
+
+  /// Cookies of each requested URL, in the format of the `Cookie` HTTP request
+  /// header.
+  ///
+  /// Only filled by `CookieManagerHostApi.getCookies`.
+  late Map<String?, String?> cookies;
+
+  /// Whether a flush to persistent storage was scheduled in the background
+  /// once the batch was done.
+  ///
+  /// The flush may still be pending when the result is returned. Await
+  /// `CookieManagerHostApi.flush` to know the cookies are on disk.
+  late bool flushed;
+
+  /// Time it took to perform the whole batch on the platform side.
+  late int elapsedMicroseconds;
+}
+
 /// Handles methods calls to the native Java Object class.
 ///
 /// Also handles calls to remove the reference to an instance with `dispose`.
@@ -184,6 +239,28 @@ abstract class CookieManagerHostApi {
     int webViewIdentifier,
     bool accept,
   );
+
+  /// Handles Dart method `CookieManager.setCookies`.
+  @async
+  CookieBatchResult setCookies(
+    int identifier,
+    List<CookieData?> cookies,
+    bool flush,
+  );
+
+  /// Handles Dart method `CookieManager.getCookies`.
+  CookieBatchResult getCookies(int identifier, List<String?> urls);
+
+  /// Handles Dart method `CookieManager.removeCookies`.
+  @async
+  CookieBatchResult removeCookies(
+    int identifier,
+    List<String?> urls,
+    bool flush,
+  );
+
+  /// Handles Dart method `CookieManager.flush`.
+  void flush(int identifier);
 }
 
 @HostApi(dartHostTestHandler: 'TestWebViewHostApi')
@@ -263,6 +340,20 @@ abstract class WebViewHostApi {
   void setWebChromeClient(int instanceId, int? clientInstanceId);
 
   void setBackgroundColor(int instanceId, int color);
+
+  void setScrollChangedCallbackSettings(
+    int instanceId,
+    bool enabled,
+    int minDelta,
+    int minIntervalMilliseconds,
+  );
+
+  void setProgressChangedCallbackSettings(
+    int instanceId,
+    bool enabled,
+    int minDelta,
+    int minIntervalMilliseconds,
+  );
 }
 
 /// Flutter API for `WebView`.
@@ -639,3 +730,20 @@ abstract class HttpAuthHandlerFlutterApi {
   /// Create a new Dart instance and add it to the `InstanceManager`.
   void create(int instanceId);
 }
+
+/// Host API for the pool of `WebView`s created ahead of time.
+///
+/// See `WebViewPool` in the Java implementation.
+@HostApi(dartHostTestHandler: 'TestWebViewPoolHostApi')
+abstract class WebViewPoolHostApi {
+  /// Sets the maximum number of `WebView`s kept ready in the pool.
+  ///
+  /// A size of 0 disables the pool.
+  void setMaxSize(int maxSize);
+
+  /// Destroys all pooled `WebView`s and creates new ones when the main thread
+  /// is idle.
+  void clear();
+
+  WebViewPoolMetrics getMetrics();
+}
@@ -1387,6 +1387,75 @@ void main() {
       verify(mockSettings.setSupportZoom(true)).called(1);
     });
 
+    test(
+        'setOnProgress enables progress changes after the navigation delegate was set',
+        () async {
+      final MockWebView mockWebView = MockWebView();
+      final AndroidWebViewController controller = createControllerWithMocks(
+        mockWebView: mockWebView,
+      );
+      final AndroidNavigationDelegate androidNavigationDelegate =
+          AndroidNavigationDelegate(
+        AndroidNavigationDelegateCreationParams
+            .fromPlatformNavigationDelegateCreationParams(
+          const PlatformNavigationDelegateCreationParams(),
+          androidWebViewProxy: const AndroidWebViewProxy(
+            createAndroidWebViewClient: android_webview.WebViewClient.detached,
+            createAndroidWebChromeClient:
+                android_webview.WebChromeClient.detached,
+            createDownloadListener: android_webview.DownloadListener.detached,
+          ),
+        ),
+      );
+
+      await controller.setPlatformNavigationDelegate(androidNavigationDelegate);
+      verify(mockWebView.setProgressChangedCallbackSettings(enabled: false))
+          .called(2);
+
+      await androidNavigationDelegate.setOnProgress((int progress) {});
+
+      verify(mockWebView.setProgressChangedCallbackSettings(enabled: true))
+          .called(1);
+    });
+
+    test('scroll and progress changes are disabled by default', () async {
+      final MockWebView mockWebView = MockWebView();
+      createControllerWithMocks(mockWebView: mockWebView);
+
+      verify(mockWebView.setScrollChangedCallbackSettings(enabled: false))
+          .called(1);
+      verify(mockWebView.setProgressChangedCallbackSettings(enabled: false))
+          .called(1);
+    });
+
+    test('setOnScrollPositionChange enables scroll changes', () async {
+      final MockWebView mockWebView = MockWebView();
+      final AndroidWebViewController controller = createControllerWithMocks(
+        mockWebView: mockWebView,
+      );
+
+      await controller.setOnScrollPositionChangeThrottling(
+        minDelta: 4,
+        minInterval: const Duration(milliseconds: 32),
+      );
+      await controller
+          .setOnScrollPositionChange((ScrollPositionChange change) {});
+
+      verify(mockWebView.setScrollChangedCallbackSettings(
+        enabled: true,
+        minDelta: 4,
+        minInterval: const Duration(milliseconds: 32),
+      )).called(1);
+
+      await controller.setOnScrollPositionChange(null);
+
+      verify(mockWebView.setScrollChangedCallbackSettings(
+        enabled: false,
+        minDelta: 4,
+        minInterval: const Duration(milliseconds: 32),
+      )).called(1);
+    });
+
     test('setBackgroundColor', () async {
       final MockWebView mockWebView = MockWebView();
       final AndroidWebViewController controller = createControllerWithMocks(
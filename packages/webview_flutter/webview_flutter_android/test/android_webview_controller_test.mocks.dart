@@ -2697,6 +2697,46 @@ class MockWebView extends _i1.Mock implements _i2.WebView {
         returnValueForMissingStub: _i9.Future<void>.value(),
       ) as _i9.Future<void>);
 
+  @override
+  _i9.Future<void> setScrollChangedCallbackSettings({
+    required bool? enabled,
+    int? minDelta = 0,
+    Duration? minInterval = Duration.zero,
+  }) =>
+      (super.noSuchMethod(
+        Invocation.method(
+          #setScrollChangedCallbackSettings,
+          [],
+          {
+            #enabled: enabled,
+            #minDelta: minDelta,
+            #minInterval: minInterval,
+          },
+        ),
+        returnValue: _i9.Future<void>.value(),
+        returnValueForMissingStub: _i9.Future<void>.value(),
+      ) as _i9.Future<void>);
+
+  @override
+  _i9.Future<void> setProgressChangedCallbackSettings({
+    required bool? enabled,
+    int? minDelta = 0,
+    Duration? minInterval = Duration.zero,
+  }) =>
+      (super.noSuchMethod(
+        Invocation.method(
+          #setProgressChangedCallbackSettings,
+          [],
+          {
+            #enabled: enabled,
+            #minDelta: minDelta,
+            #minInterval: minInterval,
+          },
+        ),
+        returnValue: _i9.Future<void>.value(),
+        returnValueForMissingStub: _i9.Future<void>.value(),
+      ) as _i9.Future<void>);
+
   @override
   _i2.WebView copy() => (super.noSuchMethod(
         Invocation.method(
@@ -121,4 +121,143 @@ void main() {
 
     android_webview.WebView.api = WebViewHostApiImpl();
   });
+  test('setCookies should call android_webview.setCookies once', () async {
+    final android_webview.CookieManager mockCookieManager = MockCookieManager();
+    when(mockCookieManager.setCookies(any, flush: true)).thenAnswer(
+      (_) async => android_webview.CookieBatchResult(
+        count: 2,
+        cookies: <String?, String?>{},
+        flushed: true,
+        elapsedMicroseconds: 150,
+      ),
+    );
+
+    final AndroidWebViewCookieManagerCreationParams params =
+        AndroidWebViewCookieManagerCreationParams
+            .fromPlatformWebViewCookieManagerCreationParams(
+                const PlatformWebViewCookieManagerCreationParams());
+
+    final AndroidCookieBatchResult result = await AndroidWebViewCookieManager(
+      params,
+      cookieManager: mockCookieManager,
+    ).setCookies(
+      const <WebViewCookie>[
+        WebViewCookie(name: 'foo&', value: 'bar@', domain: 'flutter.dev'),
+        WebViewCookie(
+          name: 'a',
+          value: 'b',
+          domain: 'dart.dev',
+          path: '/path',
+        ),
+      ],
+      flush: true,
+    );
+
+    final List<android_webview.CookieData> cookies =
+        verify(mockCookieManager.setCookies(captureAny, flush: true))
+            .captured
+            .single as List<android_webview.CookieData>;
+    expect(cookies, hasLength(2));
+    expect(cookies[0].url, 'flutter.dev');
+    expect(cookies[0].value, 'foo%26=bar%40; path=/');
+    expect(cookies[1].url, 'dart.dev');
+    expect(cookies[1].value, 'a=b; path=/path');
+
+    expect(result.count, 2);
+    expect(result.flushed, isTrue);
+    expect(result.elapsedTime, const Duration(microseconds: 150));
+  });
+
+  test('setCookies should throw ArgumentError before setting any cookie', () {
+    final android_webview.CookieManager mockCookieManager = MockCookieManager();
+    final AndroidWebViewCookieManagerCreationParams params =
+        AndroidWebViewCookieManagerCreationParams
+            .fromPlatformWebViewCookieManagerCreationParams(
+                const PlatformWebViewCookieManagerCreationParams());
+
+    expect(
+      AndroidWebViewCookieManager(params, cookieManager: mockCookieManager)
+          .setCookies(const <WebViewCookie>[
+        WebViewCookie(name: 'foo', value: 'bar', domain: 'flutter.dev'),
+        WebViewCookie(
+          name: 'foo',
+          value: 'bar',
+          domain: 'flutter.dev',
+          path: 'invalid;path',
+        ),
+      ]),
+      throwsA(const TypeMatcher<ArgumentError>()),
+    );
+    verifyNever(mockCookieManager.setCookies(any, flush: anyNamed('flush')));
+  });
+
+  test('getCookies', () async {
+    final android_webview.CookieManager mockCookieManager = MockCookieManager();
+    when(mockCookieManager.getCookies(<String>['flutter.dev', 'dart.dev']))
+        .thenAnswer(
+      (_) async => android_webview.CookieBatchResult(
+        count: 1,
+        cookies: <String?, String?>{'flutter.dev': 'a=b', 'dart.dev': null},
+        flushed: false,
+        elapsedMicroseconds: 10,
+      ),
+    );
+
+    final AndroidWebViewCookieManagerCreationParams params =
+        AndroidWebViewCookieManagerCreationParams
+            .fromPlatformWebViewCookieManagerCreationParams(
+                const PlatformWebViewCookieManagerCreationParams());
+
+    final AndroidCookieBatchResult result = await AndroidWebViewCookieManager(
+      params,
+      cookieManager: mockCookieManager,
+    ).getCookies(<String>['flutter.dev', 'dart.dev']);
+
+    expect(result.count, 1);
+    expect(
+      result.cookies,
+      <String, String?>{'flutter.dev': 'a=b', 'dart.dev': null},
+    );
+  });
+
+  test('removeCookies', () async {
+    final android_webview.CookieManager mockCookieManager = MockCookieManager();
+    when(mockCookieManager.removeCookies(<String>['flutter.dev'], flush: true))
+        .thenAnswer(
+      (_) async => android_webview.CookieBatchResult(
+        count: 3,
+        cookies: <String?, String?>{},
+        flushed: true,
+        elapsedMicroseconds: 10,
+      ),
+    );
+
+    final AndroidWebViewCookieManagerCreationParams params =
+        AndroidWebViewCookieManagerCreationParams
+            .fromPlatformWebViewCookieManagerCreationParams(
+                const PlatformWebViewCookieManagerCreationParams());
+
+    final AndroidCookieBatchResult result = await AndroidWebViewCookieManager(
+      params,
+      cookieManager: mockCookieManager,
+    ).removeCookies(<String>['flutter.dev'], flush: true);
+
+    expect(result.count, 3);
+    expect(result.flushed, isTrue);
+  });
+
+  test('flush', () async {
+    final android_webview.CookieManager mockCookieManager = MockCookieManager();
+    final AndroidWebViewCookieManagerCreationParams params =
+        AndroidWebViewCookieManagerCreationParams
+            .fromPlatformWebViewCookieManagerCreationParams(
+                const PlatformWebViewCookieManagerCreationParams());
+
+    await AndroidWebViewCookieManager(
+      params,
+      cookieManager: mockCookieManager,
+    ).flush();
+
+    verify(mockCookieManager.flush());
+  });
 }
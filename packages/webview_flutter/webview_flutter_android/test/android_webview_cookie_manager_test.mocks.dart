@@ -8,6 +8,7 @@ import 'dart:ui' as _i4;
 
 import 'package:mockito/mockito.dart' as _i1;
 import 'package:webview_flutter_android/src/android_webview.dart' as _i2;
+import 'package:webview_flutter_android/src/android_webview.g.dart' as _i8;
 import 'package:webview_flutter_android/src/android_webview_controller.dart'
     as _i6;
 import 'package:webview_flutter_platform_interface/webview_flutter_platform_interface.dart'
@@ -69,6 +70,17 @@ class _FakeOffset_3 extends _i1.SmartFake implements _i4.Offset {
         );
 }
 
+class _FakeCookieBatchResult_4 extends _i1.SmartFake
+    implements _i8.CookieBatchResult {
+  _FakeCookieBatchResult_4(
+    Object parent,
+    Invocation parentInvocation,
+  ) : super(
+          parent,
+          parentInvocation,
+        );
+}
+
 /// A class which mocks [CookieManager].
 ///
 /// See the documentation for Mockito's code generation for more information.
@@ -120,6 +132,77 @@ class MockCookieManager extends _i1.Mock implements _i2.CookieManager {
         returnValueForMissingStub: _i5.Future<void>.value(),
       ) as _i5.Future<void>);
 
+  @override
+  _i5.Future<_i8.CookieBatchResult> setCookies(
+    List<_i8.CookieData>? cookies, {
+    bool? flush = false,
+  }) =>
+      (super.noSuchMethod(
+        Invocation.method(
+          #setCookies,
+          [cookies],
+          {#flush: flush},
+        ),
+        returnValue:
+            _i5.Future<_i8.CookieBatchResult>.value(_FakeCookieBatchResult_4(
+          this,
+          Invocation.method(
+            #setCookies,
+            [cookies],
+            {#flush: flush},
+          ),
+        )),
+      ) as _i5.Future<_i8.CookieBatchResult>);
+
+  @override
+  _i5.Future<_i8.CookieBatchResult> getCookies(List<String>? urls) =>
+      (super.noSuchMethod(
+        Invocation.method(
+          #getCookies,
+          [urls],
+        ),
+        returnValue:
+            _i5.Future<_i8.CookieBatchResult>.value(_FakeCookieBatchResult_4(
+          this,
+          Invocation.method(
+            #getCookies,
+            [urls],
+          ),
+        )),
+      ) as _i5.Future<_i8.CookieBatchResult>);
+
+  @override
+  _i5.Future<_i8.CookieBatchResult> removeCookies(
+    List<String>? urls, {
+    bool? flush = false,
+  }) =>
+      (super.noSuchMethod(
+        Invocation.method(
+          #removeCookies,
+          [urls],
+          {#flush: flush},
+        ),
+        returnValue:
+            _i5.Future<_i8.CookieBatchResult>.value(_FakeCookieBatchResult_4(
+          this,
+          Invocation.method(
+            #removeCookies,
+            [urls],
+            {#flush: flush},
+          ),
+        )),
+      ) as _i5.Future<_i8.CookieBatchResult>);
+
+  @override
+  _i5.Future<void> flush() => (super.noSuchMethod(
+        Invocation.method(
+          #flush,
+          [],
+        ),
+        returnValue: _i5.Future<void>.value(),
+        returnValueForMissingStub: _i5.Future<void>.value(),
+      ) as _i5.Future<void>);
+
   @override
   _i2.CookieManager copy() => (super.noSuchMethod(
         Invocation.method(
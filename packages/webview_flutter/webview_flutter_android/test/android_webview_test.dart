@@ -34,6 +34,7 @@ import 'test_android_webview.g.dart';
   WebChromeClient,
   WebView,
   WebViewClient,
+  TestWebViewPoolHostApi,
 ])
 void main() {
   TestWidgetsFlutterBinding.ensureInitialized();
@@ -369,6 +370,30 @@ void main() {
         ));
       });
 
+      test('setScrollChangedCallbackSettings', () {
+        webView.setScrollChangedCallbackSettings(
+          enabled: true,
+          minDelta: 8,
+          minInterval: const Duration(milliseconds: 16),
+        );
+        verify(mockPlatformHostApi.setScrollChangedCallbackSettings(
+          webViewInstanceId,
+          true,
+          8,
+          16,
+        ));
+      });
+
+      test('setProgressChangedCallbackSettings', () {
+        webView.setProgressChangedCallbackSettings(enabled: false);
+        verify(mockPlatformHostApi.setProgressChangedCallbackSettings(
+          webViewInstanceId,
+          false,
+          0,
+          0,
+        ));
+      });
+
       test('FlutterAPI create', () {
         final InstanceManager instanceManager = InstanceManager(
           onWeakReferenceRemoved: (_) {},
@@ -1401,6 +1426,127 @@ void main() {
       verify(mockApi.setCookie(instanceIdentifier, url, value));
     });
 
+    test('setCookies', () async {
+      final MockTestCookieManagerHostApi mockApi =
+          MockTestCookieManagerHostApi();
+      TestCookieManagerHostApi.setup(mockApi);
+
+      final InstanceManager instanceManager = InstanceManager(
+        onWeakReferenceRemoved: (_) {},
+      );
+
+      final CookieManager instance = CookieManager.detached(
+        instanceManager: instanceManager,
+      );
+      const int instanceIdentifier = 0;
+      instanceManager.addHostCreatedInstance(instance, instanceIdentifier);
+
+      when(mockApi.setCookies(instanceIdentifier, any, true)).thenAnswer(
+        (_) async => CookieBatchResult(
+          count: 1,
+          cookies: <String?, String?>{},
+          flushed: true,
+          elapsedMicroseconds: 5,
+        ),
+      );
+
+      final CookieBatchResult result = await instance.setCookies(
+        <CookieData>[CookieData(url: 'testString', value: 'testString2')],
+        flush: true,
+      );
+
+      final List<CookieData?> cookies = verify(
+        mockApi.setCookies(instanceIdentifier, captureAny, true),
+      ).captured.single as List<CookieData?>;
+      expect(cookies.single!.url, 'testString');
+      expect(cookies.single!.value, 'testString2');
+      expect(result.count, 1);
+      expect(result.flushed, isTrue);
+    });
+
+    test('getCookies', () async {
+      final MockTestCookieManagerHostApi mockApi =
+          MockTestCookieManagerHostApi();
+      TestCookieManagerHostApi.setup(mockApi);
+
+      final InstanceManager instanceManager = InstanceManager(
+        onWeakReferenceRemoved: (_) {},
+      );
+
+      final CookieManager instance = CookieManager.detached(
+        instanceManager: instanceManager,
+      );
+      const int instanceIdentifier = 0;
+      instanceManager.addHostCreatedInstance(instance, instanceIdentifier);
+
+      when(mockApi.getCookies(instanceIdentifier, <String>['testString']))
+          .thenReturn(CookieBatchResult(
+        count: 1,
+        cookies: <String?, String?>{'testString': 'a=b'},
+        flushed: false,
+        elapsedMicroseconds: 5,
+      ));
+
+      final CookieBatchResult result =
+          await instance.getCookies(<String>['testString']);
+
+      expect(result.cookies, <String?, String?>{'testString': 'a=b'});
+    });
+
+    test('removeCookies', () async {
+      final MockTestCookieManagerHostApi mockApi =
+          MockTestCookieManagerHostApi();
+      TestCookieManagerHostApi.setup(mockApi);
+
+      final InstanceManager instanceManager = InstanceManager(
+        onWeakReferenceRemoved: (_) {},
+      );
+
+      final CookieManager instance = CookieManager.detached(
+        instanceManager: instanceManager,
+      );
+      const int instanceIdentifier = 0;
+      instanceManager.addHostCreatedInstance(instance, instanceIdentifier);
+
+      when(mockApi.removeCookies(
+        instanceIdentifier,
+        <String>['testString'],
+        false,
+      )).thenAnswer(
+        (_) async => CookieBatchResult(
+          count: 2,
+          cookies: <String?, String?>{},
+          flushed: false,
+          elapsedMicroseconds: 5,
+        ),
+      );
+
+      final CookieBatchResult result =
+          await instance.removeCookies(<String>['testString']);
+
+      expect(result.count, 2);
+    });
+
+    test('flush', () async {
+      final MockTestCookieManagerHostApi mockApi =
+          MockTestCookieManagerHostApi();
+      TestCookieManagerHostApi.setup(mockApi);
+
+      final InstanceManager instanceManager = InstanceManager(
+        onWeakReferenceRemoved: (_) {},
+      );
+
+      final CookieManager instance = CookieManager.detached(
+        instanceManager: instanceManager,
+      );
+      const int instanceIdentifier = 0;
+      instanceManager.addHostCreatedInstance(instance, instanceIdentifier);
+
+      await instance.flush();
+
+      verify(mockApi.flush(instanceIdentifier));
+    });
+
     test('clearCookies', () async {
       final MockTestCookieManagerHostApi mockApi =
           MockTestCookieManagerHostApi();
@@ -1491,6 +1637,50 @@ void main() {
     });
   });
 
+  group('WebViewPool', () {
+    late MockTestWebViewPoolHostApi mockPlatformHostApi;
+
+    setUp(() {
+      mockPlatformHostApi = MockTestWebViewPoolHostApi();
+      TestWebViewPoolHostApi.setup(mockPlatformHostApi);
+    });
+
+    tearDown(() {
+      TestWebViewPoolHostApi.setup(null);
+    });
+
+    test('setMaxSize', () async {
+      await WebViewPool.setMaxSize(2);
+      verify(mockPlatformHostApi.setMaxSize(2));
+    });
+
+    test('clear', () async {
+      await WebViewPool.clear();
+      verify(mockPlatformHostApi.clear());
+    });
+
+    test('getMetrics', () async {
+      when(mockPlatformHostApi.getMetrics()).thenReturn(WebViewPoolMetrics(
+        maxSize: 2,
+        availableCount: 1,
+        hitCount: 3,
+        missCount: 4,
+        createdCount: 5,
+        averageCreationMicroseconds: 6,
+        maxCreationMicroseconds: 7,
+      ));
+
+      final WebViewPoolMetrics metrics = await WebViewPool.getMetrics();
+      expect(metrics.maxSize, 2);
+      expect(metrics.availableCount, 1);
+      expect(metrics.hitCount, 3);
+      expect(metrics.missCount, 4);
+      expect(metrics.createdCount, 5);
+      expect(metrics.averageCreationMicroseconds, 6);
+      expect(metrics.maxCreationMicroseconds, 7);
+    });
+  });
+
   group('PermissionRequest', () {
     setUp(() {});
 
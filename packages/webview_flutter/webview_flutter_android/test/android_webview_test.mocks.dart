@@ -110,6 +110,28 @@ class _FakeWebViewClient_7 extends _i1.SmartFake implements _i2.WebViewClient {
         );
 }
 
+class _FakeWebViewPoolMetrics_8 extends _i1.SmartFake
+    implements _i3.WebViewPoolMetrics {
+  _FakeWebViewPoolMetrics_8(
+    Object parent,
+    Invocation parentInvocation,
+  ) : super(
+          parent,
+          parentInvocation,
+        );
+}
+
+class _FakeCookieBatchResult_9 extends _i1.SmartFake
+    implements _i3.CookieBatchResult {
+  _FakeCookieBatchResult_9(
+    Object parent,
+    Invocation parentInvocation,
+  ) : super(
+          parent,
+          parentInvocation,
+        );
+}
+
 /// A class which mocks [CookieManagerHostApi].
 ///
 /// See the documentation for Mockito's code generation for more information.
@@ -327,6 +349,98 @@ class MockTestCookieManagerHostApi extends _i1.Mock
         ),
         returnValueForMissingStub: null,
       );
+
+  @override
+  _i5.Future<_i3.CookieBatchResult> setCookies(
+    int? identifier,
+    List<_i3.CookieData?>? cookies,
+    bool? flush,
+  ) =>
+      (super.noSuchMethod(
+        Invocation.method(
+          #setCookies,
+          [
+            identifier,
+            cookies,
+            flush,
+          ],
+        ),
+        returnValue:
+            _i5.Future<_i3.CookieBatchResult>.value(_FakeCookieBatchResult_9(
+          this,
+          Invocation.method(
+            #setCookies,
+            [
+              identifier,
+              cookies,
+              flush,
+            ],
+          ),
+        )),
+      ) as _i5.Future<_i3.CookieBatchResult>);
+
+  @override
+  _i3.CookieBatchResult getCookies(
+    int? identifier,
+    List<String?>? urls,
+  ) =>
+      (super.noSuchMethod(
+        Invocation.method(
+          #getCookies,
+          [
+            identifier,
+            urls,
+          ],
+        ),
+        returnValue: _FakeCookieBatchResult_9(
+          this,
+          Invocation.method(
+            #getCookies,
+            [
+              identifier,
+              urls,
+            ],
+          ),
+        ),
+      ) as _i3.CookieBatchResult);
+
+  @override
+  _i5.Future<_i3.CookieBatchResult> removeCookies(
+    int? identifier,
+    List<String?>? urls,
+    bool? flush,
+  ) =>
+      (super.noSuchMethod(
+        Invocation.method(
+          #removeCookies,
+          [
+            identifier,
+            urls,
+            flush,
+          ],
+        ),
+        returnValue:
+            _i5.Future<_i3.CookieBatchResult>.value(_FakeCookieBatchResult_9(
+          this,
+          Invocation.method(
+            #removeCookies,
+            [
+              identifier,
+              urls,
+              flush,
+            ],
+          ),
+        )),
+      ) as _i5.Future<_i3.CookieBatchResult>);
+
+  @override
+  void flush(int? identifier) => super.noSuchMethod(
+        Invocation.method(
+          #flush,
+          [identifier],
+        ),
+        returnValueForMissingStub: null,
+      );
 }
 
 /// A class which mocks [TestCustomViewCallbackHostApi].
@@ -1232,6 +1346,46 @@ class MockTestWebViewHostApi extends _i1.Mock
         ),
         returnValueForMissingStub: null,
       );
+
+  @override
+  void setScrollChangedCallbackSettings(
+    int? instanceId,
+    bool? enabled,
+    int? minDelta,
+    int? minIntervalMilliseconds,
+  ) =>
+      super.noSuchMethod(
+        Invocation.method(
+          #setScrollChangedCallbackSettings,
+          [
+            instanceId,
+            enabled,
+            minDelta,
+            minIntervalMilliseconds,
+          ],
+        ),
+        returnValueForMissingStub: null,
+      );
+
+  @override
+  void setProgressChangedCallbackSettings(
+    int? instanceId,
+    bool? enabled,
+    int? minDelta,
+    int? minIntervalMilliseconds,
+  ) =>
+      super.noSuchMethod(
+        Invocation.method(
+          #setProgressChangedCallbackSettings,
+          [
+            instanceId,
+            enabled,
+            minDelta,
+            minIntervalMilliseconds,
+          ],
+        ),
+        returnValueForMissingStub: null,
+      );
 }
 
 /// A class which mocks [TestAssetManagerHostApi].
@@ -1697,6 +1851,46 @@ class MockWebView extends _i1.Mock implements _i2.WebView {
         returnValueForMissingStub: _i5.Future<void>.value(),
       ) as _i5.Future<void>);
 
+  @override
+  _i5.Future<void> setScrollChangedCallbackSettings({
+    required bool? enabled,
+    int? minDelta = 0,
+    Duration? minInterval = Duration.zero,
+  }) =>
+      (super.noSuchMethod(
+        Invocation.method(
+          #setScrollChangedCallbackSettings,
+          [],
+          {
+            #enabled: enabled,
+            #minDelta: minDelta,
+            #minInterval: minInterval,
+          },
+        ),
+        returnValue: _i5.Future<void>.value(),
+        returnValueForMissingStub: _i5.Future<void>.value(),
+      ) as _i5.Future<void>);
+
+  @override
+  _i5.Future<void> setProgressChangedCallbackSettings({
+    required bool? enabled,
+    int? minDelta = 0,
+    Duration? minInterval = Duration.zero,
+  }) =>
+      (super.noSuchMethod(
+        Invocation.method(
+          #setProgressChangedCallbackSettings,
+          [],
+          {
+            #enabled: enabled,
+            #minDelta: minDelta,
+            #minInterval: minInterval,
+          },
+        ),
+        returnValue: _i5.Future<void>.value(),
+        returnValueForMissingStub: _i5.Future<void>.value(),
+      ) as _i5.Future<void>);
+
   @override
   _i2.WebView copy() => (super.noSuchMethod(
         Invocation.method(
@@ -1748,3 +1942,46 @@ class MockWebViewClient extends _i1.Mock implements _i2.WebViewClient {
         ),
       ) as _i2.WebViewClient);
 }
+
+/// A class which mocks [TestWebViewPoolHostApi].
+///
+/// See the documentation for Mockito's code generation for more information.
+class MockTestWebViewPoolHostApi extends _i1.Mock
+    implements _i7.TestWebViewPoolHostApi {
+  MockTestWebViewPoolHostApi() {
+    _i1.throwOnMissingStub(this);
+  }
+
+  @override
+  void setMaxSize(int? maxSize) => super.noSuchMethod(
+        Invocation.method(
+          #setMaxSize,
+          [maxSize],
+        ),
+        returnValueForMissingStub: null,
+      );
+
+  @override
+  void clear() => super.noSuchMethod(
+        Invocation.method(
+          #clear,
+          [],
+        ),
+        returnValueForMissingStub: null,
+      );
+
+  @override
+  _i3.WebViewPoolMetrics getMetrics() => (super.noSuchMethod(
+        Invocation.method(
+          #getMetrics,
+          [],
+        ),
+        returnValue: _FakeWebViewPoolMetrics_8(
+          this,
+          Invocation.method(
+            #getMetrics,
+            [],
+          ),
+        ),
+      ) as _i3.WebViewPoolMetrics);
+}
@@ -87,6 +87,34 @@ abstract class TestJavaObjectHostApi {
   }
 }
 
+class _TestCookieManagerHostApiCodec extends StandardMessageCodec {
+  const _TestCookieManagerHostApiCodec();
+  @override
+  void writeValue(WriteBuffer buffer, Object? value) {
+    if (value is CookieBatchResult) {
+      buffer.putUint8(128);
+      writeValue(buffer, value.encode());
+    } else if (value is CookieData) {
+      buffer.putUint8(129);
+      writeValue(buffer, value.encode());
+    } else {
+      super.writeValue(buffer, value);
+    }
+  }
+
+  @override
+  Object? readValueOfType(int type, ReadBuffer buffer) {
+    switch (type) {
+      case 128:
+        return CookieBatchResult.decode(readValue(buffer)!);
+      case 129:
+        return CookieData.decode(readValue(buffer)!);
+      default:
+        return super.readValueOfType(type, buffer);
+    }
+  }
+}
+
 /// Host API for `CookieManager`.
 ///
 /// This class may handle instantiating and adding native object instances that
@@ -95,7 +123,7 @@ abstract class TestJavaObjectHostApi {
 abstract class TestCookieManagerHostApi {
   static TestDefaultBinaryMessengerBinding? get _testBinaryMessengerBinding =>
       TestDefaultBinaryMessengerBinding.instance;
-  static const MessageCodec<Object?> codec = StandardMessageCodec();
+  static const MessageCodec<Object?> codec = _TestCookieManagerHostApiCodec();
 
   /// Handles attaching `CookieManager.instance` to a native instance.
   void attachInstance(int instanceIdentifier);
@@ -110,6 +138,20 @@ abstract class TestCookieManagerHostApi {
   void setAcceptThirdPartyCookies(
       int identifier, int webViewIdentifier, bool accept);
 
+  /// Handles Dart method `CookieManager.setCookies`.
+  Future<CookieBatchResult> setCookies(
+      int identifier, List<CookieData?> cookies, bool flush);
+
+  /// Handles Dart method `CookieManager.getCookies`.
+  CookieBatchResult getCookies(int identifier, List<String?> urls);
+
+  /// Handles Dart method `CookieManager.removeCookies`.
+  Future<CookieBatchResult> removeCookies(
+      int identifier, List<String?> urls, bool flush);
+
+  /// Handles Dart method `CookieManager.flush`.
+  void flush(int identifier);
+
   static void setup(TestCookieManagerHostApi? api,
       {BinaryMessenger? binaryMessenger}) {
     {
@@ -217,6 +259,119 @@ abstract class TestCookieManagerHostApi {
         });
       }
     }
+    {
+      final BasicMessageChannel<Object?> channel = BasicMessageChannel<Object?>(
+          'dev.flutter.pigeon.webview_flutter_android.CookieManagerHostApi.setCookies',
+          codec,
+          binaryMessenger: binaryMessenger);
+      if (api == null) {
+        _testBinaryMessengerBinding!.defaultBinaryMessenger
+            .setMockDecodedMessageHandler<Object?>(channel, null);
+      } else {
+        _testBinaryMessengerBinding!.defaultBinaryMessenger
+            .setMockDecodedMessageHandler<Object?>(channel,
+                (Object? message) async {
+          assert(message != null,
+              'Argument for dev.flutter.pigeon.webview_flutter_android.CookieManagerHostApi.setCookies was null.');
+          final List<Object?> args = (message as List<Object?>?)!;
+          final int? arg_identifier = (args[0] as int?);
+          assert(arg_identifier != null,
+              'Argument for dev.flutter.pigeon.webview_flutter_android.CookieManagerHostApi.setCookies was null, expected non-null int.');
+          final List<CookieData?>? arg_cookies =
+              (args[1] as List<Object?>?)?.cast<CookieData?>();
+          assert(arg_cookies != null,
+              'Argument for dev.flutter.pigeon.webview_flutter_android.CookieManagerHostApi.setCookies was null, expected non-null List<CookieData?>.');
+          final bool? arg_flush = (args[2] as bool?);
+          assert(arg_flush != null,
+              'Argument for dev.flutter.pigeon.webview_flutter_android.CookieManagerHostApi.setCookies was null, expected non-null bool.');
+          final CookieBatchResult output =
+              await api.setCookies(arg_identifier!, arg_cookies!, arg_flush!);
+          return <Object?>[output];
+        });
+      }
+    }
+    {
+      final BasicMessageChannel<Object?> channel = BasicMessageChannel<Object?>(
+          'dev.flutter.pigeon.webview_flutter_android.CookieManagerHostApi.getCookies',
+          codec,
+          binaryMessenger: binaryMessenger);
+      if (api == null) {
+        _testBinaryMessengerBinding!.defaultBinaryMessenger
+            .setMockDecodedMessageHandler<Object?>(channel, null);
+      } else {
+        _testBinaryMessengerBinding!.defaultBinaryMessenger
+            .setMockDecodedMessageHandler<Object?>(channel,
+                (Object? message) async {
+          assert(message != null,
+              'Argument for dev.flutter.pigeon.webview_flutter_android.CookieManagerHostApi.getCookies was null.');
+          final List<Object?> args = (message as List<Object?>?)!;
+          final int? arg_identifier = (args[0] as int?);
+          assert(arg_identifier != null,
+              'Argument for dev.flutter.pigeon.webview_flutter_android.CookieManagerHostApi.getCookies was null, expected non-null int.');
+          final List<String?>? arg_urls =
+              (args[1] as List<Object?>?)?.cast<String?>();
+          assert(arg_urls != null,
+              'Argument for dev.flutter.pigeon.webview_flutter_android.CookieManagerHostApi.getCookies was null, expected non-null List<String?>.');
+          final CookieBatchResult output =
+              api.getCookies(arg_identifier!, arg_urls!);
+          return <Object?>[output];
+        });
+      }
+    }
+    {
+      final BasicMessageChannel<Object?> channel = BasicMessageChannel<Object?>(
+          'dev.flutter.pigeon.webview_flutter_android.CookieManagerHostApi.removeCookies',
+          codec,
+          binaryMessenger: binaryMessenger);
+      if (api == null) {
+        _testBinaryMessengerBinding!.defaultBinaryMessenger
+            .setMockDecodedMessageHandler<Object?>(channel, null);
+      } else {
+        _testBinaryMessengerBinding!.defaultBinaryMessenger
+            .setMockDecodedMessageHandler<Object?>(channel,
+                (Object? message) async {
+          assert(message != null,
+              'Argument for dev.flutter.pigeon.webview_flutter_android.CookieManagerHostApi.removeCookies was null.');
+          final List<Object?> args = (message as List<Object?>?)!;
+          final int? arg_identifier = (args[0] as int?);
+          assert(arg_identifier != null,
+              'Argument for dev.flutter.pigeon.webview_flutter_android.CookieManagerHostApi.removeCookies was null, expected non-null int.');
+          final List<String?>? arg_urls =
+              (args[1] as List<Object?>?)?.cast<String?>();
+          assert(arg_urls != null,
+              'Argument for dev.flutter.pigeon.webview_flutter_android.CookieManagerHostApi.removeCookies was null, expected non-null List<String?>.');
+          final bool? arg_flush = (args[2] as bool?);
+          assert(arg_flush != null,
+              'Argument for dev.flutter.pigeon.webview_flutter_android.CookieManagerHostApi.removeCookies was null, expected non-null bool.');
+          final CookieBatchResult output =
+              await api.removeCookies(arg_identifier!, arg_urls!, arg_flush!);
+          return <Object?>[output];
+        });
+      }
+    }
+    {
+      final BasicMessageChannel<Object?> channel = BasicMessageChannel<Object?>(
+          'dev.flutter.pigeon.webview_flutter_android.CookieManagerHostApi.flush',
+          codec,
+          binaryMessenger: binaryMessenger);
+      if (api == null) {
+        _testBinaryMessengerBinding!.defaultBinaryMessenger
+            .setMockDecodedMessageHandler<Object?>(channel, null);
+      } else {
+        _testBinaryMessengerBinding!.defaultBinaryMessenger
+            .setMockDecodedMessageHandler<Object?>(channel,
+                (Object? message) async {
+          assert(message != null,
+              'Argument for dev.flutter.pigeon.webview_flutter_android.CookieManagerHostApi.flush was null.');
+          final List<Object?> args = (message as List<Object?>?)!;
+          final int? arg_identifier = (args[0] as int?);
+          assert(arg_identifier != null,
+              'Argument for dev.flutter.pigeon.webview_flutter_android.CookieManagerHostApi.flush was null, expected non-null int.');
+          api.flush(arg_identifier!);
+          return <Object?>[];
+        });
+      }
+    }
   }
 }
 
@@ -302,6 +457,12 @@ abstract class TestWebViewHostApi {
 
   void setBackgroundColor(int instanceId, int color);
 
+  void setScrollChangedCallbackSettings(
+      int instanceId, bool enabled, int minDelta, int minIntervalMilliseconds);
+
+  void setProgressChangedCallbackSettings(
+      int instanceId, bool enabled, int minDelta, int minIntervalMilliseconds);
+
   static void setup(TestWebViewHostApi? api,
       {BinaryMessenger? binaryMessenger}) {
     {
@@ -963,6 +1124,72 @@ abstract class TestWebViewHostApi {
         });
       }
     }
+    {
+      final BasicMessageChannel<Object?> channel = BasicMessageChannel<Object?>(
+          'dev.flutter.pigeon.webview_flutter_android.WebViewHostApi.setScrollChangedCallbackSettings',
+          codec,
+          binaryMessenger: binaryMessenger);
+      if (api == null) {
+        _testBinaryMessengerBinding!.defaultBinaryMessenger
+            .setMockDecodedMessageHandler<Object?>(channel, null);
+      } else {
+        _testBinaryMessengerBinding!.defaultBinaryMessenger
+            .setMockDecodedMessageHandler<Object?>(channel,
+                (Object? message) async {
+          assert(message != null,
+              'Argument for dev.flutter.pigeon.webview_flutter_android.WebViewHostApi.setScrollChangedCallbackSettings was null.');
+          final List<Object?> args = (message as List<Object?>?)!;
+          final int? arg_instanceId = (args[0] as int?);
+          assert(arg_instanceId != null,
+              'Argument for dev.flutter.pigeon.webview_flutter_android.WebViewHostApi.setScrollChangedCallbackSettings was null, expected non-null int.');
+          final bool? arg_enabled = (args[1] as bool?);
+          assert(arg_enabled != null,
+              'Argument for dev.flutter.pigeon.webview_flutter_android.WebViewHostApi.setScrollChangedCallbackSettings was null, expected non-null bool.');
+          final int? arg_minDelta = (args[2] as int?);
+          assert(arg_minDelta != null,
+              'Argument for dev.flutter.pigeon.webview_flutter_android.WebViewHostApi.setScrollChangedCallbackSettings was null, expected non-null int.');
+          final int? arg_minIntervalMilliseconds = (args[3] as int?);
+          assert(arg_minIntervalMilliseconds != null,
+              'Argument for dev.flutter.pigeon.webview_flutter_android.WebViewHostApi.setScrollChangedCallbackSettings was null, expected non-null int.');
+          api.setScrollChangedCallbackSettings(arg_instanceId!, arg_enabled!, arg_minDelta!,
+              arg_minIntervalMilliseconds!);
+          return <Object?>[];
+        });
+      }
+    }
+    {
+      final BasicMessageChannel<Object?> channel = BasicMessageChannel<Object?>(
+          'dev.flutter.pigeon.webview_flutter_android.WebViewHostApi.setProgressChangedCallbackSettings',
+          codec,
+          binaryMessenger: binaryMessenger);
+      if (api == null) {
+        _testBinaryMessengerBinding!.defaultBinaryMessenger
+            .setMockDecodedMessageHandler<Object?>(channel, null);
+      } else {
+        _testBinaryMessengerBinding!.defaultBinaryMessenger
+            .setMockDecodedMessageHandler<Object?>(channel,
+                (Object? message) async {
+          assert(message != null,
+              'Argument for dev.flutter.pigeon.webview_flutter_android.WebViewHostApi.setProgressChangedCallbackSettings was null.');
+          final List<Object?> args = (message as List<Object?>?)!;
+          final int? arg_instanceId = (args[0] as int?);
+          assert(arg_instanceId != null,
+              'Argument for dev.flutter.pigeon.webview_flutter_android.WebViewHostApi.setProgressChangedCallbackSettings was null, expected non-null int.');
+          final bool? arg_enabled = (args[1] as bool?);
+          assert(arg_enabled != null,
+              'Argument for dev.flutter.pigeon.webview_flutter_android.WebViewHostApi.setProgressChangedCallbackSettings was null, expected non-null bool.');
+          final int? arg_minDelta = (args[2] as int?);
+          assert(arg_minDelta != null,
+              'Argument for dev.flutter.pigeon.webview_flutter_android.WebViewHostApi.setProgressChangedCallbackSettings was null, expected non-null int.');
+          final int? arg_minIntervalMilliseconds = (args[3] as int?);
+          assert(arg_minIntervalMilliseconds != null,
+              'Argument for dev.flutter.pigeon.webview_flutter_android.WebViewHostApi.setProgressChangedCallbackSettings was null, expected non-null int.');
+          api.setProgressChangedCallbackSettings(arg_instanceId!, arg_enabled!, arg_minDelta!,
+              arg_minIntervalMilliseconds!);
+          return <Object?>[];
+        });
+      }
+    }
   }
 }
 
@@ -2100,3 +2327,109 @@ abstract class TestHttpAuthHandlerHostApi {
     }
   }
 }
+
+class _TestWebViewPoolHostApiCodec extends StandardMessageCodec {
+  const _TestWebViewPoolHostApiCodec();
+  @override
+  void writeValue(WriteBuffer buffer, Object? value) {
+    if (value is WebViewPoolMetrics) {
+      buffer.putUint8(128);
+      writeValue(buffer, value.encode());
+    } else {
+      super.writeValue(buffer, value);
+    }
+  }
+
+  @override
+  Object? readValueOfType(int type, ReadBuffer buffer) {
+    switch (type) {
+      case 128:
+        return WebViewPoolMetrics.decode(readValue(buffer)!);
+      default:
+        return super.readValueOfType(type, buffer);
+    }
+  }
+}
+
+/// Host API for the pool of `WebView`s created ahead of time.
+///
+/// See `WebViewPool` in the Java implementation.
+abstract class TestWebViewPoolHostApi {
+  static TestDefaultBinaryMessengerBinding? get _testBinaryMessengerBinding =>
+      TestDefaultBinaryMessengerBinding.instance;
+  static const MessageCodec<Object?> codec = _TestWebViewPoolHostApiCodec();
+
+  /// Sets the maximum number of `WebView`s kept ready in the pool.
+  ///
+  /// A size of 0 disables the pool.
+  void setMaxSize(int maxSize);
+
+  /// Destroys all pooled `WebView`s and creates new ones when the main thread
+  /// is idle.
+  void clear();
+
+  WebViewPoolMetrics getMetrics();
+
+  static void setup(TestWebViewPoolHostApi? api,
+      {BinaryMessenger? binaryMessenger}) {
+    {
+      final BasicMessageChannel<Object?> channel = BasicMessageChannel<Object?>(
+          'dev.flutter.pigeon.webview_flutter_android.WebViewPoolHostApi.setMaxSize',
+          codec,
+          binaryMessenger: binaryMessenger);
+      if (api == null) {
+        _testBinaryMessengerBinding!.defaultBinaryMessenger
+            .setMockDecodedMessageHandler<Object?>(channel, null);
+      } else {
+        _testBinaryMessengerBinding!.defaultBinaryMessenger
+            .setMockDecodedMessageHandler<Object?>(channel,
+                (Object? message) async {
+          assert(message != null,
+              'Argument for dev.flutter.pigeon.webview_flutter_android.WebViewPoolHostApi.setMaxSize was null.');
+          final List<Object?> args = (message as List<Object?>?)!;
+          final int? arg_maxSize = (args[0] as int?);
+          assert(arg_maxSize != null,
+              'Argument for dev.flutter.pigeon.webview_flutter_android.WebViewPoolHostApi.setMaxSize was null, expected non-null int.');
+          api.setMaxSize(arg_maxSize!);
+          return <Object?>[];
+        });
+      }
+    }
+    {
+      final BasicMessageChannel<Object?> channel = BasicMessageChannel<Object?>(
+          'dev.flutter.pigeon.webview_flutter_android.WebViewPoolHostApi.clear',
+          codec,
+          binaryMessenger: binaryMessenger);
+      if (api == null) {
+        _testBinaryMessengerBinding!.defaultBinaryMessenger
+            .setMockDecodedMessageHandler<Object?>(channel, null);
+      } else {
+        _testBinaryMessengerBinding!.defaultBinaryMessenger
+            .setMockDecodedMessageHandler<Object?>(channel,
+                (Object? message) async {
+          // ignore message
+          api.clear();
+          return <Object?>[];
+        });
+      }
+    }
+    {
+      final BasicMessageChannel<Object?> channel = BasicMessageChannel<Object?>(
+          'dev.flutter.pigeon.webview_flutter_android.WebViewPoolHostApi.getMetrics',
+          codec,
+          binaryMessenger: binaryMessenger);
+      if (api == null) {
+        _testBinaryMessengerBinding!.defaultBinaryMessenger
+            .setMockDecodedMessageHandler<Object?>(channel, null);
+      } else {
+        _testBinaryMessengerBinding!.defaultBinaryMessenger
+            .setMockDecodedMessageHandler<Object?>(channel,
+                (Object? message) async {
+          // ignore message
+          final WebViewPoolMetrics output = api.getMetrics();
+          return <Object?>[output];
+        });
+      }
+    }
+  }
+}